@@ -0,0 +1,649 @@
+package seedu.address;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.AddFoodIntakeCommand;
+import seedu.address.logic.commands.AddFoodItemCommand;
+import seedu.address.logic.commands.AddUserCommand;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.DeleteFoodIntakeCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ListDietPlansCommand;
+import seedu.address.logic.commands.ListFoodItemCommand;
+import seedu.address.logic.commands.ListUserCommand;
+import seedu.address.logic.commands.QueryFoodIntakeCommand;
+import seedu.address.logic.commands.RecommendPlanCommand;
+import seedu.address.logic.commands.RunProgressCalculatorCommand;
+import seedu.address.logic.commands.SetActiveDietCommand;
+import seedu.address.logic.commands.ViewActiveDietCommand;
+import seedu.address.logic.commands.ViewPlanCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.food.Food;
+import seedu.address.model.food.FoodIntakeSnapshot;
+import seedu.address.model.food.MacroTotals;
+
+/**
+ * Serves the food list, food intakes and daily totals as a JSON API over HTTP, so that companion apps on the same
+ * machine can log meals without the window.
+ * <p>
+ * The server only listens on the loopback address. Requests are handled concurrently by a bounded pool of worker
+ * threads. Every change is made by running a DietLah command through {@link Logic}, so it is validated and saved
+ * exactly as if it had been typed in. The model is not thread-safe, so commands run one at a time under a single
+ * writer lock. Reads take no lock: they read the immutable snapshot that the model publishes after each command, so
+ * each response shows one moment between commands and never waits for a change being made or saved.
+ * <p>
+ * Other programs on the machine, and web pages open in its browser, can reach the loopback address too. Each server
+ * therefore makes a new random token when it is created and writes it to a file that only the user can read, and
+ * every request must send it as {@code Authorization: Bearer TOKEN}. Requests from a web page that is not itself
+ * served from the machine are refused by their {@code Origin} header, request bodies must be
+ * {@code application/json}, and the commands endpoint only runs commands that cannot delete data or read or write
+ * other files.
+ * <p>
+ * Usage: {@code --api [--port=PORT] [--config=CONFIG_FILE]}. Dates are in {@code yyyy-MM-dd} format.
+ * <pre>
+ * GET    /api/foods                              the food list
+ * POST   /api/foods     {name, carbos, fats, proteins}
+ * GET    /api/intakes?date=DATE or ?from=DATE&amp;to=DATE
+ * POST   /api/intakes   {date, name[, carbos, fats, proteins]}, dated today if no date is given
+ * DELETE /api/intakes?date=DATE&amp;name=NAME
+ * GET    /api/totals?from=DATE&amp;to=DATE          the nutrient totals of each day with food intakes
+ * POST   /api/commands  {command}                a command that only adds or reads data, as typed in the window
+ * </pre>
+ * A change responds with the command feedback as {@code {"feedback": ...}}, and a failure with
+ * {@code {"error": ...}} and a 4xx or 5xx status.
+ */
+public class ApiServer {
+
+    public static final String API_FLAG = "--api";
+    public static final int DEFAULT_PORT = 8765;
+    public static final String FOODS_PATH = "/api/foods";
+    public static final String INTAKES_PATH = "/api/intakes";
+    public static final String TOTALS_PATH = "/api/totals";
+    public static final String COMMANDS_PATH = "/api/commands";
+    public static final String TOKEN_FILE_NAME = "apiToken";
+    /** The commands that can be run through the commands endpoint, none of which deletes data or uses a file. */
+    public static final Set<String> ALLOWED_COMMAND_WORDS = Set.of(HelpCommand.COMMAND_WORD,
+            ListFoodItemCommand.COMMAND_WORD, AddFoodItemCommand.COMMAND_WORD, AddFoodIntakeCommand.COMMAND_WORD,
+            QueryFoodIntakeCommand.COMMAND_WORD, AddUserCommand.COMMAND_WORD, ListUserCommand.COMMAND_WORD,
+            ListDietPlansCommand.COMMAND_WORD, ViewPlanCommand.COMMAND_WORD, SetActiveDietCommand.COMMAND_WORD,
+            ViewActiveDietCommand.COMMAND_WORD, RecommendPlanCommand.COMMAND_WORD,
+            RunProgressCalculatorCommand.COMMAND_WORD);
+
+    public static final String MESSAGE_NOT_FOUND = "There is no endpoint at %s.";
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "%s is not supported by %s.";
+    public static final String MESSAGE_MISSING_PARAMETER = "The %s parameter is required.";
+    public static final String MESSAGE_INVALID_DATE = "\"%s\" is not a date in yyyy-MM-dd format.";
+    public static final String MESSAGE_INVALID_BODY = "The request body is not a JSON object with the expected fields.";
+    public static final String MESSAGE_BODY_TOO_LARGE = "The request body is larger than %d bytes.";
+    public static final String MESSAGE_NOT_ALLOWED = "The %s command cannot be run through the API.";
+    public static final String MESSAGE_UNAUTHORIZED = "The request does not have the API token, which is in the "
+            + TOKEN_FILE_NAME + " file in the data directory.";
+    public static final String MESSAGE_FORBIDDEN_ORIGIN = "Requests from %s are not accepted.";
+    public static final String MESSAGE_UNSUPPORTED_CONTENT_TYPE = "The request body must be application/json.";
+    public static final String MESSAGE_INTERNAL_ERROR = "The request could not be completed: %s";
+
+    /** The number of requests that may wait for a worker before the server stops accepting connections. */
+    public static final int QUEUE_CAPACITY = 256;
+    public static final int MAX_REQUEST_BYTES = 64 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+    private static final String JSON_CONTENT_TYPE = "application/json; charset=utf-8";
+    private static final String JSON_MEDIA_TYPE = "application/json";
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final Set<String> LOCAL_HOSTS = Set.of("localhost", "127.0.0.1", "[::1]");
+    private static final int TOKEN_BYTES = 32;
+    private static final DateTimeFormatter COMMAND_DATE_FORMATTER = DateTimeFormatter.ofPattern("d MMM yyyy");
+    private static final int WORKER_COUNT = Math.max(2, Runtime.getRuntime().availableProcessors());
+    private static final int STOP_DELAY_SECONDS = 1;
+    private static final String NO_DELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+    static {
+        // The server writes the headers and the body of a response separately, so with Nagle's algorithm on, each
+        // response waits for the delayed acknowledgement of its headers, which adds about 40 ms to every request.
+        if (System.getProperty(NO_DELAY_PROPERTY) == null) {
+            System.setProperty(NO_DELAY_PROPERTY, "true");
+        }
+    }
+
+    private final Logic logic;
+    private final Path tokenFilePath;
+    private final byte[] token;
+    private final HttpServer server;
+    private final ThreadPoolExecutor workers;
+    // Commands are run one at a time, so that the model has a single writer.
+    private final ReentrantLock modelLock = new ReentrantLock();
+
+    /**
+     * Creates a server that serves {@code logic} on {@code port} of the loopback address, or on any free port if
+     * {@code port} is 0, and writes its token to {@code tokenFilePath}. The server does not accept requests until
+     * it is started.
+     *
+     * @throws IOException if the port cannot be bound or the token cannot be written.
+     */
+    public ApiServer(Logic logic, int port, Path tokenFilePath) throws IOException {
+        requireNonNull(logic);
+        requireNonNull(tokenFilePath);
+        this.logic = logic;
+        this.tokenFilePath = tokenFilePath;
+        this.token = writeToken(tokenFilePath);
+
+        AtomicInteger workerNumber = new AtomicInteger();
+        // Once the queue is full, the thread accepting connections handles the next request itself, so that it
+        // accepts no more until a worker frees up.
+        workers = new ThreadPoolExecutor(WORKER_COUNT, WORKER_COUNT, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY), runnable -> {
+                    Thread thread = new Thread(runnable, "api-worker-" + workerNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.setExecutor(workers);
+        addEndpoints(FOODS_PATH, Map.of("GET", this::getFoods, "POST", this::addFood));
+        addEndpoints(INTAKES_PATH, Map.of("GET", this::getFoodIntakes, "POST", this::addFoodIntake,
+                "DELETE", this::deleteFoodIntake));
+        addEndpoints(TOTALS_PATH, Map.of("GET", this::getDailyTotals));
+        addEndpoints(COMMANDS_PATH, Map.of("POST", this::runCommand));
+        // Any other path is answered here, as the server's own response to an unknown path closes the connection.
+        addEndpoints("/", Map.of());
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        server.start();
+        logger.info("Serving the API at http://" + server.getAddress().getHostString() + ":" + getPort());
+    }
+
+    /**
+     * Stops accepting requests, waits briefly for those in progress to finish, and deletes the token file.
+     */
+    public void stop() {
+        server.stop(STOP_DELAY_SECONDS);
+        workers.shutdown();
+        try {
+            workers.awaitTermination(STOP_DELAY_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            Files.deleteIfExists(tokenFilePath);
+        } catch (IOException e) {
+            logger.warning("Failed to delete the API token file " + tokenFilePath + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the port that the server listens on.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Writes a new random token to {@code tokenFilePath}, readable only by the user where the file system allows,
+     * and returns it.
+     */
+    private static byte[] writeToken(Path tokenFilePath) throws IOException {
+        byte[] randomBytes = new byte[TOKEN_BYTES];
+        new SecureRandom().nextBytes(randomBytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(randomBytes);
+
+        FileUtil.createParentDirsOfFile(tokenFilePath);
+        Files.deleteIfExists(tokenFilePath);
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            Files.createFile(tokenFilePath,
+                    PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+        }
+        FileUtil.writeToFile(tokenFilePath, token);
+        return token.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private void addEndpoints(String path, Map<String, Endpoint> endpointsByMethod) {
+        server.createContext(path, exchange -> serve(exchange, endpointsByMethod));
+    }
+
+    /**
+     * Handles one request with the endpoint for its method, and sends the JSON response.
+     */
+    private void serve(HttpExchange exchange, Map<String, Endpoint> endpointsByMethod) throws IOException {
+        long startTime = System.nanoTime();
+        int status;
+        byte[] body;
+        try {
+            checkOrigin(exchange);
+            checkToken(exchange);
+            String path = exchange.getRequestURI().getPath();
+            if (endpointsByMethod.isEmpty() || !path.equals(exchange.getHttpContext().getPath())) {
+                throw new ApiException(HttpURLConnection.HTTP_NOT_FOUND, String.format(MESSAGE_NOT_FOUND, path));
+            }
+            Endpoint endpoint = endpointsByMethod.get(exchange.getRequestMethod());
+            if (endpoint == null) {
+                throw new ApiException(HttpURLConnection.HTTP_BAD_METHOD,
+                        String.format(MESSAGE_METHOD_NOT_ALLOWED, exchange.getRequestMethod(), path));
+            }
+            body = JsonUtil.toCompactJsonString(endpoint.handle(exchange)).getBytes(StandardCharsets.UTF_8);
+            status = HttpURLConnection.HTTP_OK;
+        } catch (ApiException e) {
+            status = e.status;
+            body = toErrorBody(e.getMessage());
+        } catch (RuntimeException e) {
+            logger.log(Level.WARNING, "Failed to serve " + exchange.getRequestURI(), e);
+            status = HttpURLConnection.HTTP_INTERNAL_ERROR;
+            body = toErrorBody(String.format(MESSAGE_INTERNAL_ERROR, e.getMessage()));
+        }
+
+        exchange.getResponseHeaders().set("Content-Type", JSON_CONTENT_TYPE);
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(body);
+        }
+        if (logger.isLoggable(Level.FINE)) {
+            logger.fine(exchange.getRequestMethod() + " " + exchange.getRequestURI() + " " + status + " in "
+                    + TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTime) + " us");
+        }
+    }
+
+    /**
+     * Refuses requests made by web pages that are not served from this machine. Programs other than browsers do not
+     * send an {@code Origin} header.
+     */
+    private static void checkOrigin(HttpExchange exchange) throws ApiException {
+        String origin = exchange.getRequestHeaders().getFirst("Origin");
+        if (origin == null) {
+            return;
+        }
+        try {
+            URI originUri = new URI(origin);
+            String host = originUri.getHost();
+            if (("http".equals(originUri.getScheme()) || "https".equals(originUri.getScheme())) && host != null
+                    && LOCAL_HOSTS.contains(host.toLowerCase(Locale.ROOT))) {
+                return;
+            }
+        } catch (URISyntaxException e) {
+            // Refused below, like any other origin that is not local.
+        }
+        throw new ApiException(HttpURLConnection.HTTP_FORBIDDEN, String.format(MESSAGE_FORBIDDEN_ORIGIN, origin));
+    }
+
+    private void checkToken(HttpExchange exchange) throws ApiException {
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        // Compared in constant time, so that the token cannot be guessed from how long a refusal takes.
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX) || !MessageDigest.isEqual(token,
+                authorization.substring(BEARER_PREFIX.length()).trim().getBytes(StandardCharsets.US_ASCII))) {
+            throw new ApiException(HttpURLConnection.HTTP_UNAUTHORIZED, MESSAGE_UNAUTHORIZED);
+        }
+    }
+
+    private static byte[] toErrorBody(String message) throws IOException {
+        return JsonUtil.toCompactJsonString(Map.of("error", message)).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private Object getFoods(HttpExchange exchange) {
+        List<FoodJson> foods = new ArrayList<>();
+        for (Food food : logic.getModelSnapshot().getFoods()) {
+            foods.add(new FoodJson(food));
+        }
+        return foods;
+    }
+
+    private Object addFood(HttpExchange exchange) throws ApiException, IOException {
+        FoodRequest request = readBody(exchange, FoodRequest.class);
+        String name = requireFoodName(request.name);
+        if (request.carbos == null || request.fats == null || request.proteins == null) {
+            throw new ApiException(HttpURLConnection.HTTP_BAD_REQUEST, MESSAGE_INVALID_BODY);
+        }
+        return execute(AddFoodItemCommand.COMMAND_WORD + " n/" + name + toNutrientArguments(request));
+    }
+
+    private Object getFoodIntakes(HttpExchange exchange) throws ApiException {
+        Map<String, String> parameters = getQueryParameters(exchange);
+        LocalDate from;
+        LocalDate to;
+        if (parameters.containsKey("date")) {
+            from = parseDate(parameters.get("date"));
+            to = from;
+        } else {
+            from = parseDate(requireParameter(parameters, "from"));
+            to = parseDate(requireParameter(parameters, "to"));
+        }
+
+        List<FoodIntakeJson> foodIntakes = new ArrayList<>();
+        for (Map.Entry<LocalDate, List<Food>> day : getSnapshotLoadedBetween(from, to)
+                .getFoodsByDateBetween(from, to).entrySet()) {
+            for (Food food : day.getValue()) {
+                foodIntakes.add(new FoodIntakeJson(day.getKey(), food));
+            }
+        }
+        return foodIntakes;
+    }
+
+    private Object addFoodIntake(HttpExchange exchange) throws ApiException, IOException {
+        FoodIntakeRequest request = readBody(exchange, FoodIntakeRequest.class);
+        LocalDate date = request.date == null ? LocalDate.now() : parseDate(request.date);
+        String name = requireFoodName(request.name);
+        return execute(AddFoodIntakeCommand.COMMAND_WORD + " d/" + date.format(COMMAND_DATE_FORMATTER)
+                + " n/" + name + toNutrientArguments(request));
+    }
+
+    private Object deleteFoodIntake(HttpExchange exchange) throws ApiException {
+        Map<String, String> parameters = getQueryParameters(exchange);
+        LocalDate date = parseDate(requireParameter(parameters, "date"));
+        String name = requireFoodName(requireParameter(parameters, "name"));
+        return execute(DeleteFoodIntakeCommand.COMMAND_WORD + " d/" + date.format(COMMAND_DATE_FORMATTER)
+                + " n/" + name);
+    }
+
+    private Object getDailyTotals(HttpExchange exchange) throws ApiException {
+        Map<String, String> parameters = getQueryParameters(exchange);
+        LocalDate from = parseDate(requireParameter(parameters, "from"));
+        LocalDate to = parseDate(requireParameter(parameters, "to"));
+        if (from.isAfter(to)) {
+            return new ArrayList<>();
+        }
+
+        List<DailyTotalsJson> dailyTotals = new ArrayList<>();
+        for (Map.Entry<LocalDate, MacroTotals> day : getSnapshotLoadedBetween(from, to)
+                .getDayTotalsBetween(from, to).entrySet()) {
+            dailyTotals.add(new DailyTotalsJson(day.getKey(), day.getValue()));
+        }
+        return dailyTotals;
+    }
+
+    /**
+     * Returns the latest snapshot of the food intake history, once it holds every month from {@code from} to
+     * {@code to}. Months that have not been loaded yet are loaded by the writer, under the lock.
+     */
+    private FoodIntakeSnapshot getSnapshotLoadedBetween(LocalDate from, LocalDate to) {
+        FoodIntakeSnapshot snapshot = logic.getModelSnapshot().getFoodIntakes();
+        if (snapshot.isLoadedBetween(from, to)) {
+            return snapshot;
+        }
+        modelLock.lock();
+        try {
+            return logic.loadModelSnapshotBetween(from, to).getFoodIntakes();
+        } finally {
+            modelLock.unlock();
+        }
+    }
+
+    private Object runCommand(HttpExchange exchange) throws ApiException, IOException {
+        CommandRequest request = readBody(exchange, CommandRequest.class);
+        if (request.command == null) {
+            throw new ApiException(HttpURLConnection.HTTP_BAD_REQUEST, MESSAGE_INVALID_BODY);
+        }
+        String commandWord = request.command.trim().split("\\s+", 2)[0];
+        if (!ALLOWED_COMMAND_WORDS.contains(commandWord)) {
+            throw new ApiException(HttpURLConnection.HTTP_FORBIDDEN, String.format(MESSAGE_NOT_ALLOWED, commandWord));
+        }
+        return execute(request.command);
+    }
+
+    /**
+     * Runs {@code commandText} under the model lock, and returns its feedback.
+     */
+    private Map<String, String> execute(String commandText) throws ApiException {
+        modelLock.lock();
+        try {
+            CommandResult commandResult = logic.execute(commandText);
+            // Feedback may be rendered lazily from the model, so it is rendered before the lock is released.
+            return Map.of("feedback", commandResult.getFeedbackToUser());
+        } catch (CommandException | ParseException e) {
+            throw new ApiException(HttpURLConnection.HTTP_BAD_REQUEST, e.getMessage());
+        } finally {
+            modelLock.unlock();
+        }
+    }
+
+    private static <T> T readBody(HttpExchange exchange, Class<T> requestClass) throws ApiException, IOException {
+        // A web page can only send other content types, such as text/plain, without asking the server first.
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        if (contentType == null || !contentType.split(";", 2)[0].trim().equalsIgnoreCase(JSON_MEDIA_TYPE)) {
+            throw new ApiException(HttpURLConnection.HTTP_UNSUPPORTED_TYPE, MESSAGE_UNSUPPORTED_CONTENT_TYPE);
+        }
+        byte[] body;
+        try (InputStream requestBody = exchange.getRequestBody()) {
+            body = requestBody.readNBytes(MAX_REQUEST_BYTES + 1);
+        }
+        if (body.length > MAX_REQUEST_BYTES) {
+            throw new ApiException(HttpURLConnection.HTTP_ENTITY_TOO_LARGE,
+                    String.format(MESSAGE_BODY_TOO_LARGE, MAX_REQUEST_BYTES));
+        }
+        try {
+            T request = JsonUtil.fromJsonString(new String(body, StandardCharsets.UTF_8), requestClass);
+            if (request == null) {
+                throw new ApiException(HttpURLConnection.HTTP_BAD_REQUEST, MESSAGE_INVALID_BODY);
+            }
+            return request;
+        } catch (IOException e) {
+            throw new ApiException(HttpURLConnection.HTTP_BAD_REQUEST, MESSAGE_INVALID_BODY);
+        }
+    }
+
+    private static Map<String, String> getQueryParameters(HttpExchange exchange) {
+        Map<String, String> parameters = new HashMap<>();
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null) {
+            return parameters;
+        }
+        for (String parameter : query.split("&")) {
+            int separatorIndex = parameter.indexOf('=');
+            if (separatorIndex > 0) {
+                parameters.put(URLDecoder.decode(parameter.substring(0, separatorIndex), StandardCharsets.UTF_8),
+                        URLDecoder.decode(parameter.substring(separatorIndex + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return parameters;
+    }
+
+    private static String requireParameter(Map<String, String> parameters, String name) throws ApiException {
+        String value = parameters.get(name);
+        if (value == null) {
+            throw new ApiException(HttpURLConnection.HTTP_BAD_REQUEST, String.format(MESSAGE_MISSING_PARAMETER, name));
+        }
+        return value;
+    }
+
+    private static LocalDate parseDate(String date) throws ApiException {
+        try {
+            return LocalDate.parse(date.trim());
+        } catch (DateTimeParseException e) {
+            throw new ApiException(HttpURLConnection.HTTP_BAD_REQUEST, String.format(MESSAGE_INVALID_DATE, date));
+        }
+    }
+
+    /**
+     * Checks that {@code name} is a valid food name, so that it cannot add other arguments to a command.
+     */
+    private static String requireFoodName(String name) throws ApiException {
+        if (name == null || !Food.isValidFoodName(name)) {
+            throw new ApiException(HttpURLConnection.HTTP_BAD_REQUEST, Food.MESSAGE_CONSTRAINTS);
+        }
+        return name;
+    }
+
+    private static String toNutrientArguments(FoodRequest request) {
+        StringBuilder arguments = new StringBuilder();
+        appendNutrient(arguments, " c/", request.carbos);
+        appendNutrient(arguments, " f/", request.fats);
+        appendNutrient(arguments, " p/", request.proteins);
+        return arguments.toString();
+    }
+
+    private static void appendNutrient(StringBuilder arguments, String prefix, Double value) {
+        if (value != null) {
+            // Plain notation, as the command parser does not read exponents.
+            arguments.append(prefix).append(BigDecimal.valueOf(value).toPlainString());
+        }
+    }
+
+    public static void main(String[] args) {
+        Map<String, String> namedParameters = AppParameters.getNamedParameters(args);
+        int port = DEFAULT_PORT;
+        if (namedParameters.containsKey("port")) {
+            try {
+                port = Integer.parseInt(namedParameters.get("port"));
+            } catch (NumberFormatException e) {
+                logger.warning("Invalid port " + namedParameters.get("port") + ". Using port " + DEFAULT_PORT + ".");
+            }
+        }
+
+        LogsCenter.setConsoleLevel(Level.WARNING);
+        long launchTime = System.nanoTime();
+        AppCore appCore = AppCore.load(AppParameters.parse(namedParameters).getConfigPath());
+        Path tokenFilePath = appCore.getStorage().getDietLahFilePath().resolveSibling(TOKEN_FILE_NAME);
+        ApiServer apiServer;
+        try {
+            apiServer = new ApiServer(appCore.getLogic(), port, tokenFilePath);
+        } catch (IOException e) {
+            System.err.println(HeadlessApp.ERROR_PREFIX + "Unable to start the API on port " + port + ": "
+                    + e.getMessage());
+            appCore.stop();
+            System.exit(1);
+            return;
+        }
+
+        CountDownLatch stopped = new CountDownLatch(1);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            apiServer.stop();
+            appCore.stop();
+            stopped.countDown();
+        }));
+        apiServer.start();
+        System.out.println("Serving the DietLAH! API at http://localhost:" + apiServer.getPort() + " ("
+                + AppCore.getMillisSince(launchTime) + " ms to start), with the token in " + tokenFilePath
+                + ". Press Ctrl+C to stop.");
+        try {
+            stopped.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Handles requests with one method at one path.
+     */
+    @FunctionalInterface
+    private interface Endpoint {
+        /**
+         * Returns the response body, to be written as JSON.
+         */
+        Object handle(HttpExchange exchange) throws ApiException, IOException;
+    }
+
+    /**
+     * Signals that a request cannot be served, with the status and message to respond with.
+     */
+    private static class ApiException extends Exception {
+        private final int status;
+
+        ApiException(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+
+    /**
+     * The body of a request to add a food item, which is also the body of a request to add a food intake.
+     */
+    private static class FoodRequest {
+        protected String name;
+        protected Double carbos;
+        protected Double fats;
+        protected Double proteins;
+    }
+
+    private static class FoodIntakeRequest extends FoodRequest {
+        private String date;
+    }
+
+    private static class CommandRequest {
+        private String command;
+    }
+
+    private static class FoodJson {
+        private final String name;
+        private final double carbos;
+        private final double fats;
+        private final double proteins;
+        private final double kcal;
+
+        FoodJson(Food food) {
+            name = food.getName();
+            carbos = food.getCarbos();
+            fats = food.getFats();
+            proteins = food.getProteins();
+            kcal = food.getKiloCalories();
+        }
+    }
+
+    private static class FoodIntakeJson extends FoodJson {
+        private final String date;
+
+        FoodIntakeJson(LocalDate date, Food food) {
+            super(food);
+            this.date = date.toString();
+        }
+    }
+
+    private static class DailyTotalsJson {
+        private final String date;
+        private final double carbos;
+        private final double fats;
+        private final double proteins;
+        private final double kcal;
+
+        DailyTotalsJson(LocalDate date, MacroTotals totals) {
+            this.date = date.toString();
+            carbos = totals.getCarbos();
+            fats = totals.getFats();
+            proteins = totals.getProteins();
+            kcal = totals.getKiloCalories();
+        }
+    }
+}
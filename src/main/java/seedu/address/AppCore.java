@@ -0,0 +1,526 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageFormat;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.ProfileManager;
+import seedu.address.model.DietLah;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyDietLah;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.diet.DietPlanList;
+import seedu.address.model.food.FoodIntakeList;
+import seedu.address.model.food.UniqueFoodList;
+import seedu.address.model.user.User;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.model.util.TemplateInitializer;
+import seedu.address.storage.BinaryFoodIntakeListStorage;
+import seedu.address.storage.BinaryUniqueFoodListStorage;
+import seedu.address.storage.DietLahStorage;
+import seedu.address.storage.DietPlanListStorage;
+import seedu.address.storage.FoodIntakeListStorage;
+import seedu.address.storage.JsonDietLahStorage;
+import seedu.address.storage.JsonDietPlanListStorage;
+import seedu.address.storage.JsonFoodIntakeListStorage;
+import seedu.address.storage.JsonUniqueFoodListStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.JsonUserStorage;
+import seedu.address.storage.PersistenceWriter;
+import seedu.address.storage.SegmentedFoodIntakeListStorage;
+import seedu.address.storage.SqlFoodIntakeListStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UniqueFoodListStorage;
+import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.UserStorage;
+
+/**
+ * Holds the parts of the application that do not depend on JavaFX: the config, storage, model and logic.
+ * Both the GUI and the headless command line are started from an {@code AppCore}.
+ * <p>
+ * The storage and model are those of the default profile, whose data files are where the user prefs say. The data
+ * of any other profile is kept in a folder of its name in the {@code profiles} folder next to the user file, and is
+ * only read when the profile is first switched to. The food list and diet plans are shared by every profile.
+ */
+public class AppCore {
+
+    public static final String PROFILES_DIRECTORY_NAME = "profiles";
+
+    private static final Logger logger = LogsCenter.getLogger(AppCore.class);
+    private static final int STARTUP_READER_COUNT = 4;
+
+    private final Config config;
+    private final Storage storage;
+    private final Model model;
+    private final PersistenceWriter persistenceWriter;
+    private final Logic logic;
+
+    private AppCore(Config config, Storage storage, LoadedModel loadedModel, PersistenceWriter persistenceWriter,
+                    SharedStorage sharedStorage) {
+        this.config = config;
+        this.storage = storage;
+        this.model = loadedModel.model;
+        this.persistenceWriter = persistenceWriter;
+        LogicManager defaultLogic = new LogicManager(model, storage, persistenceWriter);
+        if (loadedModel.isSaved) {
+            // Nothing needs writing until a command changes the data, so read-only commands do no disk I/O.
+            defaultLogic.markAllSaved();
+        }
+        this.logic = new ProfileManager(defaultLogic, new DataDirectoryProfileLoader(sharedStorage, model,
+                persistenceWriter), ProfileManager.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Reads the config, user prefs and data files, and wires the storage, model and logic together.
+     *
+     * @param configFilePath the config file to use, or null to use the default config file.
+     */
+    public static AppCore load(Path configFilePath) {
+        long phaseStart = System.nanoTime();
+        Config config = initConfig(configFilePath);
+        phaseStart = logPhaseTime("config", phaseStart);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        phaseStart = logPhaseTime("user prefs", phaseStart);
+
+        SharedStorage sharedStorage = new SharedStorage(userPrefs, initUniqueFoodListStorage(userPrefs),
+                new JsonDietPlanListStorage(userPrefs.getDietPlanListFilePath()), userPrefsStorage);
+        Storage storage = sharedStorage.createProfileStorage(null);
+
+        LogsCenter.init(config);
+        phaseStart = logPhaseTime("storage and logging", phaseStart);
+
+        LoadedModel loadedModel = initModelManager(storage, userPrefs);
+        phaseStart = logPhaseTime("model", phaseStart);
+
+        AppCore appCore = new AppCore(config, storage, loadedModel, new PersistenceWriter(), sharedStorage);
+        logPhaseTime("logic", phaseStart);
+        return appCore;
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    public Model getModel() {
+        return model;
+    }
+
+    public PersistenceWriter getPersistenceWriter() {
+        return persistenceWriter;
+    }
+
+    public Logic getLogic() {
+        return logic;
+    }
+
+    /**
+     * Saves the user prefs if they have changed, and waits until every pending data file write is done.
+     */
+    public void stop() {
+        try {
+            // The window settings are changed in the model of whichever profile is active.
+            UserPrefs userPrefs = new UserPrefs(model.getUserPrefs());
+            userPrefs.setGuiSettings(logic.getGuiSettings());
+            storage.saveUserPrefsIfChanged(userPrefs);
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+        try {
+            logic.flushPendingWrites();
+            persistenceWriter.close();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        } catch (InterruptedException e) {
+            logger.severe("Interrupted while saving data " + StringUtil.getDetails(e));
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Logs how long the init phase that started at {@code phaseStart} took.
+     *
+     * @return the time the next phase starts.
+     */
+    static long logPhaseTime(String phase, long phaseStart) {
+        logger.info("Initialized " + phase + " in " + getMillisSince(phaseStart) + " ms");
+        return System.nanoTime();
+    }
+
+    static long getMillisSince(long startTime) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+    }
+
+    /**
+     * Returns the food list storage in the format chosen in {@code userPrefs}.
+     * A binary storage imports from the json file until it has written its own file.
+     */
+    private static UniqueFoodListStorage initUniqueFoodListStorage(UserPrefs userPrefs) {
+        UniqueFoodListStorage jsonStorage = new JsonUniqueFoodListStorage(userPrefs.getUniqueFoodListFilePath());
+        if (userPrefs.getStorageFormat() != StorageFormat.JSON) {
+            return new BinaryUniqueFoodListStorage(userPrefs.getUniqueFoodListBinaryFilePath(), jsonStorage);
+        }
+        return jsonStorage;
+    }
+
+    /**
+     * Returns the food intake list storage in the format chosen in {@code userPrefs}, with its files in
+     * {@code dataDirectory}, or where {@code userPrefs} says if it is null.
+     * A binary, segmented or database storage imports from the json file until it has written its own files.
+     */
+    private static FoodIntakeListStorage initFoodIntakeListStorage(UserPrefs userPrefs, Path dataDirectory) {
+        FoodIntakeListStorage jsonStorage = new JsonFoodIntakeListStorage(
+                resolveDataFile(dataDirectory, userPrefs.getFoodIntakeListFilePath()));
+        switch (userPrefs.getStorageFormat()) {
+        case BINARY:
+            return new BinaryFoodIntakeListStorage(
+                    resolveDataFile(dataDirectory, userPrefs.getFoodIntakeListBinaryFilePath()), jsonStorage);
+        case SEGMENTED:
+            return new SegmentedFoodIntakeListStorage(
+                    resolveDataFile(dataDirectory, userPrefs.getFoodIntakeSegmentDirectoryPath()), jsonStorage);
+        case SQLITE:
+            return new SqlFoodIntakeListStorage(
+                    resolveDataFile(dataDirectory, userPrefs.getFoodIntakeDatabaseFilePath()), jsonStorage);
+        default:
+            return jsonStorage;
+        }
+    }
+
+    /**
+     * Returns the file of the same name as {@code defaultFilePath} in {@code dataDirectory}, or
+     * {@code defaultFilePath} itself if {@code dataDirectory} is null.
+     */
+    private static Path resolveDataFile(Path dataDirectory, Path defaultFilePath) {
+        return dataDirectory == null ? defaultFilePath : dataDirectory.resolve(defaultFilePath.getFileName());
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
+     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * The model is saved if every data file was read, rather than replaced with a template.
+     */
+    private static LoadedModel initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        ReadOnlyDietLah initialData;
+        UniqueFoodList uniqueFoodList;
+        FoodIntakeList foodIntakeList;
+        DietPlanList dietPlanList;
+        User user;
+        boolean isSaved;
+
+        // Templates are only built for the data that cannot be read.
+        TemplateInitializer templateInitializer = new TemplateInitializer();
+        ExecutorService readers = Executors.newFixedThreadPool(STARTUP_READER_COUNT, runnable -> {
+            Thread thread = new Thread(runnable, "startup-reader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            // These data files are independent of each other, so they are read in parallel.
+            Future<Optional<ReadOnlyDietLah>> dietLahRead = readers.submit(() -> storage.readDietLah());
+            Future<Optional<UniqueFoodList>> uniqueFoodListRead = readers.submit(() -> storage.readFoodList());
+            Future<Optional<FoodIntakeList>> foodIntakeListRead = readers.submit(() -> storage.readFoodIntakeList());
+            Future<Optional<DietPlanList>> dietPlanListRead = readers.submit(() -> storage.readDietPlanList());
+
+            Optional<ReadOnlyDietLah> dietLahOptional = awaitRead(dietLahRead);
+            Optional<UniqueFoodList> uniqueFoodListOptional = awaitRead(uniqueFoodListRead);
+            Optional<FoodIntakeList> foodIntakeListOptional = awaitRead(foodIntakeListRead);
+            Optional<DietPlanList> dietPlanListOptional = awaitRead(dietPlanListRead);
+            if (!dietLahOptional.isPresent()) {
+                logger.info("Data file not found. Will be starting with a sample DietLah");
+            }
+            if (!uniqueFoodListOptional.isPresent()) {
+                logger.info("Food data file not found. Will be starting fresh");
+            }
+            if (!foodIntakeListOptional.isPresent()) {
+                logger.info("Food intake data file not found. Will be starting fresh");
+            }
+            if (!dietPlanListOptional.isPresent()) {
+                logger.info("Diet plans file not found. Will be starting fresh");
+            }
+            initialData = dietLahOptional.orElseGet(SampleDataUtil::getSampleDietLah);
+            uniqueFoodList = uniqueFoodListOptional.orElseGet(templateInitializer::getUniqueFoodListTemplate);
+            foodIntakeList = foodIntakeListOptional.orElseGet(templateInitializer::getFoodListIntakeTemplate);
+            dietPlanList = dietPlanListOptional.orElseGet(templateInitializer::getDietPlanListTemplate);
+
+            // The user file only refers to foods and plans, so it is read once they are known.
+            Optional<User> userOptional = storage.readUser(uniqueFoodList, dietPlanList);
+            if (!userOptional.isPresent()) {
+                logger.info("User file not found. Will be starting with default template data");
+            }
+            user = userOptional.isPresent()
+                    ? userOptional.get()
+                    : templateInitializer.createUser(uniqueFoodList, foodIntakeList);
+            isSaved = dietLahOptional.isPresent() && uniqueFoodListOptional.isPresent()
+                    && foodIntakeListOptional.isPresent() && userOptional.isPresent();
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. Will be starting with an empty DietLah");
+            initialData = new DietLah();
+            uniqueFoodList = templateInitializer.getUniqueFoodListTemplate();
+            foodIntakeList = templateInitializer.getFoodListIntakeTemplate();
+            dietPlanList = templateInitializer.getDietPlanListTemplate();
+            user = templateInitializer.createUser(uniqueFoodList, foodIntakeList);
+            isSaved = false;
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty DietLah");
+            initialData = new DietLah();
+            uniqueFoodList = templateInitializer.getUniqueFoodListTemplate();
+            foodIntakeList = templateInitializer.getFoodListIntakeTemplate();
+            dietPlanList = templateInitializer.getDietPlanListTemplate();
+            user = templateInitializer.createUser(uniqueFoodList, foodIntakeList);
+            isSaved = false;
+        } finally {
+            readers.shutdown();
+        }
+
+        return new LoadedModel(new ModelManager(initialData, uniqueFoodList, foodIntakeList, dietPlanList, userPrefs,
+                user), isSaved);
+    }
+
+    /**
+     * Waits for a data file read started by {@link #initModelManager(Storage, ReadOnlyUserPrefs)} and returns its
+     * result, rethrowing whatever the read threw.
+     */
+    private static <T> T awaitRead(Future<T> read) throws DataConversionException, IOException {
+        try {
+            return read.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading data files", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof DataConversionException) {
+                throw (DataConversionException) cause;
+            } else if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    private static Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataConversionException e) {
+            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. "
+                    + "Using default config properties");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            if (ConfigUtil.saveConfigIfChanged(initializedConfig, configFilePathUsed)) {
+                logger.info("Updated config file : " + configFilePathUsed);
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    private static UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using prefs file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataConversionException e) {
+            logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. "
+                    + "Using default user prefs");
+            initializedPrefs = new UserPrefs();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty DietLah");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            if (storage.saveUserPrefsIfChanged(initializedPrefs)) {
+                logger.info("Updated prefs file : " + prefsFilePath);
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+
+    /**
+     * The storage of the data that every profile shares, from which the storage of each profile is made.
+     */
+    /**
+     * The model of the default profile, and whether its data files already hold all of it.
+     */
+    private static class LoadedModel {
+        private final Model model;
+        private final boolean isSaved;
+
+        LoadedModel(Model model, boolean isSaved) {
+            this.model = model;
+            this.isSaved = isSaved;
+        }
+    }
+
+    private static class SharedStorage {
+        private final UserPrefs userPrefs;
+        private final UniqueFoodListStorage uniqueFoodListStorage;
+        private final DietPlanListStorage dietPlanListStorage;
+        private final UserPrefsStorage userPrefsStorage;
+
+        SharedStorage(UserPrefs userPrefs, UniqueFoodListStorage uniqueFoodListStorage,
+                      DietPlanListStorage dietPlanListStorage, UserPrefsStorage userPrefsStorage) {
+            this.userPrefs = userPrefs;
+            this.uniqueFoodListStorage = uniqueFoodListStorage;
+            this.dietPlanListStorage = dietPlanListStorage;
+            this.userPrefsStorage = userPrefsStorage;
+        }
+
+        /**
+         * Returns the folder that holds the data folder of each profile other than the default one.
+         */
+        Path getProfilesDirectory() {
+            return userPrefs.getUserFilePath().resolveSibling(PROFILES_DIRECTORY_NAME);
+        }
+
+        /**
+         * Returns the storage of a profile whose own data files are in {@code dataDirectory}, or where the user
+         * prefs say if it is null.
+         */
+        Storage createProfileStorage(Path dataDirectory) {
+            DietLahStorage dietLahStorage = new JsonDietLahStorage(
+                    resolveDataFile(dataDirectory, userPrefs.getDietLahFilePath()));
+            FoodIntakeListStorage foodIntakeListStorage = initFoodIntakeListStorage(userPrefs, dataDirectory);
+            UserStorage userStorage = new JsonUserStorage(resolveDataFile(dataDirectory, userPrefs.getUserFilePath()));
+            return new StorageManager(dietLahStorage, uniqueFoodListStorage, foodIntakeListStorage,
+                    dietPlanListStorage, userPrefsStorage, userStorage);
+        }
+    }
+
+    /**
+     * Loads each profile other than the default one from its folder in the profiles folder, sharing the food list
+     * and diet plans of the default profile's model.
+     */
+    private static class DataDirectoryProfileLoader implements ProfileManager.ProfileLoader {
+        private final SharedStorage sharedStorage;
+        private final Model defaultModel;
+        private final PersistenceWriter persistenceWriter;
+
+        DataDirectoryProfileLoader(SharedStorage sharedStorage, Model defaultModel,
+                                   PersistenceWriter persistenceWriter) {
+            this.sharedStorage = sharedStorage;
+            this.defaultModel = defaultModel;
+            this.persistenceWriter = persistenceWriter;
+        }
+
+        @Override
+        public Logic loadProfile(String profileName) {
+            long phaseStart = System.nanoTime();
+            Storage profileStorage = sharedStorage.createProfileStorage(
+                    sharedStorage.getProfilesDirectory().resolve(profileName));
+            UniqueFoodList uniqueFoodList = defaultModel.getUniqueFoodList();
+            DietPlanList dietPlanList = defaultModel.getDietPlanList();
+
+            ReadOnlyDietLah dietLah;
+            FoodIntakeList foodIntakeList;
+            User user;
+            boolean isSaved;
+            try {
+                Optional<ReadOnlyDietLah> dietLahOptional = profileStorage.readDietLah();
+                Optional<FoodIntakeList> foodIntakeListOptional = profileStorage.readFoodIntakeList();
+                user = profileStorage.readUser(uniqueFoodList, dietPlanList).orElse(null);
+                dietLah = dietLahOptional.orElseGet(DietLah::new);
+                foodIntakeList = foodIntakeListOptional.orElseGet(FoodIntakeList::new);
+                isSaved = dietLahOptional.isPresent() && foodIntakeListOptional.isPresent();
+            } catch (DataConversionException | IOException e) {
+                logger.warning("Data of profile " + profileName + " could not be read. Will be starting with an "
+                        + "empty profile " + StringUtil.getDetails(e));
+                dietLah = new DietLah();
+                foodIntakeList = new FoodIntakeList();
+                user = null;
+                isSaved = false;
+            }
+
+            Model profileModel = new ModelManager(dietLah, uniqueFoodList, foodIntakeList, dietPlanList,
+                    defaultModel.getUserPrefs(), user);
+            LogicManager profileLogic = new LogicManager(profileModel, profileStorage, persistenceWriter);
+            if (isSaved) {
+                // Only data that has changed since it was read needs writing, and the shared data has been queued
+                // for writing by whichever profile changed it.
+                profileLogic.markAllSaved();
+            }
+            logPhaseTime("profile " + profileName, phaseStart);
+            return profileLogic;
+        }
+
+        @Override
+        public List<String> getSavedProfileNames() {
+            Path profilesDirectory = sharedStorage.getProfilesDirectory();
+            if (!Files.isDirectory(profilesDirectory)) {
+                return List.of();
+            }
+            try (Stream<Path> dataDirectories = Files.list(profilesDirectory)) {
+                return dataDirectories.filter(Files::isDirectory)
+                        .map(dataDirectory -> dataDirectory.getFileName().toString())
+                        .collect(Collectors.toList());
+            } catch (IOException e) {
+                logger.warning("Unable to list the profiles " + StringUtil.getDetails(e));
+                return List.of();
+            }
+        }
+    }
+}
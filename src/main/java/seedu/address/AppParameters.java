@@ -2,6 +2,7 @@ package seedu.address;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -14,7 +15,10 @@ import seedu.address.commons.util.FileUtil;
  * Represents the parsed command-line parameters given to the application.
  */
 public class AppParameters {
+    public static final String NAMED_PARAMETER_PREFIX = "--";
+
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
+    private static final String NAMED_PARAMETER_SEPARATOR = "=";
 
     private Path configPath;
 
@@ -30,8 +34,30 @@ public class AppParameters {
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Returns the named parameters among the raw command-line {@code args}, which are given as
+     * {@code --name=value}, by name. Other arguments are left out.
+     */
+    public static Map<String, String> getNamedParameters(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith(NAMED_PARAMETER_PREFIX) && arg.contains(NAMED_PARAMETER_SEPARATOR)) {
+                int separatorIndex = arg.indexOf(NAMED_PARAMETER_SEPARATOR);
+                namedParameters.put(arg.substring(NAMED_PARAMETER_PREFIX.length(), separatorIndex),
+                        arg.substring(separatorIndex + 1));
+            }
+        }
+        return namedParameters;
+    }
+
+    /**
+     * Parses the named command-line parameters, which are given as {@code --name=value}.
+     */
+    public static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -0,0 +1,123 @@
+package seedu.address;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs the application without JavaFX, reading commands from standard input or a script file and printing their
+ * feedback to standard output.
+ * <p>
+ * Usage: {@code --headless [--config=CONFIG_FILE] [SCRIPT_FILE]}. Blank lines and lines starting with {@code #}
+ * are skipped, and an exit command stops reading. Errors are printed to standard error, and the process exits with
+ * status 1 if any command failed.
+ */
+public class HeadlessApp {
+
+    public static final String HEADLESS_FLAG = "--headless";
+    public static final String ERROR_PREFIX = "Error: ";
+    public static final String COMMENT_PREFIX = "#";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private final Logic logic;
+
+    /**
+     * Creates a headless app that runs commands with {@code logic}.
+     */
+    public HeadlessApp(Logic logic) {
+        requireNonNull(logic);
+        this.logic = logic;
+    }
+
+    /**
+     * Runs every command read from {@code input} until it ends or an exit command is run.
+     * Output is only flushed once no more input is waiting, so that scripts and piped input are not slowed down by
+     * a flush per command, while an interactive user still sees each result straight away.
+     *
+     * @return the number of commands that failed.
+     * @throws IOException if {@code input} cannot be read.
+     */
+    public int run(BufferedReader input, PrintWriter output, PrintWriter error) throws IOException {
+        requireNonNull(input);
+        requireNonNull(output);
+        requireNonNull(error);
+
+        int failureCount = 0;
+        String line;
+        while ((line = input.readLine()) != null) {
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                output.println(commandResult.getFeedbackToUser());
+                if (commandResult.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                output.flush();
+                error.println(ERROR_PREFIX + e.getMessage());
+                error.flush();
+                failureCount++;
+            }
+            if (!input.ready()) {
+                output.flush();
+            }
+        }
+        output.flush();
+        return failureCount;
+    }
+
+    public static void main(String[] args) {
+        List<String> unnamedParameters = new ArrayList<>();
+        for (String arg : args) {
+            if (!arg.startsWith(AppParameters.NAMED_PARAMETER_PREFIX)) {
+                unnamedParameters.add(arg);
+            }
+        }
+
+        // The console is for command feedback, so only problems are logged to it.
+        LogsCenter.setConsoleLevel(Level.WARNING);
+        long launchTime = System.nanoTime();
+        AppCore appCore = AppCore.load(AppParameters.parse(AppParameters.getNamedParameters(args))
+                .getConfigPath());
+        logger.info("Initialized headless in " + AppCore.getMillisSince(launchTime) + " ms");
+
+        PrintWriter output = new PrintWriter(new BufferedWriter(new OutputStreamWriter(System.out,
+                StandardCharsets.UTF_8)));
+        PrintWriter error = new PrintWriter(new OutputStreamWriter(System.err, StandardCharsets.UTF_8));
+        int exitStatus;
+        try (BufferedReader input = unnamedParameters.isEmpty()
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(Paths.get(unnamedParameters.get(0)), StandardCharsets.UTF_8)) {
+            exitStatus = new HeadlessApp(appCore.getLogic()).run(input, output, error) == 0 ? 0 : 1;
+        } catch (IOException e) {
+            error.println(ERROR_PREFIX + e.getMessage());
+            error.flush();
+            exitStatus = 1;
+        } finally {
+            appCore.stop();
+        }
+        System.exit(exitStatus);
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.address;
 
+import java.util.Arrays;
+
 import javafx.application.Application;
 
 /**
@@ -17,9 +19,21 @@ import javafx.application.Application;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * Given the {@code --headless} flag, the application runs on the command line
+ * through {@link HeadlessApp} instead, without starting JavaFX, and given the
+ * {@code --api} flag, it serves a local HTTP API through {@link ApiServer}.
  */
 public class Main {
     public static void main(String[] args) {
+        if (Arrays.asList(args).contains(ApiServer.API_FLAG)) {
+            ApiServer.main(args);
+            return;
+        }
+        if (Arrays.asList(args).contains(HeadlessApp.HEADLESS_FLAG)) {
+            HeadlessApp.main(args);
+            return;
+        }
         Application.launch(MainApp.class, args);
     }
 }
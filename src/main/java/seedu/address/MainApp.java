@@ -1,8 +1,5 @@
 package seedu.address;
 
-import java.io.IOException;
-import java.nio.file.Path;
-import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -10,37 +7,10 @@ import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
-import seedu.address.commons.exceptions.DataConversionException;
-import seedu.address.commons.util.ConfigUtil;
-import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
-import seedu.address.logic.LogicManager;
-import seedu.address.model.DietLah;
 import seedu.address.model.Model;
-import seedu.address.model.ModelManager;
-import seedu.address.model.ReadOnlyDietLah;
-import seedu.address.model.ReadOnlyUserPrefs;
-import seedu.address.model.UserPrefs;
-import seedu.address.model.diet.DietPlanList;
-import seedu.address.model.food.FoodIntakeList;
-import seedu.address.model.food.UniqueFoodList;
-import seedu.address.model.user.User;
-import seedu.address.model.util.SampleDataUtil;
-import seedu.address.model.util.TemplateInitializer;
-import seedu.address.storage.DietLahStorage;
-import seedu.address.storage.DietPlanListStorage;
-import seedu.address.storage.FoodIntakeListStorage;
-import seedu.address.storage.JsonDietLahStorage;
-import seedu.address.storage.JsonDietPlanListStorage;
-import seedu.address.storage.JsonFoodIntakeListStorage;
-import seedu.address.storage.JsonUniqueFoodListStorage;
-import seedu.address.storage.JsonUserPrefsStorage;
-import seedu.address.storage.JsonUserStorage;
+import seedu.address.storage.PersistenceWriter;
 import seedu.address.storage.Storage;
-import seedu.address.storage.StorageManager;
-import seedu.address.storage.UniqueFoodListStorage;
-import seedu.address.storage.UserPrefsStorage;
-import seedu.address.storage.UserStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -53,11 +23,15 @@ public class MainApp extends Application {
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
+    private final long launchTime = System.nanoTime();
+
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected PersistenceWriter persistenceWriter;
+    protected AppCore appCore;
 
     @Override
     public void init() throws Exception {
@@ -65,182 +39,30 @@ public class MainApp extends Application {
         super.init();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
-        config = initConfig(appParameters.getConfigPath());
-
-        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        DietLahStorage dietLahStorage = new JsonDietLahStorage(userPrefs.getDietLahFilePath());
-        UniqueFoodListStorage uniqueFoodListStorage =
-                new JsonUniqueFoodListStorage(userPrefs.getUniqueFoodListFilePath());
-        FoodIntakeListStorage foodIntakeListStorage =
-                new JsonFoodIntakeListStorage(userPrefs.getFoodIntakeListFilePath());
-        DietPlanListStorage dietPlanListStorage = new JsonDietPlanListStorage(userPrefs.getDietPlanListFilePath());
-        UserStorage userStorage = new JsonUserStorage(userPrefs.getUserFilePath());
-
-        storage = new StorageManager(dietLahStorage, uniqueFoodListStorage,
-                foodIntakeListStorage, dietPlanListStorage, userPrefsStorage, userStorage);
-
-        initLogging(config);
-
-        model = initModelManager(storage, userPrefs);
-
-        logic = new LogicManager(model, storage);
-
+        appCore = AppCore.load(appParameters.getConfigPath());
+        config = appCore.getConfig();
+        storage = appCore.getStorage();
+        model = appCore.getModel();
+        persistenceWriter = appCore.getPersistenceWriter();
+        logic = appCore.getLogic();
+
+        long phaseStart = System.nanoTime();
         ui = new UiManager(logic);
-    }
-
-    /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
-     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
-     */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        // TODO: Update handling of method
-        Optional<ReadOnlyDietLah> dietLahOptional;
-        ReadOnlyDietLah initialData;
-        Optional<UniqueFoodList> uniqueFoodListOptional;
-        UniqueFoodList uniqueFoodList;
-        Optional<FoodIntakeList> foodIntakeListOptional;
-        FoodIntakeList foodIntakeList;
-        Optional<DietPlanList> dietPlanListOptional;
-        DietPlanList dietPlanList;
-        Optional<User> userOptional;
-        User user;
-
-        try {
-            TemplateInitializer templateInitializer = new TemplateInitializer();
-            dietLahOptional = storage.readDietLah();
-            uniqueFoodListOptional = storage.readFoodList();
-            foodIntakeListOptional = storage.readFoodIntakeList();
-            dietPlanListOptional = storage.readDietPlanList();
-            userOptional = storage.readUser();
-            if (!dietLahOptional.isPresent()) {
-                logger.info("Data file not found. Will be starting with a sample DietLah");
-            }
-            if (!uniqueFoodListOptional.isPresent()) {
-                logger.info("Food data file not found. Will be starting fresh");
-            }
-            if (!foodIntakeListOptional.isPresent()) {
-                logger.info("Food intake data file not found. Will be starting fresh");
-            }
-            if (!dietPlanListOptional.isPresent()) {
-                logger.info("Diet plans file not found. Will be starting fresh");
-            }
-            if (!userOptional.isPresent()) {
-                logger.info("User file not found. Will be starting with default template data");
-            }
-            initialData = dietLahOptional.orElseGet(SampleDataUtil::getSampleDietLah);
-            TemplateInitializer initializer = new TemplateInitializer();
-            uniqueFoodList = uniqueFoodListOptional.orElse(initializer.getUniqueFoodListTemplate());
-            foodIntakeList = foodIntakeListOptional.orElse(initializer.getFoodListIntakeTemplate());
-            dietPlanList = dietPlanListOptional.orElseGet(templateInitializer::getDietPlanListTemplate);
-            user = userOptional.orElse(initializer.createUser(uniqueFoodList, foodIntakeList));
-        } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty DietLah");
-            TemplateInitializer initializer = new TemplateInitializer();
-            initialData = new DietLah();
-            uniqueFoodList = initializer.getUniqueFoodListTemplate();
-            foodIntakeList = initializer.getFoodListIntakeTemplate();
-            dietPlanList = initializer.getDietPlanListTemplate();
-            user = initializer.createUser(uniqueFoodList, foodIntakeList);
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty DietLah");
-            TemplateInitializer initializer = new TemplateInitializer();
-            initialData = new DietLah();
-            uniqueFoodList = initializer.getUniqueFoodListTemplate();
-            foodIntakeList = initializer.getFoodListIntakeTemplate();
-            dietPlanList = initializer.getDietPlanListTemplate();
-            user = initializer.createUser(uniqueFoodList, foodIntakeList);
-        }
-
-        return new ModelManager(initialData, uniqueFoodList, foodIntakeList, dietPlanList, userPrefs, user);
-    }
-
-    private void initLogging(Config config) {
-        LogsCenter.init(config);
-    }
-
-    /**
-     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
-     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
-     * if {@code configFilePath} is null.
-     */
-    protected Config initConfig(Path configFilePath) {
-        Config initializedConfig;
-        Path configFilePathUsed;
-
-        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
-
-        if (configFilePath != null) {
-            logger.info("Custom Config file specified " + configFilePath);
-            configFilePathUsed = configFilePath;
-        }
-
-        logger.info("Using config file : " + configFilePathUsed);
-
-        try {
-            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
-            initializedConfig = configOptional.orElse(new Config());
-        } catch (DataConversionException e) {
-            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. "
-                    + "Using default config properties");
-            initializedConfig = new Config();
-        }
-
-        //Update config file in case it was missing to begin with or there are new/unused fields
-        try {
-            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-        return initializedConfig;
-    }
-
-    /**
-     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
-     * or a new {@code UserPrefs} with default configuration if errors occur when
-     * reading from the file.
-     */
-    protected UserPrefs initPrefs(UserPrefsStorage storage) {
-        Path prefsFilePath = storage.getUserPrefsFilePath();
-        logger.info("Using prefs file : " + prefsFilePath);
-
-        UserPrefs initializedPrefs;
-        try {
-            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
-            initializedPrefs = prefsOptional.orElse(new UserPrefs());
-        } catch (DataConversionException e) {
-            logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. "
-                    + "Using default user prefs");
-            initializedPrefs = new UserPrefs();
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty DietLah");
-            initializedPrefs = new UserPrefs();
-        }
-
-        //Update prefs file in case it was missing to begin with or there are new/unused fields
-        try {
-            storage.saveUserPrefs(initializedPrefs);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-
-        return initializedPrefs;
+        AppCore.logPhaseTime("ui", phaseStart);
+        logger.info("Initialized in " + AppCore.getMillisSince(launchTime) + " ms after launch");
     }
 
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting DietLAH! " + MainApp.VERSION);
         ui.start(primaryStage);
+        logger.info("First window shown " + AppCore.getMillisSince(launchTime) + " ms after launch");
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping DietLAH! ] =============================");
-        try {
-            storage.saveUserPrefs(model.getUserPrefs());
-        } catch (IOException e) {
-            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
-        }
+        ui.stop();
+        appCore.stop();
     }
 }
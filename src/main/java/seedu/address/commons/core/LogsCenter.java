@@ -35,6 +35,16 @@ public class LogsCenter {
         logger.info("currentLogLevel: " + currentLogLevel);
     }
 
+    /**
+     * Sets the level of the messages that are written to the console. The log file is not affected.
+     */
+    public static void setConsoleLevel(Level level) {
+        if (consoleHandler == null) {
+            consoleHandler = createConsoleHandler();
+        }
+        consoleHandler.setLevel(level);
+    }
+
     /**
      * Creates a logger with the given name.
      */
@@ -0,0 +1,21 @@
+package seedu.address.commons.core;
+
+/**
+ * The file formats that the food list and food intake list can be stored in.
+ */
+public enum StorageFormat {
+    /** Human-readable json files, which other tools can read and edit. */
+    JSON,
+    /** Compact binary files, which are much smaller and faster to load for long food intake histories. */
+    BINARY,
+    /**
+     * Compact binary files, with the food intake list split into one file per month so that only recent months are
+     * loaded at startup.
+     */
+    SEGMENTED,
+    /**
+     * An embedded SQL database for the food intake list, which is updated a few rows at a time and queried by date
+     * range. The food list is stored in the compact binary format.
+     */
+    SQLITE
+}
@@ -1,10 +1,12 @@
 package seedu.address.commons.util;
 
 import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 
 /**
  * Writes and reads files
@@ -12,6 +14,7 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -80,6 +83,43 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Writes given string to a file by writing it to a temporary file next to it first and then renaming that
+     * over the file, so that the file is never left partially written.
+     * Will create the file if it does not exist yet.
+     */
+    public static void writeToFileAtomically(Path file, String content) throws IOException {
+        writeToFileAtomically(file, content.getBytes(CHARSET));
+    }
+
+    /**
+     * Writes given bytes to a file atomically.
+     * @see #writeToFileAtomically(Path, String)
+     */
+    public static void writeToFileAtomically(Path file, byte[] content) throws IOException {
+        Path temporaryFile = getTemporaryFile(file);
+        Files.write(temporaryFile, content);
+        replaceAtomically(temporaryFile, file);
+    }
+
+    /**
+     * Returns the path of the temporary file used to write {@code file} atomically.
+     */
+    public static Path getTemporaryFile(Path file) {
+        return file.resolveSibling(file.getFileName() + TEMPORARY_FILE_SUFFIX);
+    }
+
+    /**
+     * Renames {@code source} over {@code target} in one step where the file system supports it.
+     */
+    public static void replaceAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
     /**
      * Deletes the given file if it exists.
      */
@@ -0,0 +1,334 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.food.Food;
+import seedu.address.model.food.FoodIntake;
+import seedu.address.model.food.UniqueFoodList;
+
+/**
+ * Reads foods and food intakes from an external CSV or JSON lines file, such as a nutrition database or the history
+ * of another tracker.
+ * <p>
+ * The file is streamed one batch of lines at a time, and each batch is parsed and validated in parallel before the
+ * next one is read. Each line is one record, either
+ * <pre>
+ * food,NAME,CARBOS,FATS,PROTEINS
+ * intake,DATE,NAME,CARBOS,FATS,PROTEINS
+ * </pre>
+ * in a CSV file, or an object with the same fields and a {@code type} field in a JSON lines file. Dates are in
+ * {@code yyyy-MM-dd} format. Blank lines and a CSV header line starting with {@code type} are skipped.
+ * Invalid records and foods that are already in the food list are rejected, and the rest are kept in file order.
+ */
+public class BulkImporter {
+
+    public static final int BATCH_SIZE = 4096;
+    public static final String FOOD_RECORD_TYPE = "food";
+    public static final String INTAKE_RECORD_TYPE = "intake";
+
+    public static final String MESSAGE_UNKNOWN_TYPE = "unknown record type \"%s\"";
+    public static final String MESSAGE_FIELD_COUNT = "expected %d fields but found %d";
+    public static final String MESSAGE_INVALID_NUMBER = "\"%s\" is not a number";
+    public static final String MESSAGE_INVALID_DATE = "\"%s\" is not a date in yyyy-MM-dd format";
+    public static final String MESSAGE_MISSING_FIELD = "missing %s";
+    public static final String MESSAGE_DUPLICATE_FOOD = "food \"%s\" is already in the food list";
+    public static final String MESSAGE_INVALID_JSON = "not a JSON object with the record fields";
+
+    private static final int MIN_PARALLEL_BATCH_SIZE = 512;
+    private static final String CSV_HEADER_PREFIX = "type";
+    private static final int FOOD_FIELD_COUNT = 5;
+    private static final int INTAKE_FIELD_COUNT = 6;
+
+    /**
+     * The file formats that can be imported.
+     */
+    public enum Format {
+        CSV, JSON_LINES;
+
+        /**
+         * Returns the format of the file at {@code filePath} from its extension. Anything other than {@code .csv}
+         * is read as JSON lines.
+         */
+        public static Format of(Path filePath) {
+            return filePath.toString().toLowerCase().endsWith(".csv") ? CSV : JSON_LINES;
+        }
+    }
+
+    private final Format format;
+    private final UniqueFoodList existingFoods;
+
+    /**
+     * Creates an importer that reads files in {@code format}, and rejects foods that are already in
+     * {@code existingFoods}.
+     */
+    public BulkImporter(Format format, UniqueFoodList existingFoods) {
+        requireNonNull(format);
+        requireNonNull(existingFoods);
+        this.format = format;
+        this.existingFoods = existingFoods;
+    }
+
+    /**
+     * Reads every record of the file at {@code filePath}.
+     *
+     * @throws IOException if the file cannot be read.
+     */
+    public Result read(Path filePath) throws IOException {
+        requireNonNull(filePath);
+
+        Result result = new Result();
+        Set<String> importedFoodNames = new HashSet<>();
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            List<String> batch = new ArrayList<>(BATCH_SIZE);
+            int firstLineNumber = 1;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                batch.add(line);
+                if (batch.size() == BATCH_SIZE) {
+                    addBatch(result, importedFoodNames, parseBatch(batch, firstLineNumber));
+                    firstLineNumber += batch.size();
+                    batch.clear();
+                }
+            }
+            addBatch(result, importedFoodNames, parseBatch(batch, firstLineNumber));
+        }
+        return result;
+    }
+
+    /**
+     * Parses and validates a batch of lines, in parallel if the batch is large enough to benefit.
+     *
+     * @return the parsed lines, in the same order as {@code batch}, without skipped lines.
+     */
+    private List<ParsedLine> parseBatch(List<String> batch, int firstLineNumber) {
+        IntStream indexes = batch.size() >= MIN_PARALLEL_BATCH_SIZE
+                ? IntStream.range(0, batch.size()).parallel()
+                : IntStream.range(0, batch.size());
+        return indexes.mapToObj(i -> parseLine(batch.get(i), firstLineNumber + i))
+                .filter(parsedLine -> parsedLine != null)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Adds the parsed lines of a batch to {@code result} in order, rejecting foods that are already known.
+     */
+    private void addBatch(Result result, Set<String> importedFoodNames, List<ParsedLine> parsedLines) {
+        for (ParsedLine parsedLine : parsedLines) {
+            result.recordCount++;
+            if (parsedLine.rejection != null) {
+                result.reject(parsedLine.lineNumber, parsedLine.rejection);
+            } else if (parsedLine.food == null) {
+                result.foodIntakes.add(parsedLine.foodIntake);
+            } else if (existingFoods.getFoodItemIndex(parsedLine.food.getName()) != -1
+                    || !importedFoodNames.add(parsedLine.food.getName())) {
+                result.reject(parsedLine.lineNumber, String.format(MESSAGE_DUPLICATE_FOOD,
+                        parsedLine.food.getName()));
+            } else {
+                result.foods.add(parsedLine.food);
+            }
+        }
+    }
+
+    /**
+     * Parses one line, or returns null if it is to be skipped.
+     */
+    private ParsedLine parseLine(String line, int lineNumber) {
+        String trimmedLine = line.trim();
+        if (trimmedLine.isEmpty()) {
+            return null;
+        }
+        try {
+            Record record = format == Format.CSV ? parseCsvRecord(trimmedLine) : parseJsonRecord(trimmedLine);
+            if (record == null) {
+                return null;
+            }
+            return record.toParsedLine(lineNumber);
+        } catch (InvalidRecordException e) {
+            return ParsedLine.rejected(lineNumber, e.getMessage());
+        }
+    }
+
+    /**
+     * Splits a CSV line into a record, or returns null for a header line.
+     */
+    private static Record parseCsvRecord(String line) throws InvalidRecordException {
+        String[] fields = line.split(",", -1);
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = fields[i].trim();
+        }
+        Record record = new Record();
+        record.type = fields[0];
+        if (record.type.equalsIgnoreCase(CSV_HEADER_PREFIX)) {
+            return null;
+        }
+        if (!FOOD_RECORD_TYPE.equals(record.type) && !INTAKE_RECORD_TYPE.equals(record.type)) {
+            throw new InvalidRecordException(String.format(MESSAGE_UNKNOWN_TYPE, record.type));
+        }
+        int expectedFieldCount = INTAKE_RECORD_TYPE.equals(record.type) ? INTAKE_FIELD_COUNT : FOOD_FIELD_COUNT;
+        if (fields.length != expectedFieldCount) {
+            throw new InvalidRecordException(String.format(MESSAGE_FIELD_COUNT, expectedFieldCount, fields.length));
+        }
+        int nameField = 1;
+        if (INTAKE_RECORD_TYPE.equals(record.type)) {
+            record.date = fields[1];
+            nameField = 2;
+        }
+        record.name = fields[nameField];
+        record.carbos = parseNumber(fields[nameField + 1]);
+        record.fats = parseNumber(fields[nameField + 2]);
+        record.proteins = parseNumber(fields[nameField + 3]);
+        return record;
+    }
+
+    private static Record parseJsonRecord(String line) throws InvalidRecordException {
+        try {
+            Record record = JsonUtil.fromJsonString(line, Record.class);
+            if (record == null) {
+                throw new InvalidRecordException(MESSAGE_INVALID_JSON);
+            }
+            return record;
+        } catch (IOException e) {
+            throw new InvalidRecordException(MESSAGE_INVALID_JSON);
+        }
+    }
+
+    private static Double parseNumber(String field) throws InvalidRecordException {
+        try {
+            return Double.valueOf(field);
+        } catch (NumberFormatException e) {
+            throw new InvalidRecordException(String.format(MESSAGE_INVALID_NUMBER, field));
+        }
+    }
+
+    /**
+     * The records and rejections read from a file.
+     */
+    public static class Result {
+        private final List<Food> foods = new ArrayList<>();
+        private final List<FoodIntake> foodIntakes = new ArrayList<>();
+        private final List<String> rejections = new ArrayList<>();
+        private int recordCount = 0;
+
+        public List<Food> getFoods() {
+            return foods;
+        }
+
+        public List<FoodIntake> getFoodIntakes() {
+            return foodIntakes;
+        }
+
+        /**
+         * Returns a description of each rejected record, with its line number, in file order.
+         */
+        public List<String> getRejections() {
+            return rejections;
+        }
+
+        /**
+         * Returns the number of records read, whether they were accepted or rejected.
+         */
+        public int getRecordCount() {
+            return recordCount;
+        }
+
+        private void reject(int lineNumber, String reason) {
+            rejections.add("line " + lineNumber + ": " + reason);
+        }
+    }
+
+    /**
+     * The fields of one record, as read from either format.
+     */
+    private static class Record {
+        private String type;
+        private String date;
+        private String name;
+        private Double carbos;
+        private Double fats;
+        private Double proteins;
+
+        /**
+         * Validates this record with the same rules as the food commands.
+         */
+        ParsedLine toParsedLine(int lineNumber) throws InvalidRecordException {
+            if (!FOOD_RECORD_TYPE.equals(type) && !INTAKE_RECORD_TYPE.equals(type)) {
+                throw new InvalidRecordException(String.format(MESSAGE_UNKNOWN_TYPE, type));
+            }
+            requireField(name, "name");
+            requireField(carbos, "carbos");
+            requireField(fats, "fats");
+            requireField(proteins, "proteins");
+            if (!Food.isValidFoodName(name)) {
+                throw new InvalidRecordException(Food.MESSAGE_CONSTRAINTS);
+            }
+            if (!Food.isValidNumber(fats, carbos, proteins)) {
+                throw new InvalidRecordException(Food.MESSAGE_DIGIT_CONSTRAINTS);
+            }
+            if (carbos > Food.NUTRIENTS_LIMIT || fats > Food.NUTRIENTS_LIMIT || proteins > Food.NUTRIENTS_LIMIT) {
+                throw new InvalidRecordException(Food.MESSAGE_DIGIT_MAX_LIMIT);
+            }
+            Food food = new Food(name, carbos, fats, proteins);
+            if (FOOD_RECORD_TYPE.equals(type)) {
+                return new ParsedLine(lineNumber, food, null, null);
+            }
+
+            requireField(date, "date");
+            try {
+                return new ParsedLine(lineNumber, null, new FoodIntake(LocalDate.parse(date), food), null);
+            } catch (DateTimeParseException e) {
+                throw new InvalidRecordException(String.format(MESSAGE_INVALID_DATE, date));
+            }
+        }
+
+        private static void requireField(Object field, String fieldName) throws InvalidRecordException {
+            if (field == null) {
+                throw new InvalidRecordException(String.format(MESSAGE_MISSING_FIELD, fieldName));
+            }
+        }
+    }
+
+    /**
+     * The outcome of parsing one line: a food, a food intake or the reason it was rejected.
+     */
+    private static class ParsedLine {
+        private final int lineNumber;
+        private final Food food;
+        private final FoodIntake foodIntake;
+        private final String rejection;
+
+        ParsedLine(int lineNumber, Food food, FoodIntake foodIntake, String rejection) {
+            this.lineNumber = lineNumber;
+            this.food = food;
+            this.foodIntake = foodIntake;
+            this.rejection = rejection;
+        }
+
+        static ParsedLine rejected(int lineNumber, String rejection) {
+            return new ParsedLine(lineNumber, null, null, rejection);
+        }
+    }
+
+    /**
+     * Signals that a record is invalid, with a message that describes why.
+     */
+    private static class InvalidRecordException extends Exception {
+        InvalidRecordException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+
+import seedu.address.logic.commands.PagedFeedback;
+import seedu.address.model.food.Food;
+import seedu.address.model.food.FoodIntake;
+import seedu.address.model.food.FoodIntakeSnapshot;
+import seedu.address.model.food.MacroTotals;
+
+/**
+ * Produces the report of a food intake query over a range of days a page at a time, from a snapshot of the food
+ * intake list.
+ * <p>
+ * The lines are the same as those of {@code FoodIntakeList#getFoodIntakeListByDateRange}. Only the first line of
+ * each day is worked out up front, and the lines of a page are written from the days it covers when it is asked
+ * for, so a query over years of history takes the same time and memory to show as one over a week.
+ */
+public class FoodIntakeQueryPages implements PagedFeedback {
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("d MMM yyyy");
+    private static final String SEPARATOR =
+            "------------------------------------------------------------------------";
+    private static final String MESSAGE_NO_RECORD = "No record found during this period.";
+    // The title of the report, followed by a blank line or the message that nothing was found.
+    private static final int TITLE_LINE_COUNT = 2;
+    // Besides its food intakes, each day has a separator, a title, its total and another separator.
+    private static final int LINES_PER_DAY = 4;
+
+    private final String title;
+    private final LocalDate[] dates;
+    private final List<List<Food>> foodsOfDays;
+    private final MacroTotals[] dayTotals;
+    private final int[] firstLineOfDays;
+    private final int lineCount;
+
+    /**
+     * Creates the report of the food intakes in {@code snapshot} from {@code from} to {@code to} inclusive.
+     */
+    public FoodIntakeQueryPages(FoodIntakeSnapshot snapshot, LocalDate from, LocalDate to) {
+        requireNonNull(snapshot);
+        requireNonNull(from);
+        requireNonNull(to);
+        this.title = "Summary Food Intake from (" + from.format(DATE_FORMATTER) + ") to ("
+                + to.format(DATE_FORMATTER) + "):";
+
+        NavigableMap<LocalDate, List<Food>> foodsByDate = snapshot.getFoodsByDateBetween(from, to);
+        NavigableMap<LocalDate, MacroTotals> totalsByDate = snapshot.getDayTotalsBetween(from, to);
+        this.dates = new LocalDate[foodsByDate.size()];
+        this.foodsOfDays = new ArrayList<>(foodsByDate.size());
+        this.dayTotals = new MacroTotals[foodsByDate.size()];
+        this.firstLineOfDays = new int[foodsByDate.size()];
+        int line = TITLE_LINE_COUNT;
+        int day = 0;
+        for (Map.Entry<LocalDate, List<Food>> foodsOfDay : foodsByDate.entrySet()) {
+            this.dates[day] = foodsOfDay.getKey();
+            this.foodsOfDays.add(foodsOfDay.getValue());
+            this.dayTotals[day] = totalsByDate.get(foodsOfDay.getKey());
+            this.firstLineOfDays[day] = line;
+            line += foodsOfDay.getValue().size() + LINES_PER_DAY;
+            day++;
+        }
+        this.lineCount = line;
+    }
+
+    @Override
+    public int getLineCount() {
+        return this.lineCount;
+    }
+
+    @Override
+    public List<String> getPage(int pageIndex) {
+        if (pageIndex < 0 || pageIndex >= getPageCount()) {
+            throw new IndexOutOfBoundsException("No page " + pageIndex + " in " + getPageCount() + " pages");
+        }
+        int fromLine = pageIndex * PAGE_SIZE;
+        int toLine = Math.min(this.lineCount, fromLine + PAGE_SIZE);
+        List<String> lines = new ArrayList<>(toLine - fromLine);
+        for (int line = fromLine; line < toLine; line++) {
+            lines.add(getLine(line));
+        }
+        return lines;
+    }
+
+    private String getLine(int line) {
+        if (line == 0) {
+            return this.title;
+        } else if (line < TITLE_LINE_COUNT) {
+            return this.dates.length == 0 ? MESSAGE_NO_RECORD : "";
+        }
+
+        int day = Arrays.binarySearch(this.firstLineOfDays, line);
+        if (day < 0) {
+            // The line is within the day that starts before it.
+            day = -day - 2;
+        }
+        List<Food> foods = this.foodsOfDays.get(day);
+        int lineOfDay = line - this.firstLineOfDays[day];
+        if (lineOfDay == 0 || lineOfDay == foods.size() + 3) {
+            return SEPARATOR;
+        } else if (lineOfDay == 1) {
+            return "Summary Food Intake for the Day (" + this.dates[day].format(DATE_FORMATTER) + "):";
+        } else if (lineOfDay < foods.size() + 2) {
+            return (lineOfDay - 1) + ". " + FoodIntake.describe(foods.get(lineOfDay - 2));
+        }
+        MacroTotals totals = this.dayTotals[day];
+        FoodIntakeCalculator foodIntakeCalculator = new FoodIntakeCalculator(totals.getCarbos(), totals.getFats(),
+                totals.getProteins());
+        return "Total Daily Calories Intake: " + String.format("%.2f", foodIntakeCalculator.getCalories())
+                + " calories.";
+    }
+}
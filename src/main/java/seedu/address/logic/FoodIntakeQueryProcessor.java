@@ -3,19 +3,36 @@ package seedu.address.logic;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 
-import javafx.collections.ObservableList;
-import seedu.address.model.food.Food;
-import seedu.address.model.food.FoodIntake;
+import seedu.address.model.food.DailyMacroAggregates;
+import seedu.address.model.food.FoodIntakeColumns;
+import seedu.address.model.food.MacroTotals;
 
 /**
  * Represents a class to generate daily food intake report.
  */
 public class FoodIntakeQueryProcessor {
     private static final String DATE_FORMAT = "d MMM yyyy";
-    private ObservableList<FoodIntake> foodIntakeList;
+    private FoodIntakeColumns foodIntakeColumns;
+    private int fromIndex;
+    private int toIndex;
+    private DailyMacroAggregates dailyMacroAggregates;
 
-    public FoodIntakeQueryProcessor(ObservableList<FoodIntake> foodIntakeList) {
-        this.foodIntakeList = foodIntakeList;
+    /**
+     * Creates a FoodIntakeQueryProcessor for the records of a food intake list that cover whole days.
+     *
+     * @param foodIntakeColumns    columnar records of the food intake list, sorted by date
+     * @param fromIndex            index of the first record to report
+     * @param toIndex              index after the last record to report
+     * @param dailyMacroAggregates daily nutrient totals of the same food intake list
+     */
+    public FoodIntakeQueryProcessor(FoodIntakeColumns foodIntakeColumns, int fromIndex, int toIndex,
+                                    DailyMacroAggregates dailyMacroAggregates) {
+        assert fromIndex >= 0 && fromIndex <= toIndex && toIndex <= foodIntakeColumns.size()
+                : "Invalid record range";
+        this.foodIntakeColumns = foodIntakeColumns;
+        this.fromIndex = fromIndex;
+        this.toIndex = toIndex;
+        this.dailyMacroAggregates = dailyMacroAggregates;
     }
 
     /**
@@ -25,20 +42,18 @@ public class FoodIntakeQueryProcessor {
      */
     public String generateDayQuery() {
         StringBuilder stringBuilder = new StringBuilder();
-        Double carbos = 0.0;
-        Double fats = 0.0;
-        Double proteins = 0.0;
+        MacroTotals dayTotals = MacroTotals.ZERO;
         FoodIntakeCalculator foodIntakeCalculator;
         int counter = 1;
-        for (int i = 0; i < this.foodIntakeList.size(); i++) {
-            Food tempFood = foodIntakeList.get(i).getFood();
-            carbos += tempFood.getCarbos();
-            fats += tempFood.getFats();
-            proteins += tempFood.getProteins();
-            stringBuilder.append(counter + ". " + foodIntakeList.get(i) + "\n");
+        for (int i = this.fromIndex; i < this.toIndex; i++) {
+            stringBuilder.append(counter + ". " + this.foodIntakeColumns.describe(i) + "\n");
             counter++;
         }
-        foodIntakeCalculator = new FoodIntakeCalculator(carbos, fats, proteins);
+        if (this.toIndex > this.fromIndex) {
+            dayTotals = this.dailyMacroAggregates.getDayTotals(this.foodIntakeColumns.getDate(this.fromIndex));
+        }
+        foodIntakeCalculator = new FoodIntakeCalculator(dayTotals.getCarbos(), dayTotals.getFats(),
+                dayTotals.getProteins());
         stringBuilder.append("\nTotal Daily Calories Intake: "
                 + String.format("%.2f", foodIntakeCalculator.getCalories())
                 + " calories.\n");
@@ -51,33 +66,24 @@ public class FoodIntakeQueryProcessor {
      * @return string output of a range of days consumption
      */
     public String generateRangeOfDaysQuery() {
-        Double carbos = 0.0;
-        Double fats = 0.0;
-        Double proteins = 0.0;
         int counter = 1;
-        LocalDate currDate = null;
         FoodIntakeCalculator foodIntakeCalculator;
         StringBuilder stringBuilder = new StringBuilder();
-        for (int i = 0; i < this.foodIntakeList.size(); i++) {
-            if (!this.foodIntakeList.get(i).getDate().equals(currDate)) {
-                currDate = this.foodIntakeList.get(i).getDate(); //Set new date when a new data date is different
+        for (int i = this.fromIndex; i < this.toIndex; i++) {
+            int currEpochDay = this.foodIntakeColumns.getEpochDay(i);
+            if (i == this.fromIndex || currEpochDay != this.foodIntakeColumns.getEpochDay(i - 1)) {
+                //Start a new day section when the date differs from the previous record
                 stringBuilder.append("\n------------------------------------------------------------------------\n");
                 stringBuilder.append("Summary Food Intake for the Day ("
-                        + foodIntakeList.get(i).getDate().format(DateTimeFormatter.ofPattern(DATE_FORMAT))
+                        + LocalDate.ofEpochDay(currEpochDay).format(DateTimeFormatter.ofPattern(DATE_FORMAT))
                         + "):\n");
-                carbos = 0.0;
-                fats = 0.0;
-                proteins = 0.0;
             }
-            Food tempFood = foodIntakeList.get(i).getFood();
-            carbos += tempFood.getCarbos();
-            fats += tempFood.getFats();
-            proteins += tempFood.getProteins();
-            stringBuilder.append(counter + ". " + foodIntakeList.get(i) + "\n");
+            stringBuilder.append(counter + ". " + this.foodIntakeColumns.describe(i) + "\n");
             counter++;
-            if (i + 1 == this.foodIntakeList.size()
-                    || !currDate.isEqual(this.foodIntakeList.get(i + 1).getDate())) {
-                foodIntakeCalculator = new FoodIntakeCalculator(carbos, fats, proteins);
+            if (i + 1 == this.toIndex || currEpochDay != this.foodIntakeColumns.getEpochDay(i + 1)) {
+                MacroTotals dayTotals = this.dailyMacroAggregates.getDayTotals(LocalDate.ofEpochDay(currEpochDay));
+                foodIntakeCalculator = new FoodIntakeCalculator(dayTotals.getCarbos(), dayTotals.getFats(),
+                        dayTotals.getProteins());
                 stringBuilder.append("Total Daily Calories Intake: "
                         + String.format("%.2f", foodIntakeCalculator.getCalories()) + " calories.\n");
                 stringBuilder.append("------------------------------------------------------------------------");
@@ -0,0 +1,320 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.diet.DietPlan;
+import seedu.address.model.food.FoodIntakeColumns;
+import seedu.address.model.food.FoodIntakeList;
+import seedu.address.model.food.MacroTotals;
+import seedu.address.model.user.User;
+
+/**
+ * Writes the food intake history, its daily totals or the progress report to a CSV, JSON lines or text file.
+ * <p>
+ * Rows are written through a buffered writer one at a time while walking the date-sorted history, so that
+ * exporting years of data never builds the whole output in memory. Exported food intakes use the same record format
+ * as {@link BulkImporter}, so that an exported history can be imported again.
+ */
+public class HistoryExporter {
+
+    public static final String MESSAGE_TEXT_ONLY_FOR_REPORT = "Only the progress report can be exported as text.";
+
+    private static final String[] INTAKE_COLUMNS = {"type", "date", "name", "carbos", "fats", "proteins"};
+    private static final String[] DAILY_COLUMNS = {"date", "carbos", "fats", "proteins", "kcal"};
+    private static final String[] REPORT_COLUMNS = {"date", "carbos", "fats", "proteins",
+        "carbosAdherence", "fatsAdherence", "proteinsAdherence"};
+    private static final JsonFactory JSON_FACTORY = new JsonFactory()
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+    /**
+     * The data that can be exported.
+     */
+    public enum Content {
+        INTAKES("intakes"), DAILY("daily"), REPORT("report");
+
+        private final String keyword;
+
+        Content(String keyword) {
+            this.keyword = keyword;
+        }
+
+        public String getKeyword() {
+            return keyword;
+        }
+
+        /**
+         * Returns the content named by {@code keyword}, ignoring case.
+         */
+        public static Optional<Content> of(String keyword) {
+            for (Content content : values()) {
+                if (content.keyword.equalsIgnoreCase(keyword)) {
+                    return Optional.of(content);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * The file formats that can be exported to.
+     */
+    public enum Format {
+        CSV, JSON_LINES, TEXT;
+
+        /**
+         * Returns the format of the file at {@code filePath} from its extension. Anything other than {@code .csv}
+         * or {@code .txt} is written as JSON lines.
+         */
+        public static Format of(Path filePath) {
+            String fileName = filePath.toString().toLowerCase();
+            if (fileName.endsWith(".csv")) {
+                return CSV;
+            }
+            return fileName.endsWith(".txt") ? TEXT : JSON_LINES;
+        }
+    }
+
+    private final Content content;
+    private final Format format;
+
+    /**
+     * Creates an exporter that writes {@code content} in {@code format}.
+     * {@code Format.TEXT} is only valid for {@code Content.REPORT}.
+     */
+    public HistoryExporter(Content content, Format format) {
+        requireNonNull(content);
+        requireNonNull(format);
+        checkArgument(format != Format.TEXT || content == Content.REPORT, MESSAGE_TEXT_ONLY_FOR_REPORT);
+        this.content = content;
+        this.format = format;
+    }
+
+    /**
+     * Writes the export to {@code filePath}, replacing the file if it exists.
+     * The diet plan and user are only used for the progress report, and may be null otherwise.
+     *
+     * @return the number of rows written, or of food intakes reported for a text report.
+     * @throws IOException if the file cannot be written.
+     */
+    public int export(FoodIntakeList foodIntakeList, DietPlan dietPlan, User user, Path filePath)
+            throws IOException {
+        return export(foodIntakeList, dietPlan, user, filePath, ProgressListener.NONE);
+    }
+
+    /**
+     * Writes the export like {@link #export(FoodIntakeList, DietPlan, User, Path)}, reporting how many rows have
+     * been written to {@code progressListener}. If the export is cancelled, the partly written file is deleted.
+     *
+     * @throws IOException if the file cannot be written.
+     * @throws java.util.concurrent.CancellationException if the export was cancelled.
+     */
+    public int export(FoodIntakeList foodIntakeList, DietPlan dietPlan, User user, Path filePath,
+                      ProgressListener progressListener) throws IOException {
+        requireNonNull(foodIntakeList);
+        requireNonNull(filePath);
+        requireNonNull(progressListener);
+        if (content == Content.REPORT) {
+            requireNonNull(dietPlan);
+            requireNonNull(user);
+        }
+
+        FileUtil.createParentDirsOfFile(filePath);
+        try {
+            return write(foodIntakeList, dietPlan, user, filePath, progressListener);
+        } catch (CancellationException e) {
+            Files.deleteIfExists(filePath);
+            throw e;
+        }
+    }
+
+    private int write(FoodIntakeList foodIntakeList, DietPlan dietPlan, User user, Path filePath,
+                      ProgressListener progressListener) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8)) {
+            if (format == Format.TEXT) {
+                ProgressCalculator.writeProgress(writer, foodIntakeList, dietPlan, user, progressListener);
+                return foodIntakeList.getFoodIntakeColumns().size();
+            }
+
+            RowWriter rowWriter = format == Format.CSV ? new CsvRowWriter(writer) : new JsonLinesRowWriter(writer);
+            int rowCount;
+            switch (content) {
+            case INTAKES:
+                rowCount = writeFoodIntakes(rowWriter, foodIntakeList, progressListener);
+                break;
+            case DAILY:
+                rowCount = writeDailyTotals(rowWriter, foodIntakeList, progressListener);
+                break;
+            default:
+                rowCount = writeReport(rowWriter, foodIntakeList, new PlanInfoCalculator(user, dietPlan),
+                        progressListener);
+                break;
+            }
+            rowWriter.close();
+            return rowCount;
+        }
+    }
+
+    private static int writeFoodIntakes(RowWriter rowWriter, FoodIntakeList foodIntakeList,
+                                        ProgressListener progressListener) throws IOException {
+        FoodIntakeColumns foodIntakes = foodIntakeList.getFoodIntakeColumns();
+        rowWriter.writeHeader(INTAKE_COLUMNS);
+        Object[] row = new Object[INTAKE_COLUMNS.length];
+        row[0] = BulkImporter.INTAKE_RECORD_TYPE;
+        for (int i = 0; i < foodIntakes.size(); i++) {
+            progressListener.onStep(i, foodIntakes.size());
+            row[1] = foodIntakes.getDate(i);
+            // Duplicate counts are left out, as the importer numbers duplicates again.
+            row[2] = foodIntakeList.getOriginalFoodName(foodIntakes.getName(i));
+            row[3] = foodIntakes.getCarbos(i);
+            row[4] = foodIntakes.getFats(i);
+            row[5] = foodIntakes.getProteins(i);
+            rowWriter.writeRow(row);
+        }
+        return foodIntakes.size();
+    }
+
+    private static int writeDailyTotals(RowWriter rowWriter, FoodIntakeList foodIntakeList,
+                                        ProgressListener progressListener) throws IOException {
+        rowWriter.writeHeader(DAILY_COLUMNS);
+        Object[] row = new Object[DAILY_COLUMNS.length];
+        int rowCount = 0;
+        Map<LocalDate, MacroTotals> dayTotals = foodIntakeList.getDailyMacroAggregates().getAllDayTotals();
+        for (Map.Entry<LocalDate, MacroTotals> day : dayTotals.entrySet()) {
+            progressListener.onStep(rowCount, dayTotals.size());
+            MacroTotals totals = day.getValue();
+            row[0] = day.getKey();
+            row[1] = totals.getCarbos();
+            row[2] = totals.getFats();
+            row[3] = totals.getProteins();
+            row[4] = totals.getKiloCalories();
+            rowWriter.writeRow(row);
+            rowCount++;
+        }
+        return rowCount;
+    }
+
+    /**
+     * Writes the daily totals with their adherence to the diet plan, in percent, which are the numbers that the
+     * progress report describes for each day.
+     */
+    private static int writeReport(RowWriter rowWriter, FoodIntakeList foodIntakeList,
+                                   PlanInfoCalculator infoCalculator, ProgressListener progressListener)
+            throws IOException {
+        rowWriter.writeHeader(REPORT_COLUMNS);
+        Object[] row = new Object[REPORT_COLUMNS.length];
+        int rowCount = 0;
+        Map<LocalDate, MacroTotals> dayTotals = foodIntakeList.getDailyMacroAggregates().getAllDayTotals();
+        for (Map.Entry<LocalDate, MacroTotals> day : dayTotals.entrySet()) {
+            progressListener.onStep(rowCount, dayTotals.size());
+            MacroTotals totals = day.getValue();
+            row[0] = day.getKey();
+            row[1] = totals.getCarbos();
+            row[2] = totals.getFats();
+            row[3] = totals.getProteins();
+            row[4] = ProgressCalculator.calculatePercentage(totals.getCarbos(), infoCalculator.getCarbohydrates());
+            row[5] = ProgressCalculator.calculatePercentage(totals.getFats(), infoCalculator.getFats());
+            row[6] = ProgressCalculator.calculatePercentage(totals.getProteins(), infoCalculator.getProteins());
+            rowWriter.writeRow(row);
+            rowCount++;
+        }
+        return rowCount;
+    }
+
+    /**
+     * Writes rows of dates, strings and numbers in one format.
+     */
+    private abstract static class RowWriter {
+        protected final Writer writer;
+
+        RowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        abstract void writeHeader(String[] columns) throws IOException;
+
+        abstract void writeRow(Object[] values) throws IOException;
+
+        /**
+         * Flushes any buffered rows to the writer, without closing it.
+         */
+        void close() throws IOException {
+        }
+    }
+
+    private static class CsvRowWriter extends RowWriter {
+        CsvRowWriter(Writer writer) {
+            super(writer);
+        }
+
+        @Override
+        void writeHeader(String[] columns) throws IOException {
+            writeRow(columns);
+        }
+
+        /**
+         * Writes the values separated by commas. Food names cannot contain commas or quotes, so no value is quoted.
+         */
+        @Override
+        void writeRow(Object[] values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(String.valueOf(values[i]));
+            }
+            writer.write('\n');
+        }
+    }
+
+    private static class JsonLinesRowWriter extends RowWriter {
+        private final JsonGenerator generator;
+        private String[] columns;
+
+        JsonLinesRowWriter(Writer writer) throws IOException {
+            super(writer);
+            this.generator = JSON_FACTORY.createGenerator(writer);
+            this.generator.setRootValueSeparator(new SerializedString("\n"));
+        }
+
+        @Override
+        void writeHeader(String[] columns) {
+            this.columns = columns;
+        }
+
+        @Override
+        void writeRow(Object[] values) throws IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] instanceof Double) {
+                    generator.writeNumberField(columns[i], (Double) values[i]);
+                } else {
+                    generator.writeStringField(columns[i], String.valueOf(values[i]));
+                }
+            }
+            generator.writeEndObject();
+        }
+
+        @Override
+        void close() throws IOException {
+            generator.close();
+            writer.write('\n');
+        }
+    }
+}
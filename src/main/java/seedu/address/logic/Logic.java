@@ -1,13 +1,17 @@
 package seedu.address.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModelSnapshot;
 import seedu.address.model.ReadOnlyDietLah;
+import seedu.address.model.food.Food;
 import seedu.address.model.person.Person;
 
 /**
@@ -23,6 +27,30 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command like {@link #execute(String)}, reporting the progress of a long-running command to
+     * {@code progressListener}, which can cancel it.
+     * @throws CommandException If an error occurs during command execution, or the command was cancelled.
+     */
+    CommandResult execute(String commandText, ProgressListener progressListener)
+            throws CommandException, ParseException;
+
+    /**
+     * Waits until the changes made by every command executed so far have been written to storage.
+     * @throws IOException If the changes could not be written.
+     */
+    void flushPendingWrites() throws IOException, InterruptedException;
+
+    /**
+     * Returns the number of writes to storage that are waiting to start.
+     */
+    int getPendingWriteCount();
+
+    /**
+     * Returns how long the most recent write to storage took, in milliseconds.
+     */
+    long getLastWriteLatencyMillis();
+
     /**
      * Returns the DietLah.
      *
@@ -30,6 +58,29 @@ public interface Logic {
      */
     ReadOnlyDietLah getDietLah();
 
+    /** Returns an unmodifiable view of the food list */
+    ObservableList<Food> getFoodList();
+
+    /**
+     * Returns the food list and food intake history as they were after the last command, which any thread may read
+     * without locking while later commands run.
+     */
+    ModelSnapshot getModelSnapshot();
+
+    /**
+     * Publishes a new snapshot of the data as it is now, such as after older history has been loaded or a shared
+     * food list has been changed elsewhere. Only the thread that runs commands may call this.
+     */
+    void publishModelSnapshot();
+
+    /**
+     * Loads the months of food intake history from {@code from} to {@code to} that have not been loaded yet, and
+     * publishes and returns a new snapshot that holds them. Only the thread that runs commands may call this.
+     *
+     * @see seedu.address.model.food.FoodIntakeList#loadSegmentsBetween(LocalDate, LocalDate)
+     */
+    ModelSnapshot loadModelSnapshotBetween(LocalDate from, LocalDate to);
+
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
@@ -1,12 +1,20 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.Messages;
 import seedu.address.logic.commands.AddUserCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
@@ -15,8 +23,13 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.DietLahParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
+import seedu.address.model.ModelSnapshot;
 import seedu.address.model.ReadOnlyDietLah;
+import seedu.address.model.food.Food;
+import seedu.address.model.food.exceptions.FoodIntakeSegmentLoadException;
 import seedu.address.model.person.Person;
+import seedu.address.storage.PendingWrite;
+import seedu.address.storage.PersistenceWriter;
 import seedu.address.storage.Storage;
 
 /**
@@ -34,57 +47,184 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final DietLahParser dietLahParser;
+    private final PersistenceWriter persistenceWriter;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, and its own
+     * {@code PersistenceWriter}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, new PersistenceWriter());
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage} that saves changes in the
+     * background through {@code persistenceWriter}.
+     */
+    public LogicManager(Model model, Storage storage, PersistenceWriter persistenceWriter) {
         this.model = model;
         this.storage = storage;
+        this.persistenceWriter = persistenceWriter;
         dietLahParser = new DietLahParser();
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
+        return execute(commandText, ProgressListener.NONE);
+    }
+
+    @Override
+    public CommandResult execute(String commandText, ProgressListener progressListener)
+            throws CommandException, ParseException {
+        requireNonNull(progressListener);
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
         CommandResult commandResult;
-        if (model.hasUser()) {
-            Command command = dietLahParser.parseCommand(commandText);
-            commandResult = command.execute(model);
-        } else {
-            // Check if command is creating new user
-            Command command = dietLahParser.parseCommand(commandText);
-            if (command instanceof AddUserCommand || command instanceof ResetCommand) {
-                commandResult = command.execute(model);
+        Optional<IOException> failure;
+        try {
+            if (model.hasUser()) {
+                Command command = dietLahParser.parseCommand(commandText);
+                commandResult = command.execute(model, progressListener);
             } else {
-                // Prompt user to initialize user
-                commandResult = new CommandResult(INITIALIZATION_ERROR_MESSAGE, false, false);
+                // Check if command is creating new user
+                Command command = dietLahParser.parseCommand(commandText);
+                if (command instanceof AddUserCommand || command instanceof ResetCommand) {
+                    commandResult = command.execute(model);
+                } else {
+                    // Prompt user to initialize user
+                    commandResult = new CommandResult(INITIALIZATION_ERROR_MESSAGE, false, false);
+                }
             }
-        }
 
-        try {
-            storage.saveDietLah(model.getDietLah());
-            storage.saveFoodList(model.getUniqueFoodList());
-            storage.saveFoodIntakeList(model.getFoodIntakeList());
-            if (model.getUser() == null) {
-                storage.deleteUser();
-            } else {
-                storage.saveUser(model.getUser());
+            failure = takeWriteFailure();
+            if (failure.isPresent()) {
+                // Whatever the failed write held may be lost, so every file is written again.
+                markAllUnsaved();
             }
-            //storage.saveDietPlanList(model.getDietPlanList());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            saveChangedData();
+        } catch (FoodIntakeSegmentLoadException e) {
+            // Older history is loaded before it is changed, so nothing is left half-changed, and data that could not
+            // be saved yet stays marked as unsaved for the next command.
+            throw new CommandException(e.getMessage(), e);
+        } catch (CancellationException e) {
+            logger.info("Cancelled: " + commandText);
+            throw new CommandException(Messages.MESSAGE_COMMAND_CANCELLED, e);
+        } finally {
+            // Readers only ever see the data between commands, never halfway through one.
+            model.publishSnapshot();
+        }
+        if (failure.isPresent()) {
+            throw new CommandException(FILE_OPS_ERROR_MESSAGE + failure.get(), failure.get());
         }
 
         return commandResult;
     }
 
+    /**
+     * Snapshots the files whose data has changed since they were last saved, and queues them to be written.
+     * The versions last saved are kept by the writer, which is shared by every profile, so a change to the shared
+     * food list is written by whichever profile saves first and not again by the others.
+     */
+    private void saveChangedData() {
+        saveIfChanged(storage.getDietLahFilePath(), model.getDietLahVersion(), () ->
+                storage.prepareSaveDietLah(model.getDietLah()));
+        saveIfChanged(storage.getFoodListFilePath(), model.getUniqueFoodListVersion(), () ->
+                storage.prepareSaveFoodList(model.getUniqueFoodList()));
+        saveIfChanged(storage.getFoodIntakeListFilePath(), model.getFoodIntakeListVersion(), () ->
+                storage.prepareSaveFoodIntakeList(model.getFoodIntakeList()));
+        saveIfChanged(storage.getUserFilePath(), model.getUserVersion(), () -> model.getUser() == null
+                ? storage.prepareDeleteUser()
+                : storage.prepareSaveUser(model.getUser()));
+        //storage.saveDietPlanList(model.getDietPlanList());
+    }
+
+    private void saveIfChanged(Path filePath, long version, Supplier<PendingWrite> write) {
+        if (!persistenceWriter.isSubmitted(filePath, version)) {
+            persistenceWriter.submit(filePath, write.get(), version);
+        }
+    }
+
+    private List<Path> getDataFilePaths() {
+        return List.of(storage.getDietLahFilePath(), storage.getFoodListFilePath(),
+                storage.getFoodIntakeListFilePath(), storage.getUserFilePath());
+    }
+
+    /**
+     * Returns the earliest failed write to this logic's own data files, if any, and forgets their failures. The
+     * writer may be shared with other profiles, whose failures are left for them to take.
+     */
+    private Optional<IOException> takeWriteFailure() {
+        return persistenceWriter.takeFailure(getDataFilePaths());
+    }
+
+    /**
+     * Treats the data now in the model as saved, so that the next command does not write it again.
+     * This is only correct for data that was just read from storage, or that has already been queued for writing.
+     */
+    public void markAllSaved() {
+        persistenceWriter.markSubmitted(storage.getDietLahFilePath(), model.getDietLahVersion());
+        persistenceWriter.markSubmitted(storage.getFoodListFilePath(), model.getUniqueFoodListVersion());
+        persistenceWriter.markSubmitted(storage.getFoodIntakeListFilePath(), model.getFoodIntakeListVersion());
+        persistenceWriter.markSubmitted(storage.getUserFilePath(), model.getUserVersion());
+    }
+
+    private void markAllUnsaved() {
+        persistenceWriter.forgetSubmittedVersions(getDataFilePaths());
+    }
+
+    @Override
+    public void flushPendingWrites() throws IOException, InterruptedException {
+        persistenceWriter.flush();
+        Optional<IOException> failure = takeWriteFailure();
+        if (failure.isPresent()) {
+            logger.warning("Writing again after a failed write: " + failure.get());
+            markAllUnsaved();
+            saveChangedData();
+            persistenceWriter.flush();
+            failure = takeWriteFailure();
+            if (failure.isPresent()) {
+                throw failure.get();
+            }
+        }
+    }
+
+    @Override
+    public int getPendingWriteCount() {
+        return persistenceWriter.getQueueDepth();
+    }
+
+    @Override
+    public long getLastWriteLatencyMillis() {
+        return persistenceWriter.getLastWriteLatencyMillis();
+    }
+
     @Override
     public ReadOnlyDietLah getDietLah() {
         return model.getDietLah();
     }
 
+    @Override
+    public ObservableList<Food> getFoodList() {
+        return model.getUniqueFoodList().getFoodList();
+    }
+
+    @Override
+    public ModelSnapshot getModelSnapshot() {
+        return model.getSnapshot();
+    }
+
+    @Override
+    public void publishModelSnapshot() {
+        model.publishSnapshot();
+    }
+
+    @Override
+    public ModelSnapshot loadModelSnapshotBetween(LocalDate from, LocalDate to) {
+        model.getFoodIntakeList().loadSegmentsBetween(from, to);
+        model.publishSnapshot();
+        return model.getSnapshot();
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         return model.getFilteredPersonList();
@@ -0,0 +1,233 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.logging.Logger;
+
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ProfileCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.DietLahParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModelSnapshot;
+import seedu.address.model.ReadOnlyDietLah;
+import seedu.address.model.food.Food;
+import seedu.address.model.person.Person;
+
+/**
+ * Runs commands against the active one of several profiles, each with its own user, food intake history and data
+ * directory, while all of them share the food list and diet plans.
+ * <p>
+ * Each profile has its own {@code Logic}, which is loaded the first time the profile is used. At most
+ * {@code capacity} profiles are kept in memory, and when another one is loaded, the least recently used one is
+ * evicted once its data has been written. Switching to a profile that is still in memory only changes which
+ * {@code Logic} commands are sent to.
+ */
+public class ProfileManager implements Logic {
+
+    public static final String DEFAULT_PROFILE_NAME = "default";
+    public static final int DEFAULT_CAPACITY = 8;
+
+    private static final Logger logger = LogsCenter.getLogger(ProfileManager.class);
+
+    /**
+     * Loads the data of profiles, and finds the profiles that have been saved.
+     */
+    public interface ProfileLoader {
+        /**
+         * Loads the profile named {@code profileName}, or creates an empty one if it has never been saved.
+         */
+        Logic loadProfile(String profileName);
+
+        /**
+         * Returns the names of the profiles that have been saved.
+         */
+        List<String> getSavedProfileNames();
+    }
+
+    private final ProfileLoader profileLoader;
+    private final int capacity;
+    private final DietLahParser dietLahParser = new DietLahParser();
+    // In access order, so that the first profile is the least recently used one.
+    private final LinkedHashMap<String, Logic> loadedProfiles = new LinkedHashMap<>(16, 0.75f, true);
+
+    private String activeProfileName;
+    // Volatile so that readers of snapshots on other threads see the profile switched to.
+    private volatile Logic activeLogic;
+
+    /**
+     * Creates a ProfileManager with {@code defaultLogic} as the active, default profile, that loads other profiles
+     * with {@code profileLoader} and keeps at most {@code capacity} of them in memory.
+     */
+    public ProfileManager(Logic defaultLogic, ProfileLoader profileLoader, int capacity) {
+        requireNonNull(defaultLogic);
+        requireNonNull(profileLoader);
+        checkArgument(capacity > 0, "The capacity must be positive.");
+        this.profileLoader = profileLoader;
+        this.capacity = capacity;
+        loadedProfiles.put(DEFAULT_PROFILE_NAME, defaultLogic);
+        activeProfileName = DEFAULT_PROFILE_NAME;
+        activeLogic = defaultLogic;
+    }
+
+    public String getActiveProfileName() {
+        return activeProfileName;
+    }
+
+    /**
+     * Returns the names of every profile that has been saved or loaded, in alphabetical order.
+     */
+    public List<String> getProfileNames() {
+        TreeSet<String> profileNames = new TreeSet<>(profileLoader.getSavedProfileNames());
+        profileNames.add(DEFAULT_PROFILE_NAME);
+        profileNames.addAll(loadedProfiles.keySet());
+        return List.copyOf(profileNames);
+    }
+
+    /**
+     * Returns the number of profiles in memory.
+     */
+    public int getLoadedProfileCount() {
+        return loadedProfiles.size();
+    }
+
+    /**
+     * Makes {@code profileName} the active profile, loading it first if it is not in memory.
+     */
+    public void switchProfile(String profileName) {
+        requireNonNull(profileName);
+        Logic logic = loadedProfiles.get(profileName);
+        if (logic == null) {
+            logic = profileLoader.loadProfile(profileName);
+            loadedProfiles.put(profileName, logic);
+        }
+        activeProfileName = profileName;
+        activeLogic = logic;
+        // The shared food list may have been changed while another profile was active.
+        activeLogic.publishModelSnapshot();
+        evictLeastRecentlyUsed();
+    }
+
+    /**
+     * Evicts the least recently used profiles until no more than {@code capacity} are in memory. A profile whose
+     * data cannot be written is kept, so that nothing is lost, and evicted on a later switch instead.
+     */
+    private void evictLeastRecentlyUsed() {
+        Iterator<Map.Entry<String, Logic>> profiles = loadedProfiles.entrySet().iterator();
+        while (loadedProfiles.size() > capacity && profiles.hasNext()) {
+            Map.Entry<String, Logic> profile = profiles.next();
+            if (profile.getKey().equals(activeProfileName)) {
+                continue;
+            }
+            try {
+                profile.getValue().flushPendingWrites();
+                profiles.remove();
+                logger.info("Evicted profile " + profile.getKey());
+            } catch (IOException e) {
+                logger.warning("Keeping profile " + profile.getKey() + " as its data could not be saved "
+                        + StringUtil.getDetails(e));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    @Override
+    public CommandResult execute(String commandText) throws CommandException, ParseException {
+        return execute(commandText, ProgressListener.NONE);
+    }
+
+    @Override
+    public CommandResult execute(String commandText, ProgressListener progressListener)
+            throws CommandException, ParseException {
+        if (isProfileCommand(commandText)) {
+            return ((ProfileCommand) dietLahParser.parseCommand(commandText)).execute(this);
+        }
+        return activeLogic.execute(commandText, progressListener);
+    }
+
+    private static boolean isProfileCommand(String commandText) {
+        String trimmedText = commandText.trim();
+        return trimmedText.equals(ProfileCommand.COMMAND_WORD)
+                || trimmedText.startsWith(ProfileCommand.COMMAND_WORD + " ");
+    }
+
+    /**
+     * Waits until the changes made in every profile in memory have been written.
+     */
+    @Override
+    public void flushPendingWrites() throws IOException, InterruptedException {
+        for (Logic logic : loadedProfiles.values()) {
+            logic.flushPendingWrites();
+        }
+    }
+
+    @Override
+    public int getPendingWriteCount() {
+        return activeLogic.getPendingWriteCount();
+    }
+
+    @Override
+    public long getLastWriteLatencyMillis() {
+        return activeLogic.getLastWriteLatencyMillis();
+    }
+
+    @Override
+    public ObservableList<Food> getFoodList() {
+        return activeLogic.getFoodList();
+    }
+
+    @Override
+    public ModelSnapshot getModelSnapshot() {
+        return activeLogic.getModelSnapshot();
+    }
+
+    @Override
+    public void publishModelSnapshot() {
+        activeLogic.publishModelSnapshot();
+    }
+
+    @Override
+    public ModelSnapshot loadModelSnapshotBetween(LocalDate from, LocalDate to) {
+        return activeLogic.loadModelSnapshotBetween(from, to);
+    }
+
+    @Override
+    public ReadOnlyDietLah getDietLah() {
+        return activeLogic.getDietLah();
+    }
+
+    @Override
+    public ObservableList<Person> getFilteredPersonList() {
+        return activeLogic.getFilteredPersonList();
+    }
+
+    @Override
+    public Path getDietLahFilePath() {
+        return activeLogic.getDietLahFilePath();
+    }
+
+    @Override
+    public GuiSettings getGuiSettings() {
+        return activeLogic.getGuiSettings();
+    }
+
+    @Override
+    public void setGuiSettings(GuiSettings guiSettings) {
+        activeLogic.setGuiSettings(guiSettings);
+    }
+}
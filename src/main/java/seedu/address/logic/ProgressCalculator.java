@@ -1,16 +1,19 @@
 package seedu.address.logic;
 
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.FormatStyle;
-import java.util.Collections;
-import java.util.List;
 
 import seedu.address.logic.commands.ViewPlanCommand;
 import seedu.address.model.diet.DietPlan;
-import seedu.address.model.food.Food;
-import seedu.address.model.food.FoodIntake;
+import seedu.address.model.food.DailyMacroAggregates;
+import seedu.address.model.food.FoodIntakeColumns;
 import seedu.address.model.food.FoodIntakeList;
+import seedu.address.model.food.MacroTotals;
 import seedu.address.model.user.User;
 
 /**
@@ -37,9 +40,66 @@ public class ProgressCalculator {
      * @return Progress Report
      */
     public static String calculateProgress(FoodIntakeList foodIntakeList, DietPlan dietPlan, User user) {
+        return calculateProgress(foodIntakeList, dietPlan, user, ProgressListener.NONE);
+    }
+
+    /**
+     * Generates the same progress report as {@link #calculateProgress(FoodIntakeList, DietPlan, User)}, reporting
+     * how many food intakes have been reported to {@code progressListener}.
+     *
+     * @throws java.util.concurrent.CancellationException if the report was cancelled.
+     */
+    public static String calculateProgress(FoodIntakeList foodIntakeList, DietPlan dietPlan, User user,
+                                           ProgressListener progressListener) {
+        StringWriter stringWriter = new StringWriter();
+        PrintWriter report = new PrintWriter(stringWriter);
+        writeProgress(report, foodIntakeList, dietPlan, user, progressListener);
+        report.flush();
+        return stringWriter.toString();
+    }
 
-        // Get list of Foods
-        List<FoodIntake> foodIntakes = initializeFoodIntake(foodIntakeList);
+    /**
+     * Writes the same progress report as {@link #calculateProgress} to {@code writer} as it is generated, so that
+     * the report of a long history is never held in memory as a whole.
+     *
+     * @param writer Writer to write the report to, which is flushed but not closed.
+     * @param foodIntakeList The food consumption for each day.
+     * @param dietPlan The diet plan to calculate daily food intake against.
+     * @param user User's information
+     * @throws IOException if the report cannot be written.
+     */
+    public static void writeProgress(Writer writer, FoodIntakeList foodIntakeList, DietPlan dietPlan, User user)
+            throws IOException {
+        writeProgress(writer, foodIntakeList, dietPlan, user, ProgressListener.NONE);
+    }
+
+    /**
+     * Writes the progress report like {@link #writeProgress(Writer, FoodIntakeList, DietPlan, User)}, reporting how
+     * many food intakes have been reported to {@code progressListener}.
+     *
+     * @throws IOException if the report cannot be written.
+     * @throws java.util.concurrent.CancellationException if the report was cancelled.
+     */
+    public static void writeProgress(Writer writer, FoodIntakeList foodIntakeList, DietPlan dietPlan, User user,
+                                     ProgressListener progressListener) throws IOException {
+        PrintWriter report = new PrintWriter(writer);
+        writeProgress(report, foodIntakeList, dietPlan, user, progressListener);
+        report.flush();
+        if (report.checkError()) {
+            throw new IOException("Unable to write the progress report");
+        }
+    }
+
+    private static void writeProgress(PrintWriter report, FoodIntakeList foodIntakeList, DietPlan dietPlan,
+                                      User user, ProgressListener progressListener) {
+
+        if (foodIntakeList == null) {
+            // No food intake (treat as no food consumed)
+            foodIntakeList = new FoodIntakeList();
+        }
+
+        // Get columns of Foods, already sorted by dates
+        FoodIntakeColumns foodIntakes = foodIntakeList.getFoodIntakeColumns();
 
         // Get the daily requirements of the diet plan
         PlanInfoCalculator infoCalculator = new PlanInfoCalculator(user, dietPlan);
@@ -48,20 +108,18 @@ public class ProgressCalculator {
         double dailyProteins = infoCalculator.getProteins();
 
         // Initialize report
-        StringBuilder report = initializeReport(dietPlan, foodIntakes, infoCalculator);
+        initializeReport(report, dietPlan, foodIntakes, infoCalculator);
 
         // For each day, give a progress report on whether intake is over or less
         // than the required amount.
         if (foodIntakes.size() != 0) {
-            double totalAdherence = reportDailyIntake(report, foodIntakes, dailyCarbs, dailyFats, dailyProteins);
+            double totalAdherence = reportDailyIntake(report, foodIntakes, foodIntakeList.getDailyMacroAggregates(),
+                    dailyCarbs, dailyFats, dailyProteins, progressListener);
             reportFinalAdherence(report, totalAdherence);
         }
 
         report.append("\nEND OF REPORT");
 
-        // Return the final report
-        return report.toString();
-
     }
 
     /**
@@ -70,7 +128,7 @@ public class ProgressCalculator {
      * @param report Report to append to
      * @param totalAdherence Average adherence to the diet plan
      */
-    private static void reportFinalAdherence(StringBuilder report, double totalAdherence) {
+    private static void reportFinalAdherence(PrintWriter report, double totalAdherence) {
         report.append("========================= Report Summary =========================\n");
         if (totalAdherence > (100.00 + TOTAL_LEEWAY)) {
             double exceed = totalAdherence - 100.00;
@@ -87,47 +145,24 @@ public class ProgressCalculator {
         }
     }
 
-    /**
-     * Initializes the list of food intake for processing
-     *
-     * @param foodIntakeList List of food intakes
-     * @return List of food intakes
-     */
-    private static List<FoodIntake> initializeFoodIntake(FoodIntakeList foodIntakeList) {
-
-        if (foodIntakeList == null) {
-            // No food intake (treat as no food consumed)
-            foodIntakeList = new FoodIntakeList();
-        }
-
-        // Get list of Foods
-        List<FoodIntake> foodIntakes = foodIntakeList.getFoodIntakeList();
-
-        // Sort food intake list by dates
-        Collections.sort(foodIntakes, new FoodIntakeComparator());
-
-        return foodIntakes;
-    }
-
     /**
      * Initializes the report with dietPlan details
      *
+     * @param report Report to append to
      * @param dietPlan Active diet plan
-     * @param foodIntakes List of daily food intake
-     * @return Progress report
+     * @param foodIntakes Columns of daily food intake
      */
-    private static StringBuilder initializeReport(DietPlan dietPlan, List<FoodIntake> foodIntakes,
-                                                  PlanInfoCalculator infoCalculator) {
+    private static void initializeReport(PrintWriter report, DietPlan dietPlan, FoodIntakeColumns foodIntakes,
+                                         PlanInfoCalculator infoCalculator) {
         // Print details of diet plan
-        StringBuilder report = new StringBuilder();
         report.append(ViewPlanCommand.getResult(dietPlan, infoCalculator));
 
         // Dates that progress report is listing
         report.append("\n================================================================\n");
         if (foodIntakes.size() != 0) {
             report.append("\nHere is the report for the ");
-            LocalDate firstIntakeDay = foodIntakes.get(0).getDate();
-            LocalDate lastIntakeDay = foodIntakes.get(foodIntakes.size() - 1).getDate();
+            LocalDate firstIntakeDay = foodIntakes.getDate(0);
+            LocalDate lastIntakeDay = foodIntakes.getDate(foodIntakes.size() - 1);
 
             if (firstIntakeDay.isEqual(lastIntakeDay)) {
                 report.append("day ");
@@ -143,52 +178,39 @@ public class ProgressCalculator {
         } else {
             report.append("You have not consumed any food!\n\n");
         }
-        return report;
     }
 
     /**
      * Appends report with daily progress
      *
      * @param report Report to append to
-     * @param foodIntakes List of daily food intake
+     * @param foodIntakes Columns of daily food intake
+     * @param dailyMacroAggregates Daily nutrient totals of the food intakes
      * @param dailyCarbs Daily requirement of carbohydrates
      * @param dailyFats Daily requirement of fats
      * @param dailyProteins Daily requirement of proteins
+     * @param progressListener Listener told how many food intakes have been reported
      */
-    private static double reportDailyIntake(StringBuilder report, List<FoodIntake> foodIntakes,
-                                          double dailyCarbs, double dailyFats, double dailyProteins) {
+    private static double reportDailyIntake(PrintWriter report, FoodIntakeColumns foodIntakes,
+                                          DailyMacroAggregates dailyMacroAggregates,
+                                          double dailyCarbs, double dailyFats, double dailyProteins,
+                                          ProgressListener progressListener) {
         LocalDate previousDay = null;
-        double carbsSum = 0.0;
-        double fatsSum = 0.0;
-        double proteinsSum = 0.0;
-        boolean firstDay = true;
         double adherenceTotal = 0.0;
         int adherenceCounter = 0;
         int foodCount = 1;
-        for (FoodIntake foodIntake : foodIntakes) {
-            // Report on date
-            LocalDate day = foodIntake.getDate();
+        for (int i = 0; i < foodIntakes.size(); i++) {
+            progressListener.onStep(i, foodIntakes.size());
 
-            if (!day.equals(previousDay)) {
+            // Report on date
+            if (i == 0 || foodIntakes.getEpochDay(i) != foodIntakes.getEpochDay(i - 1)) {
                 // New Day
-                if (!firstDay) {
-                    // Calculate total adherence percentages
-                    double carbsAdherence = calculatePercentage(carbsSum, dailyCarbs);
-                    double fatsAdherence = calculatePercentage(fatsSum, dailyFats);
-                    double proteinsAdherence = calculatePercentage(proteinsSum, dailyProteins);
-
-                    // Report daily adherence percentage
-                    reportAdherence(report, carbsAdherence, fatsAdherence, proteinsAdherence);
-                    adherenceTotal += carbsAdherence + fatsAdherence + proteinsAdherence;
+                LocalDate day = foodIntakes.getDate(i);
+                if (previousDay != null) {
+                    adherenceTotal += reportDayAdherence(report, dailyMacroAggregates.getDayTotals(previousDay),
+                            dailyCarbs, dailyFats, dailyProteins);
                     adherenceCounter++;
-                } else {
-                    firstDay = false;
                 }
-
-                // Reset sums
-                carbsSum = 0.0;
-                fatsSum = 0.0;
-                proteinsSum = 0.0;
                 foodCount = 1;
 
                 // Report new day
@@ -197,29 +219,38 @@ public class ProgressCalculator {
             }
 
             // Report on foods consumed and macronutrients
-            Food food = foodIntake.getFood();
-            reportFood(report, food, foodCount);
+            reportFood(report, foodIntakes, i, foodCount);
             foodCount++;
+        }
 
-            // Store sum of macronutrient consumption
-            carbsSum += food.getCarbos();
-            fatsSum += food.getFats();
-            proteinsSum += food.getProteins();
+        adherenceTotal += reportDayAdherence(report, dailyMacroAggregates.getDayTotals(previousDay),
+                dailyCarbs, dailyFats, dailyProteins);
+        adherenceCounter++;
 
-        }
+        // Return average adherence
+        return adherenceTotal / (adherenceCounter * 3);
+    }
 
+    /**
+     * Appends report with the adherence of a single day
+     *
+     * @param report Report to append to
+     * @param dayTotals Total macronutrients consumed on the day
+     * @param dailyCarbs Daily requirement of carbohydrates
+     * @param dailyFats Daily requirement of fats
+     * @param dailyProteins Daily requirement of proteins
+     * @return Sum of the carbohydrate, fats and proteins adherence percentages
+     */
+    private static double reportDayAdherence(PrintWriter report, MacroTotals dayTotals,
+                                             double dailyCarbs, double dailyFats, double dailyProteins) {
         // Calculate total adherence percentages
-        double carbsAdherence = calculatePercentage(carbsSum, dailyCarbs);
-        double fatsAdherence = calculatePercentage(fatsSum, dailyFats);
-        double proteinsAdherence = calculatePercentage(proteinsSum, dailyProteins);
+        double carbsAdherence = calculatePercentage(dayTotals.getCarbos(), dailyCarbs);
+        double fatsAdherence = calculatePercentage(dayTotals.getFats(), dailyFats);
+        double proteinsAdherence = calculatePercentage(dayTotals.getProteins(), dailyProteins);
 
         // Report daily adherence percentage
         reportAdherence(report, carbsAdherence, fatsAdherence, proteinsAdherence);
-        adherenceTotal += carbsAdherence + fatsAdherence + proteinsAdherence;
-        adherenceCounter++;
-
-        // Return average adherence
-        return adherenceTotal / (adherenceCounter * 3);
+        return carbsAdherence + fatsAdherence + proteinsAdherence;
     }
 
     /**
@@ -228,7 +259,7 @@ public class ProgressCalculator {
      * @param report Report to append to
      * @param day Date of new day
      */
-    private static void reportNewDay(StringBuilder report, LocalDate day) {
+    private static void reportNewDay(PrintWriter report, LocalDate day) {
         report.append("Date: ");
         report.append(day.format(DateTimeFormatter.ofLocalizedDate(FormatStyle.FULL)));
         report.append("\n");
@@ -238,13 +269,14 @@ public class ProgressCalculator {
      * Report food details
      *
      * @param report Report to append to
-     * @param food Food to report
+     * @param foodIntakes Columns of daily food intake
+     * @param index Index of the food intake to report
      */
-    private static void reportFood(StringBuilder report, Food food, int foodCount) {
+    private static void reportFood(PrintWriter report, FoodIntakeColumns foodIntakes, int index, int foodCount) {
         // Get macronutrients consumed
-        double carbs = food.getCarbos();
-        double fats = food.getFats();
-        double proteins = food.getProteins();
+        double carbs = foodIntakes.getCarbos(index);
+        double fats = foodIntakes.getFats(index);
+        double proteins = foodIntakes.getProteins(index);
 
         // Format consumed macronutrients
         String carbsString = String.format("Carbohydrates: %,.2fg", carbs);
@@ -252,7 +284,7 @@ public class ProgressCalculator {
         String proteinsString = String.format("Proteins: %,.2fg", proteins);
 
         report.append(foodCount + ". ");
-        report.append(food.getName() + "    ");
+        report.append(foodIntakes.getName(index) + "    ");
         report.append(carbsString + "    ");
         report.append(fatsString + "    ");
         report.append(proteinsString + "\n");
@@ -266,7 +298,7 @@ public class ProgressCalculator {
      * @param required Daily macronutrient intake requirement
      * @return Percentage of adherence
      */
-    private static double calculatePercentage(double intake, double required) {
+    static double calculatePercentage(double intake, double required) {
         return (intake / required) * 100.00;
     }
 
@@ -278,7 +310,7 @@ public class ProgressCalculator {
      * @param fatsAdherence Daily fats adherence
      * @param proteinsAdherence Daily proteins adherence
      */
-    private static void reportAdherence(StringBuilder report, double carbsAdherence, double fatsAdherence,
+    private static void reportAdherence(PrintWriter report, double carbsAdherence, double fatsAdherence,
                                         double proteinsAdherence) {
 
         // Report daily adherence percentage
@@ -0,0 +1,37 @@
+package seedu.address.logic;
+
+/**
+ * Receives the progress of a long-running command, and can cancel it.
+ * <p>
+ * A command only reports progress at points where it can stop without leaving anything half-changed. Once the
+ * command has been cancelled, {@link #onProgress} throws a {@code CancellationException}, which the command lets
+ * propagate after undoing any changes it made.
+ */
+@FunctionalInterface
+public interface ProgressListener {
+
+    /** A listener that ignores progress and never cancels the command. */
+    ProgressListener NONE = (done, total) -> { };
+
+    /** The number of steps between two progress reports from {@link #onStep}. */
+    int STEP_INTERVAL = 1024;
+
+    /**
+     * Reports that {@code done} of {@code total} steps of the command are done.
+     *
+     * @throws java.util.concurrent.CancellationException if the command has been cancelled.
+     */
+    void onProgress(long done, long total);
+
+    /**
+     * Reports progress like {@link #onProgress}, but only every {@link #STEP_INTERVAL} steps, so that a loop can call
+     * this on every step.
+     *
+     * @throws java.util.concurrent.CancellationException if the command has been cancelled.
+     */
+    default void onStep(long done, long total) {
+        if (done % STEP_INTERVAL == 0) {
+            onProgress(done, total);
+        }
+    }
+}
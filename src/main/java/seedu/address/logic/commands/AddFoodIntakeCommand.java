@@ -65,19 +65,18 @@ public class AddFoodIntakeCommand extends Command {
                 || this.tempFoodDescriptor.getProteins().isPresent())) {
 
             Food editedFood = editCurrentFood(food, tempFoodDescriptor);
-            model.getUniqueFoodList().getFoodList().set(index, editedFood);
+            model.getUniqueFoodList().setFoodItem(index, editedFood);
 
             Food addedFood = model.addFoodIntake(this.date, editedFood);
-            String updatedFoodIntakeList = model.getFoodIntakeList().getFoodIntakeListByDate(date);
 
-            return new CommandResult(MESSAGE_SUCCESS_FOODINTAKE_ADD + ": \n"
-                    + addedFood + "\n\n" + MESSAGE_SUCCESS_FOOD_UPDATE + "\n\n" + updatedFoodIntakeList);
+            return new CommandResult(() -> MESSAGE_SUCCESS_FOODINTAKE_ADD + ": \n" + addedFood + "\n\n"
+                    + MESSAGE_SUCCESS_FOOD_UPDATE + "\n\n" + model.getFoodIntakeList().getFoodIntakeListByDate(date));
         }
 
         Food addedFood = model.addFoodIntake(this.date, food);
-        String updatedFoodIntakeList = model.getFoodIntakeList().getFoodIntakeListByDate(date);
 
-        return new CommandResult(MESSAGE_SUCCESS_FOODINTAKE_ADD + ": \n" + addedFood + "\n\n" + updatedFoodIntakeList);
+        return new CommandResult(() -> MESSAGE_SUCCESS_FOODINTAKE_ADD + ": \n" + addedFood + "\n\n"
+                + model.getFoodIntakeList().getFoodIntakeListByDate(date));
     }
 
     /**
@@ -41,8 +41,7 @@ public class AddFoodItemCommand extends Command {
         }
 
         model.addFoodItem(temporaryFood);
-        String foodItemResult = model.listFoodItem();
-        return new CommandResult(MESSAGE_SUCCESS + temporaryFood + ") into food list.\n"
-                + "Here are all the food items: \n" + foodItemResult);
+        return new CommandResult(() -> MESSAGE_SUCCESS + temporaryFood + ") into food list.\n"
+                + "Here are all the food items: \n" + model.listFoodItem());
     }
 }
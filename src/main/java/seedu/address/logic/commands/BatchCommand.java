@@ -0,0 +1,164 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import seedu.address.logic.ProgressListener;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.DietLahParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelCheckpoint;
+import seedu.address.model.food.exceptions.FoodIntakeSegmentLoadException;
+
+/**
+ * Runs a script file of DietLah commands, one per line, as a single transaction.
+ * <p>
+ * Every line is parsed before any command is run, so a script with a mistake changes nothing. The commands then run
+ * one after another, and if any of them fails, the model is rolled back to how it was before the batch. As the batch
+ * is one command, the data files are saved once after it, and only the feedback of the last command is rendered.
+ */
+public class BatchCommand extends Command {
+
+    public static final String COMMAND_WORD = "batch";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a script file, one per line, "
+            + "as a single change. If any command fails, none of the commands take effect.\n"
+            + "Blank lines and lines starting with # are skipped.\n"
+            + "Command usage: batch FILE_PATH";
+
+    public static final String MESSAGE_SUCCESS = "Ran %d commands from %s in %d ms.";
+    public static final String MESSAGE_LAST_RESULT = "\n\nResult of the last command:\n";
+    public static final String MESSAGE_READ_FAILURE = "Unable to read %s: %s";
+    public static final String MESSAGE_INVALID_LINE = "Nothing was run, as line %d is invalid: %s";
+    public static final String MESSAGE_FAILED_LINE = "All changes were rolled back, as line %d failed: %s";
+    public static final String MESSAGE_NOT_ALLOWED = "the %s command cannot be used in a batch script.";
+
+    public static final String COMMENT_PREFIX = "#";
+
+    private final Path filePath;
+
+    /**
+     * Creates a BatchCommand to run the script at {@code filePath}.
+     */
+    public BatchCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        return execute(model, ProgressListener.NONE);
+    }
+
+    /**
+     * Runs the script, reporting how many of its commands have run. If the batch is cancelled, or a command throws
+     * an unchecked exception, the model is rolled back as if a command had failed and the exception is rethrown.
+     */
+    @Override
+    public CommandResult execute(Model model, ProgressListener progressListener) throws CommandException {
+        requireNonNull(model);
+        requireNonNull(progressListener);
+
+        long startTime = System.nanoTime();
+        List<ScriptLine> script = parseScript();
+
+        ModelCheckpoint checkpoint = model.createCheckpoint();
+        CommandResult lastResult = null;
+        for (int i = 0; i < script.size(); i++) {
+            ScriptLine line = script.get(i);
+            long linesDone = i;
+            try {
+                progressListener.onProgress(linesDone, script.size());
+                // A long command in the script can be cancelled part way, but its own progress is not shown.
+                lastResult = line.command.execute(model, (done, total) ->
+                        progressListener.onProgress(linesDone, script.size()));
+            } catch (CommandException | FoodIntakeSegmentLoadException e) {
+                model.restoreCheckpoint(checkpoint);
+                throw new CommandException(String.format(MESSAGE_FAILED_LINE, line.lineNumber, e.getMessage()), e);
+            } catch (RuntimeException e) {
+                // Covers cancellation as well as bugs in a command, which must not leave the batch half applied.
+                model.restoreCheckpoint(checkpoint);
+                throw e;
+            }
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_SUCCESS, script.size(), filePath,
+                elapsedMillis));
+        if (lastResult != null) {
+            feedback.append(MESSAGE_LAST_RESULT).append(lastResult.getFeedbackToUser());
+        }
+        return new CommandResult(feedback.toString());
+    }
+
+    /**
+     * Reads and parses every command in the script.
+     *
+     * @throws CommandException if the script cannot be read or any line is not a valid command.
+     */
+    private List<ScriptLine> parseScript() throws CommandException {
+        DietLahParser parser = new DietLahParser();
+        List<ScriptLine> script = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            int lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                String commandText = line.trim();
+                if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+                script.add(new ScriptLine(lineNumber, parseLine(parser, commandText, lineNumber)));
+            }
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_READ_FAILURE, filePath, e.getMessage()));
+        }
+        return script;
+    }
+
+    private static Command parseLine(DietLahParser parser, String commandText, int lineNumber)
+            throws CommandException {
+        Command command;
+        try {
+            command = parser.parseCommand(commandText);
+        } catch (ParseException e) {
+            throw new CommandException(String.format(MESSAGE_INVALID_LINE, lineNumber, e.getMessage()));
+        }
+        if (command instanceof BatchCommand || command instanceof ExitCommand || command instanceof ProfileCommand) {
+            String commandWord = command instanceof BatchCommand ? COMMAND_WORD
+                    : command instanceof ExitCommand ? ExitCommand.COMMAND_WORD : ProfileCommand.COMMAND_WORD;
+            throw new CommandException(String.format(MESSAGE_INVALID_LINE, lineNumber,
+                    String.format(MESSAGE_NOT_ALLOWED, commandWord)));
+        }
+        return command;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof BatchCommand // instanceof handles nulls
+                && filePath.equals(((BatchCommand) other).filePath));
+    }
+
+    /**
+     * A parsed command and the line of the script it came from.
+     */
+    private static class ScriptLine {
+        private final int lineNumber;
+        private final Command command;
+
+        ScriptLine(int lineNumber, Command command) {
+            this.lineNumber = lineNumber;
+            this.command = command;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.logic.commands;
 
+import seedu.address.logic.ProgressListener;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 
@@ -17,4 +18,15 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Executes the command like {@link #execute(Model)}, reporting its progress to {@code progressListener}, which
+     * can cancel it. Commands that can take long override this; others ignore the listener.
+     *
+     * @throws java.util.concurrent.CancellationException if the command was cancelled, in which case the model is
+     *     left as it was.
+     */
+    public CommandResult execute(Model model, ProgressListener progressListener) throws CommandException {
+        return execute(model);
+    }
+
 }
@@ -3,13 +3,22 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.function.Supplier;
 
 /**
  * Represents the result of a command execution.
  */
 public class CommandResult {
 
-    private final String feedbackToUser;
+    private String feedbackToUser;
+
+    /** Renders the feedback when it is first needed, if it was not given up front. */
+    private Supplier<String> feedbackRenderer;
+
+    /** Produces the feedback a page at a time, if it is too long to be shown as one string. */
+    private PagedFeedback pagedFeedback;
 
     /** Help information should be shown to the user. */
     private final boolean showHelp;
@@ -34,7 +43,46 @@ public class CommandResult {
         this(feedbackToUser, false, false);
     }
 
+    /**
+     * Constructs a {@code CommandResult} whose feedback is only rendered by {@code feedbackRenderer} when it is
+     * first asked for, so that commands run in a batch do not build summaries that are never shown.
+     * The feedback reflects the model at the time it is rendered.
+     */
+    public CommandResult(Supplier<String> feedbackRenderer) {
+        this.feedbackRenderer = requireNonNull(feedbackRenderer);
+        this.showHelp = false;
+        this.exit = false;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} whose feedback is shown a page at a time from {@code pagedFeedback}, and
+     * is only rendered as one string if {@link #getFeedbackToUser()} is called.
+     */
+    public CommandResult(PagedFeedback pagedFeedback) {
+        this(() -> render(pagedFeedback));
+        this.pagedFeedback = requireNonNull(pagedFeedback);
+    }
+
+    private static String render(PagedFeedback pagedFeedback) {
+        StringJoiner feedback = new StringJoiner("\n");
+        for (int i = 0; i < pagedFeedback.getPageCount(); i++) {
+            pagedFeedback.getPage(i).forEach(feedback::add);
+        }
+        return feedback.toString();
+    }
+
+    /**
+     * Returns the feedback to be shown a page at a time, if it was given as pages.
+     */
+    public Optional<PagedFeedback> getPagedFeedback() {
+        return Optional.ofNullable(pagedFeedback);
+    }
+
     public String getFeedbackToUser() {
+        if (feedbackToUser == null) {
+            feedbackToUser = requireNonNull(feedbackRenderer.get());
+            feedbackRenderer = null;
+        }
         return feedbackToUser;
     }
 
@@ -58,14 +106,14 @@ public class CommandResult {
         }
 
         CommandResult otherCommandResult = (CommandResult) other;
-        return feedbackToUser.equals(otherCommandResult.feedbackToUser)
+        return getFeedbackToUser().equals(otherCommandResult.getFeedbackToUser())
                 && showHelp == otherCommandResult.showHelp
                 && exit == otherCommandResult.exit;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, exit);
+        return Objects.hash(getFeedbackToUser(), showHelp, exit);
     }
 
 }
@@ -6,6 +6,7 @@ import java.time.LocalDate;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.food.FoodIntake;
 import seedu.address.model.food.FoodIntakeList;
 import seedu.address.model.food.exceptions.FoodIntakeNotFoundException;
 
@@ -45,10 +46,11 @@ public class DeleteFoodIntakeCommand extends Command {
         FoodIntakeList foodIntakeList = model.getFoodIntakeList();
 
         try {
-            foodIntakeList.deleteFoodIntake(this.date, this.foodName);
-            String updateFoodIntakeList = model.getFoodIntakeList().getFoodIntakeListByDate(this.date);
-            return new CommandResult(MESSAGE_DELETE_FOODINTAKE_SUCCESS + " "
-                    + this.foodName + "\n\n" + updateFoodIntakeList);
+            FoodIntake target = foodIntakeList.getFoodIntake(this.date, this.foodName)
+                    .orElseThrow(FoodIntakeNotFoundException::new);
+            foodIntakeList.deleteFoodIntakeById(target.getId());
+            return new CommandResult(() -> MESSAGE_DELETE_FOODINTAKE_SUCCESS + " "
+                    + this.foodName + "\n\n" + model.getFoodIntakeList().getFoodIntakeListByDate(this.date));
         } catch (FoodIntakeNotFoundException exception) {
             throw new CommandException(MESSAGE_DELETE_FOODINTAKE_FAILURE);
         }
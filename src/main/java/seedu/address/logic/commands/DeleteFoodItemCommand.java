@@ -2,11 +2,8 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.List;
-
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.food.Food;
 
 /**
  * Deletes a food item identified using it's displayed index from the UniqueFoodList.
@@ -31,13 +28,11 @@ public class DeleteFoodItemCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Food> foodList = model.getDietLah().getFoodList().getFoodList();
-        for (int i = 0; i < foodList.size(); i++) {
-            if (foodList.get(i).getName().equals(this.foodName)) {
-                model.deleteFoodItem(i);
-                return new CommandResult(MESSAGE_DELETE_FOOD_SUCCESS + " " + this.foodName);
-            }
+        int index = model.getDietLah().getFoodList().getFoodItemIndex(this.foodName);
+        if (index == -1) {
+            throw new CommandException(MESSAGE_DELETE_FOOD_FAILURE);
         }
-        throw new CommandException(MESSAGE_DELETE_FOOD_FAILURE);
+        model.deleteFoodItem(index);
+        return new CommandResult(MESSAGE_DELETE_FOOD_SUCCESS + " " + this.foodName);
     }
 }
@@ -0,0 +1,86 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import seedu.address.logic.HistoryExporter;
+import seedu.address.logic.ProgressListener;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.diet.DietPlan;
+
+/**
+ * Exports the food intake history, its daily totals or the progress report to a CSV, JSON lines or text file.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Exports data to a CSV (.csv), text (.txt) or "
+            + "JSON lines file.\n"
+            + "intakes: every food intake, in the same format as the import command\n"
+            + "daily: the total nutrients and calories of each day\n"
+            + "report: the total nutrients of each day and their adherence to the active diet plan in percent, or "
+            + "the whole progress report for a .txt file\n"
+            + "Command usage: export intakes|daily|report FILE_PATH";
+
+    public static final String MESSAGE_SUCCESS = "Exported %d %s rows to %s in %d ms.";
+    public static final String MESSAGE_NO_DIET = "You are currently not on any diets. Please select one with "
+            + "the plan_set command.";
+    public static final String MESSAGE_WRITE_FAILURE = "Unable to write %s: %s";
+
+    private final HistoryExporter.Content content;
+    private final Path filePath;
+
+    /**
+     * Creates an ExportCommand to export {@code content} to {@code filePath}.
+     */
+    public ExportCommand(HistoryExporter.Content content, Path filePath) {
+        requireNonNull(content);
+        requireNonNull(filePath);
+        this.content = content;
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        return execute(model, ProgressListener.NONE);
+    }
+
+    @Override
+    public CommandResult execute(Model model, ProgressListener progressListener) throws CommandException {
+        requireNonNull(model);
+
+        HistoryExporter.Format format = HistoryExporter.Format.of(filePath);
+        if (format == HistoryExporter.Format.TEXT && content != HistoryExporter.Content.REPORT) {
+            throw new CommandException(HistoryExporter.MESSAGE_TEXT_ONLY_FOR_REPORT);
+        }
+        DietPlan dietPlan = model.getActiveDiet();
+        if (content == HistoryExporter.Content.REPORT && dietPlan == null) {
+            throw new CommandException(MESSAGE_NO_DIET);
+        }
+
+        long startTime = System.nanoTime();
+        int rowCount;
+        try {
+            rowCount = new HistoryExporter(content, format).export(model.getFoodIntakeList(), dietPlan,
+                    model.getUser(), filePath, progressListener);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_WRITE_FAILURE, filePath, e.getMessage()));
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, rowCount, content.getKeyword(), filePath,
+                elapsedMillis));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExportCommand // instanceof handles nulls
+                && content == ((ExportCommand) other).content
+                && filePath.equals(((ExportCommand) other).filePath));
+    }
+}
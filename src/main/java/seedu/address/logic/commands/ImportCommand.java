@@ -0,0 +1,88 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import seedu.address.logic.BulkImporter;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Imports foods and food intakes in bulk from a CSV or JSON lines file.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Imports food items and food intakes from a CSV "
+            + "(.csv) or JSON lines file.\n"
+            + "Each line of a CSV file is either\n"
+            + "food,FOOD_NAME,CARBOS,FATS,PROTEINS or\n"
+            + "intake,DATE(in yyyy-mm-dd format),FOOD_NAME,CARBOS,FATS,PROTEINS\n"
+            + "Each line of a JSON lines file is an object with the same fields and a \"type\" of food or intake.\n"
+            + "Command usage: import FILE_PATH";
+
+    public static final String MESSAGE_SUCCESS = "Imported %d food items and %d food intakes from %s "
+            + "in %d ms (%d records per second).";
+    public static final String MESSAGE_REJECTED = "\nRejected %d records:";
+    public static final String MESSAGE_MORE_REJECTED = "\n... and %d more.";
+    public static final String MESSAGE_READ_FAILURE = "Unable to read %s: %s";
+
+    public static final int MAX_REPORTED_REJECTIONS = 20;
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportCommand to import the file at {@code filePath}.
+     */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Reads the whole file before changing the model, so that a file that cannot be read changes nothing, and the
+     * data files are saved only once, after the command.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        long startTime = System.nanoTime();
+        BulkImporter.Result result;
+        try {
+            result = new BulkImporter(BulkImporter.Format.of(filePath), model.getUniqueFoodList()).read(filePath);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_READ_FAILURE, filePath, e.getMessage()));
+        }
+        model.addFoodItems(result.getFoods());
+        model.addFoodIntakes(result.getFoodIntakes());
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        long recordsPerSecond = result.getRecordCount() * 1000L / Math.max(elapsedMillis, 1);
+
+        StringBuilder report = new StringBuilder(String.format(MESSAGE_SUCCESS, result.getFoods().size(),
+                result.getFoodIntakes().size(), filePath, elapsedMillis, recordsPerSecond));
+        List<String> rejections = result.getRejections();
+        if (!rejections.isEmpty()) {
+            report.append(String.format(MESSAGE_REJECTED, rejections.size()));
+            for (String rejection : rejections.subList(0, Math.min(rejections.size(), MAX_REPORTED_REJECTIONS))) {
+                report.append("\n").append(rejection);
+            }
+            if (rejections.size() > MAX_REPORTED_REJECTIONS) {
+                report.append(String.format(MESSAGE_MORE_REJECTED, rejections.size() - MAX_REPORTED_REJECTIONS));
+            }
+        }
+        return new CommandResult(report.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportCommand // instanceof handles nulls
+                && filePath.equals(((ImportCommand) other).filePath));
+    }
+}
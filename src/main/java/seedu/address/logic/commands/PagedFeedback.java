@@ -0,0 +1,35 @@
+package seedu.address.logic.commands;
+
+import java.util.List;
+
+/**
+ * Feedback of a command that is produced a page of lines at a time when it is shown, rather than as one string,
+ * so that a long result is never built as a whole.
+ * <p>
+ * Pages may be asked for on any thread, after later commands have changed the model, so they must be produced
+ * from data that is never modified, such as a {@code FoodIntakeSnapshot}.
+ */
+public interface PagedFeedback {
+
+    /** The number of lines in every page but the last. */
+    int PAGE_SIZE = 256;
+
+    /**
+     * Returns the number of lines of the feedback.
+     */
+    int getLineCount();
+
+    /**
+     * Returns the lines of the page at {@code pageIndex}, which starts at line {@code pageIndex * PAGE_SIZE}.
+     *
+     * @throws IndexOutOfBoundsException if there is no such page.
+     */
+    List<String> getPage(int pageIndex);
+
+    /**
+     * Returns the number of pages of the feedback.
+     */
+    default int getPageCount() {
+        return (getLineCount() + PAGE_SIZE - 1) / PAGE_SIZE;
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import seedu.address.logic.ProfileManager;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Switches to another profile, or lists the profiles.
+ * This command acts on the {@link ProfileManager} rather than on the model of one profile.
+ */
+public class ProfileCommand extends Command {
+
+    public static final String COMMAND_WORD = "profile";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Switches to another profile, creating it if it does "
+            + "not exist yet, or lists the profiles if no name is given.\n"
+            + "Each profile has its own user and food intakes, while the food list and diet plans are shared.\n"
+            + "Command usage: profile [n/PROFILE_NAME]";
+
+    public static final String MESSAGE_SWITCHED = "Switched to profile %s in %d ms.";
+    public static final String MESSAGE_CREATED = "Created profile %s. Each profile has its own user, so please input "
+            + "the user information of this profile first.";
+    public static final String MESSAGE_ALREADY_ACTIVE = "Profile %s is already active.";
+    public static final String MESSAGE_LIST = "Profiles (the active profile is marked with *):";
+    public static final String MESSAGE_UNAVAILABLE = "Profiles can only be switched from the command box.";
+
+    private final String profileName;
+
+    /**
+     * Creates a ProfileCommand that switches to {@code profileName}, or lists the profiles if it is null.
+     */
+    public ProfileCommand(String profileName) {
+        this.profileName = profileName;
+    }
+
+    /**
+     * Profiles cannot be switched from within one profile, such as in a batch script.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        throw new CommandException(MESSAGE_UNAVAILABLE);
+    }
+
+    /**
+     * Switches to the profile of this command in {@code profileManager}, or lists its profiles.
+     */
+    public CommandResult execute(ProfileManager profileManager) {
+        requireNonNull(profileManager);
+        List<String> profileNames = profileManager.getProfileNames();
+        if (profileName == null) {
+            StringBuilder feedback = new StringBuilder(MESSAGE_LIST);
+            for (String name : profileNames) {
+                feedback.append('\n').append(name.equals(profileManager.getActiveProfileName()) ? "* " : "  ")
+                        .append(name);
+            }
+            return new CommandResult(feedback.toString());
+        }
+        if (profileName.equals(profileManager.getActiveProfileName())) {
+            return new CommandResult(String.format(MESSAGE_ALREADY_ACTIVE, profileName));
+        }
+
+        long startTime = System.nanoTime();
+        profileManager.switchProfile(profileName);
+        String feedback = String.format(MESSAGE_SWITCHED, profileName,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        if (!profileNames.contains(profileName)) {
+            feedback += "\n" + String.format(MESSAGE_CREATED, profileName);
+        }
+        return new CommandResult(feedback);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ProfileCommand // instanceof handles nulls
+                && Objects.equals(profileName, ((ProfileCommand) other).profileName));
+    }
+}
@@ -4,8 +4,10 @@ import static java.util.Objects.requireNonNull;
 
 import java.time.LocalDate;
 
+import seedu.address.logic.FoodIntakeQueryPages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.food.FoodIntakeSnapshot;
 
 public class QueryFoodIntakeCommand extends Command {
 
@@ -55,7 +57,9 @@ public class QueryFoodIntakeCommand extends Command {
                 throw new CommandException(MESSAGE_INVALID_SYNTAX);
             }
         } else if (this.dateFrom.isBefore(this.dateTo)) {
-            output = model.getFoodIntakeList().getFoodIntakeListByDateRange(dateFrom, dateTo);
+            // A range can span years, so its report is only written a page at a time as it is shown.
+            FoodIntakeSnapshot foodIntakes = model.getFoodIntakeList().createSnapshotLoadedBetween(dateFrom, dateTo);
+            return new CommandResult(new FoodIntakeQueryPages(foodIntakes, dateFrom, dateTo));
         } else if (this.dateFrom.isAfter(this.dateTo) || this.dateFrom.isEqual(this.dateTo)) {
             throw new CommandException(MESSAGE_INVALID_DATE_USAGE);
         } else {
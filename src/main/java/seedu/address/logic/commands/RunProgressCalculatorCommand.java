@@ -3,6 +3,7 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import seedu.address.logic.ProgressCalculator;
+import seedu.address.logic.ProgressListener;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.diet.DietPlan;
@@ -30,6 +31,11 @@ public class RunProgressCalculatorCommand extends Command {
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
+        return execute(model, ProgressListener.NONE);
+    }
+
+    @Override
+    public CommandResult execute(Model model, ProgressListener progressListener) throws CommandException {
         requireNonNull(model);
 
         DietPlan dietPlan = model.getActiveDiet();
@@ -40,7 +46,7 @@ public class RunProgressCalculatorCommand extends Command {
         FoodIntakeList foodIntakeList = model.getFoodIntakeList();
         User user = model.getUser();
 
-        String result = ProgressCalculator.calculateProgress(foodIntakeList, dietPlan, user);
+        String result = ProgressCalculator.calculateProgress(foodIntakeList, dietPlan, user, progressListener);
 
         return new CommandResult(result);
 
@@ -46,20 +46,11 @@ public class UpdateFoodIntakeCommand extends Command {
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
-        FoodIntake currentFoodIntake;
         FoodIntake newFoodIntake;
-        int index;
         requireNonNull(model);
 
-        try {
-            index = model.getFoodIntakeList().findFoodIntake(date, name);
-            if (index == -1) {
-                throw new CommandException(MESSAGE_FAILURE);
-            }
-            currentFoodIntake = model.getFoodIntakeList().getFoodIntakeList().get(index);
-        } catch (IndexOutOfBoundsException error) {
-            throw new CommandException(MESSAGE_FAILURE);
-        }
+        FoodIntake currentFoodIntake = model.getFoodIntakeList().getFoodIntake(date, name)
+                .orElseThrow(() -> new CommandException(MESSAGE_FAILURE));
 
         // Retain original values as date and name are not editable.
         this.date = currentFoodIntake.getDate();
@@ -77,10 +68,10 @@ public class UpdateFoodIntakeCommand extends Command {
         newFoodIntake = new FoodIntake(this.date, this.name,
                 Double.parseDouble(this.carbos), Double.parseDouble(this.fats),
                 Double.parseDouble(this.proteins));
-        model.updateFoodIntake(index, newFoodIntake);
+        model.updateFoodIntakeById(currentFoodIntake.getId(), newFoodIntake);
 
-        String updatedFoodIntakeList = model.getFoodIntakeList().getFoodIntakeListByDate(this.date);
-        return new CommandResult(MESSAGE_SUCCESS + " " + this.name + "\n\n" + updatedFoodIntakeList);
+        return new CommandResult(() -> MESSAGE_SUCCESS + " " + this.name + "\n\n"
+                + model.getFoodIntakeList().getFoodIntakeListByDate(this.date));
     }
 
     /**
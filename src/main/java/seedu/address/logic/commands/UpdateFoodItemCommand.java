@@ -2,13 +2,13 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.util.CollectionUtil;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.food.Food;
+import seedu.address.model.food.UniqueFoodList;
 
 public class UpdateFoodItemCommand extends Command {
 
@@ -46,16 +46,15 @@ public class UpdateFoodItemCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Food> foodList = model.getDietLah().getFoodList().getFoodList();
-
-        for (Food food : foodList) {
-            if (food.getName().equals(editedFood.getName().get())) {
-                Food updatedFood = createEditedFood(food, editedFood);
-                model.updateFoodItem(updatedFood);
-                return new CommandResult(MESSAGE_EDIT_FOOD_SUCCESS);
-            }
+        UniqueFoodList foodList = model.getDietLah().getFoodList();
+        int index = foodList.getFoodItemIndex(editedFood.getName().get());
+        if (index == -1) {
+            throw new CommandException(MESSAGE_NOT_FOUND);
         }
-        throw new CommandException(MESSAGE_NOT_FOUND);
+
+        Food updatedFood = createEditedFood(foodList.getFoodList().get(index), editedFood);
+        model.updateFoodItem(updatedFood);
+        return new CommandResult(MESSAGE_EDIT_FOOD_SUCCESS);
     }
 
     /**
@@ -71,7 +71,8 @@ public class ParserUtil {
             throw new ParseException(MESSAGE_INVALID_DATETIME_FORMAT);
         }
         if (localDate.getMonthValue() == FEB_MONTH_VALUE) {
-            int inputDay = Integer.parseInt(trimmedDate.substring(0, 2));
+            // The day is checked as typed, as the parser has already clamped it to the end of February.
+            int inputDay = Integer.parseInt(trimmedDate.substring(0, trimmedDate.indexOf(' ')));
             if (localDate.isLeapYear()) {
                 if (inputDay > FEB_LEAP_YEAR_NUMBER_OF_DAYS) {
                     throw new ParseException(MESSAGE_INVALID_DAY_LEAP_YEAR);
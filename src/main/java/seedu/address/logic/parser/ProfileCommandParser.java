@@ -0,0 +1,45 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+
+import java.util.Optional;
+
+import seedu.address.logic.commands.ProfileCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ProfileCommand object
+ */
+public class ProfileCommandParser implements Parser<ProfileCommand> {
+
+    public static final String MESSAGE_CONSTRAINTS = "Profile names can only have up to 32 letters, digits, "
+            + "hyphens and underscores, as each profile is stored in a folder of that name.";
+
+    private static final String PROFILE_NAME_REGEX = "[A-Za-z0-9_-]{1,32}";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ProfileCommand
+     * and returns a ProfileCommand object for execution. Profile names are not case-sensitive.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ProfileCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME);
+
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ProfileCommand.MESSAGE_USAGE));
+        }
+
+        Optional<String> profileName = argMultimap.getValue(PREFIX_NAME).map(String::trim);
+        if (profileName.isEmpty()) {
+            return new ProfileCommand(null);
+        }
+        if (!profileName.get().matches(PROFILE_NAME_REGEX)) {
+            throw new ParseException(MESSAGE_CONSTRAINTS);
+        }
+        return new ProfileCommand(profileName.get().toLowerCase());
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
 import javafx.collections.ObservableList;
@@ -13,6 +14,7 @@ import seedu.address.model.food.UniqueFoodList;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.user.User;
+import seedu.address.model.util.ChangeVersion;
 import seedu.address.model.util.TemplateInitializer;
 
 /**
@@ -26,6 +28,10 @@ public class DietLah implements ReadOnlyDietLah {
     private UniqueFoodList foodList;
 
     private FoodIntakeList foodIntakeList;
+
+    private long personsVersion = ChangeVersion.next();
+
+    private long userVersion = ChangeVersion.next();
     //Used to have an old comment here, removed due to checkstyle error. Refer to old template for more.
     {
         persons = new UniquePersonList();
@@ -59,6 +65,7 @@ public class DietLah implements ReadOnlyDietLah {
         this.foodList = uniqueFoodList;
         this.foodIntakeList = foodIntakeList;
         this.user = user;
+        this.userVersion = ChangeVersion.next();
     }
 
     //// list overwrite operations
@@ -69,6 +76,7 @@ public class DietLah implements ReadOnlyDietLah {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        this.personsVersion = ChangeVersion.next();
     }
 
     /**
@@ -96,6 +104,7 @@ public class DietLah implements ReadOnlyDietLah {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        this.personsVersion = ChangeVersion.next();
     }
 
     /**
@@ -107,6 +116,7 @@ public class DietLah implements ReadOnlyDietLah {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        this.personsVersion = ChangeVersion.next();
     }
 
     /**
@@ -115,6 +125,22 @@ public class DietLah implements ReadOnlyDietLah {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        this.personsVersion = ChangeVersion.next();
+    }
+
+    /**
+     * Returns the change version of the persons, which is different after every modification.
+     */
+    public long getPersonsVersion() {
+        return this.personsVersion;
+    }
+
+    /**
+     * Returns a version that is different whenever the user is added, replaced or reset.
+     * Changes made within the {@code User} object itself are tracked by {@link User#getVersion()}.
+     */
+    public long getUserVersion() {
+        return this.userVersion;
     }
 
     //// util methods
@@ -160,6 +186,15 @@ public class DietLah implements ReadOnlyDietLah {
         foodList.addFoodItem(food);
     }
 
+    /**
+     * Adds many food items to the food list at once.
+     *
+     * @param foods food items, none of which may already exist in the food list
+     */
+    public void addFoodItems(List<Food> foods) {
+        foodList.addFoodItems(foods);
+    }
+
     /**
      * Deletes a food item in the food list by its name.
      *
@@ -204,6 +239,7 @@ public class DietLah implements ReadOnlyDietLah {
      */
     public void addUser(User user) {
         this.user = user;
+        this.userVersion = ChangeVersion.next();
     }
 
     /**
@@ -238,13 +274,23 @@ public class DietLah implements ReadOnlyDietLah {
     }
 
     /**
-     * Updates the FoodIntake object in the FoodIntakeList
+     * Adds many food intakes to the food intake list at once.
+     *
+     * @param foodIntakes food intakes to add, in order
+     * @return Foods that were added, with their final names
+     */
+    public List<Food> addFoodIntakes(List<FoodIntake> foodIntakes) {
+        return foodIntakeList.addFoodIntakes(foodIntakes);
+    }
+
+    /**
+     * Updates the FoodIntake object in the FoodIntakeList, keeping its surrogate ID
      *
-     * @param index index to replace
+     * @param id ID of the FoodIntake to replace
      * @param foodIntake FoodIntake object to replace
      */
-    public void updateFoodIntake(int index, FoodIntake foodIntake) {
-        foodIntakeList.updateFoodIntake(index, foodIntake);
+    public void updateFoodIntakeById(long id, FoodIntake foodIntake) {
+        foodIntakeList.updateFoodIntakeById(id, foodIntake);
     }
 
     /**
@@ -255,6 +301,30 @@ public class DietLah implements ReadOnlyDietLah {
         return foodIntakeList;
     }
 
+    /**
+     * Captures the persons, the user and the lists that this {@code DietLah} refers to, so that later changes can be
+     * undone with {@link #restoreCheckpoint(Checkpoint)}. The contents of the food lists are not captured.
+     */
+    public Checkpoint createCheckpoint() {
+        return new Checkpoint(this);
+    }
+
+    /**
+     * Puts back the state captured in {@code checkpoint}, with the change versions it had then.
+     */
+    public void restoreCheckpoint(Checkpoint checkpoint) {
+        requireNonNull(checkpoint);
+        this.persons.setPersons(checkpoint.persons);
+        this.personsVersion = checkpoint.personsVersion;
+        this.user = checkpoint.user;
+        if (checkpoint.userCheckpoint != null) {
+            this.user.restoreCheckpoint(checkpoint.userCheckpoint);
+        }
+        this.userVersion = checkpoint.userVersion;
+        this.foodList = checkpoint.foodList;
+        this.foodIntakeList = checkpoint.foodIntakeList;
+    }
+
     /**
      * Resets the current application data by setting to default values from TemplateInitializer.
      */
@@ -263,6 +333,7 @@ public class DietLah implements ReadOnlyDietLah {
         this.foodList = foodlist;
         this.foodIntakeList = foodIntakeList;
         this.user = templateInitializer.createUser(this.foodList, this.foodIntakeList);
+        this.userVersion = ChangeVersion.next();
     }
 
     /**
@@ -272,5 +343,29 @@ public class DietLah implements ReadOnlyDietLah {
         this.user = null;
         this.foodList = foodlist;
         this.foodIntakeList = foodIntakeList;
+        this.userVersion = ChangeVersion.next();
+    }
+
+    /**
+     * The state of a {@code DietLah} at one point in time.
+     */
+    public static class Checkpoint {
+        private final List<Person> persons;
+        private final long personsVersion;
+        private final User user;
+        private final User.Checkpoint userCheckpoint;
+        private final long userVersion;
+        private final UniqueFoodList foodList;
+        private final FoodIntakeList foodIntakeList;
+
+        private Checkpoint(DietLah dietLah) {
+            this.persons = new ArrayList<>(dietLah.persons.asUnmodifiableObservableList());
+            this.personsVersion = dietLah.personsVersion;
+            this.user = dietLah.user;
+            this.userCheckpoint = dietLah.user == null ? null : dietLah.user.createCheckpoint();
+            this.userVersion = dietLah.userVersion;
+            this.foodList = dietLah.foodList;
+            this.foodIntakeList = dietLah.foodIntakeList;
+        }
     }
 }
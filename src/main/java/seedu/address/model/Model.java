@@ -3,6 +3,7 @@ package seedu.address.model;
 import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.HashMap;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -87,6 +88,12 @@ public interface Model {
      */
     void addFoodItem(Food food);
 
+    /**
+     * Adds the given food items at once, in order.
+     * None of {@code foods} may already exist in the food list.
+     */
+    void addFoodItems(List<Food> foods);
+
     /**
      * Updates food in food item list.
      * @param food updated food item
@@ -128,12 +135,19 @@ public interface Model {
     Food addFoodIntake(LocalDate date, Food food);
 
     /**
-     * Updates the FoodIntake object in the FoodIntakeList
+     * Adds the given food intakes to the food intake list at once, in order.
      *
-     * @param index index to replace
+     * @return Foods that were successfully added to FoodIntakeList, in the same order
+     */
+    List<Food> addFoodIntakes(List<FoodIntake> foodIntakes);
+
+    /**
+     * Updates the FoodIntake object in the FoodIntakeList, keeping its surrogate ID
+     *
+     * @param id ID of the FoodIntake to replace
      * @param foodIntake FoodIntake object to replace
      */
-    void updateFoodIntake(int index, FoodIntake foodIntake);
+    void updateFoodIntakeById(long id, FoodIntake foodIntake);
 
     /**
      * Gets Food intake list.
@@ -211,4 +225,50 @@ public interface Model {
 
     void resetToBlank();
 
+    /**
+     * Captures the current data, so that later changes can be undone with {@link #restoreCheckpoint}.
+     */
+    ModelCheckpoint createCheckpoint();
+
+    /**
+     * Rolls the data back to {@code checkpoint}, including the change versions, so that data that was saved at the
+     * checkpoint is not saved again.
+     */
+    void restoreCheckpoint(ModelCheckpoint checkpoint);
+
+    //=========== Snapshots =============================================================
+
+    /**
+     * Publishes a snapshot of the food list and food intake history as they are now, for {@link #getSnapshot()} to
+     * return. Only the thread that changes the model may call this, once a command has finished with it.
+     */
+    void publishSnapshot();
+
+    /**
+     * Returns the snapshot published last, which any thread may read without locking.
+     */
+    ModelSnapshot getSnapshot();
+
+    //=========== Change versions =============================================================
+
+    /**
+     * Returns a version of the data saved in the DietLah file, which is different after every modification.
+     */
+    long getDietLahVersion();
+
+    /**
+     * Returns a version of the food list, which is different after every modification.
+     */
+    long getUniqueFoodListVersion();
+
+    /**
+     * Returns a version of the food intake list, which is different after every modification.
+     */
+    long getFoodIntakeListVersion();
+
+    /**
+     * Returns a version of the data saved in the user file, which is different after every modification.
+     */
+    long getUserVersion();
+
 }
@@ -0,0 +1,33 @@
+package seedu.address.model;
+
+import seedu.address.model.food.FoodIntakeList;
+import seedu.address.model.food.UniqueFoodList;
+
+/**
+ * The state of a {@code Model} at one point in time, which it can be rolled back to.
+ * User prefs and diet plans are not captured, as no command changes them.
+ */
+public class ModelCheckpoint {
+    private final DietLah.Checkpoint dietLahCheckpoint;
+    private final UniqueFoodList.Checkpoint uniqueFoodListCheckpoint;
+    private final FoodIntakeList.Checkpoint foodIntakeListCheckpoint;
+
+    ModelCheckpoint(DietLah.Checkpoint dietLahCheckpoint, UniqueFoodList.Checkpoint uniqueFoodListCheckpoint,
+                    FoodIntakeList.Checkpoint foodIntakeListCheckpoint) {
+        this.dietLahCheckpoint = dietLahCheckpoint;
+        this.uniqueFoodListCheckpoint = uniqueFoodListCheckpoint;
+        this.foodIntakeListCheckpoint = foodIntakeListCheckpoint;
+    }
+
+    DietLah.Checkpoint getDietLahCheckpoint() {
+        return dietLahCheckpoint;
+    }
+
+    UniqueFoodList.Checkpoint getUniqueFoodListCheckpoint() {
+        return uniqueFoodListCheckpoint;
+    }
+
+    FoodIntakeList.Checkpoint getFoodIntakeListCheckpoint() {
+        return foodIntakeListCheckpoint;
+    }
+}
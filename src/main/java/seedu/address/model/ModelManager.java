@@ -5,8 +5,10 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -20,10 +22,12 @@ import seedu.address.model.diet.PlanType;
 import seedu.address.model.food.Food;
 import seedu.address.model.food.FoodIntake;
 import seedu.address.model.food.FoodIntakeList;
+import seedu.address.model.food.FoodIntakeSnapshot;
 import seedu.address.model.food.UniqueFoodList;
 import seedu.address.model.person.Person;
 import seedu.address.model.user.Bmi;
 import seedu.address.model.user.User;
+import seedu.address.model.util.ChangeVersion;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -38,6 +42,7 @@ public class ModelManager implements Model {
     private final FoodIntakeList foodIntakeList;
     private final DietPlanList dietPlanList;
     private final FilteredList<Person> filteredPersons;
+    private volatile ModelSnapshot snapshot;
 
     /**
      * Initializes a ModelManager with the given dietLah and userPrefs.
@@ -58,6 +63,7 @@ public class ModelManager implements Model {
                 + ", diet plan list: " + dietPlanList + " and user prefs " + userPrefs);
 
         filteredPersons = new FilteredList<>(this.dietLah.getPersonList());
+        publishSnapshot();
     }
 
     /**
@@ -195,6 +201,11 @@ public class ModelManager implements Model {
         dietLah.addFoodItem(food);
     }
 
+    @Override
+    public void addFoodItems(List<Food> foods) {
+        dietLah.addFoodItems(foods);
+    }
+
     @Override
     public void updateFoodItem(Food food) {
         dietLah.updateFoodItem(food);
@@ -285,8 +296,13 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public void updateFoodIntake(int index, FoodIntake foodIntake) {
-        dietLah.updateFoodIntake(index, foodIntake);
+    public List<Food> addFoodIntakes(List<FoodIntake> foodIntakes) {
+        return dietLah.addFoodIntakes(foodIntakes);
+    }
+
+    @Override
+    public void updateFoodIntakeById(long id, FoodIntake foodIntake) {
+        dietLah.updateFoodIntakeById(id, foodIntake);
     }
 
     @Override
@@ -347,4 +363,81 @@ public class ModelManager implements Model {
         this.foodIntakeList.resetToBlank();
         this.dietLah.resetToBlank(uniqueFoodList, foodIntakeList);
     }
+
+    //=========== Checkpoints =============================================================
+
+    @Override
+    public ModelCheckpoint createCheckpoint() {
+        return new ModelCheckpoint(dietLah.createCheckpoint(), uniqueFoodList.createCheckpoint(),
+                foodIntakeList.createCheckpoint());
+    }
+
+    @Override
+    public void restoreCheckpoint(ModelCheckpoint checkpoint) {
+        requireNonNull(checkpoint);
+        dietLah.restoreCheckpoint(checkpoint.getDietLahCheckpoint());
+        uniqueFoodList.restoreCheckpoint(checkpoint.getUniqueFoodListCheckpoint());
+        foodIntakeList.restoreCheckpoint(checkpoint.getFoodIntakeListCheckpoint());
+    }
+
+    //=========== Snapshots =============================================================
+
+    /**
+     * Food items are copied only when the food list has changed since the last snapshot, and food intakes only
+     * for the days that have changed.
+     */
+    @Override
+    public void publishSnapshot() {
+        ModelSnapshot previous = snapshot;
+        long foodListVersion = uniqueFoodList.getVersion();
+        FoodIntakeSnapshot foodIntakes = foodIntakeList.createSnapshot();
+        boolean isFoodListChanged = previous == null || previous.getFoodListVersion() != foodListVersion;
+        if (!isFoodListChanged && previous.getFoodIntakes() == foodIntakes) {
+            return;
+        }
+
+        List<Food> foods = previous == null ? null : previous.getFoods();
+        if (isFoodListChanged) {
+            List<Food> foodCopies = new ArrayList<>(uniqueFoodList.getFoodList().size());
+            for (Food food : uniqueFoodList.getFoodList()) {
+                foodCopies.add(food.immutableCopy());
+            }
+            foods = List.copyOf(foodCopies);
+        }
+        snapshot = new ModelSnapshot(ChangeVersion.next(), foodListVersion, foods, foodIntakes);
+    }
+
+    @Override
+    public ModelSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    //=========== Change versions =============================================================
+
+    @Override
+    public long getDietLahVersion() {
+        return dietLah.getPersonsVersion();
+    }
+
+    @Override
+    public long getUniqueFoodListVersion() {
+        return uniqueFoodList.getVersion();
+    }
+
+    @Override
+    public long getFoodIntakeListVersion() {
+        return foodIntakeList.getVersion();
+    }
+
+    /**
+     * The user file holds the user's own fields and only the name of its active diet plan, and refers to the food
+     * list rather than holding it, so its version is the later of the user reference and the user object. Changing
+     * the food list does not rewrite the user file.
+     */
+    @Override
+    public long getUserVersion() {
+        long version = dietLah.getUserVersion();
+        User user = dietLah.getUser();
+        return user == null ? version : Math.max(version, user.getVersion());
+    }
 }
@@ -0,0 +1,46 @@
+package seedu.address.model;
+
+import java.util.List;
+
+import seedu.address.model.food.Food;
+import seedu.address.model.food.FoodIntakeSnapshot;
+
+/**
+ * The food list and food intake history of a {@code Model} as they were after one command.
+ * Guarantees: immutable, so any thread can read it without locking while the next commands change the model.
+ */
+public final class ModelSnapshot {
+    private final long version;
+    private final long foodListVersion;
+    private final List<Food> foods;
+    private final FoodIntakeSnapshot foodIntakes;
+
+    ModelSnapshot(long version, long foodListVersion, List<Food> foods, FoodIntakeSnapshot foodIntakes) {
+        this.version = version;
+        this.foodListVersion = foodListVersion;
+        this.foods = foods;
+        this.foodIntakes = foodIntakes;
+    }
+
+    /**
+     * Returns the version of the data in this snapshot, which is greater in a snapshot of later changes.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    long getFoodListVersion() {
+        return foodListVersion;
+    }
+
+    /**
+     * Returns unmodifiable copies of the food items, in the order of the food list.
+     */
+    public List<Food> getFoods() {
+        return foods;
+    }
+
+    public FoodIntakeSnapshot getFoodIntakes() {
+        return foodIntakes;
+    }
+}
@@ -7,6 +7,7 @@ import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.StorageFormat;
 
 /**
  * Represents User's preferences.
@@ -19,6 +20,11 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private Path foodIntakeListFilePath = Paths.get("data" , "foodintakelist.json");
     private Path dietPlanListFilePath = Paths.get("data" , "dietplanlist.json");
     private Path userFilePath = Paths.get("data", "user.json");
+    private StorageFormat storageFormat = StorageFormat.JSON;
+    private Path uniqueFoodListBinaryFilePath = Paths.get("data", "foodlist.bin");
+    private Path foodIntakeListBinaryFilePath = Paths.get("data", "foodintakelist.bin");
+    private Path foodIntakeSegmentDirectoryPath = Paths.get("data", "foodintakes");
+    private Path foodIntakeDatabaseFilePath = Paths.get("data", "foodintakes.db");
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -40,6 +46,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setDietLahFilePath(newUserPrefs.getDietLahFilePath());
+        setStorageFormat(newUserPrefs.getStorageFormat());
     }
 
     public GuiSettings getGuiSettings() {
@@ -71,6 +78,26 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         return userFilePath;
     }
 
+    public StorageFormat getStorageFormat() {
+        return storageFormat;
+    }
+
+    public Path getUniqueFoodListBinaryFilePath() {
+        return uniqueFoodListBinaryFilePath;
+    }
+
+    public Path getFoodIntakeListBinaryFilePath() {
+        return foodIntakeListBinaryFilePath;
+    }
+
+    public Path getFoodIntakeSegmentDirectoryPath() {
+        return foodIntakeSegmentDirectoryPath;
+    }
+
+    public Path getFoodIntakeDatabaseFilePath() {
+        return foodIntakeDatabaseFilePath;
+    }
+
     public void setDietLahFilePath(Path dietLahFilePath) {
         requireNonNull(dietLahFilePath);
         this.dietLahFilePath = dietLahFilePath;
@@ -96,6 +123,31 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.userFilePath = userFilePath;
     }
 
+    public void setStorageFormat(StorageFormat storageFormat) {
+        requireNonNull(storageFormat);
+        this.storageFormat = storageFormat;
+    }
+
+    public void setUniqueFoodListBinaryFilePath(Path uniqueFoodListBinaryFilePath) {
+        requireNonNull(uniqueFoodListBinaryFilePath);
+        this.uniqueFoodListBinaryFilePath = uniqueFoodListBinaryFilePath;
+    }
+
+    public void setFoodIntakeListBinaryFilePath(Path foodIntakeListBinaryFilePath) {
+        requireNonNull(foodIntakeListBinaryFilePath);
+        this.foodIntakeListBinaryFilePath = foodIntakeListBinaryFilePath;
+    }
+
+    public void setFoodIntakeSegmentDirectoryPath(Path foodIntakeSegmentDirectoryPath) {
+        requireNonNull(foodIntakeSegmentDirectoryPath);
+        this.foodIntakeSegmentDirectoryPath = foodIntakeSegmentDirectoryPath;
+    }
+
+    public void setFoodIntakeDatabaseFilePath(Path foodIntakeDatabaseFilePath) {
+        requireNonNull(foodIntakeDatabaseFilePath);
+        this.foodIntakeDatabaseFilePath = foodIntakeDatabaseFilePath;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -112,13 +164,20 @@ public class UserPrefs implements ReadOnlyUserPrefs {
                 && uniqueFoodListFilePath.equals(o.uniqueFoodListFilePath)
                 && foodIntakeListFilePath.equals(o.foodIntakeListFilePath)
                 && dietPlanListFilePath.equals(o.dietPlanListFilePath)
-                && userFilePath.equals(o.userFilePath);
+                && userFilePath.equals(o.userFilePath)
+                && storageFormat == o.storageFormat
+                && uniqueFoodListBinaryFilePath.equals(o.uniqueFoodListBinaryFilePath)
+                && foodIntakeListBinaryFilePath.equals(o.foodIntakeListBinaryFilePath)
+                && foodIntakeSegmentDirectoryPath.equals(o.foodIntakeSegmentDirectoryPath)
+                && foodIntakeDatabaseFilePath.equals(o.foodIntakeDatabaseFilePath);
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(guiSettings, dietLahFilePath, uniqueFoodListFilePath,
-                foodIntakeListFilePath, dietPlanListFilePath, userFilePath);
+                foodIntakeListFilePath, dietPlanListFilePath, userFilePath, storageFormat,
+                uniqueFoodListBinaryFilePath, foodIntakeListBinaryFilePath, foodIntakeSegmentDirectoryPath,
+                foodIntakeDatabaseFilePath);
     }
 
     @Override
@@ -130,6 +189,11 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         sb.append("\nLocal data file location : " + foodIntakeListFilePath);
         sb.append("\nLocal diet plan list file location : " + dietPlanListFilePath);
         sb.append("\nUser file location : " + userFilePath);
+        sb.append("\nStorage format : " + storageFormat);
+        sb.append("\nLocal binary unique food list file location : " + uniqueFoodListBinaryFilePath);
+        sb.append("\nLocal binary food intake list file location : " + foodIntakeListBinaryFilePath);
+        sb.append("\nLocal food intake segment directory location : " + foodIntakeSegmentDirectoryPath);
+        sb.append("\nLocal food intake database file location : " + foodIntakeDatabaseFilePath);
         return sb.toString();
     }
 
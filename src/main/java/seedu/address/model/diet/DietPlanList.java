@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Iterator;
 import java.util.Objects;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -65,6 +66,18 @@ public class DietPlanList implements Iterable<DietPlan> {
         return planList.get(index);
     }
 
+    /**
+     * Retrieves the diet plan with the given name.
+     *
+     * @param planName The name of the diet plan.
+     * @return The diet plan, or {@code Optional.empty()} if no plan has that name.
+     */
+    public Optional<DietPlan> findDietPlan(String planName) {
+        requireNonNull(planName);
+
+        return planList.stream().filter(plan -> plan.getPlanName().equals(planName)).findFirst();
+    }
+
     /**
      * Returns true if diet plan exists in the list.
      *
@@ -0,0 +1,74 @@
+package seedu.address.model.food;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Holds the total nutrients consumed on each day of a {@code FoodIntakeList}.
+ * Day totals are kept up to date by the owning list whenever a day changes, so reading them never rescans the
+ * day's FoodIntakes.
+ */
+public class DailyMacroAggregates {
+    private final NavigableMap<LocalDate, MacroTotals> dayTotals = new TreeMap<>();
+
+    /**
+     * Recomputes the totals of a single day from all the FoodIntakes now recorded on that day.
+     *
+     * @param date       date whose FoodIntakes changed
+     * @param dayIntakes every FoodIntake recorded on {@code date}, which may be empty
+     */
+    void updateDay(LocalDate date, List<FoodIntake> dayIntakes) {
+        requireNonNull(date);
+        requireNonNull(dayIntakes);
+        if (dayIntakes.isEmpty()) {
+            this.dayTotals.remove(date);
+        } else {
+            double carbos = 0;
+            double fats = 0;
+            double proteins = 0;
+            for (FoodIntake foodIntake : dayIntakes) {
+                Food food = foodIntake.getFood();
+                carbos += food.getCarbos();
+                fats += food.getFats();
+                proteins += food.getProteins();
+            }
+            this.dayTotals.put(date, new MacroTotals(carbos, fats, proteins));
+        }
+    }
+
+    /**
+     * Removes the totals of every day.
+     */
+    void clear() {
+        this.dayTotals.clear();
+    }
+
+    /**
+     * Gets the totals of a single day, which are zero if nothing was recorded on that day.
+     */
+    public MacroTotals getDayTotals(LocalDate date) {
+        requireNonNull(date);
+        return this.dayTotals.getOrDefault(date, MacroTotals.ZERO);
+    }
+
+    /**
+     * Gets the totals of every day with at least one FoodIntake, in date order.
+     *
+     * @return an unmodifiable view of the day totals, which reflects later changes
+     */
+    public NavigableMap<LocalDate, MacroTotals> getAllDayTotals() {
+        return Collections.unmodifiableNavigableMap(this.dayTotals);
+    }
+
+    /**
+     * Returns the number of days with at least one FoodIntake.
+     */
+    public int getDayCount() {
+        return this.dayTotals.size();
+    }
+}
@@ -26,6 +26,7 @@ public class Food {
     private double carbos;
     private double proteins;
     private double kiloCalories;
+    private boolean isImmutable;
 
     public Food() {
         super();
@@ -50,6 +51,42 @@ public class Food {
         this.kiloCalories = calculateKiloCalories();
     }
 
+    /**
+     * Creates an immutable food without validating its name, so that names carrying a duplicate count
+     * such as "apple #2" are accepted. Used by {@link FoodPool} for food shared between food intakes.
+     */
+    static Food createImmutable(String name, double carbos, double fats, double proteins) {
+        requireNonNull(name);
+        Food food = new Food();
+        food.name = name;
+        food.fats = fats;
+        food.carbos = carbos;
+        food.proteins = proteins;
+        food.kiloCalories = food.calculateKiloCalories();
+        food.isImmutable = true;
+        return food;
+    }
+
+    /**
+     * Returns a mutable copy of this food, which is not affected by later changes to this food.
+     */
+    public Food copy() {
+        Food food = new Food();
+        food.name = this.name;
+        food.fats = this.fats;
+        food.carbos = this.carbos;
+        food.proteins = this.proteins;
+        food.kiloCalories = this.kiloCalories;
+        return food;
+    }
+
+    /**
+     * Returns a copy of this food that cannot be modified, which is not affected by later changes to this food.
+     */
+    public Food immutableCopy() {
+        return this.isImmutable ? this : createImmutable(this.name, this.carbos, this.fats, this.proteins);
+    }
+
     /**
      * Gets food name.
      *
@@ -77,40 +114,60 @@ public class Food {
 
     /**
      * Returns true if a given string is a valid food name.
+     * Equivalent to matching both {@link #VALIDATION_CHAR_REGEX} and {@link #VALIDATION_WHITESPACE_REGEX}, but
+     * without compiling them on every call, since this runs for every record of an import.
      */
     public static boolean isValidFoodName(String test) {
-        if (test.matches(VALIDATION_CHAR_REGEX) && test.matches(VALIDATION_WHITESPACE_REGEX)) {
-            return true;
-        } else {
+        if (test.isEmpty() || Character.isWhitespace(test.charAt(0))) {
             return false;
         }
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            // A line break is a whitespace character, but the wildcard in VALIDATION_WHITESPACE_REGEX excludes it.
+            if (!isAsciiLetterOrDigit(c) && c != ' ' && c != '\t' && c != '\u000B' && c != '\f') {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
      * Returns true if a given string is a valid food name.
+     * Equivalent to matching both {@link #VALIDATION_CHAR_REGEX_IMPORT} and {@link #VALIDATION_WHITESPACE_REGEX}.
      */
     public static boolean isValidImportFoodName(String test) {
-        if (test.matches(VALIDATION_CHAR_REGEX_IMPORT) && test.matches(VALIDATION_WHITESPACE_REGEX)) {
-            return true;
-        } else {
+        if (test.isEmpty() || test.charAt(0) == ' ') {
             return false;
         }
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (!isAsciiLetterOrDigit(c) && c != '#' && c != ' ') {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
      * Returns true if a given number is valid and more than 0.
+     * Equivalent to matching the {@link Double#toString(double)} of each number against
+     * {@link #VALIDATION_POSITIVE_DOUBLE_REGEX}, which only accepts positive zero and the plain decimal notation
+     * that is used from 10^-3 up to, but excluding, 10^7.
      */
     public static boolean isValidNumber(double fats, double carbos, double proteins) {
-        String fatsString = Double.toString(fats);
-        String carbosString = Double.toString(carbos);
-        String proteinsString = Double.toString(proteins);
-        if (fatsString.matches(VALIDATION_POSITIVE_DOUBLE_REGEX)
-                && carbosString.matches(VALIDATION_POSITIVE_DOUBLE_REGEX)
-                && proteinsString.matches(VALIDATION_POSITIVE_DOUBLE_REGEX)) {
-            return true;
-        } else {
-            return false;
+        return isValidNutrient(fats) && isValidNutrient(carbos) && isValidNutrient(proteins);
+    }
+
+    private static boolean isValidNutrient(double value) {
+        if (value == 0) {
+            // Negative zero is written as "-0.0".
+            return Double.doubleToRawLongBits(value) == 0;
         }
+        return value >= 1e-3 && value < 1e7;
+    }
+
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
     }
 
     /**
@@ -120,6 +177,7 @@ public class Food {
      * @return updated food item
      */
     public Food updateFats(double fats) {
+        checkMutable();
         this.fats = fats;
         updateKiloCalories();
         return this;
@@ -133,6 +191,7 @@ public class Food {
      */
 
     public Food updateCarbos(double carbos) {
+        checkMutable();
         this.carbos = carbos;
         updateKiloCalories();
         return this;
@@ -145,15 +204,26 @@ public class Food {
      * @return updated food item
      */
     public Food updateProteins(double proteins) {
+        checkMutable();
         this.proteins = proteins;
         updateKiloCalories();
         return this;
     }
 
     public void setName(String name) {
+        checkMutable();
         this.name = name;
     }
 
+    /**
+     * Throws an {@code UnsupportedOperationException} if this food is shared between food intakes.
+     */
+    private void checkMutable() {
+        if (this.isImmutable) {
+            throw new UnsupportedOperationException("Food shared between food intakes cannot be modified.");
+        }
+    }
+
     /**
      * Updates kilocalories each time a nutrient value is updated.
      */
@@ -167,17 +237,31 @@ public class Food {
      * @return total converted energy in kilocalories
      */
     public double calculateKiloCalories() {
-        double convertedFats = this.fats * FAT_MULTIPLIER;
-        double convertedCarbos = this.carbos * PROTEIN_AND_CARBOS_MULTIPLIER;
-        double convertedProteins = this.proteins * PROTEIN_AND_CARBOS_MULTIPLIER;
+        return calculateKiloCalories(this.carbos, this.fats, this.proteins);
+    }
+
+    /**
+     * Calculates total kilocalories based on the given fats, carbos and proteins.
+     *
+     * @return total converted energy in kilocalories
+     */
+    public static double calculateKiloCalories(double carbos, double fats, double proteins) {
+        double convertedFats = fats * FAT_MULTIPLIER;
+        double convertedCarbos = carbos * PROTEIN_AND_CARBOS_MULTIPLIER;
+        double convertedProteins = proteins * PROTEIN_AND_CARBOS_MULTIPLIER;
         double totalKiloCalories = convertedCarbos + convertedFats + convertedProteins;
         return totalKiloCalories;
     }
 
+    /**
+     * Formats a food with the given name and nutrients the same way as {@link #toString()}.
+     */
+    public static String format(String name, double carbos, double fats, double proteins) {
+        return name + " (Carbos: " + carbos + "g, Fats: " + fats + "g, Proteins: " + proteins + "g)";
+    }
+
     @Override
     public String toString() {
-        String result = this.name + " (Carbos: " + this.carbos + "g, Fats: " + this.fats + "g, Proteins: "
-                + this.proteins + "g)";
-        return result;
+        return format(this.name, this.carbos, this.fats, this.proteins);
     }
 }
@@ -1,13 +1,20 @@
 package seedu.address.model.food;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Represents a FoodIntake record.
+ * Each record has a surrogate ID, which identifies it for as long as the app runs. IDs are handed out afresh whenever
+ * records are created or loaded, so they are not saved and do not survive a restart.
  */
 public class FoodIntake {
+    private static final AtomicLong NEXT_ID = new AtomicLong();
+
+    private final long id;
     private LocalDate date;
     private Food food;
 
@@ -20,8 +27,13 @@ public class FoodIntake {
     public FoodIntake(LocalDate date, Food temporaryFood) {
         requireNonNull(date);
         requireNonNull(temporaryFood);
+        String name = temporaryFood.getName();
+        checkArgument(Food.isValidFoodName(name), Food.MESSAGE_CONSTRAINTS);
+        checkArgument(Food.isValidNumber(temporaryFood.getFats(), temporaryFood.getCarbos(),
+                temporaryFood.getProteins()), Food.MESSAGE_DIGIT_CONSTRAINTS);
+        this.id = NEXT_ID.getAndIncrement();
         this.date = date;
-        this.food = new Food(temporaryFood.getName(), temporaryFood.getCarbos(), temporaryFood.getFats(),
+        this.food = FoodPool.intern(name.toLowerCase(), temporaryFood.getCarbos(), temporaryFood.getFats(),
                 temporaryFood.getProteins());
     }
 
@@ -32,22 +44,84 @@ public class FoodIntake {
     public FoodIntake(LocalDate date, String name, double carbos, double fats, double proteins) {
         requireNonNull(date);
         requireNonNull(name);
+        this.id = NEXT_ID.getAndIncrement();
+        this.date = date;
+        this.food = FoodPool.intern(name, carbos, fats, proteins);
+    }
+
+    private FoodIntake(long id, LocalDate date, Food food) {
+        this.id = id;
         this.date = date;
-        Food food = new Food("TEMP", carbos, fats, proteins);
-        food.setName(name);
         this.food = food;
     }
 
+    /**
+     * Returns the surrogate ID of this record, which stays the same when its food name is renumbered, when it is
+     * added under a duplicate count and when its nutrients are updated. See the class comment for how long it lasts.
+     */
+    public long getId() {
+        return this.id;
+    }
+
+    /**
+     * Returns the Food consumed, which may be shared with other FoodIntakes and cannot be modified.
+     */
     public Food getFood() {
         return this.food;
     }
 
+    /**
+     * Returns a copy of this FoodIntake with the same ID, whose Food is renamed to {@code name}.
+     */
+    FoodIntake withFoodName(String name) {
+        requireNonNull(name);
+        return new FoodIntake(this.id, this.date,
+                FoodPool.intern(name, this.food.getCarbos(), this.food.getFats(), this.food.getProteins()));
+    }
+
+    /**
+     * Returns a copy of this FoodIntake that has the ID of {@code replaced}, to take its place in a list.
+     */
+    FoodIntake withIdOf(FoodIntake replaced) {
+        requireNonNull(replaced);
+        return new FoodIntake(replaced.id, this.date, this.food);
+    }
+
+    /**
+     * Renames the Food of this FoodIntake without affecting other FoodIntakes that share the same Food.
+     */
+    void renameFood(String name) {
+        requireNonNull(name);
+        this.food = FoodPool.intern(name, this.food.getCarbos(), this.food.getFats(), this.food.getProteins());
+    }
+
+    /**
+     * Puts back {@code food}, which this FoodIntake had before it was renamed.
+     */
+    void restoreFood(Food food) {
+        this.food = requireNonNull(food);
+    }
+
     public LocalDate getDate() {
         return this.date;
     }
 
     @Override
     public String toString() {
-        return this.food.toString() + ": " + String.format("%.2f", this.food.getKiloCalories()) + " calories";
+        return describe(this.food);
+    }
+
+    /**
+     * Describes a food intake of {@code food} the same way as {@link #toString()}.
+     */
+    public static String describe(Food food) {
+        return format(food.toString(), food.getKiloCalories());
+    }
+
+    /**
+     * Formats a food intake from its formatted food and its kilocalories the same way as {@link #toString()}.
+     */
+    static String format(String formattedFood, double kiloCalories) {
+        return formattedFood + ": " + String.format("%.2f", kiloCalories) + " calories";
     }
 }
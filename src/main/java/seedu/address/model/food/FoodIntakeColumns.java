@@ -0,0 +1,184 @@
+package seedu.address.model.food;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holds the records of a {@code FoodIntakeList} column by column in primitive arrays, in the same order as the list.
+ * Dates are stored as epoch days and food names are dictionary-encoded as ids, so that reports over long histories
+ * can scan flat arrays instead of following references to {@code FoodIntake}, {@code LocalDate} and {@code Food}.
+ * The owning list keeps the columns in step with every insertion and removal.
+ */
+public class FoodIntakeColumns {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final List<String> names = new ArrayList<>();
+    private final Map<String, Integer> nameIds = new HashMap<>();
+
+    private int size = 0;
+    private int[] epochDays = new int[INITIAL_CAPACITY];
+    private int[] foodNameIds = new int[INITIAL_CAPACITY];
+    private double[] carbos = new double[INITIAL_CAPACITY];
+    private double[] fats = new double[INITIAL_CAPACITY];
+    private double[] proteins = new double[INITIAL_CAPACITY];
+
+    /**
+     * Inserts a record at the given position, shifting later records along.
+     */
+    void insert(int index, FoodIntake foodIntake) {
+        requireNonNull(foodIntake);
+        assert index >= 0 && index <= this.size : "Index out of bounds";
+        ensureCapacity(this.size + 1);
+        int moved = this.size - index;
+        System.arraycopy(this.epochDays, index, this.epochDays, index + 1, moved);
+        System.arraycopy(this.foodNameIds, index, this.foodNameIds, index + 1, moved);
+        System.arraycopy(this.carbos, index, this.carbos, index + 1, moved);
+        System.arraycopy(this.fats, index, this.fats, index + 1, moved);
+        System.arraycopy(this.proteins, index, this.proteins, index + 1, moved);
+        write(index, foodIntake);
+        this.size++;
+    }
+
+    /**
+     * Removes the record at the given position, shifting later records back.
+     */
+    void remove(int index) {
+        assert index >= 0 && index < this.size : "Index out of bounds";
+        int moved = this.size - index - 1;
+        System.arraycopy(this.epochDays, index + 1, this.epochDays, index, moved);
+        System.arraycopy(this.foodNameIds, index + 1, this.foodNameIds, index, moved);
+        System.arraycopy(this.carbos, index + 1, this.carbos, index, moved);
+        System.arraycopy(this.fats, index + 1, this.fats, index, moved);
+        System.arraycopy(this.proteins, index + 1, this.proteins, index, moved);
+        this.size--;
+    }
+
+    /**
+     * Replaces every record with {@code foodIntakes}, in order.
+     */
+    void setAll(List<FoodIntake> foodIntakes) {
+        this.size = 0;
+        ensureCapacity(foodIntakes.size());
+        for (FoodIntake foodIntake : foodIntakes) {
+            write(this.size, foodIntake);
+            this.size++;
+        }
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public int getEpochDay(int index) {
+        checkIndex(index);
+        return this.epochDays[index];
+    }
+
+    public LocalDate getDate(int index) {
+        return LocalDate.ofEpochDay(getEpochDay(index));
+    }
+
+    public int getNameId(int index) {
+        checkIndex(index);
+        return this.foodNameIds[index];
+    }
+
+    /**
+     * Gets the food name with the given dictionary id.
+     */
+    public String getNameById(int nameId) {
+        return this.names.get(nameId);
+    }
+
+    public String getName(int index) {
+        return getNameById(getNameId(index));
+    }
+
+    public double getCarbos(int index) {
+        checkIndex(index);
+        return this.carbos[index];
+    }
+
+    public double getFats(int index) {
+        checkIndex(index);
+        return this.fats[index];
+    }
+
+    public double getProteins(int index) {
+        checkIndex(index);
+        return this.proteins[index];
+    }
+
+    /**
+     * Describes the record at the given position exactly as {@link FoodIntake#toString()} would.
+     */
+    public String describe(int index) {
+        double recordCarbos = getCarbos(index);
+        double recordFats = this.fats[index];
+        double recordProteins = this.proteins[index];
+        return FoodIntake.format(Food.format(getName(index), recordCarbos, recordFats, recordProteins),
+                Food.calculateKiloCalories(recordCarbos, recordFats, recordProteins));
+    }
+
+    /**
+     * Returns the position of the first record on or after the given date.
+     */
+    public int getFirstIndexOnOrAfter(LocalDate date) {
+        requireNonNull(date);
+        long epochDay = date.toEpochDay();
+        int low = 0;
+        int high = this.size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (this.epochDays[mid] < epochDay) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void write(int index, FoodIntake foodIntake) {
+        Food food = foodIntake.getFood();
+        this.epochDays[index] = Math.toIntExact(foodIntake.getDate().toEpochDay());
+        this.foodNameIds[index] = getOrCreateNameId(food.getName());
+        this.carbos[index] = food.getCarbos();
+        this.fats[index] = food.getFats();
+        this.proteins[index] = food.getProteins();
+    }
+
+    private int getOrCreateNameId(String name) {
+        Integer nameId = this.nameIds.get(name);
+        if (nameId == null) {
+            nameId = this.names.size();
+            this.names.add(name);
+            this.nameIds.put(name, nameId);
+        }
+        return nameId;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= this.epochDays.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, this.epochDays.length * 2);
+        this.epochDays = Arrays.copyOf(this.epochDays, newCapacity);
+        this.foodNameIds = Arrays.copyOf(this.foodNameIds, newCapacity);
+        this.carbos = Arrays.copyOf(this.carbos, newCapacity);
+        this.fats = Arrays.copyOf(this.fats, newCapacity);
+        this.proteins = Arrays.copyOf(this.proteins, newCapacity);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        }
+    }
+}
@@ -3,9 +3,22 @@ package seedu.address.model.food;
 import static java.util.Objects.requireNonNull;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -14,27 +27,54 @@ import javafx.collections.ObservableList;
 import seedu.address.logic.FoodIntakeComparator;
 import seedu.address.logic.FoodIntakeQueryProcessor;
 import seedu.address.model.food.exceptions.FoodIntakeNotFoundException;
+import seedu.address.model.util.ChangeVersion;
 import seedu.address.model.util.TemplateInitializer;
 
 /**
  * Represents a list of FoodIntakes starting from the specified date.
+ * The list is always kept in {@code FoodIntakeComparator} order, and a date-keyed index is maintained alongside it
+ * so that queries for a single day or a range of days only touch the matching records.
+ * Records sharing a date and base food name form a duplicate group, indexed by hash, whose members are numbered
+ * "name", "name #2", "name #3" and so on in the order they were added.
+ * <p>
+ * Older months of history may be left unloaded, to be faulted in through a {@code FoodIntakeSegmentLoader} when an
+ * operation first reaches one of their dates. Loading a month is not a change to the list.
  */
 public class FoodIntakeList {
     private static final String DATE_FORMAT = "d MMM yyyy";
     private static final String DUPLICATE_COUNT_PREFIX = "#";
     private static final String MATCH_DUPLICATE_COUNT_REGEX = "(.*)( #[0-9]*)$";
-    private ObservableList<FoodIntake> foodIntakeList;
+    private static final Pattern DUPLICATE_COUNT_PATTERN = Pattern.compile(MATCH_DUPLICATE_COUNT_REGEX);
+    private static final FoodIntakeComparator FOOD_INTAKE_COMPARATOR = new FoodIntakeComparator();
+    private static final int MAX_UNSAVED_CHANGES = 10000;
+
+    private final ObservableList<FoodIntake> foodIntakeList = FXCollections.observableArrayList();
+    private final ObservableList<FoodIntake> unmodifiableFoodIntakeList =
+            FXCollections.unmodifiableObservableList(foodIntakeList);
+    private final NavigableMap<LocalDate, List<FoodIntake>> foodIntakesByDate = new TreeMap<>();
+    private final Map<Long, FoodIntake> foodIntakesById = new HashMap<>();
+    private final Map<DuplicateGroupKey, List<FoodIntake>> duplicateGroups = new HashMap<>();
+    private final DailyMacroAggregates dailyMacroAggregates = new DailyMacroAggregates();
+    private final FoodIntakeColumns foodIntakeColumns = new FoodIntakeColumns();
+    private long version = ChangeVersion.next();
+    private final List<FoodIntakeListChange> unsavedChanges = new ArrayList<>();
+    private boolean isRewrittenSinceSave = true;
+    private final NavigableSet<YearMonth> unloadedMonths = new TreeSet<>();
+    private FoodIntakeSegmentLoader segmentLoader;
+    private FoodIntakeSnapshot snapshot = FoodIntakeSnapshot.EMPTY;
+    private final Set<LocalDate> datesChangedSinceSnapshot = new HashSet<>();
+    private boolean isReplacedSinceSnapshot = true;
 
     /**
      * Constructs a FoodIntakeList.
      */
     public FoodIntakeList() {
-        this.foodIntakeList = FXCollections.observableArrayList();
     }
 
     /**
      * Adds a FoodIntake object to the FoodIntakeList and retuns final FoodIntake food name.
-     * The FoodIntake's Food name may have been appended with a duplicate count.
+     * The FoodIntake's Food name may have been appended with a duplicate count, in which case a renamed copy with the
+     * same ID is added instead.
      *
      * @param foodIntake FoodIntake object to add to list
      *
@@ -43,20 +83,75 @@ public class FoodIntakeList {
     public Food addFoodIntake(FoodIntake foodIntake) {
         assert foodIntake != null : "FoodIntake cannot be null";
 
-        Food originalFood = foodIntake.getFood();
-        String originalName = getOriginalFoodName(originalFood.getName());
+        ensureLoaded(foodIntake.getDate(), foodIntake.getDate());
+        String originalName = getOriginalFoodName(foodIntake.getFood().getName());
         int foodIntakeItemCount = getFoodIntakeItemCount(foodIntake.getDate(), originalName);
 
         if (foodIntakeItemCount != 0) {
             String foodNameWithCount = originalName + " " + DUPLICATE_COUNT_PREFIX + (foodIntakeItemCount + 1);
-            foodIntake = new FoodIntake(foodIntake.getDate(), foodNameWithCount,
-                    originalFood.getCarbos(), originalFood.getFats(), originalFood.getProteins());
+            foodIntake = renameForAdding(foodIntake, foodNameWithCount, Collections.emptySet());
         }
-        this.foodIntakeList.add(foodIntake);
+        insertSorted(foodIntake);
+        addToIndexes(foodIntake);
+        updateDailyTotals(foodIntake.getDate());
+        this.version = ChangeVersion.next();
 
         return foodIntake.getFood();
     }
 
+    /**
+     * Adds many FoodIntake objects to the FoodIntakeList at once, and returns their final Foods in the same order.
+     * Duplicates are named as if the FoodIntakes were added one by one with {@link #addFoodIntake(FoodIntake)}, but
+     * the list and its indexes are rebuilt only once.
+     *
+     * @param foodIntakes FoodIntake objects to add to list
+     * @return final Foods of the added FoodIntakes
+     */
+    public List<Food> addFoodIntakes(List<FoodIntake> foodIntakes) {
+        requireNonNull(foodIntakes);
+        if (foodIntakes.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        LocalDate firstDate = foodIntakes.get(0).getDate();
+        LocalDate lastDate = firstDate;
+        for (FoodIntake foodIntake : foodIntakes) {
+            firstDate = foodIntake.getDate().isBefore(firstDate) ? foodIntake.getDate() : firstDate;
+            lastDate = foodIntake.getDate().isAfter(lastDate) ? foodIntake.getDate() : lastDate;
+        }
+        ensureLoaded(firstDate, lastDate);
+
+        Map<DuplicateGroupKey, Integer> addedCounts = new HashMap<>();
+        Set<Long> addedIds = new HashSet<>();
+        List<FoodIntake> addedFoodIntakes = new ArrayList<>(foodIntakes.size());
+        List<Food> addedFoods = new ArrayList<>(foodIntakes.size());
+        for (FoodIntake foodIntake : foodIntakes) {
+            String originalName = getOriginalFoodName(foodIntake.getFood().getName());
+            DuplicateGroupKey key = new DuplicateGroupKey(foodIntake.getDate(), originalName);
+            int foodIntakeItemCount = getDuplicateGroup(foodIntake.getDate(), originalName).size()
+                    + addedCounts.getOrDefault(key, 0);
+            if (foodIntakeItemCount != 0) {
+                String foodNameWithCount = originalName + " " + DUPLICATE_COUNT_PREFIX + (foodIntakeItemCount + 1);
+                foodIntake = renameForAdding(foodIntake, foodNameWithCount, addedIds);
+            }
+            addedCounts.put(key, addedCounts.getOrDefault(key, 0) + 1);
+            addedIds.add(foodIntake.getId());
+            addedFoodIntakes.add(foodIntake);
+            addedFoods.add(foodIntake.getFood());
+        }
+
+        List<FoodIntake> mergedFoodIntakes = new ArrayList<>(this.foodIntakeList);
+        mergedFoodIntakes.addAll(addedFoodIntakes);
+        // The sort is stable, so each added FoodIntake ends up after the equal ones, as insertSorted places it.
+        mergedFoodIntakes.sort(FOOD_INTAKE_COMPARATOR);
+        replaceContents(mergedFoodIntakes);
+        for (FoodIntake foodIntake : addedFoodIntakes) {
+            recordChange(FoodIntakeListChange.insert(foodIntake));
+        }
+        this.version = ChangeVersion.next();
+        return addedFoods;
+    }
+
     /**
      * Removes a FoodIntake item by the given date and FoodIntake Food name.
      *
@@ -66,22 +161,25 @@ public class FoodIntakeList {
     public void deleteFoodIntake(LocalDate date, String name) throws FoodIntakeNotFoundException {
         requireNonNull(date);
         requireNonNull(name);
-        FoodIntake foodIntake;
-
-        boolean found = false;
-        for (int i = 0; i < this.getFoodIntakeList().size(); i++) {
-            foodIntake = this.foodIntakeList.get(i);
-            if (foodIntake.getDate().isEqual(date) && foodIntake.getFood().getName().equals(name)) {
-                this.foodIntakeList.remove(i);
-                reorderDuplicateFoodNames(date, name);
-                found = true;
-                break;
-            }
-        }
 
-        if (!found) {
+        FoodIntake target = getFoodIntake(date, name).orElseThrow(FoodIntakeNotFoundException::new);
+        deleteFoodIntakeById(target.getId());
+    }
+
+    /**
+     * Removes the FoodIntake with the given surrogate ID, and renumbers the rest of its duplicate group.
+     *
+     * @param id ID returned by {@link FoodIntake#getId()}
+     */
+    public void deleteFoodIntakeById(long id) throws FoodIntakeNotFoundException {
+        FoodIntake target = this.foodIntakesById.get(id);
+        if (target == null) {
             throw new FoodIntakeNotFoundException();
         }
+        removeFromIndexes(removeAt(indexOf(target)));
+        updateDailyTotals(target.getDate());
+        reorderDuplicateFoodNames(target.getDate(), target.getFood().getName());
+        this.version = ChangeVersion.next();
     }
 
     /**
@@ -93,7 +191,31 @@ public class FoodIntakeList {
     public void updateFoodIntake(int index, FoodIntake foodIntake) throws FoodIntakeNotFoundException {
         requireNonNull(index);
         assert foodIntake != null : "FoodIntake cannot be null";
-        this.foodIntakeList.set(index, foodIntake);
+        FoodIntake target = this.foodIntakeList.get(index); // Fails fast on an invalid index.
+        updateFoodIntakeById(target.getId(), foodIntake);
+    }
+
+    /**
+     * Replaces the FoodIntake with the given surrogate ID by a copy of {@code foodIntake} that keeps the ID.
+     *
+     * @param id         ID returned by {@link FoodIntake#getId()}
+     * @param foodIntake FoodIntake object to replace it with
+     */
+    public void updateFoodIntakeById(long id, FoodIntake foodIntake) throws FoodIntakeNotFoundException {
+        assert foodIntake != null : "FoodIntake cannot be null";
+        FoodIntake target = this.foodIntakesById.get(id);
+        if (target == null) {
+            throw new FoodIntakeNotFoundException();
+        }
+        // Loading the new date's month may move the target, so its index is only found afterwards.
+        ensureLoaded(foodIntake.getDate(), foodIntake.getDate());
+        FoodIntake updated = foodIntake.withIdOf(target);
+        removeFromIndexes(removeAt(indexOf(target)));
+        insertSorted(updated);
+        addToIndexes(updated);
+        updateDailyTotals(target.getDate());
+        updateDailyTotals(updated.getDate());
+        this.version = ChangeVersion.next();
     }
 
     /**
@@ -102,13 +224,34 @@ public class FoodIntakeList {
      * @return index of FoodIntake
      */
     public int findFoodIntake(LocalDate date, String name) {
-        for (int i = 0; i < this.foodIntakeList.size(); i++) {
-            if (foodIntakeList.get(i).getDate().isEqual(date)
-                    && foodIntakeList.get(i).getFood().getName().equals(name)) {
-                return i;
+        return getFoodIntake(date, name).isPresent() ? getLowerBound(date, name) : -1;
+    }
+
+    /**
+     * Gets the FoodIntake with the matching date and name, loading its month first if needed.
+     *
+     * @return the matching FoodIntake, or an empty Optional if there is none
+     */
+    public Optional<FoodIntake> getFoodIntake(LocalDate date, String name) {
+        requireNonNull(date);
+        requireNonNull(name);
+        ensureLoaded(date, date);
+        for (FoodIntake foodIntake : getDuplicateGroup(date, getOriginalFoodName(name))) {
+            if (foodIntake.getFood().getName().equals(name)) {
+                return Optional.of(foodIntake);
             }
         }
-        return -1;
+        return Optional.empty();
+    }
+
+    /**
+     * Gets the FoodIntake with the given surrogate ID, if it is in this list and its month has been loaded.
+     *
+     * @param id ID returned by {@link FoodIntake#getId()}
+     * @return the matching FoodIntake, or an empty Optional if there is none
+     */
+    public Optional<FoodIntake> getFoodIntakeById(long id) {
+        return Optional.ofNullable(this.foodIntakesById.get(id));
     }
 
     /**
@@ -121,16 +264,8 @@ public class FoodIntakeList {
     public int getFoodIntakeItemCount(LocalDate date, String name) {
         requireNonNull(date);
         requireNonNull(name);
-        int count = 0;
-        FoodIntake foodIntake;
-        for (int i = 0; i < this.foodIntakeList.size(); i++) {
-            foodIntake = foodIntakeList.get(i);
-            if (foodIntake.getDate().isEqual(date)
-                    && getOriginalFoodName(foodIntake.getFood().getName()).equals(name)) {
-                count++;
-            }
-        }
-        return count;
+        ensureLoaded(date, date);
+        return getDuplicateGroup(date, name).size();
     }
 
     /**
@@ -138,8 +273,7 @@ public class FoodIntakeList {
      */
     public String getOriginalFoodName(String name) {
         requireNonNull(name);
-        Pattern pattern = Pattern.compile(MATCH_DUPLICATE_COUNT_REGEX);
-        Matcher matcher = pattern.matcher(name);
+        Matcher matcher = DUPLICATE_COUNT_PATTERN.matcher(name);
 
         if (!matcher.matches()) {
             return name;
@@ -150,35 +284,191 @@ public class FoodIntakeList {
 
     /**
      * Reorders duplicate food name counts for the given date and food name.
+     * Only the FoodIntakes in the matching duplicate group are renamed.
      */
     public void reorderDuplicateFoodNames(LocalDate date, String name) {
         requireNonNull(date);
         requireNonNull(name);
+        ensureLoaded(date, date);
         String originalFoodName = getOriginalFoodName(name);
-        FoodIntake foodIntake;
-        int count = 1;
-        for (int i = 0; i < this.foodIntakeList.size(); i++) {
-            foodIntake = foodIntakeList.get(i);
-            if (foodIntake.getDate().isEqual(date)
-                    && getOriginalFoodName(foodIntake.getFood().getName()).equals(originalFoodName)) {
-                if (count == 1) {
-                    foodIntake.getFood().setName(originalFoodName);
-                } else {
-                    foodIntake.getFood().setName(originalFoodName + " " + DUPLICATE_COUNT_PREFIX + count);
-                }
-                count++;
+        List<FoodIntake> duplicateGroup = getDuplicateGroup(date, originalFoodName);
+        for (int i = 0; i < duplicateGroup.size(); i++) {
+            FoodIntake foodIntake = duplicateGroup.get(i);
+            String expectedName = i == 0
+                    ? originalFoodName
+                    : originalFoodName + " " + DUPLICATE_COUNT_PREFIX + (i + 1);
+            if (!foodIntake.getFood().getName().equals(expectedName)) {
+                // Renaming can move the record, so take it out of the sorted list before changing its name.
+                removeAt(indexOf(foodIntake));
+                foodIntake.renameFood(expectedName);
+                insertSorted(foodIntake);
+                this.version = ChangeVersion.next();
             }
         }
     }
 
     /**
-     * Gets all FoodIntake object from the FoodIntakeList.
+     * Replaces the contents of this list with previously saved FoodIntakes in a single pass.
+     * Unlike {@link #addFoodIntake(FoodIntake)}, food names that already carry a duplicate count are kept as they are.
+     *
+     * @param foodIntakes saved FoodIntakes, ideally already in date and name order
+     */
+    public void loadFoodIntakes(List<FoodIntake> foodIntakes) {
+        requireNonNull(foodIntakes);
+        if (isSorted(foodIntakes)) {
+            setFoodIntakes(foodIntakes);
+        } else {
+            List<FoodIntake> sortedFoodIntakes = new ArrayList<>(foodIntakes);
+            sortedFoodIntakes.sort(FOOD_INTAKE_COMPARATOR);
+            setFoodIntakes(sortedFoodIntakes);
+        }
+    }
+
+    /**
+     * Makes the records of the given months available on demand instead of up front.
+     * The months must not overlap those of the records already in the list.
+     *
+     * @param months months whose records are not in the list yet
+     * @param segmentLoader loads the records of one of {@code months} when it is first needed
+     */
+    public void setUnloadedSegments(Collection<YearMonth> months, FoodIntakeSegmentLoader segmentLoader) {
+        requireNonNull(months);
+        requireNonNull(segmentLoader);
+        this.unloadedMonths.clear();
+        this.unloadedMonths.addAll(months);
+        this.segmentLoader = segmentLoader;
+        this.isReplacedSinceSnapshot = true;
+    }
+
+    /**
+     * Returns true if some months of history have not been loaded yet.
+     */
+    public boolean hasUnloadedSegments() {
+        return !this.unloadedMonths.isEmpty();
+    }
+
+    /**
+     * Loads every month of history that has not been loaded yet.
+     *
+     * @throws seedu.address.model.food.exceptions.FoodIntakeSegmentLoadException if a month cannot be loaded.
+     */
+    public void loadAllSegments() {
+        loadSegments(new ArrayList<>(this.unloadedMonths));
+    }
+
+    /**
+     * Gets all FoodIntake object from the FoodIntakeList that have been loaded, sorted by date and then by name.
+     * Months that have not been loaded yet are left out; see {@link #loadAllSegments()}.
      *
-     * @return all FoodIntake object in the list
+     * @return an unmodifiable view of all loaded FoodIntake object in the list
      */
     public ObservableList<FoodIntake> getFoodIntakeList() {
-        Collections.sort(this.foodIntakeList, new FoodIntakeComparator());
-        return this.foodIntakeList;
+        return this.unmodifiableFoodIntakeList;
+    }
+
+    /**
+     * Gets the FoodIntakes from {@code from} to {@code to} inclusive, sorted by date and then by name, loading their
+     * months first if needed.
+     *
+     * @return a copy of the matching FoodIntakes
+     */
+    public List<FoodIntake> getFoodIntakesBetween(LocalDate from, LocalDate to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        if (from.isAfter(to)) {
+            return new ArrayList<>();
+        }
+        ensureLoaded(from, to);
+        return new ArrayList<>(this.foodIntakeList.subList(getFirstIndexOfDate(from),
+                getFirstIndexOfDate(to.plusDays(1))));
+    }
+
+    /**
+     * Gets the change version of this list, which is different after every modification.
+     */
+    public long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Gets the record changes made since {@link #markChangesSaved()} was last called, in the order they were made.
+     * The changes are only complete if {@link #isRewrittenSinceSave()} is false.
+     */
+    public List<FoodIntakeListChange> getUnsavedChanges() {
+        return Collections.unmodifiableList(this.unsavedChanges);
+    }
+
+    /**
+     * Returns true if the list has been replaced as a whole, or has changed too much to be tracked change by change,
+     * since {@link #markChangesSaved()} was last called. A list that has never been saved is treated as rewritten.
+     */
+    public boolean isRewrittenSinceSave() {
+        return this.isRewrittenSinceSave;
+    }
+
+    /**
+     * Records that the current contents of the list have been saved, and starts tracking changes afresh.
+     */
+    public void markChangesSaved() {
+        this.unsavedChanges.clear();
+        this.isRewrittenSinceSave = false;
+    }
+
+    /**
+     * Gets an immutable copy of the loaded food intakes and their daily totals as they are now.
+     * Only the days changed since the previous snapshot are copied, and the other days are shared with it.
+     */
+    public FoodIntakeSnapshot createSnapshot() {
+        if (this.isReplacedSinceSnapshot) {
+            this.snapshot = FoodIntakeSnapshot.of(this.foodIntakesByDate, this.dailyMacroAggregates,
+                    this.unloadedMonths);
+        } else if (!this.datesChangedSinceSnapshot.isEmpty()) {
+            this.snapshot = this.snapshot.withChangedDays(this.datesChangedSinceSnapshot, this.foodIntakesByDate,
+                    this.dailyMacroAggregates);
+        }
+        this.datesChangedSinceSnapshot.clear();
+        this.isReplacedSinceSnapshot = false;
+        return this.snapshot;
+    }
+
+    /**
+     * Gets a snapshot like {@link #createSnapshot()}, after loading the months of history from {@code from} to
+     * {@code to}, so that the snapshot holds every food intake between them.
+     */
+    public FoodIntakeSnapshot createSnapshotLoadedBetween(LocalDate from, LocalDate to) {
+        loadSegmentsBetween(from, to);
+        return createSnapshot();
+    }
+
+    /**
+     * Loads the months of history from {@code from} to {@code to} that have not been loaded yet.
+     *
+     * @throws seedu.address.model.food.exceptions.FoodIntakeSegmentLoadException if a month cannot be loaded.
+     */
+    public void loadSegmentsBetween(LocalDate from, LocalDate to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        if (!from.isAfter(to)) {
+            ensureLoaded(from, to);
+        }
+    }
+
+    /**
+     * Gets the per-day nutrient totals of this list, which are kept up to date as the list changes.
+     * Every month of history is loaded first.
+     */
+    public DailyMacroAggregates getDailyMacroAggregates() {
+        loadAllSegments();
+        return this.dailyMacroAggregates;
+    }
+
+    /**
+     * Gets the columnar copy of this list, which is kept in the same order as {@link #getFoodIntakeList()}.
+     * Every month of history is loaded first.
+     */
+    public FoodIntakeColumns getFoodIntakeColumns() {
+        loadAllSegments();
+        return this.foodIntakeColumns;
     }
 
     /**
@@ -187,10 +477,11 @@ public class FoodIntakeList {
      * @return all FoodIntake items that are created in String output
      */
     public String getAllFoodIntakeList() {
+        loadAllSegments();
         StringBuilder stringBuilder = new StringBuilder();
-        ObservableList<FoodIntake> sortedFoodIntakeList = FXCollections.observableArrayList();
-        sortedFoodIntakeList = getFoodIntakeList();
-        FoodIntakeQueryProcessor foodIntakeQueryProcessor = new FoodIntakeQueryProcessor(sortedFoodIntakeList);
+        ObservableList<FoodIntake> sortedFoodIntakeList = getFoodIntakeList();
+        FoodIntakeQueryProcessor foodIntakeQueryProcessor = new FoodIntakeQueryProcessor(this.foodIntakeColumns,
+                0, this.foodIntakeColumns.size(), this.dailyMacroAggregates);
 
         LocalDate startDate;
         LocalDate endDate;
@@ -222,20 +513,15 @@ public class FoodIntakeList {
     public String getFoodIntakeListByDate(LocalDate date) {
         requireNonNull(date);
         StringBuilder stringBuilder = new StringBuilder();
-        Collections.sort(this.foodIntakeList, new FoodIntakeComparator());
         stringBuilder.append("Summary Food Intake for the Day ("
                 + date.format(DateTimeFormatter.ofPattern(DATE_FORMAT)) + "):\n");
 
-        ObservableList<FoodIntake> filterFoodIntakeList = FXCollections.observableArrayList();
-        for (int i = 0; i < this.foodIntakeList.size(); i++) {
-            if (foodIntakeList.get(i).getDate().isEqual(date)) {
-                filterFoodIntakeList.add(foodIntakeList.get(i));
-            } else if (foodIntakeList.get(i).getDate().isAfter(date)) {
-                break;
-            }
-        }
-        if (filterFoodIntakeList.size() > 0) {
-            FoodIntakeQueryProcessor foodIntakeQueryProcessor = new FoodIntakeQueryProcessor(filterFoodIntakeList);
+        ensureLoaded(date, date);
+        int dayIntakeCount = getDayIntakes(date).size();
+        if (dayIntakeCount > 0) {
+            int fromIndex = getFirstIndexOfDate(date);
+            FoodIntakeQueryProcessor foodIntakeQueryProcessor = new FoodIntakeQueryProcessor(this.foodIntakeColumns,
+                    fromIndex, fromIndex + dayIntakeCount, this.dailyMacroAggregates);
             stringBuilder.append(foodIntakeQueryProcessor.generateDayQuery());
         } else {
             stringBuilder.append("No record found during this date.");
@@ -253,24 +539,20 @@ public class FoodIntakeList {
     public String getFoodIntakeListByDateRange(LocalDate from, LocalDate to) {
         requireNonNull(from);
         requireNonNull(to);
-        Collections.sort(this.foodIntakeList, new FoodIntakeComparator());
         StringBuilder stringBuilder = new StringBuilder();
         stringBuilder.append("Summary Food Intake from ("
                 + from.format(DateTimeFormatter.ofPattern(DATE_FORMAT)) + ") to ("
                 + to.format(DateTimeFormatter.ofPattern(DATE_FORMAT)) + "):\n");
 
-        ObservableList<FoodIntake> filterFoodIntakeList = FXCollections.observableArrayList();
-
-        for (int i = 0; i < this.foodIntakeList.size(); i++) {
-            if ((foodIntakeList.get(i).getDate().isEqual(from) || foodIntakeList.get(i).getDate().isEqual(to))
-                    || (foodIntakeList.get(i).getDate().isAfter(from)
-                    && foodIntakeList.get(i).getDate().isBefore(to))) {
-                filterFoodIntakeList.add(foodIntakeList.get(i));
-            }
+        if (!from.isAfter(to)) {
+            ensureLoaded(from, to);
         }
+        int fromIndex = getFirstIndexOfDate(from);
+        int toIndex = from.isAfter(to) ? fromIndex : getFirstIndexOfDate(to.plusDays(1));
 
-        FoodIntakeQueryProcessor foodIntakeQueryProcessor = new FoodIntakeQueryProcessor(filterFoodIntakeList);
-        if (filterFoodIntakeList.size() > 0) {
+        FoodIntakeQueryProcessor foodIntakeQueryProcessor = new FoodIntakeQueryProcessor(this.foodIntakeColumns,
+                fromIndex, toIndex, this.dailyMacroAggregates);
+        if (toIndex > fromIndex) {
             stringBuilder.append(foodIntakeQueryProcessor.generateRangeOfDaysQuery());
         } else {
             stringBuilder.append("No record found during this period.");
@@ -279,19 +561,303 @@ public class FoodIntakeList {
         return stringBuilder.toString();
     }
 
+    /**
+     * Captures the current records, together with the months not loaded yet and the changes not saved yet, so that
+     * later changes can be undone with {@link #restoreCheckpoint(Checkpoint)}.
+     */
+    public Checkpoint createCheckpoint() {
+        return new Checkpoint(this);
+    }
+
+    /**
+     * Puts back the state captured in {@code checkpoint}, with the change version it had then, so that a list that
+     * was saved at the checkpoint is not saved again. Months loaded since the checkpoint are left unloaded again,
+     * to be loaded from storage when next needed.
+     */
+    public void restoreCheckpoint(Checkpoint checkpoint) {
+        requireNonNull(checkpoint);
+        // Records renamed since the checkpoint are the same objects, so their names are put back first.
+        for (int i = 0; i < checkpoint.foodIntakes.size(); i++) {
+            checkpoint.foodIntakes.get(i).restoreFood(checkpoint.foods.get(i));
+        }
+        replaceContents(checkpoint.foodIntakes);
+        this.unloadedMonths.clear();
+        this.unloadedMonths.addAll(checkpoint.unloadedMonths);
+        this.segmentLoader = checkpoint.segmentLoader;
+        this.unsavedChanges.clear();
+        this.unsavedChanges.addAll(checkpoint.unsavedChanges);
+        this.isRewrittenSinceSave = checkpoint.isRewrittenSinceSave;
+        this.version = checkpoint.version;
+    }
+
     /**
      * Resets the current foodIntakeList to a new empty list.
      */
     public void resetToTemplate() {
         TemplateInitializer templateInitializer = new TemplateInitializer();
-        this.foodIntakeList = templateInitializer.getFoodListIntakeTemplate().getFoodIntakeList();
+        setFoodIntakes(templateInitializer.getFoodListIntakeTemplate().getFoodIntakeList());
     }
 
     /**
      * Resets the current foodIntakeList to the default sample template content.
      */
     public void resetToBlank() {
-        this.foodIntakeList = FXCollections.observableArrayList();
+        setFoodIntakes(Collections.emptyList());
+    }
+
+    /**
+     * Replaces the whole history with {@code foodIntakes}, which must already be in {@code FoodIntakeComparator}
+     * order. Months that were not loaded yet are dropped.
+     */
+    private void setFoodIntakes(Collection<FoodIntake> foodIntakes) {
+        replaceContents(foodIntakes);
+        this.unloadedMonths.clear();
+        this.segmentLoader = null;
+        this.unsavedChanges.clear();
+        this.isRewrittenSinceSave = true;
+        this.version = ChangeVersion.next();
+    }
+
+    /**
+     * Loads the unloaded months of history that overlap the dates from {@code from} to {@code to}.
+     */
+    private void ensureLoaded(LocalDate from, LocalDate to) {
+        if (this.unloadedMonths.isEmpty()) {
+            return;
+        }
+        loadSegments(new ArrayList<>(this.unloadedMonths.subSet(YearMonth.from(from), true, YearMonth.from(to),
+                true)));
+    }
+
+    /**
+     * Merges the records of the given unloaded months into the list. A month stays unloaded if it fails to load.
+     */
+    private void loadSegments(List<YearMonth> months) {
+        if (months.isEmpty()) {
+            return;
+        }
+        List<FoodIntake> mergedFoodIntakes = new ArrayList<>(this.foodIntakeList);
+        for (YearMonth month : months) {
+            mergedFoodIntakes.addAll(this.segmentLoader.loadSegment(month));
+        }
+        mergedFoodIntakes.sort(FOOD_INTAKE_COMPARATOR);
+        replaceContents(mergedFoodIntakes);
+        this.unloadedMonths.removeAll(months);
+    }
+
+    /**
+     * Replaces the records of this list with {@code foodIntakes}, which must already be in
+     * {@code FoodIntakeComparator} order, and rebuilds the indexes.
+     */
+    private void replaceContents(Collection<FoodIntake> foodIntakes) {
+        this.foodIntakeList.setAll(foodIntakes);
+        this.foodIntakeColumns.setAll(this.foodIntakeList);
+        this.foodIntakesByDate.clear();
+        this.foodIntakesById.clear();
+        this.duplicateGroups.clear();
+        for (FoodIntake foodIntake : this.foodIntakeList) {
+            this.foodIntakesByDate.computeIfAbsent(foodIntake.getDate(), unused -> new ArrayList<>()).add(foodIntake);
+            addToIndexes(foodIntake);
+        }
+        this.dailyMacroAggregates.clear();
+        for (Map.Entry<LocalDate, List<FoodIntake>> entry : this.foodIntakesByDate.entrySet()) {
+            this.dailyMacroAggregates.updateDay(entry.getKey(), entry.getValue());
+        }
+        this.isReplacedSinceSnapshot = true;
+    }
+
+    /**
+     * Returns true if {@code foodIntakes} is already in {@code FoodIntakeComparator} order.
+     */
+    private static boolean isSorted(List<FoodIntake> foodIntakes) {
+        for (int i = 1; i < foodIntakes.size(); i++) {
+            if (FOOD_INTAKE_COMPARATOR.compare(foodIntakes.get(i - 1), foodIntakes.get(i)) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the FoodIntakes recorded on the given date in name order, or an empty list if there are none.
+     */
+    private List<FoodIntake> getDayIntakes(LocalDate date) {
+        return this.foodIntakesByDate.getOrDefault(date, Collections.emptyList());
+    }
+
+    /**
+     * Recomputes the nutrient totals of the given date after its FoodIntakes have changed.
+     */
+    private void updateDailyTotals(LocalDate date) {
+        this.dailyMacroAggregates.updateDay(date, getDayIntakes(date));
+    }
+
+    /**
+     * Returns the duplicate group for the given date and base name in duplicate count order,
+     * or an empty list if there is none.
+     */
+    private List<FoodIntake> getDuplicateGroup(LocalDate date, String originalName) {
+        return this.duplicateGroups.getOrDefault(new DuplicateGroupKey(date, originalName), Collections.emptyList());
+    }
+
+    /**
+     * Returns {@code foodIntake} renamed to {@code name} for adding to the list. The renamed copy keeps the caller's
+     * ID, so that the ID still finds the added record, unless a record with that ID is already in the list or in
+     * {@code addedIds}, as when the same FoodIntake is added twice.
+     */
+    private FoodIntake renameForAdding(FoodIntake foodIntake, String name, Set<Long> addedIds) {
+        if (this.foodIntakesById.containsKey(foodIntake.getId()) || addedIds.contains(foodIntake.getId())) {
+            Food food = foodIntake.getFood();
+            return new FoodIntake(foodIntake.getDate(), name, food.getCarbos(), food.getFats(), food.getProteins());
+        }
+        return foodIntake.withFoodName(name);
+    }
+
+    /**
+     * Adds a FoodIntake to the ID index and to its duplicate group, positioned by its current duplicate count.
+     */
+    private void addToIndexes(FoodIntake foodIntake) {
+        this.foodIntakesById.put(foodIntake.getId(), foodIntake);
+
+        String name = foodIntake.getFood().getName();
+        List<FoodIntake> duplicateGroup = this.duplicateGroups.computeIfAbsent(
+                new DuplicateGroupKey(foodIntake.getDate(), getOriginalFoodName(name)), unused -> new ArrayList<>());
+        int duplicateCount = getDuplicateCount(name);
+        int position = duplicateGroup.size();
+        while (position > 0
+                && getDuplicateCount(duplicateGroup.get(position - 1).getFood().getName()) > duplicateCount) {
+            position--;
+        }
+        duplicateGroup.add(position, foodIntake);
+    }
+
+    /**
+     * Removes a FoodIntake from the ID index and from its duplicate group.
+     */
+    private void removeFromIndexes(FoodIntake foodIntake) {
+        this.foodIntakesById.remove(foodIntake.getId());
+
+        DuplicateGroupKey key = new DuplicateGroupKey(foodIntake.getDate(),
+                getOriginalFoodName(foodIntake.getFood().getName()));
+        List<FoodIntake> duplicateGroup = this.duplicateGroups.get(key);
+        duplicateGroup.removeIf(member -> member == foodIntake);
+        if (duplicateGroup.isEmpty()) {
+            this.duplicateGroups.remove(key);
+        }
+    }
+
+    /**
+     * Returns the duplicate count encoded in a food name, where a name without a count is the first of its group.
+     */
+    private static int getDuplicateCount(String name) {
+        Matcher matcher = DUPLICATE_COUNT_PATTERN.matcher(name);
+        if (!matcher.matches() || matcher.group(2).length() <= 2) {
+            return 1;
+        }
+        try {
+            return Integer.parseInt(matcher.group(2).substring(2));
+        } catch (NumberFormatException e) {
+            return Integer.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Inserts a FoodIntake into the sorted list, its columnar copy and the date index without re-sorting them.
+     */
+    private void insertSorted(FoodIntake foodIntake) {
+        List<FoodIntake> dayIntakes = this.foodIntakesByDate.computeIfAbsent(foodIntake.getDate(),
+                unused -> new ArrayList<>());
+        int dayPosition = getInsertionPoint(dayIntakes, foodIntake);
+        int listPosition = getFirstIndexOfDate(foodIntake.getDate()) + dayPosition;
+        dayIntakes.add(dayPosition, foodIntake);
+        this.foodIntakeList.add(listPosition, foodIntake);
+        this.foodIntakeColumns.insert(listPosition, foodIntake);
+        this.datesChangedSinceSnapshot.add(foodIntake.getDate());
+        recordChange(FoodIntakeListChange.insert(foodIntake));
+    }
+
+    /**
+     * Removes the FoodIntake at the given index of the sorted list from the list, its columnar copy and the date
+     * index.
+     *
+     * @return the removed FoodIntake
+     */
+    private FoodIntake removeAt(int index) {
+        FoodIntake removed = this.foodIntakeList.remove(index);
+        this.foodIntakeColumns.remove(index);
+        List<FoodIntake> dayIntakes = this.foodIntakesByDate.get(removed.getDate());
+        dayIntakes.remove(index - getFirstIndexOfDate(removed.getDate()));
+        if (dayIntakes.isEmpty()) {
+            this.foodIntakesByDate.remove(removed.getDate());
+        }
+        this.datesChangedSinceSnapshot.add(removed.getDate());
+        recordChange(FoodIntakeListChange.remove(removed));
+        return removed;
+    }
+
+    /**
+     * Records a change for the next save, unless the list will be saved as a whole anyway.
+     * Once too many changes have built up, they are dropped and the list is treated as rewritten.
+     */
+    private void recordChange(FoodIntakeListChange change) {
+        if (this.isRewrittenSinceSave) {
+            return;
+        }
+        if (this.unsavedChanges.size() >= MAX_UNSAVED_CHANGES) {
+            this.unsavedChanges.clear();
+            this.isRewrittenSinceSave = true;
+            return;
+        }
+        this.unsavedChanges.add(change);
+    }
+
+    /**
+     * Returns the index of the given FoodIntake instance in the sorted list.
+     */
+    private int indexOf(FoodIntake foodIntake) {
+        int index = getLowerBound(foodIntake.getDate(), foodIntake.getFood().getName());
+        while (this.foodIntakeList.get(index) != foodIntake) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Returns the position at which {@code foodIntake} should be inserted to keep {@code sortedIntakes} sorted.
+     */
+    private static int getInsertionPoint(List<FoodIntake> sortedIntakes, FoodIntake foodIntake) {
+        int position = Collections.binarySearch(sortedIntakes, foodIntake, FOOD_INTAKE_COMPARATOR);
+        return position < 0 ? -(position + 1) : position + 1;
+    }
+
+    /**
+     * Returns the index in the sorted list of the first FoodIntake on or after the given date.
+     */
+    private int getFirstIndexOfDate(LocalDate date) {
+        return this.foodIntakeColumns.getFirstIndexOnOrAfter(date);
+    }
+
+    /**
+     * Returns the index in the sorted list of the first FoodIntake that is not ordered before
+     * the given date and food name.
+     */
+    private int getLowerBound(LocalDate date, String name) {
+        int low = 0;
+        int high = this.foodIntakeList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            FoodIntake foodIntake = this.foodIntakeList.get(mid);
+            int comparison = foodIntake.getDate().compareTo(date);
+            if (comparison == 0) {
+                comparison = foodIntake.getFood().getName().compareTo(name);
+            }
+            if (comparison < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
     }
 
     @Override
@@ -310,4 +876,60 @@ public class FoodIntakeList {
     public int hashCode() {
         return Objects.hash(foodIntakeList);
     }
+
+    /**
+     * The state of a {@code FoodIntakeList} at one point in time.
+     */
+    public static class Checkpoint {
+        private final List<FoodIntake> foodIntakes;
+        private final List<Food> foods;
+        private final List<YearMonth> unloadedMonths;
+        private final FoodIntakeSegmentLoader segmentLoader;
+        private final List<FoodIntakeListChange> unsavedChanges;
+        private final boolean isRewrittenSinceSave;
+        private final long version;
+
+        private Checkpoint(FoodIntakeList foodIntakeList) {
+            this.foodIntakes = new ArrayList<>(foodIntakeList.foodIntakeList);
+            this.foods = new ArrayList<>(this.foodIntakes.size());
+            for (FoodIntake foodIntake : this.foodIntakes) {
+                this.foods.add(foodIntake.getFood());
+            }
+            this.unloadedMonths = new ArrayList<>(foodIntakeList.unloadedMonths);
+            this.segmentLoader = foodIntakeList.segmentLoader;
+            this.unsavedChanges = new ArrayList<>(foodIntakeList.unsavedChanges);
+            this.isRewrittenSinceSave = foodIntakeList.isRewrittenSinceSave;
+            this.version = foodIntakeList.version;
+        }
+    }
+
+    /**
+     * Identifies a duplicate group by its date and base food name.
+     */
+    private static final class DuplicateGroupKey {
+        private final LocalDate date;
+        private final String originalName;
+
+        DuplicateGroupKey(LocalDate date, String originalName) {
+            this.date = date;
+            this.originalName = originalName;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof DuplicateGroupKey)) {
+                return false;
+            }
+            DuplicateGroupKey other = (DuplicateGroupKey) o;
+            return date.equals(other.date) && originalName.equals(other.originalName);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(date, originalName);
+        }
+    }
 }
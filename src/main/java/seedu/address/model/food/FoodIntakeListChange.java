@@ -0,0 +1,67 @@
+package seedu.address.model.food;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+
+/**
+ * Represents a single record inserted into or removed from a {@code FoodIntakeList}.
+ * Every modification of the list, including the renaming of duplicates, is a sequence of these changes, so replaying
+ * them in order on top of an earlier copy of the list reproduces its current records.
+ * Guarantees: immutable.
+ */
+public final class FoodIntakeListChange {
+
+    /**
+     * The kinds of change that can be made to a {@code FoodIntakeList}.
+     */
+    public enum Type {
+        INSERT, REMOVE
+    }
+
+    private final Type type;
+    private final LocalDate date;
+    private final Food food;
+
+    private FoodIntakeListChange(Type type, LocalDate date, Food food) {
+        requireNonNull(date);
+        requireNonNull(food);
+        this.type = type;
+        this.date = date;
+        this.food = food;
+    }
+
+    /**
+     * Returns the change that inserts the given FoodIntake, as it is at the time of the call.
+     */
+    static FoodIntakeListChange insert(FoodIntake foodIntake) {
+        return new FoodIntakeListChange(Type.INSERT, foodIntake.getDate(), foodIntake.getFood());
+    }
+
+    /**
+     * Returns the change that removes the given FoodIntake, as it is at the time of the call.
+     */
+    static FoodIntakeListChange remove(FoodIntake foodIntake) {
+        return new FoodIntakeListChange(Type.REMOVE, foodIntake.getDate(), foodIntake.getFood());
+    }
+
+    public Type getType() {
+        return this.type;
+    }
+
+    public LocalDate getDate() {
+        return this.date;
+    }
+
+    /**
+     * Gets the immutable food of the changed record.
+     */
+    public Food getFood() {
+        return this.food;
+    }
+
+    @Override
+    public String toString() {
+        return this.type + " " + this.date + " " + this.food.getName();
+    }
+}
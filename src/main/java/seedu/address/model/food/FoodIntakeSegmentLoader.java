@@ -0,0 +1,21 @@
+package seedu.address.model.food;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import seedu.address.model.food.exceptions.FoodIntakeSegmentLoadException;
+
+/**
+ * Loads the records of one month of food intake history that a {@code FoodIntakeList} has not loaded yet.
+ */
+@FunctionalInterface
+public interface FoodIntakeSegmentLoader {
+
+    /**
+     * Returns the records of the given month, in any order.
+     *
+     * @throws FoodIntakeSegmentLoadException if the records cannot be loaded.
+     */
+    List<FoodIntake> loadSegment(YearMonth month);
+
+}
@@ -0,0 +1,148 @@
+package seedu.address.model.food;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Holds the food intakes and daily nutrient totals of a {@code FoodIntakeList} at one point in time.
+ * Guarantees: immutable, so any thread can read it without locking.
+ * <p>
+ * The food intakes of each day are kept as their {@code Food}s in name order, as the Foods of food intakes are never
+ * modified while the food intakes themselves are renamed when duplicates are renumbered. A snapshot taken after a
+ * change shares the lists of the days that did not change with the previous snapshot, so only the changed days are
+ * copied. Months of history that had not been loaded when the snapshot was taken are left out of it.
+ */
+public final class FoodIntakeSnapshot {
+    public static final FoodIntakeSnapshot EMPTY = new FoodIntakeSnapshot(new TreeMap<>(), new TreeMap<>(),
+            new TreeSet<>(), 0);
+
+    private final TreeMap<LocalDate, List<Food>> foodsByDate;
+    private final TreeMap<LocalDate, MacroTotals> totalsByDate;
+    private final NavigableSet<YearMonth> unloadedMonths;
+    private final int size;
+
+    private FoodIntakeSnapshot(TreeMap<LocalDate, List<Food>> foodsByDate, TreeMap<LocalDate, MacroTotals> totalsByDate,
+                               NavigableSet<YearMonth> unloadedMonths, int size) {
+        this.foodsByDate = foodsByDate;
+        this.totalsByDate = totalsByDate;
+        this.unloadedMonths = Collections.unmodifiableNavigableSet(unloadedMonths);
+        this.size = size;
+    }
+
+    /**
+     * Creates a snapshot of every day in {@code foodIntakesByDate}.
+     */
+    static FoodIntakeSnapshot of(NavigableMap<LocalDate, List<FoodIntake>> foodIntakesByDate,
+                                 DailyMacroAggregates dailyMacroAggregates, Collection<YearMonth> unloadedMonths) {
+        TreeMap<LocalDate, List<Food>> foodsByDate = new TreeMap<>();
+        int size = 0;
+        for (Map.Entry<LocalDate, List<FoodIntake>> day : foodIntakesByDate.entrySet()) {
+            foodsByDate.put(day.getKey(), toFoods(day.getValue()));
+            size += day.getValue().size();
+        }
+        return new FoodIntakeSnapshot(foodsByDate, new TreeMap<>(dailyMacroAggregates.getAllDayTotals()),
+                new TreeSet<>(unloadedMonths), size);
+    }
+
+    /**
+     * Returns a snapshot in which the days in {@code changedDates} are copied again from {@code foodIntakesByDate},
+     * and every other day is shared with this snapshot.
+     */
+    FoodIntakeSnapshot withChangedDays(Collection<LocalDate> changedDates,
+                                       NavigableMap<LocalDate, List<FoodIntake>> foodIntakesByDate,
+                                       DailyMacroAggregates dailyMacroAggregates) {
+        TreeMap<LocalDate, List<Food>> changedFoodsByDate = new TreeMap<>(this.foodsByDate);
+        TreeMap<LocalDate, MacroTotals> changedTotalsByDate = new TreeMap<>(this.totalsByDate);
+        int changedSize = this.size;
+        for (LocalDate date : changedDates) {
+            List<Food> previousFoods = changedFoodsByDate.remove(date);
+            changedTotalsByDate.remove(date);
+            changedSize -= previousFoods == null ? 0 : previousFoods.size();
+
+            List<FoodIntake> dayIntakes = foodIntakesByDate.get(date);
+            if (dayIntakes != null) {
+                changedFoodsByDate.put(date, toFoods(dayIntakes));
+                changedTotalsByDate.put(date, dailyMacroAggregates.getDayTotals(date));
+                changedSize += dayIntakes.size();
+            }
+        }
+        return new FoodIntakeSnapshot(changedFoodsByDate, changedTotalsByDate, new TreeSet<>(this.unloadedMonths),
+                changedSize);
+    }
+
+    private static List<Food> toFoods(List<FoodIntake> dayIntakes) {
+        Food[] foods = new Food[dayIntakes.size()];
+        for (int i = 0; i < foods.length; i++) {
+            foods[i] = dayIntakes.get(i).getFood();
+        }
+        return List.of(foods);
+    }
+
+    /**
+     * Returns the number of food intakes in this snapshot.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns true if every month from {@code from} to {@code to} had been loaded when this snapshot was taken, so
+     * that this snapshot holds all of their food intakes.
+     */
+    public boolean isLoadedBetween(LocalDate from, LocalDate to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        return from.isAfter(to)
+                || this.unloadedMonths.subSet(YearMonth.from(from), true, YearMonth.from(to), true).isEmpty();
+    }
+
+    /**
+     * Returns true if every month of history had been loaded when this snapshot was taken.
+     */
+    public boolean isFullyLoaded() {
+        return this.unloadedMonths.isEmpty();
+    }
+
+    /**
+     * Gets the Foods of the food intakes of each day from {@code from} to {@code to} inclusive, in date order and
+     * then in name order. Only days with at least one food intake are included.
+     */
+    public NavigableMap<LocalDate, List<Food>> getFoodsByDateBetween(LocalDate from, LocalDate to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        if (from.isAfter(to)) {
+            return Collections.emptyNavigableMap();
+        }
+        return Collections.unmodifiableNavigableMap(this.foodsByDate.subMap(from, true, to, true));
+    }
+
+    /**
+     * Gets the totals of each day from {@code from} to {@code to} inclusive that has at least one food intake, in
+     * date order.
+     */
+    public NavigableMap<LocalDate, MacroTotals> getDayTotalsBetween(LocalDate from, LocalDate to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        if (from.isAfter(to)) {
+            return Collections.emptyNavigableMap();
+        }
+        return Collections.unmodifiableNavigableMap(this.totalsByDate.subMap(from, true, to, true));
+    }
+
+    /**
+     * Gets the totals of every day with at least one food intake, in date order.
+     */
+    public NavigableMap<LocalDate, MacroTotals> getAllDayTotals() {
+        return Collections.unmodifiableNavigableMap(this.totalsByDate);
+    }
+}
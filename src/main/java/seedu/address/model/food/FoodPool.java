@@ -0,0 +1,111 @@
+package seedu.address.model.food;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interns the immutable {@code Food} values referenced by food intakes, so that intakes of the same food with the
+ * same nutrients share a single {@code Food} object.
+ * The pool only holds its foods weakly, so a food is released once no food intake refers to it any more, such as
+ * after its intakes are deleted or a profile is unloaded, and its entry is removed on a later call.
+ */
+final class FoodPool {
+    private static final Map<Key, FoodReference> POOL = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<Food> RELEASED_FOODS = new ReferenceQueue<>();
+
+    private FoodPool() {
+    }
+
+    /**
+     * Returns the shared immutable food with the given name and nutrients, creating it if necessary.
+     */
+    static Food intern(String name, double carbos, double fats, double proteins) {
+        requireNonNull(name);
+        removeReleasedFoods();
+        Key key = new Key(name, carbos, fats, proteins);
+        while (true) {
+            FoodReference reference = POOL.get(key);
+            Food food = reference == null ? null : reference.get();
+            if (food != null) {
+                return food;
+            }
+            // Another thread may intern the same food meanwhile, in which case its food is used instead.
+            Food createdFood = Food.createImmutable(name, carbos, fats, proteins);
+            FoodReference createdReference = new FoodReference(key, createdFood);
+            boolean isStored = reference == null
+                    ? POOL.putIfAbsent(key, createdReference) == null
+                    : POOL.replace(key, reference, createdReference);
+            if (isStored) {
+                return createdFood;
+            }
+        }
+    }
+
+    /**
+     * Removes the entries of the foods that have been released since the last call.
+     */
+    private static void removeReleasedFoods() {
+        Reference<? extends Food> released;
+        while ((released = RELEASED_FOODS.poll()) != null) {
+            FoodReference reference = (FoodReference) released;
+            POOL.remove(reference.key, reference);
+        }
+    }
+
+    /**
+     * Weakly refers to an interned food, and remembers its key so that its entry can be removed once it is released.
+     */
+    private static final class FoodReference extends WeakReference<Food> {
+        private final Key key;
+
+        FoodReference(Key key, Food food) {
+            super(food, RELEASED_FOODS);
+            this.key = key;
+        }
+    }
+
+    /**
+     * Identifies an interned food by its name and nutrients.
+     */
+    private static final class Key {
+        private final String name;
+        private final double carbos;
+        private final double fats;
+        private final double proteins;
+
+        Key(String name, double carbos, double fats, double proteins) {
+            this.name = name;
+            this.carbos = carbos;
+            this.fats = fats;
+            this.proteins = proteins;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return name.equals(other.name)
+                    && Double.compare(carbos, other.carbos) == 0
+                    && Double.compare(fats, other.fats) == 0
+                    && Double.compare(proteins, other.proteins) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = name.hashCode();
+            result = 31 * result + Double.hashCode(carbos);
+            result = 31 * result + Double.hashCode(fats);
+            return 31 * result + Double.hashCode(proteins);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.model.food;
+
+/**
+ * Represents the total carbos, fats and proteins of a group of FoodIntakes.
+ * Guarantees: immutable.
+ */
+public final class MacroTotals {
+    public static final MacroTotals ZERO = new MacroTotals(0, 0, 0);
+
+    private final double carbos;
+    private final double fats;
+    private final double proteins;
+
+    /**
+     * Creates a MacroTotals with the given nutrient totals.
+     *
+     * @param carbos   total carbos in grams
+     * @param fats     total fats in grams
+     * @param proteins total proteins in grams
+     */
+    public MacroTotals(double carbos, double fats, double proteins) {
+        this.carbos = carbos;
+        this.fats = fats;
+        this.proteins = proteins;
+    }
+
+    public double getCarbos() {
+        return this.carbos;
+    }
+
+    public double getFats() {
+        return this.fats;
+    }
+
+    public double getProteins() {
+        return this.proteins;
+    }
+
+    /**
+     * Gets the total energy of these nutrients in kilocalories.
+     */
+    public double getKiloCalories() {
+        return this.carbos * Food.PROTEIN_AND_CARBOS_MULTIPLIER + this.fats * Food.FAT_MULTIPLIER
+                + this.proteins * Food.PROTEIN_AND_CARBOS_MULTIPLIER;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof MacroTotals)) {
+            return false;
+        }
+        MacroTotals otherTotals = (MacroTotals) other;
+        return Double.compare(carbos, otherTotals.carbos) == 0
+                && Double.compare(fats, otherTotals.fats) == 0
+                && Double.compare(proteins, otherTotals.proteins) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Double.hashCode(carbos) * 31 * 31 + Double.hashCode(fats) * 31 + Double.hashCode(proteins);
+    }
+
+    @Override
+    public String toString() {
+        return "Carbos: " + carbos + "g, Fats: " + fats + "g, Proteins: " + proteins + "g";
+    }
+}
@@ -1,27 +1,49 @@
 package seedu.address.model.food;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.food.exceptions.FoodItemNotFoundException;
+import seedu.address.model.util.ChangeVersion;
 import seedu.address.model.util.TemplateInitializer;
 
+/**
+ * Represents the list of food items known to the user, each with a unique name.
+ * A hash index from food name to list position is kept consistent with the list, so that lookups by name
+ * do not need to scan the list.
+ */
 public class UniqueFoodList {
 
-    private ObservableList<Food> foodList;
+    private final ObservableList<Food> foodList = FXCollections.observableArrayList();
+    private final ObservableList<Food> unmodifiableFoodList = FXCollections.unmodifiableObservableList(foodList);
+    private final Map<String, Integer> foodIndexByName = new HashMap<>();
+    private long version = ChangeVersion.next();
 
     public UniqueFoodList() {
-        foodList = FXCollections.observableArrayList();
     }
 
     /**
      * Views food list.
      *
-     * @return food list
+     * @return an unmodifiable view of the food list
      */
     public ObservableList<Food> getFoodList() {
-        return this.foodList;
+        return this.unmodifiableFoodList;
+    }
+
+    /**
+     * Gets the change version of this list, which is different after every modification.
+     */
+    public long getVersion() {
+        return this.version;
     }
 
     /**
@@ -31,26 +53,63 @@ public class UniqueFoodList {
      * @return success message
      */
     public String addFoodItem(Food foodItem) {
+        requireNonNull(foodItem);
+        this.foodIndexByName.putIfAbsent(foodItem.getName(), this.foodList.size());
         this.foodList.add(foodItem);
+        this.version = ChangeVersion.next();
         String result = "Success adding " + foodItem.getName() + " to food list.";
         return result;
     }
 
+    /**
+     * Adds many food items into the food list at once, in order, with a single change to the observable list.
+     *
+     * @param foodItems food items
+     */
+    public void addFoodItems(Collection<Food> foodItems) {
+        requireNonNull(foodItems);
+        if (foodItems.isEmpty()) {
+            return;
+        }
+        int fromIndex = this.foodList.size();
+        this.foodList.addAll(foodItems);
+        for (int i = fromIndex; i < this.foodList.size(); i++) {
+            this.foodIndexByName.putIfAbsent(this.foodList.get(i).getName(), i);
+        }
+        this.version = ChangeVersion.next();
+    }
+
     /**
      * Updates the relevant info of the food into the food list.
+     * The food item is replaced by an updated copy rather than changed in place, so that checkpoints, which share
+     * the food items, keep the nutrients they had.
      *
      * @param foodItem updated food item
      */
     public void updateFoodItem(Food foodItem) {
-        for (Food food : this.foodList) {
-            if (food.getName().equals(foodItem.getName())) {
-                food.updateCarbos(foodItem.getCarbos());
-                food.updateFats(foodItem.getFats());
-                food.updateProteins(foodItem.getProteins());
-                return;
-            }
+        int index = getFoodItemIndex(foodItem.getName());
+        if (index == -1) {
+            throw new FoodItemNotFoundException();
         }
-        throw new FoodItemNotFoundException();
+        Food food = this.foodList.get(index).copy();
+        food.updateCarbos(foodItem.getCarbos());
+        food.updateFats(foodItem.getFats());
+        food.updateProteins(foodItem.getProteins());
+        this.foodList.set(index, food);
+        this.version = ChangeVersion.next();
+    }
+
+    /**
+     * Replaces the food item at the given index with a food item of the same name.
+     *
+     * @param index    index of the food item to replace
+     * @param foodItem replacement food item
+     */
+    public void setFoodItem(int index, Food foodItem) {
+        requireNonNull(foodItem);
+        assert this.foodList.get(index).getName().equals(foodItem.getName()) : "Food name cannot be changed";
+        this.foodList.set(index, foodItem);
+        this.version = ChangeVersion.next();
     }
 
     /**
@@ -59,12 +118,7 @@ public class UniqueFoodList {
      * @return true or false on whether a match is found
      */
     public boolean hasFoodItem(Food foodItem) {
-        for (Food food : this.foodList) {
-            if (food.getName().equals(foodItem.getName())) {
-                return true;
-            }
-        }
-        return false;
+        return this.foodIndexByName.containsKey(foodItem.getName());
     }
 
     /**
@@ -74,21 +128,30 @@ public class UniqueFoodList {
      * @return positive index if found, otherwise return -1
      */
     public int getFoodItemIndex(String foodName) {
-        for (int i = 0; i < this.foodList.size(); i++) {
-            if (this.foodList.get(i).getName().equals(foodName)) {
-                return i;
-            }
-        }
-        return -1;
+        return this.foodIndexByName.getOrDefault(foodName, -1);
     }
 
     /**
      * Deletes a food item from the food list based on the food name.
+     * Takes time in proportion to the number of items after it, which the list itself shifts down by one.
      *
      * @param index food item index
      */
     public void deleteFoodItem(int index) {
-        this.foodList.remove(index);
+        Food removedItem = this.foodList.remove(index);
+        if (this.foodIndexByName.get(removedItem.getName()) == index) {
+            this.foodIndexByName.remove(removedItem.getName());
+        }
+        // Only the entries of later items move. An entry that still points one past an item is that item's own;
+        // a name with no entry had its first occurrence removed, so the item takes its place.
+        for (int i = index; i < this.foodList.size(); i++) {
+            String name = this.foodList.get(i).getName();
+            Integer indexedPosition = this.foodIndexByName.get(name);
+            if (indexedPosition == null || indexedPosition == i + 1) {
+                this.foodIndexByName.put(name, i);
+            }
+        }
+        this.version = ChangeVersion.next();
     }
 
     /**
@@ -111,14 +174,54 @@ public class UniqueFoodList {
      */
     public void resetToTemplate() {
         TemplateInitializer templateInitializer = new TemplateInitializer();
-        this.foodList = templateInitializer.getUniqueFoodListTemplate().getFoodList();
+        setFoodItems(templateInitializer.getUniqueFoodListTemplate().getFoodList());
     }
 
     /**
      * Resets the current foodList to a new empty list.
      */
     public void resetToBlank() {
-        this.foodList = FXCollections.observableArrayList();
+        this.foodList.clear();
+        this.foodIndexByName.clear();
+        this.version = ChangeVersion.next();
+    }
+
+    /**
+     * Captures the current food items, so that later changes can be undone with
+     * {@link #restoreCheckpoint(Checkpoint)}.
+     */
+    public Checkpoint createCheckpoint() {
+        return new Checkpoint(new ArrayList<>(this.foodList), this.version);
+    }
+
+    /**
+     * Puts back the food items captured in {@code checkpoint}, with the change version they had then, so that a
+     * list that was saved at the checkpoint is not saved again.
+     */
+    public void restoreCheckpoint(Checkpoint checkpoint) {
+        requireNonNull(checkpoint);
+        setFoodItems(checkpoint.foodItems);
+        this.version = checkpoint.version;
+    }
+
+    /**
+     * Replaces the contents of this list with {@code foodItems} and rebuilds the name index.
+     */
+    private void setFoodItems(Collection<Food> foodItems) {
+        this.foodList.setAll(foodItems);
+        rebuildIndex();
+        this.version = ChangeVersion.next();
+    }
+
+    /**
+     * Rebuilds the name index for every food item.
+     * Where names repeat, the index keeps pointing at the first occurrence, as a linear search would.
+     */
+    private void rebuildIndex() {
+        this.foodIndexByName.clear();
+        for (int i = 0; i < this.foodList.size(); i++) {
+            this.foodIndexByName.putIfAbsent(this.foodList.get(i).getName(), i);
+        }
     }
 
     @Override
@@ -138,4 +241,17 @@ public class UniqueFoodList {
         return Objects.hash(foodList);
     }
 
+
+    /**
+     * The food items of a {@code UniqueFoodList} at one point in time.
+     */
+    public static class Checkpoint {
+        private final List<Food> foodItems;
+        private final long version;
+
+        private Checkpoint(List<Food> foodItems, long version) {
+            this.foodItems = foodItems;
+            this.version = version;
+        }
+    }
 }
@@ -0,0 +1,12 @@
+package seedu.address.model.food.exceptions;
+
+import java.time.YearMonth;
+
+/**
+ * Signals that the records of a month of food intake history that had not been loaded yet could not be loaded.
+ */
+public class FoodIntakeSegmentLoadException extends RuntimeException {
+    public FoodIntakeSegmentLoadException(YearMonth month, Throwable cause) {
+        super("Food intake history for " + month + " could not be loaded: " + cause.getMessage(), cause);
+    }
+}
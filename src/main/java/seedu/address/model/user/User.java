@@ -9,6 +9,7 @@ import java.util.List;
 import seedu.address.model.diet.DietPlan;
 import seedu.address.model.food.Food;
 import seedu.address.model.food.FoodIntakeList;
+import seedu.address.model.util.ChangeVersion;
 
 /**
  * Handles the representation of the User class in DieTrack.
@@ -25,6 +26,7 @@ public class User {
     private final List<Food> foodList;
     private FoodIntakeList foodIntakeList;
     private DietPlan activeDietPlan;
+    private long version = ChangeVersion.next();
 
     /**
      * Dummy
@@ -94,11 +96,37 @@ public class User {
      */
     public FoodIntakeList setFoodIntakeList(FoodIntakeList list) {
         this.foodIntakeList = list;
+        this.version = ChangeVersion.next();
         return list;
     }
 
     public void setActiveDietPlan(DietPlan dietPlan) {
         this.activeDietPlan = dietPlan;
+        this.version = ChangeVersion.next();
+    }
+
+    /**
+     * Gets the change version of this user, which is different after every modification.
+     */
+    public long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Captures the parts of this user that can change, so that later changes can be undone with
+     * {@link #restoreCheckpoint(Checkpoint)}.
+     */
+    public Checkpoint createCheckpoint() {
+        return new Checkpoint(this.foodIntakeList, this.activeDietPlan, this.version);
+    }
+
+    /**
+     * Puts back the state captured in {@code checkpoint}, with the change version it had then.
+     */
+    public void restoreCheckpoint(Checkpoint checkpoint) {
+        this.foodIntakeList = checkpoint.foodIntakeList;
+        this.activeDietPlan = checkpoint.activeDietPlan;
+        this.version = checkpoint.version;
     }
 
     public String getLastUpdated() {
@@ -124,4 +152,19 @@ public class User {
         return otherUser.getBmi().equals(getBmi())
                 && otherUser.getFoodList().equals(getFoodList());
     }
+
+    /**
+     * The changeable state of a {@code User} at one point in time.
+     */
+    public static class Checkpoint {
+        private final FoodIntakeList foodIntakeList;
+        private final DietPlan activeDietPlan;
+        private final long version;
+
+        private Checkpoint(FoodIntakeList foodIntakeList, DietPlan activeDietPlan, long version) {
+            this.foodIntakeList = foodIntakeList;
+            this.activeDietPlan = activeDietPlan;
+            this.version = version;
+        }
+    }
 }
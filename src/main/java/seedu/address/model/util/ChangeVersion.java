@@ -0,0 +1,23 @@
+package seedu.address.model.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands out change versions for the model's collections.
+ * Versions come from a single increasing counter, so a collection that is replaced by another object never
+ * repeats a version that was seen before, and the largest version among several collections changes whenever
+ * any one of them changes.
+ */
+public final class ChangeVersion {
+    private static final AtomicLong LATEST_VERSION = new AtomicLong();
+
+    private ChangeVersion() {
+    }
+
+    /**
+     * Returns a new version, greater than every version returned before it.
+     */
+    public static long next() {
+        return LATEST_VERSION.incrementAndGet();
+    }
+}
@@ -32,23 +32,29 @@ public class TemplateInitializer {
     private DietPlanList dietPlanListTemplate;
 
     /**
-     * Initialises a TemplateInitializer instance.
+     * Initialises a TemplateInitializer instance. Each template is only created the first time it is asked for.
      */
     public TemplateInitializer() {
-        this.uniqueFoodListTemplate = createFoodTemplate();
-        this.foodIntakeListTemplate = createFoodIntakeTemplate();
-        this.dietPlanListTemplate = createDietPlanTemplate();
     }
 
     public UniqueFoodList getUniqueFoodListTemplate() {
+        if (this.uniqueFoodListTemplate == null) {
+            this.uniqueFoodListTemplate = createFoodTemplate();
+        }
         return this.uniqueFoodListTemplate;
     }
 
     public FoodIntakeList getFoodListIntakeTemplate() {
+        if (this.foodIntakeListTemplate == null) {
+            this.foodIntakeListTemplate = createFoodIntakeTemplate();
+        }
         return this.foodIntakeListTemplate;
     }
 
     public DietPlanList getDietPlanListTemplate() {
+        if (this.dietPlanListTemplate == null) {
+            this.dietPlanListTemplate = createDietPlanTemplate();
+        }
         return this.dietPlanListTemplate;
     }
 
@@ -85,18 +91,17 @@ public class TemplateInitializer {
 
     /**
      * Creates a simple Food Intake template for first-time use. FoodIntakeList is assumed to have 3 elements
-     * because of the creation of food template happening first.
+     * because it is built from the food list template.
      *
      * @return FoodIntakeList template
      */
     public FoodIntakeList createFoodIntakeTemplate() {
-        assert this.uniqueFoodListTemplate.getFoodList().size() == 3
+        UniqueFoodList foodListTemplate = getUniqueFoodListTemplate();
+        assert foodListTemplate.getFoodList().size() == 3
                 : "Unique food list template is not created properly.";
-        FoodIntake firstFoodIntake = new FoodIntake(LocalDate.now(), this.uniqueFoodListTemplate.getFoodList().get(0));
-        FoodIntake secondFoodIntake = new FoodIntake(LocalDate.now(),
-                this.uniqueFoodListTemplate.getFoodList().get(1));
-        FoodIntake thirdFoodIntake = new FoodIntake(LocalDate.now(),
-                this.uniqueFoodListTemplate.getFoodList().get(2));
+        FoodIntake firstFoodIntake = new FoodIntake(LocalDate.now(), foodListTemplate.getFoodList().get(0));
+        FoodIntake secondFoodIntake = new FoodIntake(LocalDate.now(), foodListTemplate.getFoodList().get(1));
+        FoodIntake thirdFoodIntake = new FoodIntake(LocalDate.now(), foodListTemplate.getFoodList().get(2));
         FoodIntakeList foodIntakeList = new FoodIntakeList();
         foodIntakeList.addFoodIntake(firstFoodIntake);
         foodIntakeList.addFoodIntake(secondFoodIntake);
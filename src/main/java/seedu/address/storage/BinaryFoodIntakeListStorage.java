@@ -0,0 +1,232 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.food.Food;
+import seedu.address.model.food.FoodIntake;
+import seedu.address.model.food.FoodIntakeList;
+
+/**
+ * A class to access FoodIntakeList data stored as a compact binary file on the hard disk.
+ * <p>
+ * After the header, the file holds a dictionary of the distinct food names, followed by the records in list order.
+ * Each record is the difference between its epoch day and that of the record before it, the dictionary id of its food
+ * name, and its carbohydrates, fats and proteins as fixed-width doubles. Every save rewrites the whole file, which is
+ * small enough that this is cheaper than keeping a journal.
+ * <p>
+ * If the binary file does not exist yet, the list is imported from the json storage given at construction, if any,
+ * and is written in binary form on the next save.
+ */
+public class BinaryFoodIntakeListStorage implements FoodIntakeListStorage {
+
+    public static final int MAGIC = 0x444C4649; // "DLFI"
+    public static final int FORMAT_VERSION = 1;
+
+    public static final String MESSAGE_INVALID_NAME = "Food intake file has an invalid food name: %s";
+    public static final String MESSAGE_INVALID_RECORD = "Food intake file has an invalid record: %s";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryFoodIntakeListStorage.class);
+
+    private final Path filePath;
+    private final FoodIntakeListStorage importStorage;
+
+    public BinaryFoodIntakeListStorage(Path filePath) {
+        this(filePath, null);
+    }
+
+    /**
+     * Creates a storage that imports the list from {@code importStorage} while the binary file does not exist.
+     */
+    public BinaryFoodIntakeListStorage(Path filePath, FoodIntakeListStorage importStorage) {
+        this.filePath = filePath;
+        this.importStorage = importStorage;
+    }
+
+    @Override
+    public Path getFoodIntakeListFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<FoodIntakeList> readFoodIntakeList() throws DataConversionException, IOException {
+        if (!FileUtil.isFileExists(filePath) && importStorage != null) {
+            logger.info("Binary food intake file " + filePath + " not found, importing from "
+                    + importStorage.getFoodIntakeListFilePath());
+            return importStorage.readFoodIntakeList();
+        }
+        return readFoodIntakeList(filePath);
+    }
+
+    /**
+     * Similar to {@link #readFoodIntakeList()}, but never imports.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<FoodIntakeList> readFoodIntakeList(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!FileUtil.isFileExists(filePath)) {
+            logger.info("Food intake file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        long startTime = System.nanoTime();
+        try {
+            FoodIntakeList foodIntakeList = new FoodIntakeList();
+            foodIntakeList.loadFoodIntakes(decode(BinaryStorageUtil.readFully(filePath)));
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+            logger.info("Loaded " + foodIntakeList.getFoodIntakeList().size() + " food intake records from "
+                    + filePath + " in " + elapsedMillis + " ms");
+            return Optional.of(foodIntakeList);
+        } catch (IOException e) {
+            logger.warning("Error reading from binary food intake file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveFoodIntakeList(FoodIntakeList foodIntakeList) throws IOException {
+        saveFoodIntakeList(foodIntakeList, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveFoodIntakeList(FoodIntakeList)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveFoodIntakeList(FoodIntakeList foodIntakeList, Path filePath) throws IOException {
+        requireNonNull(foodIntakeList);
+        requireNonNull(filePath);
+
+        foodIntakeList.loadAllSegments();
+        byte[] content = encode(foodIntakeList.getFoodIntakeList());
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFileAtomically(filePath, content);
+        if (filePath.equals(this.filePath)) {
+            foodIntakeList.markChangesSaved();
+        }
+    }
+
+    /**
+     * Encodes the whole list right away, so the pending write only has to put the bytes on disk.
+     */
+    @Override
+    public PendingWrite prepareSaveFoodIntakeList(FoodIntakeList foodIntakeList) {
+        requireNonNull(foodIntakeList);
+
+        foodIntakeList.loadAllSegments();
+        byte[] content;
+        try {
+            content = encode(foodIntakeList.getFoodIntakeList());
+        } catch (IOException e) {
+            throw new AssertionError("Writing to memory cannot fail", e);
+        }
+        foodIntakeList.markChangesSaved();
+        Path targetPath = filePath;
+        return () -> {
+            FileUtil.createParentDirsOfFile(targetPath);
+            FileUtil.writeToFileAtomically(targetPath, content);
+        };
+    }
+
+    /**
+     * Encodes {@code foodIntakes} in the current format version.
+     */
+    static byte[] encode(List<FoodIntake> foodIntakes) throws IOException {
+        Map<String, Integer> nameIds = new LinkedHashMap<>();
+        for (FoodIntake foodIntake : foodIntakes) {
+            nameIds.putIfAbsent(foodIntake.getFood().getName(), nameIds.size());
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(16 + nameIds.size() * 16 + foodIntakes.size() * 27);
+        DataOutputStream output = new DataOutputStream(bytes);
+        BinaryStorageUtil.writeHeader(output, MAGIC, FORMAT_VERSION);
+        BinaryStorageUtil.writeVarLong(output, nameIds.size());
+        for (String name : nameIds.keySet()) {
+            output.writeUTF(name);
+        }
+
+        BinaryStorageUtil.writeVarLong(output, foodIntakes.size());
+        long previousEpochDay = 0;
+        for (FoodIntake foodIntake : foodIntakes) {
+            long epochDay = foodIntake.getDate().toEpochDay();
+            Food food = foodIntake.getFood();
+            BinaryStorageUtil.writeSignedVarLong(output, epochDay - previousEpochDay);
+            BinaryStorageUtil.writeVarLong(output, nameIds.get(food.getName()));
+            output.writeDouble(food.getCarbos());
+            output.writeDouble(food.getFats());
+            output.writeDouble(food.getProteins());
+            previousEpochDay = epochDay;
+        }
+        output.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes the records in the remaining bytes of {@code content}, in the order they were written.
+     * Each food name is validated once, however many records refer to it.
+     *
+     * @throws IOException if {@code content} is not a binary food intake file or is cut short.
+     * @throws IllegalValueException if a food name or record is invalid.
+     */
+    static List<FoodIntake> decode(ByteBuffer content) throws IOException, IllegalValueException {
+        int length = content.remaining();
+        DataInputStream input = BinaryStorageUtil.asDataInput(content);
+        BinaryStorageUtil.readHeader(input, MAGIC, FORMAT_VERSION);
+
+        int nameCount = BinaryStorageUtil.readCount(input, length);
+        String[] names = new String[nameCount];
+        for (int i = 0; i < nameCount; i++) {
+            names[i] = input.readUTF();
+            if (!Food.isValidImportFoodName(names[i])) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_NAME, names[i]));
+            }
+        }
+
+        int recordCount = BinaryStorageUtil.readCount(input, length);
+        List<FoodIntake> foodIntakes = new ArrayList<>(recordCount);
+        long epochDay = 0;
+        for (int i = 0; i < recordCount; i++) {
+            epochDay += BinaryStorageUtil.readSignedVarLong(input);
+            long nameId = BinaryStorageUtil.readVarLong(input);
+            double carbos = input.readDouble();
+            double fats = input.readDouble();
+            double proteins = input.readDouble();
+            if (nameId < 0 || nameId >= nameCount || !Food.isValidNumber(fats, carbos, proteins)
+                    || epochDay < LocalDate.MIN.toEpochDay() || epochDay > LocalDate.MAX.toEpochDay()) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, i));
+            }
+            foodIntakes.add(new FoodIntake(LocalDate.ofEpochDay(epochDay), names[(int) nameId],
+                    carbos, fats, proteins));
+        }
+
+        if (input.available() > 0) {
+            throw new IOException("Unexpected data after the last food intake record");
+        }
+        return foodIntakes;
+    }
+
+}
@@ -0,0 +1,156 @@
+package seedu.address.storage;
+
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Helpers shared by the binary storage formats.
+ * <p>
+ * Every binary file starts with a four-byte magic number that identifies its kind, followed by a one-byte format
+ * version. Counts, ids and date deltas are written as variable-length integers, so that the small values that make up
+ * most of a file take one or two bytes each.
+ */
+class BinaryStorageUtil {
+
+    private BinaryStorageUtil() {
+    }
+
+    /**
+     * Reads the whole file at {@code filePath} into a buffer on the heap.
+     * The file is not memory-mapped, as a mapped file cannot be replaced or deleted on Windows until its buffer is
+     * garbage collected, and these files are replaced whenever they are saved.
+     */
+    static ByteBuffer readFully(Path filePath) throws IOException {
+        return ByteBuffer.wrap(Files.readAllBytes(filePath));
+    }
+
+    /**
+     * Returns a {@code DataInputStream} that reads the remaining bytes of {@code buffer}.
+     * Its {@code available()} is the number of bytes left in the buffer.
+     */
+    static DataInputStream asDataInput(ByteBuffer buffer) {
+        return new DataInputStream(new ByteBufferInputStream(buffer));
+    }
+
+    /**
+     * Writes the header of a binary file of the kind identified by {@code magic}.
+     */
+    static void writeHeader(DataOutput output, int magic, int formatVersion) throws IOException {
+        output.writeInt(magic);
+        output.writeByte(formatVersion);
+    }
+
+    /**
+     * Reads the header of a binary file and checks that it is of the kind identified by {@code magic}.
+     *
+     * @return the format version the file was written in.
+     * @throws IOException if the file is of another kind or was written in a newer version than
+     *         {@code latestFormatVersion}.
+     */
+    static int readHeader(DataInput input, int magic, int latestFormatVersion) throws IOException {
+        if (input.readInt() != magic) {
+            throw new IOException("Not a binary file of the expected kind");
+        }
+        int formatVersion = input.readUnsignedByte();
+        if (formatVersion < 1 || formatVersion > latestFormatVersion) {
+            throw new IOException("Unsupported binary format version " + formatVersion);
+        }
+        return formatVersion;
+    }
+
+    /**
+     * Writes {@code value}, taken as unsigned, in as few bytes as possible, seven bits at a time.
+     */
+    static void writeVarLong(DataOutput output, long value) throws IOException {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            output.writeByte((int) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        output.writeByte((int) remaining);
+    }
+
+    /**
+     * Reads a value written by {@link #writeVarLong(DataOutput, long)}.
+     *
+     * @throws IOException if the value is longer than any value that could have been written.
+     */
+    static long readVarLong(DataInput input) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int next = input.readUnsignedByte();
+            value |= (long) (next & 0x7F) << shift;
+            if ((next & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length integer");
+    }
+
+    /**
+     * Writes a value that may be negative, mapping small magnitudes of either sign to few bytes.
+     */
+    static void writeSignedVarLong(DataOutput output, long value) throws IOException {
+        writeVarLong(output, (value << 1) ^ (value >> 63));
+    }
+
+    /**
+     * Reads a value written by {@link #writeSignedVarLong(DataOutput, long)}.
+     */
+    static long readSignedVarLong(DataInput input) throws IOException {
+        long encoded = readVarLong(input);
+        return (encoded >>> 1) ^ -(encoded & 1);
+    }
+
+    /**
+     * Reads a count written by {@link #writeVarLong(DataOutput, long)}, and checks that it is at most
+     * {@code maximum}.
+     */
+    static int readCount(DataInput input, int maximum) throws IOException {
+        long count = readVarLong(input);
+        if (count < 0 || count > maximum) {
+            throw new IOException("Count " + count + " is larger than the file allows");
+        }
+        return (int) count;
+    }
+
+    /**
+     * Reads the remaining bytes of a {@code ByteBuffer}.
+     */
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
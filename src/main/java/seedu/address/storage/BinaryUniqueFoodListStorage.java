@@ -0,0 +1,186 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.food.Food;
+import seedu.address.model.food.UniqueFoodList;
+
+/**
+ * A class to access FoodList data stored as a compact binary file on the hard disk.
+ * <p>
+ * After the header, the file holds the number of foods followed by each food's name and its carbohydrates, fats and
+ * proteins as fixed-width doubles.
+ * <p>
+ * If the binary file does not exist yet, the list is imported from the json storage given at construction, if any,
+ * and is written in binary form on the next save.
+ */
+public class BinaryUniqueFoodListStorage implements UniqueFoodListStorage {
+
+    public static final int MAGIC = 0x444C464C; // "DLFL"
+    public static final int FORMAT_VERSION = 1;
+
+    public static final String MESSAGE_INVALID_FOOD = "Food list file has an invalid food: %s";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryUniqueFoodListStorage.class);
+
+    private final Path filePath;
+    private final UniqueFoodListStorage importStorage;
+
+    public BinaryUniqueFoodListStorage(Path filePath) {
+        this(filePath, null);
+    }
+
+    /**
+     * Creates a storage that imports the list from {@code importStorage} while the binary file does not exist.
+     */
+    public BinaryUniqueFoodListStorage(Path filePath, UniqueFoodListStorage importStorage) {
+        this.filePath = filePath;
+        this.importStorage = importStorage;
+    }
+
+    @Override
+    public Path getFoodListFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<UniqueFoodList> readFoodList() throws DataConversionException, IOException {
+        if (!FileUtil.isFileExists(filePath) && importStorage != null) {
+            logger.info("Binary food file " + filePath + " not found, importing from "
+                    + importStorage.getFoodListFilePath());
+            return importStorage.readFoodList();
+        }
+        return readFoodList(filePath);
+    }
+
+    /**
+     * Similar to {@link #readFoodList()}, but never imports.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<UniqueFoodList> readFoodList(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!FileUtil.isFileExists(filePath)) {
+            logger.info("Food file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(decode(Files.readAllBytes(filePath)));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary food file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveFoodList(UniqueFoodList foodList) throws IOException {
+        saveFoodList(foodList, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveFoodList(UniqueFoodList)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveFoodList(UniqueFoodList foodList, Path filePath) throws IOException {
+        requireNonNull(foodList);
+        requireNonNull(filePath);
+
+        byte[] content = encode(foodList.getFoodList());
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFileAtomically(filePath, content);
+    }
+
+    /**
+     * Encodes the whole list right away, so that later changes to its foods do not affect the pending write.
+     */
+    @Override
+    public PendingWrite prepareSaveFoodList(UniqueFoodList foodList) {
+        requireNonNull(foodList);
+
+        byte[] content;
+        try {
+            content = encode(foodList.getFoodList());
+        } catch (IOException e) {
+            throw new AssertionError("Writing to memory cannot fail", e);
+        }
+        Path targetPath = filePath;
+        return () -> {
+            FileUtil.createParentDirsOfFile(targetPath);
+            FileUtil.writeToFileAtomically(targetPath, content);
+        };
+    }
+
+    /**
+     * Encodes {@code foods} in the current format version.
+     */
+    static byte[] encode(List<Food> foods) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(16 + foods.size() * 40);
+        DataOutputStream output = new DataOutputStream(bytes);
+        BinaryStorageUtil.writeHeader(output, MAGIC, FORMAT_VERSION);
+        BinaryStorageUtil.writeVarLong(output, foods.size());
+        for (Food food : foods) {
+            output.writeUTF(food.getName());
+            output.writeDouble(food.getCarbos());
+            output.writeDouble(food.getFats());
+            output.writeDouble(food.getProteins());
+        }
+        output.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes the food list in {@code content}.
+     *
+     * @throws IOException if {@code content} is not a binary food file or is cut short.
+     * @throws IllegalValueException if a food is invalid or appears more than once.
+     */
+    static UniqueFoodList decode(byte[] content) throws IOException, IllegalValueException {
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(content));
+        BinaryStorageUtil.readHeader(input, MAGIC, FORMAT_VERSION);
+
+        UniqueFoodList foodList = new UniqueFoodList();
+        int foodCount = BinaryStorageUtil.readCount(input, content.length);
+        for (int i = 0; i < foodCount; i++) {
+            String name = input.readUTF();
+            double carbos = input.readDouble();
+            double fats = input.readDouble();
+            double proteins = input.readDouble();
+            if (!Food.isValidFoodName(name) || !Food.isValidNumber(fats, carbos, proteins)) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_FOOD, name));
+            }
+            Food food = new Food(name, carbos, fats, proteins);
+            if (foodList.hasFoodItem(food)) {
+                throw new IllegalValueException(JsonSerializableUniqueFoodList.MESSAGE_DUPLICATE_ENTRY);
+            }
+            foodList.addFoodItem(food);
+        }
+
+        if (input.available() > 0) {
+            throw new IOException("Unexpected data after the last food");
+        }
+        return foodList;
+    }
+
+}
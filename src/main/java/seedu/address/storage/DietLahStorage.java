@@ -42,4 +42,11 @@ public interface DietLahStorage {
      */
     void saveDietLah(ReadOnlyDietLah dietLah, Path filePath) throws IOException;
 
+    /**
+     * Takes a snapshot of the given {@link ReadOnlyDietLah} that can be written to the storage later.
+     * Later changes to {@code dietLah} do not affect the snapshot.
+     * @param dietLah cannot be null.
+     */
+    PendingWrite prepareSaveDietLah(ReadOnlyDietLah dietLah);
+
 }
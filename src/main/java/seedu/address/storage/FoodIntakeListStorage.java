@@ -42,4 +42,11 @@ public interface FoodIntakeListStorage {
      */
     void saveFoodIntakeList(FoodIntakeList foodIntakeList, Path filePath) throws IOException;
 
+    /**
+     * Takes a snapshot of the given {@link FoodIntakeList}, or of its changes since it was last saved, that can be
+     * written to the storage later. Later changes to {@code foodIntakeList} do not affect the snapshot.
+     * @param foodIntakeList cannot be null.
+     */
+    PendingWrite prepareSaveFoodIntakeList(FoodIntakeList foodIntakeList);
+
 }
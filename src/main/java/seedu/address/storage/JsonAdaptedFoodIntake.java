@@ -1,9 +1,15 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.food.Food;
@@ -56,6 +62,10 @@ public class JsonAdaptedFoodIntake {
      * @throws IllegalValueException if there were any data constraints violated in the adapted Food.
      */
     public FoodIntake toModelType() throws IllegalValueException {
+        if (date == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    FoodIntake.class.getSimpleName()));
+        }
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     FoodIntake.class.getSimpleName()));
@@ -73,4 +83,73 @@ public class JsonAdaptedFoodIntake {
         return new FoodIntake(date, name, carbos, fats, proteins);
     }
 
+    /**
+     * Writes this food intake as a JSON object with {@code generator}, with the same fields as data binding writes.
+     */
+    void writeTo(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("name", name);
+        generator.writeNumberField("fats", fats);
+        generator.writeNumberField("carbos", carbos);
+        generator.writeNumberField("proteins", proteins);
+        if (date != null) {
+            generator.writeStringField("date", date.toString());
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads a food intake from the JSON object that {@code parser} is positioned at, leaving the parser at the end of
+     * that object. Fields that are not recognised are skipped.
+     *
+     * @throws IOException if the object is not well-formed or a field has the wrong type.
+     */
+    static JsonAdaptedFoodIntake readFrom(JsonParser parser) throws IOException {
+        if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a food intake object");
+        }
+        LocalDate date = null;
+        String name = null;
+        double fats = 0;
+        double carbos = 0;
+        double proteins = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            switch (fieldName) {
+            case "name":
+                name = parser.getValueAsString();
+                break;
+            case "fats":
+                fats = parser.getValueAsDouble();
+                break;
+            case "carbos":
+                carbos = parser.getValueAsDouble();
+                break;
+            case "proteins":
+                proteins = parser.getValueAsDouble();
+                break;
+            case "date":
+            case "data":
+                date = parseDate(parser);
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+        return new JsonAdaptedFoodIntake(date, name, fats, carbos, proteins);
+    }
+
+    private static LocalDate parseDate(JsonParser parser) throws IOException {
+        String text = parser.getValueAsString();
+        if (text == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(text);
+        } catch (DateTimeParseException e) {
+            throw new JsonParseException(parser, "Invalid food intake date: " + text);
+        }
+    }
+
 }
@@ -0,0 +1,75 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.food.Food;
+import seedu.address.model.food.FoodIntake;
+import seedu.address.model.food.FoodIntakeListChange;
+
+/**
+ * Jackson-friendly version of a {@link FoodIntakeListChange}, written as one entry of the food intake journal.
+ */
+public class JsonAdaptedFoodIntakeChange {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Food intake journal entry's %s field is missing!";
+
+    private final long sequence;
+    private final FoodIntakeListChange.Type type;
+    private final JsonAdaptedFoodIntake foodIntake;
+
+    /**
+     * Constructs a {@code JsonAdaptedFoodIntakeChange} with the given journal entry details.
+     */
+    @JsonCreator
+    public JsonAdaptedFoodIntakeChange(@JsonProperty("sequence") long sequence,
+                                       @JsonProperty("type") FoodIntakeListChange.Type type,
+                                       @JsonProperty("foodIntake") JsonAdaptedFoodIntake foodIntake) {
+        this.sequence = sequence;
+        this.type = type;
+        this.foodIntake = foodIntake;
+    }
+
+    /**
+     * Converts a given {@code FoodIntakeListChange} into this class for Jackson use.
+     *
+     * @param sequence position of the entry in the journal, greater than that of every earlier entry.
+     */
+    public JsonAdaptedFoodIntakeChange(long sequence, FoodIntakeListChange source) {
+        Food food = source.getFood();
+        this.sequence = sequence;
+        this.type = source.getType();
+        this.foodIntake = new JsonAdaptedFoodIntake(source.getDate(), food.getName(),
+                food.getFats(), food.getCarbos(), food.getProteins());
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Returns the kind of change recorded by this entry.
+     *
+     * @throws IllegalValueException if the entry has no type.
+     */
+    public FoodIntakeListChange.Type getType() throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "type"));
+        }
+        return type;
+    }
+
+    /**
+     * Converts the inserted or removed record into the model's {@code FoodIntake} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the record.
+     */
+    public FoodIntake toModelType() throws IllegalValueException {
+        if (foodIntake == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "foodIntake"));
+        }
+        return foodIntake.toModelType();
+    }
+
+}
@@ -0,0 +1,68 @@
+package seedu.address.storage;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly description of one month's segment file, as listed in the food intake segment manifest.
+ */
+public class JsonAdaptedFoodIntakeSegment {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Food intake segment's %s field is missing!";
+    public static final String INVALID_FIELD_MESSAGE_FORMAT = "Food intake segment's %s field is invalid!";
+
+    private final String month;
+    private final int recordCount;
+
+    /**
+     * Constructs a {@code JsonAdaptedFoodIntakeSegment} with the given segment details.
+     */
+    @JsonCreator
+    public JsonAdaptedFoodIntakeSegment(@JsonProperty("month") String month,
+                                        @JsonProperty("recordCount") int recordCount) {
+        this.month = month;
+        this.recordCount = recordCount;
+    }
+
+    /**
+     * Describes the segment of {@code month}, which holds {@code recordCount} records.
+     */
+    public JsonAdaptedFoodIntakeSegment(YearMonth month, int recordCount) {
+        this.month = month.toString();
+        this.recordCount = recordCount;
+    }
+
+    /**
+     * Returns the month of this segment.
+     *
+     * @throws IllegalValueException if the month is missing or invalid.
+     */
+    public YearMonth getMonth() throws IllegalValueException {
+        if (month == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "month"));
+        }
+        try {
+            return YearMonth.parse(month);
+        } catch (DateTimeParseException e) {
+            throw new IllegalValueException(String.format(INVALID_FIELD_MESSAGE_FORMAT, "month"));
+        }
+    }
+
+    /**
+     * Returns the number of records in this segment.
+     *
+     * @throws IllegalValueException if the count is not positive, since empty months have no segment.
+     */
+    public int getRecordCount() throws IllegalValueException {
+        if (recordCount <= 0) {
+            throw new IllegalValueException(String.format(INVALID_FIELD_MESSAGE_FORMAT, "recordCount"));
+        }
+        return recordCount;
+    }
+
+}
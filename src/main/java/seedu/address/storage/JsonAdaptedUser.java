@@ -1,14 +1,13 @@
 package seedu.address.storage;
 
-import java.util.List;
-
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.diet.DietPlan;
-import seedu.address.model.food.Food;
+import seedu.address.model.diet.DietPlanList;
 import seedu.address.model.food.FoodIntakeList;
+import seedu.address.model.food.UniqueFoodList;
 import seedu.address.model.user.Age;
 import seedu.address.model.user.Bmi;
 import seedu.address.model.user.Gender;
@@ -17,6 +16,8 @@ import seedu.address.model.user.User;
 
 /**
  * Jackson-friendly version of {@link User}.
+ * Only the profile fields are stored. The user's foods are the food catalog, and the active diet plan is stored
+ * by name, so both are resolved against the catalog and plan list that are already loaded.
  */
 public class JsonAdaptedUser {
 
@@ -28,32 +29,32 @@ public class JsonAdaptedUser {
     private final String lastUpdated;
     private final Bmi bmi;
 
-    // Data fields
-    private final List<Food> foodList;
-    //private final FoodIntakeList foodIntakeList;
-    private DietPlan activeDietPlan;
+    // References
+    private final String activeDietPlanName;
 
     /**
      * Constructs a {@code JsonAdaptedUser} with the given details.
+     * Older user files stored a copy of the whole food catalog and the active diet plan itself. The copied catalog
+     * is ignored, and the name of the copied plan is used as the reference.
      */
     @JsonCreator
     public JsonAdaptedUser(@JsonProperty("bmi") Bmi bmi,
-                                 @JsonProperty("foodList") List<Food> foodList,
                                  @JsonProperty("age") String age,
                                  @JsonProperty("gender") String gender,
                                  @JsonProperty("idealWeight") IdealWeight idealWeight,
                                  @JsonProperty("lastUpdated") String lastUpdated,
-                                 //@JsonProperty("foodIntakeList") List<FoodIntake> foodIntakeList,
-                                 @JsonProperty("activeDietPlan") DietPlan activeDietPlan) {
+                                 @JsonProperty("activeDietPlanName") String activeDietPlanName,
+                                 @JsonProperty("activeDietPlan") DietPlan legacyActiveDietPlan) {
         this.bmi = bmi;
-        this.foodList = foodList;
         this.age = age;
         this.gender = gender;
         this.idealWeight = idealWeight;
         this.lastUpdated = lastUpdated;
-        //this.foodIntakeList = null;
-        //this.foodIntakeList = new FoodIntakeList(FXCollections.observableArrayList(foodIntakeList));
-        this.activeDietPlan = activeDietPlan;
+        if (activeDietPlanName == null && legacyActiveDietPlan != null) {
+            this.activeDietPlanName = legacyActiveDietPlan.getPlanName();
+        } else {
+            this.activeDietPlanName = activeDietPlanName;
+        }
     }
 
     /**
@@ -61,21 +62,21 @@ public class JsonAdaptedUser {
      */
     public JsonAdaptedUser(User source) {
         bmi = source.getBmi();
-        foodList = source.getFoodList();
         age = String.valueOf(source.getAge().age);
         gender = source.getGender().gender;
         idealWeight = source.getIdealWeight();
         lastUpdated = source.getLastUpdated();
-        //foodIntakeList = source.getFoodIntakeList();
-        activeDietPlan = source.getActiveDietPlan();
+        activeDietPlanName = source.getActiveDietPlan() == null ? null : source.getActiveDietPlan().getPlanName();
     }
 
     /**
-     * Converts this Jackson-friendly adapted User object into the model's {@code User} object.
+     * Converts this Jackson-friendly adapted User object into the model's {@code User} object, taking the user's
+     * foods from {@code foodList} and the active diet plan from {@code dietPlanList}.
+     * An active diet plan that is no longer in {@code dietPlanList} is dropped.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted User.
      */
-    public User toModelType() throws IllegalValueException {
+    public User toModelType(UniqueFoodList foodList, DietPlanList dietPlanList) throws IllegalValueException {
         if (age == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Age.class.getSimpleName()));
         }
@@ -91,10 +92,10 @@ public class JsonAdaptedUser {
         if (!Gender.isValidGender(gender)) {
             throw new IllegalValueException(Gender.MESSAGE_CONSTRAINTS);
         }
-        User newUser = new User(bmi, foodList, new FoodIntakeList(),
+        User newUser = new User(bmi, foodList.getFoodList(), new FoodIntakeList(),
                 new Age(Integer.valueOf(age)), new Gender(gender), idealWeight);
-        if (activeDietPlan != null) {
-            newUser.setActiveDietPlan(activeDietPlan);
+        if (activeDietPlanName != null) {
+            dietPlanList.findDietPlan(activeDietPlanName).ifPresent(newUser::setActiveDietPlan);
         }
         return newUser;
     }
@@ -77,4 +77,15 @@ public class JsonDietLahStorage implements DietLahStorage {
         JsonUtil.saveJsonFile(new JsonSerializableDietLah(dietLah), filePath);
     }
 
+    @Override
+    public PendingWrite prepareSaveDietLah(ReadOnlyDietLah dietLah) {
+        requireNonNull(dietLah);
+        JsonSerializableDietLah snapshot = new JsonSerializableDietLah(dietLah);
+        Path targetPath = filePath;
+        return () -> {
+            FileUtil.createIfMissing(targetPath);
+            JsonUtil.saveJsonFile(snapshot, targetPath);
+        };
+    }
+
 }
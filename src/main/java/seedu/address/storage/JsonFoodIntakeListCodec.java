@@ -0,0 +1,180 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.food.FoodIntake;
+
+/**
+ * Reads and writes food intake list files one record at a time with Jackson's streaming parser and generator,
+ * in the same format as {@link JsonSerializableFoodIntakeList}.
+ * Reading never holds the whole file or all of its adapted records in memory: records are parsed in batches,
+ * and each batch is validated and converted into model objects in parallel before the next one is parsed.
+ */
+class JsonFoodIntakeListCodec {
+
+    static final int BATCH_SIZE = 4096;
+
+    private static final int MIN_PARALLEL_BATCH_SIZE = 512;
+    private static final String FOOD_INTAKES_FIELD = "foodIntakes";
+    private static final String JOURNAL_SEQUENCE_FIELD = "journalSequence";
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private JsonFoodIntakeListCodec() {
+    }
+
+    /**
+     * Reads the food intake list file at {@code filePath}, or returns {@code Optional.empty()} if it does not exist.
+     *
+     * @throws DataConversionException if the file is not in the correct format or a record is invalid.
+     */
+    static Optional<Contents> read(Path filePath) throws DataConversionException {
+        if (!FileUtil.isFileExists(filePath)) {
+            return Optional.empty();
+        }
+
+        try (InputStream inputStream = Channels.newInputStream(FileChannel.open(filePath, StandardOpenOption.READ));
+                JsonParser parser = JSON_FACTORY.createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a food intake list object");
+            }
+            List<FoodIntake> foodIntakes = new ArrayList<>();
+            long journalSequence = 0;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                if (FOOD_INTAKES_FIELD.equals(fieldName)) {
+                    readFoodIntakes(parser, foodIntakes);
+                } else if (JOURNAL_SEQUENCE_FIELD.equals(fieldName)) {
+                    journalSequence = parser.getValueAsLong();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return Optional.of(new Contents(foodIntakes, journalSequence));
+        } catch (IOException | IllegalValueException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Writes {@code snapshot} to a temporary file one record at a time, and then renames it over {@code filePath}.
+     */
+    static void write(JsonSerializableFoodIntakeList snapshot, Path filePath) throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        Path temporaryPath = FileUtil.getTemporaryFile(filePath);
+        try (OutputStream outputStream = Channels.newOutputStream(FileChannel.open(temporaryPath,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE));
+                JsonGenerator generator = JSON_FACTORY.createGenerator(outputStream, JsonEncoding.UTF8)) {
+            generator.useDefaultPrettyPrinter();
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(FOOD_INTAKES_FIELD);
+            for (JsonAdaptedFoodIntake foodIntake : snapshot.getFoodIntakes()) {
+                foodIntake.writeTo(generator);
+            }
+            generator.writeEndArray();
+            generator.writeNumberField(JOURNAL_SEQUENCE_FIELD, snapshot.getJournalSequence());
+            generator.writeEndObject();
+        }
+        FileUtil.replaceAtomically(temporaryPath, filePath);
+    }
+
+    /**
+     * Reads the array of records that {@code parser} is positioned at into {@code foodIntakes}, in order.
+     */
+    private static void readFoodIntakes(JsonParser parser, List<FoodIntake> foodIntakes)
+            throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected an array of food intakes");
+        }
+        List<JsonAdaptedFoodIntake> batch = new ArrayList<>(BATCH_SIZE);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            batch.add(JsonAdaptedFoodIntake.readFrom(parser));
+            if (batch.size() == BATCH_SIZE) {
+                foodIntakes.addAll(toModelType(batch));
+                batch.clear();
+            }
+        }
+        foodIntakes.addAll(toModelType(batch));
+    }
+
+    /**
+     * Validates and converts a batch of records, in parallel if the batch is large enough to benefit.
+     *
+     * @return the converted records, in the same order as {@code batch}.
+     * @throws IllegalValueException if any record is invalid.
+     */
+    private static List<FoodIntake> toModelType(List<JsonAdaptedFoodIntake> batch) throws IllegalValueException {
+        Stream<JsonAdaptedFoodIntake> records = batch.size() >= MIN_PARALLEL_BATCH_SIZE
+                ? batch.parallelStream()
+                : batch.stream();
+        try {
+            return records.map(JsonFoodIntakeListCodec::toModelTypeUnchecked).collect(Collectors.toList());
+        } catch (InvalidRecordException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static FoodIntake toModelTypeUnchecked(JsonAdaptedFoodIntake foodIntake) {
+        try {
+            return foodIntake.toModelType();
+        } catch (IllegalValueException e) {
+            throw new InvalidRecordException(e);
+        }
+    }
+
+    /**
+     * The records of a food intake list file and the journal sequence it was saved at.
+     */
+    static class Contents {
+        private final List<FoodIntake> foodIntakes;
+        private final long journalSequence;
+
+        Contents(List<FoodIntake> foodIntakes, long journalSequence) {
+            this.foodIntakes = foodIntakes;
+            this.journalSequence = journalSequence;
+        }
+
+        List<FoodIntake> getFoodIntakes() {
+            return foodIntakes;
+        }
+
+        long getJournalSequence() {
+            return journalSequence;
+        }
+    }
+
+    /**
+     * Carries an {@code IllegalValueException} out of a stream.
+     */
+    private static class InvalidRecordException extends RuntimeException {
+        InvalidRecordException(IllegalValueException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized IllegalValueException getCause() {
+            return (IllegalValueException) super.getCause();
+        }
+    }
+}
@@ -2,9 +2,29 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -12,19 +32,65 @@ import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.food.FoodIntake;
 import seedu.address.model.food.FoodIntakeList;
+import seedu.address.model.food.FoodIntakeListChange;
 
 /**
  * A class to access FoodIntakeList data stored as a json file on the hard disk.
+ * <p>
+ * The json file is a snapshot of the list. Changes made after the snapshot are appended, one small entry per
+ * inserted or removed record, to a journal file next to it, so that saving a change does not rewrite the whole
+ * history. Reading replays the journal on top of the snapshot. Once the journal grows past a threshold, it is folded
+ * into a new snapshot in the background.
+ * <p>
+ * Journal entries are numbered, and each snapshot records the number of the last entry it includes, so that entries
+ * left behind by an interrupted compaction are never applied twice.
  */
 public class JsonFoodIntakeListStorage implements FoodIntakeListStorage {
 
-    private static final Logger logger = LogsCenter.getLogger(JsonUniqueFoodListStorage.class);
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final String COMPACTING_JOURNAL_FILE_SUFFIX = ".journal.compacting";
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    private static final String COMPACTION_TEMPORARY_FILE_SUFFIX = ".compacting.tmp";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonFoodIntakeListStorage.class);
+
+    private final Object fileLock = new Object();
+    private final Object stateLock = new Object();
+    private final ExecutorService compactionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "food-intake-journal-compaction");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final int compactionThreshold;
 
     private Path filePath;
 
+    // The fields below describe the files at filePath and are guarded by fileLock.
+    private int journalLength = 0;
+    private long snapshotGeneration = 0;
+    private boolean isCompacting = false;
+
+    // The fields below describe what has been prepared for writing and are guarded by stateLock.
+    // When both locks are needed, fileLock is taken first.
+    private long lastSequence = 0;
+    private boolean hasSnapshot = false;
+    private boolean isSnapshotNeeded = false;
+
     public JsonFoodIntakeListStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a storage that compacts the journal once it holds {@code compactionThreshold} entries.
+     */
+    public JsonFoodIntakeListStorage(Path filePath, int compactionThreshold) {
+        assert compactionThreshold > 0 : "Compaction threshold must be positive";
         this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
     }
 
     @Override
@@ -46,17 +112,43 @@ public class JsonFoodIntakeListStorage implements FoodIntakeListStorage {
     public Optional<FoodIntakeList> readFoodIntakeList(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableFoodIntakeList> jsonFoodIntakeList = JsonUtil.readJsonFile(
-                filePath, JsonSerializableFoodIntakeList.class);
-        if (!jsonFoodIntakeList.isPresent()) {
-            return Optional.empty();
-        }
+        synchronized (fileLock) {
+            long startTime = System.nanoTime();
+            Optional<JsonFoodIntakeListCodec.Contents> snapshot = JsonFoodIntakeListCodec.read(filePath);
+            List<JsonAdaptedFoodIntakeChange> compactingEntries = readJournal(getCompactingJournalPath(filePath));
+            List<JsonAdaptedFoodIntakeChange> journalEntries = readJournal(getJournalPath(filePath));
+            if (!snapshot.isPresent() && compactingEntries.isEmpty() && journalEntries.isEmpty()) {
+                logger.info("Food intake file " + filePath + " not found");
+                return Optional.empty();
+            }
 
-        try {
-            return Optional.of(jsonFoodIntakeList.get().toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataConversionException(ive);
+            try {
+                long snapshotSequence = snapshot.map(JsonFoodIntakeListCodec.Contents::getJournalSequence).orElse(0L);
+                List<FoodIntake> foodIntakes = snapshot.map(JsonFoodIntakeListCodec.Contents::getFoodIntakes)
+                        .orElseGet(ArrayList::new);
+                List<JsonAdaptedFoodIntakeChange> entries = new ArrayList<>(compactingEntries);
+                entries.addAll(journalEntries);
+                long replayedSequence = replayJournal(foodIntakes, entries, snapshotSequence);
+
+                FoodIntakeList foodIntakeList = new FoodIntakeList();
+                foodIntakeList.loadFoodIntakes(foodIntakes);
+                long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+                logger.info("Loaded " + foodIntakeList.getFoodIntakeList().size() + " food intake records from "
+                        + filePath + " and " + entries.size() + " journal entries in " + elapsedMillis + " ms");
+
+                if (filePath.equals(this.filePath)) {
+                    journalLength = journalEntries.size();
+                    synchronized (stateLock) {
+                        lastSequence = replayedSequence;
+                        hasSnapshot = snapshot.isPresent();
+                    }
+                    foodIntakeList.markChangesSaved();
+                }
+                return Optional.of(foodIntakeList);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+                throw new DataConversionException(ive);
+            }
         }
     }
 
@@ -67,6 +159,8 @@ public class JsonFoodIntakeListStorage implements FoodIntakeListStorage {
 
     /**
      * Similar to {@link #saveFoodIntakeList(FoodIntakeList)}.
+     * Only saves to this storage's own file path consume the list's unsaved changes; a save to any other path
+     * writes a full snapshot there.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -74,8 +168,308 @@ public class JsonFoodIntakeListStorage implements FoodIntakeListStorage {
         requireNonNull(foodIntakeList);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableFoodIntakeList(foodIntakeList), filePath);
+        if (!filePath.equals(this.filePath)) {
+            JsonFoodIntakeListCodec.write(new JsonSerializableFoodIntakeList(foodIntakeList), filePath);
+            return;
+        }
+        prepareSaveFoodIntakeList(foodIntakeList).write();
+    }
+
+    /**
+     * Takes a full snapshot of the list if it cannot be saved change by change, and otherwise numbers its unsaved
+     * changes as journal entries. Either way, the list's changes are consumed.
+     */
+    @Override
+    public PendingWrite prepareSaveFoodIntakeList(FoodIntakeList foodIntakeList) {
+        requireNonNull(foodIntakeList);
+
+        synchronized (stateLock) {
+            FoodIntakeListWrite write;
+            if (isSnapshotNeeded || foodIntakeList.isRewrittenSinceSave()
+                    || (!hasSnapshot && !FileUtil.isFileExists(filePath))) {
+                write = new FoodIntakeListWrite(new JsonSerializableFoodIntakeList(foodIntakeList, lastSequence),
+                        Collections.emptyList());
+                isSnapshotNeeded = false;
+                hasSnapshot = true;
+            } else {
+                List<JsonAdaptedFoodIntakeChange> entries = new ArrayList<>();
+                for (FoodIntakeListChange change : foodIntakeList.getUnsavedChanges()) {
+                    lastSequence++;
+                    entries.add(new JsonAdaptedFoodIntakeChange(lastSequence, change));
+                }
+                write = new FoodIntakeListWrite(null, entries);
+            }
+            foodIntakeList.markChangesSaved();
+            return write;
+        }
+    }
+
+    /**
+     * Waits for any compaction that has already been started to finish.
+     */
+    void awaitCompaction() throws InterruptedException, ExecutionException {
+        compactionExecutor.submit(() -> { }).get();
+    }
+
+    /**
+     * Writes a snapshot over the file at this storage's file path and discards the journal it supersedes.
+     */
+    private void writeSnapshot(JsonSerializableFoodIntakeList snapshot) throws IOException {
+        JsonFoodIntakeListCodec.write(snapshot, filePath);
+        FileUtil.deleteFile(getJournalPath(filePath));
+        FileUtil.deleteFile(getCompactingJournalPath(filePath));
+        journalLength = 0;
+        snapshotGeneration++;
+    }
+
+    /**
+     * Appends the given numbered entries to the journal at this storage's file path.
+     */
+    private void appendToJournal(List<JsonAdaptedFoodIntakeChange> entries) throws IOException {
+        if (entries.isEmpty()) {
+            return;
+        }
+        Path journalPath = getJournalPath(filePath);
+        FileUtil.createParentDirsOfFile(journalPath);
+        try (BufferedWriter writer = Files.newBufferedWriter(journalPath, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (JsonAdaptedFoodIntakeChange entry : entries) {
+                writer.write(JsonUtil.toCompactJsonString(entry));
+                writer.newLine();
+                journalLength++;
+            }
+        }
+    }
+
+    /**
+     * Folds the journal into a new snapshot. Runs on the compaction thread.
+     * New changes go to a fresh journal while the old one is being folded, and the new snapshot is dropped if a
+     * full snapshot was saved in the meantime.
+     */
+    private void compactJournal() {
+        Path compactingPath = getCompactingJournalPath(filePath);
+        Path temporaryPath = filePath.resolveSibling(filePath.getFileName() + COMPACTION_TEMPORARY_FILE_SUFFIX);
+        try {
+            long generation;
+            synchronized (fileLock) {
+                // A journal left over from an interrupted compaction is folded first, and the live one next time.
+                if (!Files.exists(compactingPath)) {
+                    if (!Files.exists(getJournalPath(filePath))) {
+                        return;
+                    }
+                    Files.move(getJournalPath(filePath), compactingPath, StandardCopyOption.ATOMIC_MOVE);
+                    journalLength = 0;
+                }
+                generation = snapshotGeneration;
+            }
+
+            Optional<JsonFoodIntakeListCodec.Contents> snapshot = JsonFoodIntakeListCodec.read(filePath);
+            long snapshotSequence = snapshot.map(JsonFoodIntakeListCodec.Contents::getJournalSequence).orElse(0L);
+            List<FoodIntake> foodIntakes = snapshot.map(JsonFoodIntakeListCodec.Contents::getFoodIntakes)
+                    .orElseGet(ArrayList::new);
+            List<JsonAdaptedFoodIntakeChange> entries = readJournal(compactingPath);
+            long compactedSequence = replayJournal(foodIntakes, entries, snapshotSequence);
+            FoodIntakeList compacted = new FoodIntakeList();
+            compacted.loadFoodIntakes(foodIntakes);
+            JsonFoodIntakeListCodec.write(new JsonSerializableFoodIntakeList(compacted, compactedSequence),
+                    temporaryPath);
+
+            synchronized (fileLock) {
+                if (generation == snapshotGeneration) {
+                    Files.move(temporaryPath, filePath, StandardCopyOption.ATOMIC_MOVE);
+                    FileUtil.deleteFile(compactingPath);
+                    logger.info("Compacted " + entries.size() + " journal entries into " + filePath);
+                } else {
+                    FileUtil.deleteFile(temporaryPath);
+                }
+            }
+        } catch (IOException | DataConversionException | IllegalValueException e) {
+            logger.warning("Failed to compact food intake journal of " + filePath + ": " + StringUtil.getDetails(e));
+        } finally {
+            synchronized (fileLock) {
+                isCompacting = false;
+            }
+        }
+    }
+
+    /**
+     * Reads every entry of the journal at {@code journalPath}, or none if the file does not exist.
+     * A last entry that is not a whole line of valid JSON was being appended when the app stopped, so it is dropped
+     * and the journal is truncated after the entry before it.
+     *
+     * @throws DataConversionException if the journal cannot be read or an entry before the last is not in the correct
+     *     format.
+     */
+    private static List<JsonAdaptedFoodIntakeChange> readJournal(Path journalPath) throws DataConversionException {
+        if (!FileUtil.isFileExists(journalPath)) {
+            return Collections.emptyList();
+        }
+        byte[] journal;
+        try {
+            journal = Files.readAllBytes(journalPath);
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalPath + ": " + e);
+            throw new DataConversionException(e);
+        }
+
+        List<JsonAdaptedFoodIntakeChange> entries = new ArrayList<>();
+        int lineStart = 0;
+        while (lineStart < journal.length) {
+            int lineEnd = lineStart;
+            while (lineEnd < journal.length && journal[lineEnd] != '\n') {
+                lineEnd++;
+            }
+            boolean isTerminated = lineEnd < journal.length;
+            String line = new String(journal, lineStart, lineEnd - lineStart, StandardCharsets.UTF_8);
+            int nextLineStart = lineEnd + 1;
+            if (!line.isBlank()) {
+                try {
+                    if (!isTerminated) {
+                        throw new IOException("Entry is not terminated by a line break");
+                    }
+                    entries.add(JsonUtil.fromJsonString(line, JsonAdaptedFoodIntakeChange.class));
+                } catch (IOException e) {
+                    if (!isBlank(journal, nextLineStart)) {
+                        logger.warning("Corrupt entry in journal file " + journalPath + ": " + e);
+                        throw new DataConversionException(e);
+                    }
+                    logger.warning("Dropping the partly written last entry of journal file " + journalPath + ": "
+                            + e.getMessage());
+                    truncate(journalPath, lineStart);
+                    break;
+                }
+            }
+            lineStart = nextLineStart;
+        }
+        return entries;
     }
 
+    /**
+     * Returns true if {@code bytes} holds only whitespace from {@code start} on.
+     */
+    private static boolean isBlank(byte[] bytes, int start) {
+        for (int i = start; i < bytes.length; i++) {
+            if (!Character.isWhitespace(bytes[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Cuts the journal at {@code journalPath} down to its first {@code length} bytes, so that new entries are not
+     * appended to a partly written one.
+     */
+    private static void truncate(Path journalPath, long length) {
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+            channel.truncate(length);
+        } catch (IOException e) {
+            logger.warning("Failed to truncate journal file " + journalPath + ": " + e);
+        }
+    }
+
+    /**
+     * Applies the journal entries numbered after {@code snapshotSequence} to {@code foodIntakes}, in order.
+     *
+     * @return the number of the last entry applied, or {@code snapshotSequence} if none were.
+     * @throws IllegalValueException if an entry is invalid or removes a record that does not exist.
+     */
+    private static long replayJournal(List<FoodIntake> foodIntakes, List<JsonAdaptedFoodIntakeChange> entries,
+            long snapshotSequence) throws IllegalValueException {
+        // Removed records are left as null until the end, so that positions stay valid while replaying.
+        Map<Map.Entry<LocalDate, String>, Deque<Integer>> positions = new HashMap<>();
+        for (int i = 0; i < foodIntakes.size(); i++) {
+            positions.computeIfAbsent(getKey(foodIntakes.get(i)), unused -> new ArrayDeque<>()).addLast(i);
+        }
+
+        long sequence = snapshotSequence;
+        for (JsonAdaptedFoodIntakeChange entry : entries) {
+            if (entry.getSequence() <= sequence) {
+                continue;
+            }
+            FoodIntake foodIntake = entry.toModelType();
+            Map.Entry<LocalDate, String> key = getKey(foodIntake);
+            if (entry.getType() == FoodIntakeListChange.Type.INSERT) {
+                positions.computeIfAbsent(key, unused -> new ArrayDeque<>()).addLast(foodIntakes.size());
+                foodIntakes.add(foodIntake);
+            } else {
+                Deque<Integer> keyPositions = positions.get(key);
+                if (keyPositions == null || keyPositions.isEmpty()) {
+                    throw new IllegalValueException("Food intake journal removes a record that does not exist: "
+                            + foodIntake);
+                }
+                foodIntakes.set(keyPositions.removeLast(), null);
+            }
+            sequence = entry.getSequence();
+        }
+        foodIntakes.removeIf(Objects::isNull);
+        return sequence;
+    }
+
+    private static Map.Entry<LocalDate, String> getKey(FoodIntake foodIntake) {
+        return new AbstractMap.SimpleImmutableEntry<>(foodIntake.getDate(), foodIntake.getFood().getName());
+    }
+
+    private static Path getJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    private static Path getCompactingJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + COMPACTING_JOURNAL_FILE_SUFFIX);
+    }
+
+    /**
+     * A pending write of the food intake list: an optional full snapshot, followed by journal entries made after it.
+     */
+    private class FoodIntakeListWrite implements PendingWrite {
+        private final JsonSerializableFoodIntakeList snapshot;
+        private final List<JsonAdaptedFoodIntakeChange> entries;
+
+        FoodIntakeListWrite(JsonSerializableFoodIntakeList snapshot, List<JsonAdaptedFoodIntakeChange> entries) {
+            this.snapshot = snapshot;
+            this.entries = entries;
+        }
+
+        @Override
+        public void write() throws IOException {
+            synchronized (fileLock) {
+                try {
+                    if (snapshot != null) {
+                        writeSnapshot(snapshot);
+                    } else if (isSnapshotNeededSinceFailure()) {
+                        // The journal is incomplete after a failed write; these changes go into the next snapshot.
+                        return;
+                    }
+                    appendToJournal(entries);
+                } catch (IOException e) {
+                    // Some entries may have been written, so the journal can only be trusted up to a new snapshot.
+                    synchronized (stateLock) {
+                        isSnapshotNeeded = true;
+                    }
+                    throw e;
+                }
+
+                if (journalLength >= compactionThreshold && !isCompacting) {
+                    isCompacting = true;
+                    compactionExecutor.execute(JsonFoodIntakeListStorage.this::compactJournal);
+                }
+            }
+        }
+
+        @Override
+        public PendingWrite coalesce(PendingWrite later) {
+            if (!(later instanceof FoodIntakeListWrite) || ((FoodIntakeListWrite) later).snapshot != null) {
+                return later;
+            }
+            List<JsonAdaptedFoodIntakeChange> combinedEntries = new ArrayList<>(entries);
+            combinedEntries.addAll(((FoodIntakeListWrite) later).entries);
+            return new FoodIntakeListWrite(snapshot, combinedEntries);
+        }
+
+        private boolean isSnapshotNeededSinceFailure() {
+            synchronized (stateLock) {
+                return isSnapshotNeeded;
+            }
+        }
+    }
 }
@@ -19,13 +19,17 @@ import seedu.address.model.food.FoodIntakeList;
 public class JsonSerializableFoodIntakeList {
 
     private final List<JsonAdaptedFoodIntake> foodIntakes = new ArrayList<>();
+    private final long journalSequence;
 
     /**
      * Constructs a {@code JsonSerializableFoodIntakeList} with the given foodIntakes.
+     * Files written before the journal existed have no journal sequence, which is read as 0.
      */
     @JsonCreator
-    public JsonSerializableFoodIntakeList(@JsonProperty("foodIntakes") List<JsonAdaptedFoodIntake> foodIntakes) {
+    public JsonSerializableFoodIntakeList(@JsonProperty("foodIntakes") List<JsonAdaptedFoodIntake> foodIntakes,
+                                          @JsonProperty("journalSequence") long journalSequence) {
         this.foodIntakes.addAll(foodIntakes);
+        this.journalSequence = journalSequence;
     }
 
     /**
@@ -34,8 +38,33 @@ public class JsonSerializableFoodIntakeList {
      * @param source future changes to this will not affect the created {@code JsonSerializableFoodIntakeList}.
      */
     public JsonSerializableFoodIntakeList(FoodIntakeList source) {
+        this(source, 0);
+    }
+
+    /**
+     * Converts a given {@code FoodIntakeList} into this class for Jackson use, recording that the journal entries up
+     * to and including {@code journalSequence} are already part of it. Months of history that {@code source} has
+     * not loaded yet are loaded first.
+     */
+    public JsonSerializableFoodIntakeList(FoodIntakeList source, long journalSequence) {
+        source.loadAllSegments();
         this.foodIntakes.addAll(source.getFoodIntakeList().stream()
                 .map(JsonAdaptedFoodIntake::new).collect(Collectors.toList()));
+        this.journalSequence = journalSequence;
+    }
+
+    /**
+     * Gets the records of this list, in order.
+     */
+    List<JsonAdaptedFoodIntake> getFoodIntakes() {
+        return foodIntakes;
+    }
+
+    /**
+     * Gets the sequence number of the last journal entry folded into this list, or 0 if there is none.
+     */
+    public long getJournalSequence() {
+        return journalSequence;
     }
 
     /**
@@ -45,11 +74,21 @@ public class JsonSerializableFoodIntakeList {
      */
     public FoodIntakeList toModelType() throws IllegalValueException {
         FoodIntakeList foodIntakeList = new FoodIntakeList();
+        foodIntakeList.loadFoodIntakes(toModelFoodIntakes());
+        return foodIntakeList;
+    }
+
+    /**
+     * Converts the records of this foodIntake list into the model's {@code FoodIntake} objects, in file order.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public List<FoodIntake> toModelFoodIntakes() throws IllegalValueException {
+        List<FoodIntake> modelFoodIntakes = new ArrayList<>(foodIntakes.size());
         for (JsonAdaptedFoodIntake jsonAdaptedFoodIntake : foodIntakes) {
-            FoodIntake foodIntake = jsonAdaptedFoodIntake.toModelType();
-            foodIntakeList.addFoodIntake(foodIntake);
+            modelFoodIntakes.add(jsonAdaptedFoodIntake.toModelType());
         }
-        return foodIntakeList;
+        return modelFoodIntakes;
     }
 
 }
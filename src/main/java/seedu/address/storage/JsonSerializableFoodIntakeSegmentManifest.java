@@ -0,0 +1,67 @@
+package seedu.address.storage;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * The manifest of a food intake history stored as one segment file per month, serializable to JSON format.
+ */
+public class JsonSerializableFoodIntakeSegmentManifest {
+
+    public static final int FORMAT_VERSION = 1;
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Food intake manifest has unsupported format version %d";
+    public static final String MESSAGE_DUPLICATE_SEGMENT = "Food intake manifest lists a month more than once.";
+
+    private final int formatVersion;
+    private final List<JsonAdaptedFoodIntakeSegment> segments = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableFoodIntakeSegmentManifest} with the given segments.
+     */
+    @JsonCreator
+    public JsonSerializableFoodIntakeSegmentManifest(@JsonProperty("formatVersion") int formatVersion,
+            @JsonProperty("segments") List<JsonAdaptedFoodIntakeSegment> segments) {
+        this.formatVersion = formatVersion;
+        if (segments != null) {
+            this.segments.addAll(segments);
+        }
+    }
+
+    /**
+     * Lists a segment for every month in {@code recordCounts}, in the current format version.
+     */
+    public JsonSerializableFoodIntakeSegmentManifest(Map<YearMonth, Integer> recordCounts) {
+        this.formatVersion = FORMAT_VERSION;
+        recordCounts.forEach((month, recordCount) -> segments.add(new JsonAdaptedFoodIntakeSegment(month,
+                recordCount)));
+    }
+
+    /**
+     * Returns the number of records in each month that has a segment.
+     *
+     * @throws IllegalValueException if the manifest is of an unsupported version, or a segment is invalid or listed
+     *         more than once.
+     */
+    public NavigableMap<YearMonth, Integer> toRecordCounts() throws IllegalValueException {
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, formatVersion));
+        }
+        NavigableMap<YearMonth, Integer> recordCounts = new TreeMap<>();
+        for (JsonAdaptedFoodIntakeSegment segment : segments) {
+            if (recordCounts.put(segment.getMonth(), segment.getRecordCount()) != null) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_SEGMENT);
+            }
+        }
+        return recordCounts;
+    }
+
+}
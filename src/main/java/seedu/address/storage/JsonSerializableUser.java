@@ -5,6 +5,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.diet.DietPlanList;
+import seedu.address.model.food.UniqueFoodList;
 import seedu.address.model.user.User;
 
 /**
@@ -33,12 +35,13 @@ public class JsonSerializableUser {
     }
 
     /**
-     * Converts this User into the model's {@code User} object.
+     * Converts this User into the model's {@code User} object, resolving its references against
+     * {@code foodList} and {@code dietPlanList}.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
-    public User toModelType() throws IllegalValueException {
-        return user.toModelType();
+    public User toModelType(UniqueFoodList foodList, DietPlanList dietPlanList) throws IllegalValueException {
+        return user.toModelType(foodList, dietPlanList);
     }
 
 }
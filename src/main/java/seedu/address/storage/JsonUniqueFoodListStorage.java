@@ -78,4 +78,15 @@ public class JsonUniqueFoodListStorage implements UniqueFoodListStorage {
         JsonUtil.saveJsonFile(new JsonSerializableUniqueFoodList(foodList), filePath);
     }
 
+    @Override
+    public PendingWrite prepareSaveFoodList(UniqueFoodList foodList) {
+        requireNonNull(foodList);
+        JsonSerializableUniqueFoodList snapshot = new JsonSerializableUniqueFoodList(foodList);
+        Path targetPath = filePath;
+        return () -> {
+            FileUtil.createIfMissing(targetPath);
+            JsonUtil.saveJsonFile(snapshot, targetPath);
+        };
+    }
+
 }
@@ -12,6 +12,8 @@ import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.diet.DietPlanList;
+import seedu.address.model.food.UniqueFoodList;
 import seedu.address.model.user.User;
 
 /**
@@ -33,19 +35,23 @@ public class JsonUserStorage implements UserStorage {
     }
 
     @Override
-    public Optional<User> readUser() throws DataConversionException, IOException {
-        return readUser(filePath);
+    public Optional<User> readUser(UniqueFoodList foodList, DietPlanList dietPlanList)
+            throws DataConversionException, IOException {
+        return readUser(filePath, foodList, dietPlanList);
     }
 
 
     /**
-     * Similar to {@link #readUser()}.
+     * Similar to {@link #readUser(UniqueFoodList, DietPlanList)}.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataConversionException if the file is not in the correct format.
      */
-    public Optional<User> readUser(Path filePath) throws DataConversionException {
+    public Optional<User> readUser(Path filePath, UniqueFoodList foodList, DietPlanList dietPlanList)
+            throws DataConversionException {
         requireNonNull(filePath);
+        requireNonNull(foodList);
+        requireNonNull(dietPlanList);
 
         Optional<JsonSerializableUser> jsonUser = JsonUtil.readJsonFile(
                 filePath, JsonSerializableUser.class);
@@ -54,7 +60,7 @@ public class JsonUserStorage implements UserStorage {
         }
 
         try {
-            return Optional.of(jsonUser.get().toModelType());
+            return Optional.of(jsonUser.get().toModelType(foodList, dietPlanList));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -95,4 +101,21 @@ public class JsonUserStorage implements UserStorage {
         FileUtil.deleteFile(filePath);
     }
 
+    @Override
+    public PendingWrite prepareSaveUser(User user) {
+        requireNonNull(user);
+        JsonSerializableUser snapshot = new JsonSerializableUser(user);
+        Path targetPath = filePath;
+        return () -> {
+            FileUtil.createIfMissing(targetPath);
+            JsonUtil.saveJsonFile(snapshot, targetPath);
+        };
+    }
+
+    @Override
+    public PendingWrite prepareDeleteUser() {
+        Path targetPath = filePath;
+        return () -> FileUtil.deleteFile(targetPath);
+    }
+
 }
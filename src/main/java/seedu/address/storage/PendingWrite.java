@@ -0,0 +1,26 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+
+/**
+ * Represents a snapshot of data that has been taken for saving, and that can be written to storage later,
+ * possibly on another thread. Writing does not read the model objects the snapshot was taken from.
+ */
+@FunctionalInterface
+public interface PendingWrite {
+
+    /**
+     * Writes the snapshot to storage.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void write() throws IOException;
+
+    /**
+     * Returns a single write with the same effect as this write followed by {@code later}, to the same file.
+     * By default {@code later} simply replaces this write, since it holds a newer snapshot of the whole file.
+     */
+    default PendingWrite coalesce(PendingWrite later) {
+        return later;
+    }
+}
@@ -0,0 +1,267 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Writes snapshots of the data to storage on a background thread, so that callers do not wait for files to be
+ * serialized and written.
+ * Writes to the same file that are still waiting when a newer one arrives are coalesced into a single write.
+ * A write that fails is not retried; the failure is kept with the file it was for, until it is taken with
+ * {@link #takeFailure(Collection)} by the owner of that file, so that writers sharing one {@code PersistenceWriter}
+ * never take each other's failures.
+ * The writer also remembers which version of the data each file was last submitted with, so that owners sharing a
+ * file, such as profiles sharing the food list, write each change to it once between them.
+ */
+public class PersistenceWriter {
+
+    private static final Logger logger = LogsCenter.getLogger(PersistenceWriter.class);
+
+    private final Object lock = new Object();
+    private final Thread writerThread;
+
+    // The fields below are guarded by lock.
+    private final Map<Path, PendingWrite> pendingWrites = new LinkedHashMap<>();
+    private boolean isWriting = false;
+    private boolean isClosed = false;
+    // The earliest failed write to each file that has not been taken yet, in the order they failed.
+    private final Map<Path, IOException> failures = new LinkedHashMap<>();
+    private final Map<Path, Long> submittedVersions = new HashMap<>();
+    private long completedWriteCount = 0;
+    private long coalescedWriteCount = 0;
+    private long lastWriteLatencyNanos = 0;
+    private long totalWriteLatencyNanos = 0;
+
+    /**
+     * Creates a {@code PersistenceWriter} and starts its background thread.
+     */
+    public PersistenceWriter() {
+        writerThread = new Thread(this::runWrites, "persistence-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Queues {@code write} to the file at {@code filePath}, coalescing it with any write to that file that has not
+     * started yet.
+     *
+     * @throws IllegalStateException if this writer has been closed.
+     */
+    public void submit(Path filePath, PendingWrite write) {
+        requireAllNonNull(filePath, write);
+        synchronized (lock) {
+            if (isClosed) {
+                throw new IllegalStateException("Persistence writer has been closed");
+            }
+            PendingWrite pendingWrite = pendingWrites.get(filePath);
+            if (pendingWrite == null) {
+                pendingWrites.put(filePath, write);
+            } else {
+                pendingWrites.put(filePath, pendingWrite.coalesce(write));
+                coalescedWriteCount++;
+            }
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Queues {@code write} like {@link #submit(Path, PendingWrite)}, and records that it holds {@code version} of the
+     * data in the file.
+     */
+    public void submit(Path filePath, PendingWrite write, long version) {
+        synchronized (lock) {
+            submit(filePath, write);
+            submittedVersions.put(filePath, version);
+        }
+    }
+
+    /**
+     * Returns true if the last write submitted to {@code filePath}, or the data last marked as already in it, is
+     * {@code version}.
+     */
+    public boolean isSubmitted(Path filePath, long version) {
+        requireAllNonNull(filePath);
+        synchronized (lock) {
+            Long submittedVersion = submittedVersions.get(filePath);
+            return submittedVersion != null && submittedVersion == version;
+        }
+    }
+
+    /**
+     * Records that {@code filePath} already holds {@code version} of its data, such as after it has been read.
+     */
+    public void markSubmitted(Path filePath, long version) {
+        requireAllNonNull(filePath);
+        synchronized (lock) {
+            submittedVersions.put(filePath, version);
+        }
+    }
+
+    /**
+     * Forgets which versions were submitted to {@code filePaths}, so that their data is written again however
+     * unchanged it is.
+     */
+    public void forgetSubmittedVersions(Collection<Path> filePaths) {
+        requireAllNonNull(filePaths);
+        synchronized (lock) {
+            submittedVersions.keySet().removeAll(filePaths);
+        }
+    }
+
+    /**
+     * Waits until every write submitted so far has finished.
+     */
+    public void flush() throws InterruptedException {
+        synchronized (lock) {
+            while (!pendingWrites.isEmpty() || isWriting) {
+                lock.wait();
+            }
+        }
+    }
+
+    /**
+     * Finishes every write submitted so far and stops the background thread. No more writes can be submitted.
+     */
+    public void close() throws InterruptedException {
+        synchronized (lock) {
+            isClosed = true;
+            lock.notifyAll();
+        }
+        writerThread.join();
+        logger.info("Persistence writer closed after " + getCompletedWriteCount() + " writes ("
+                + getCoalescedWriteCount() + " coalesced), averaging " + getAverageWriteLatencyMillis() + " ms");
+    }
+
+    /**
+     * Returns the failure of the earliest write to any of {@code filePaths} that failed since their failures were
+     * last taken, if any, and forgets the failures of those files.
+     */
+    public Optional<IOException> takeFailure(Collection<Path> filePaths) {
+        requireAllNonNull(filePaths);
+        synchronized (lock) {
+            IOException takenFailure = null;
+            Iterator<Map.Entry<Path, IOException>> iterator = failures.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Path, IOException> fileFailure = iterator.next();
+                if (filePaths.contains(fileFailure.getKey())) {
+                    if (takenFailure == null) {
+                        takenFailure = fileFailure.getValue();
+                    }
+                    iterator.remove();
+                }
+            }
+            return Optional.ofNullable(takenFailure);
+        }
+    }
+
+    /**
+     * Returns the number of writes waiting to start, after coalescing.
+     */
+    public int getQueueDepth() {
+        synchronized (lock) {
+            return pendingWrites.size();
+        }
+    }
+
+    public long getCompletedWriteCount() {
+        synchronized (lock) {
+            return completedWriteCount;
+        }
+    }
+
+    /**
+     * Returns the number of submitted writes that were folded into another write instead of being written.
+     */
+    public long getCoalescedWriteCount() {
+        synchronized (lock) {
+            return coalescedWriteCount;
+        }
+    }
+
+    /**
+     * Returns how long the most recent write took, or 0 if nothing has been written yet.
+     */
+    public long getLastWriteLatencyMillis() {
+        synchronized (lock) {
+            return TimeUnit.NANOSECONDS.toMillis(lastWriteLatencyNanos);
+        }
+    }
+
+    /**
+     * Returns how long a write has taken on average, or 0 if nothing has been written yet.
+     */
+    public long getAverageWriteLatencyMillis() {
+        synchronized (lock) {
+            return completedWriteCount == 0
+                    ? 0
+                    : TimeUnit.NANOSECONDS.toMillis(totalWriteLatencyNanos / completedWriteCount);
+        }
+    }
+
+    /**
+     * Runs queued writes one at a time, in the order their files were first queued, until closed.
+     */
+    private void runWrites() {
+        while (true) {
+            Path filePath;
+            PendingWrite write;
+            synchronized (lock) {
+                while (pendingWrites.isEmpty() && !isClosed) {
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+                if (pendingWrites.isEmpty()) {
+                    return;
+                }
+                Iterator<Map.Entry<Path, PendingWrite>> iterator = pendingWrites.entrySet().iterator();
+                Map.Entry<Path, PendingWrite> next = iterator.next();
+                iterator.remove();
+                filePath = next.getKey();
+                write = next.getValue();
+                isWriting = true;
+            }
+
+            long startTime = System.nanoTime();
+            IOException writeFailure = null;
+            try {
+                write.write();
+            } catch (IOException e) {
+                writeFailure = e;
+            } catch (RuntimeException e) {
+                writeFailure = new IOException(e);
+            }
+            long elapsedNanos = System.nanoTime() - startTime;
+
+            synchronized (lock) {
+                if (writeFailure != null) {
+                    logger.warning("Failed to write " + filePath + ": " + StringUtil.getDetails(writeFailure));
+                    failures.putIfAbsent(filePath, writeFailure);
+                }
+                completedWriteCount++;
+                lastWriteLatencyNanos = elapsedNanos;
+                totalWriteLatencyNanos += elapsedNanos;
+                isWriting = false;
+                logger.fine("Wrote " + filePath + " in " + TimeUnit.NANOSECONDS.toMillis(elapsedNanos) + " ms, "
+                        + pendingWrites.size() + " writes queued");
+                lock.notifyAll();
+            }
+        }
+    }
+}
@@ -0,0 +1,351 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.food.FoodIntake;
+import seedu.address.model.food.FoodIntakeList;
+import seedu.address.model.food.FoodIntakeListChange;
+import seedu.address.model.food.exceptions.FoodIntakeSegmentLoadException;
+
+/**
+ * A class to access FoodIntakeList data stored as one binary segment file per month on the hard disk.
+ * <p>
+ * The segments sit in one directory next to a json manifest that lists every month that has records, and how many.
+ * Each segment is in the format of {@link BinaryFoodIntakeListStorage}. Reading loads only the current and previous
+ * months; older months are loaded by the {@code FoodIntakeList} when it first needs them.
+ * Saving rewrites only the segments of months that changed, and then the manifest.
+ * <p>
+ * If the manifest does not exist yet, the list is imported from the storage given at construction, if any, and every
+ * month is written on the next save.
+ */
+public class SegmentedFoodIntakeListStorage implements FoodIntakeListStorage {
+
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+    public static final String SEGMENT_FILE_SUFFIX = ".bin";
+    public static final int RECENT_MONTH_COUNT = 2;
+
+    public static final String MESSAGE_SEGMENT_MISMATCH = "Segment %s does not match the food intake manifest";
+
+    private static final Logger logger = LogsCenter.getLogger(SegmentedFoodIntakeListStorage.class);
+
+    private final Object fileLock = new Object();
+    private final Path manifestPath;
+    private final FoodIntakeListStorage importStorage;
+    private final Clock clock;
+
+    // The fields below describe what has been prepared for writing and are guarded by this storage.
+    private final NavigableMap<YearMonth, Integer> recordCounts = new TreeMap<>();
+    private boolean hasManifest = false;
+
+    // Set by a failed write on the writer thread, which must not wait for this storage while holding fileLock.
+    private final AtomicBoolean isFullWriteNeeded = new AtomicBoolean(false);
+
+    public SegmentedFoodIntakeListStorage(Path directoryPath) {
+        this(directoryPath, null);
+    }
+
+    /**
+     * Creates a storage that imports the list from {@code importStorage} while the manifest does not exist.
+     */
+    public SegmentedFoodIntakeListStorage(Path directoryPath, FoodIntakeListStorage importStorage) {
+        this(directoryPath, importStorage, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a storage that decides which months are recent by the date on {@code clock}.
+     */
+    SegmentedFoodIntakeListStorage(Path directoryPath, FoodIntakeListStorage importStorage, Clock clock) {
+        this.manifestPath = directoryPath.resolve(MANIFEST_FILE_NAME);
+        this.importStorage = importStorage;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the path of the manifest, which identifies the whole set of segment files.
+     */
+    @Override
+    public Path getFoodIntakeListFilePath() {
+        return manifestPath;
+    }
+
+    @Override
+    public Optional<FoodIntakeList> readFoodIntakeList() throws DataConversionException, IOException {
+        if (!FileUtil.isFileExists(manifestPath) && importStorage != null) {
+            logger.info("Food intake manifest " + manifestPath + " not found, importing from "
+                    + importStorage.getFoodIntakeListFilePath());
+            return importStorage.readFoodIntakeList();
+        }
+        return readFoodIntakeList(manifestPath);
+    }
+
+    /**
+     * Similar to {@link #readFoodIntakeList()}, but never imports.
+     *
+     * @param filePath location of the manifest, next to the segment files. Cannot be null.
+     * @throws DataConversionException if the manifest or a recent segment is not in the correct format.
+     */
+    public Optional<FoodIntakeList> readFoodIntakeList(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        Optional<JsonSerializableFoodIntakeSegmentManifest> manifest = JsonUtil.readJsonFile(filePath,
+                JsonSerializableFoodIntakeSegmentManifest.class);
+        if (!manifest.isPresent()) {
+            return Optional.empty();
+        }
+
+        long startTime = System.nanoTime();
+        try {
+            NavigableMap<YearMonth, Integer> savedRecordCounts = manifest.get().toRecordCounts();
+            YearMonth firstRecentMonth = YearMonth.now(clock).minusMonths(RECENT_MONTH_COUNT - 1);
+            List<FoodIntake> recentFoodIntakes = new ArrayList<>();
+            for (YearMonth month : savedRecordCounts.tailMap(firstRecentMonth, true).keySet()) {
+                recentFoodIntakes.addAll(readSegment(filePath, month, savedRecordCounts.get(month)));
+            }
+
+            FoodIntakeList foodIntakeList = new FoodIntakeList();
+            foodIntakeList.loadFoodIntakes(recentFoodIntakes);
+            foodIntakeList.setUnloadedSegments(savedRecordCounts.headMap(firstRecentMonth, false).keySet(),
+                    month -> loadSegment(filePath, month, savedRecordCounts.get(month)));
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+            logger.info("Loaded " + recentFoodIntakes.size() + " recent food intake records from "
+                    + filePath.getParent() + " in " + elapsedMillis + " ms, leaving "
+                    + savedRecordCounts.headMap(firstRecentMonth, false).size() + " older months unloaded");
+
+            if (filePath.equals(manifestPath)) {
+                synchronized (this) {
+                    recordCounts.clear();
+                    recordCounts.putAll(savedRecordCounts);
+                    hasManifest = true;
+                }
+                foodIntakeList.markChangesSaved();
+            }
+            return Optional.of(foodIntakeList);
+        } catch (IOException e) {
+            logger.warning("Error reading from food intake segments next to " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath.getParent() + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveFoodIntakeList(FoodIntakeList foodIntakeList) throws IOException {
+        prepareSaveFoodIntakeList(foodIntakeList).write();
+    }
+
+    /**
+     * Similar to {@link #saveFoodIntakeList(FoodIntakeList)}, but writes every month next to the manifest at
+     * {@code filePath}, unless it is this storage's own manifest.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     */
+    public void saveFoodIntakeList(FoodIntakeList foodIntakeList, Path filePath) throws IOException {
+        requireNonNull(foodIntakeList);
+        requireNonNull(filePath);
+
+        if (filePath.equals(manifestPath)) {
+            saveFoodIntakeList(foodIntakeList);
+            return;
+        }
+        foodIntakeList.loadAllSegments();
+        Map<YearMonth, byte[]> segments = new LinkedHashMap<>();
+        NavigableMap<YearMonth, Integer> allRecordCounts = new TreeMap<>();
+        for (YearMonth month : getMonths(foodIntakeList.getFoodIntakeList())) {
+            List<FoodIntake> foodIntakes = getMonthFoodIntakes(foodIntakeList, month);
+            segments.put(month, BinaryFoodIntakeListStorage.encode(foodIntakes));
+            allRecordCounts.put(month, foodIntakes.size());
+        }
+        new SegmentWrite(filePath, segments, new JsonSerializableFoodIntakeSegmentManifest(allRecordCounts)).write();
+    }
+
+    /**
+     * Encodes the months that changed since the list was last saved, or every month if it has been rewritten.
+     * Either way, the list's changes are consumed.
+     */
+    @Override
+    public synchronized PendingWrite prepareSaveFoodIntakeList(FoodIntakeList foodIntakeList) {
+        requireNonNull(foodIntakeList);
+
+        TreeSet<YearMonth> changedMonths = new TreeSet<>();
+        boolean isFullWrite = isFullWriteNeeded.get() || foodIntakeList.isRewrittenSinceSave()
+                || (!hasManifest && !FileUtil.isFileExists(manifestPath));
+        if (isFullWrite) {
+            foodIntakeList.loadAllSegments();
+            changedMonths.addAll(recordCounts.keySet());
+            changedMonths.addAll(getMonths(foodIntakeList.getFoodIntakeList()));
+            isFullWriteNeeded.set(false);
+            hasManifest = true;
+        } else {
+            for (FoodIntakeListChange change : foodIntakeList.getUnsavedChanges()) {
+                changedMonths.add(YearMonth.from(change.getDate()));
+            }
+        }
+
+        // A null segment marks a month that no longer has records.
+        Map<YearMonth, byte[]> segments = new LinkedHashMap<>();
+        try {
+            for (YearMonth month : changedMonths) {
+                List<FoodIntake> foodIntakes = getMonthFoodIntakes(foodIntakeList, month);
+                if (foodIntakes.isEmpty()) {
+                    segments.put(month, null);
+                    recordCounts.remove(month);
+                } else {
+                    segments.put(month, BinaryFoodIntakeListStorage.encode(foodIntakes));
+                    recordCounts.put(month, foodIntakes.size());
+                }
+            }
+        } catch (IOException e) {
+            throw new AssertionError("Writing to memory cannot fail", e);
+        }
+        foodIntakeList.markChangesSaved();
+
+        JsonSerializableFoodIntakeSegmentManifest manifest = isFullWrite || !segments.isEmpty()
+                ? new JsonSerializableFoodIntakeSegmentManifest(new TreeMap<>(recordCounts))
+                : null;
+        return new SegmentWrite(manifestPath, segments, manifest);
+    }
+
+    /**
+     * Reads the segment of {@code month} next to the manifest at {@code manifestPath}, and checks it against the
+     * manifest.
+     */
+    private static List<FoodIntake> readSegment(Path manifestPath, YearMonth month, int expectedRecordCount)
+            throws IOException, IllegalValueException {
+        List<FoodIntake> foodIntakes = BinaryFoodIntakeListStorage.decode(
+                BinaryStorageUtil.readFully(getSegmentPath(manifestPath, month)));
+        if (foodIntakes.size() != expectedRecordCount) {
+            throw new IllegalValueException(String.format(MESSAGE_SEGMENT_MISMATCH, month));
+        }
+        for (FoodIntake foodIntake : foodIntakes) {
+            if (!YearMonth.from(foodIntake.getDate()).equals(month)) {
+                throw new IllegalValueException(String.format(MESSAGE_SEGMENT_MISMATCH, month));
+            }
+        }
+        return foodIntakes;
+    }
+
+    /**
+     * Loads an older month on behalf of a {@code FoodIntakeList}.
+     * Segments of months that are not loaded are only rewritten after they have been loaded, so this never reads a
+     * segment that is being written.
+     */
+    private static List<FoodIntake> loadSegment(Path manifestPath, YearMonth month, int expectedRecordCount) {
+        try {
+            List<FoodIntake> foodIntakes = readSegment(manifestPath, month, expectedRecordCount);
+            logger.fine("Loaded " + foodIntakes.size() + " food intake records of " + month);
+            return foodIntakes;
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Failed to load food intake segment of " + month + ": " + e);
+            throw new FoodIntakeSegmentLoadException(month, e);
+        }
+    }
+
+    private static List<FoodIntake> getMonthFoodIntakes(FoodIntakeList foodIntakeList, YearMonth month) {
+        return foodIntakeList.getFoodIntakesBetween(month.atDay(1), month.atEndOfMonth());
+    }
+
+    private static TreeSet<YearMonth> getMonths(List<FoodIntake> foodIntakes) {
+        TreeSet<YearMonth> months = new TreeSet<>();
+        LocalDate previousDate = null;
+        for (FoodIntake foodIntake : foodIntakes) {
+            if (!foodIntake.getDate().equals(previousDate)) {
+                months.add(YearMonth.from(foodIntake.getDate()));
+                previousDate = foodIntake.getDate();
+            }
+        }
+        return months;
+    }
+
+    private static Path getSegmentPath(Path manifestPath, YearMonth month) {
+        return manifestPath.resolveSibling(month + SEGMENT_FILE_SUFFIX);
+    }
+
+    /**
+     * A pending write of some months' segments, followed by the manifest that lists them.
+     */
+    private class SegmentWrite implements PendingWrite {
+        private final Path targetManifestPath;
+        private final Map<YearMonth, byte[]> segments;
+        private final JsonSerializableFoodIntakeSegmentManifest manifest;
+
+        SegmentWrite(Path targetManifestPath, Map<YearMonth, byte[]> segments,
+                JsonSerializableFoodIntakeSegmentManifest manifest) {
+            this.targetManifestPath = targetManifestPath;
+            this.segments = Collections.unmodifiableMap(segments);
+            this.manifest = manifest;
+        }
+
+        /**
+         * Writes the new segments first and removes emptied ones last, so that the manifest never lists a month
+         * whose segment is missing.
+         */
+        @Override
+        public void write() throws IOException {
+            if (manifest == null) {
+                return;
+            }
+            synchronized (fileLock) {
+                try {
+                    FileUtil.createParentDirsOfFile(targetManifestPath);
+                    for (Map.Entry<YearMonth, byte[]> segment : segments.entrySet()) {
+                        if (segment.getValue() != null) {
+                            FileUtil.writeToFileAtomically(getSegmentPath(targetManifestPath, segment.getKey()),
+                                    segment.getValue());
+                        }
+                    }
+                    FileUtil.writeToFileAtomically(targetManifestPath, JsonUtil.toJsonString(manifest));
+                    for (Map.Entry<YearMonth, byte[]> segment : segments.entrySet()) {
+                        if (segment.getValue() == null) {
+                            FileUtil.deleteFile(getSegmentPath(targetManifestPath, segment.getKey()));
+                        }
+                    }
+                } catch (IOException e) {
+                    if (targetManifestPath.equals(manifestPath)) {
+                        // It is not known which segments were written, so the next save writes them all.
+                        isFullWriteNeeded.set(true);
+                    }
+                    throw e;
+                }
+            }
+        }
+
+        /**
+         * Combines with a later write of the same manifest, keeping the later version of each month.
+         */
+        @Override
+        public PendingWrite coalesce(PendingWrite later) {
+            if (!(later instanceof SegmentWrite)) {
+                return later;
+            }
+            SegmentWrite laterWrite = (SegmentWrite) later;
+            Map<YearMonth, byte[]> combinedSegments = new LinkedHashMap<>(segments);
+            combinedSegments.putAll(laterWrite.segments);
+            return new SegmentWrite(targetManifestPath, combinedSegments,
+                    laterWrite.manifest != null ? laterWrite.manifest : manifest);
+        }
+    }
+}
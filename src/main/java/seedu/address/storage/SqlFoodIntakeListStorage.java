@@ -0,0 +1,362 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.food.Food;
+import seedu.address.model.food.FoodIntake;
+import seedu.address.model.food.FoodIntakeList;
+import seedu.address.model.food.FoodIntakeListChange;
+import seedu.address.model.food.exceptions.FoodIntakeSegmentLoadException;
+
+/**
+ * A class to access FoodIntakeList data stored in an embedded SQLite database file on the hard disk.
+ * <p>
+ * Every record is one row of the {@code food_intake} table, which is indexed by date. Reading loads only the current
+ * and previous months; older months are loaded by the {@code FoodIntakeList} when it first needs them, each with one
+ * query on the date index. Saving applies the changes made since the list was last saved as row inserts and deletes
+ * in one transaction, and only replaces every row after the list has been rewritten.
+ * <p>
+ * If the database file does not exist yet, the list is imported from the storage given at construction, if any, and
+ * every record is written on the next save.
+ */
+public class SqlFoodIntakeListStorage implements FoodIntakeListStorage {
+
+    public static final int RECENT_MONTH_COUNT = 2;
+
+    private static final String JDBC_URL_PREFIX = "jdbc:sqlite:";
+    private static final String[] CREATE_SCHEMA = {
+        "CREATE TABLE IF NOT EXISTS food_intake (id INTEGER PRIMARY KEY AUTOINCREMENT, "
+                + "intake_date TEXT NOT NULL, name TEXT NOT NULL, "
+                + "carbos REAL NOT NULL, fats REAL NOT NULL, proteins REAL NOT NULL)",
+        "CREATE INDEX IF NOT EXISTS food_intake_by_date ON food_intake (intake_date, name)"
+    };
+    private static final String SELECT_COLUMNS = "SELECT intake_date, name, carbos, fats, proteins FROM food_intake ";
+    private static final String SELECT_FROM = SELECT_COLUMNS
+            + "WHERE intake_date >= ? ORDER BY intake_date, name";
+    private static final String SELECT_BETWEEN = SELECT_COLUMNS
+            + "WHERE intake_date >= ? AND intake_date <= ? ORDER BY intake_date, name";
+    private static final String SELECT_MONTHS_BEFORE =
+            "SELECT DISTINCT substr(intake_date, 1, 7) FROM food_intake WHERE intake_date < ?";
+    private static final String INSERT =
+            "INSERT INTO food_intake (intake_date, name, carbos, fats, proteins) VALUES (?, ?, ?, ?, ?)";
+    private static final String DELETE_ONE = "DELETE FROM food_intake WHERE id = "
+            + "(SELECT id FROM food_intake WHERE intake_date = ? AND name = ? LIMIT 1)";
+    private static final String DELETE_ALL = "DELETE FROM food_intake";
+
+    private static final Logger logger = LogsCenter.getLogger(SqlFoodIntakeListStorage.class);
+
+    private final Path databasePath;
+    private final FoodIntakeListStorage importStorage;
+    private final Clock clock;
+
+    // Guarded by this storage.
+    private boolean hasDatabase = false;
+
+    // Set by a failed write on the writer thread.
+    private final AtomicBoolean isFullWriteNeeded = new AtomicBoolean(false);
+
+    public SqlFoodIntakeListStorage(Path databasePath) {
+        this(databasePath, null);
+    }
+
+    /**
+     * Creates a storage that imports the list from {@code importStorage} while the database file does not exist.
+     */
+    public SqlFoodIntakeListStorage(Path databasePath, FoodIntakeListStorage importStorage) {
+        this(databasePath, importStorage, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a storage that decides which months are recent by the date on {@code clock}.
+     */
+    SqlFoodIntakeListStorage(Path databasePath, FoodIntakeListStorage importStorage, Clock clock) {
+        this.databasePath = databasePath;
+        this.importStorage = importStorage;
+        this.clock = clock;
+    }
+
+    @Override
+    public Path getFoodIntakeListFilePath() {
+        return databasePath;
+    }
+
+    @Override
+    public Optional<FoodIntakeList> readFoodIntakeList() throws DataConversionException, IOException {
+        if (!FileUtil.isFileExists(databasePath) && importStorage != null) {
+            logger.info("Food intake database " + databasePath + " not found, importing from "
+                    + importStorage.getFoodIntakeListFilePath());
+            return importStorage.readFoodIntakeList();
+        }
+        return readFoodIntakeList(databasePath);
+    }
+
+    /**
+     * Similar to {@link #readFoodIntakeList()}, but never imports.
+     *
+     * @param filePath location of the database. Cannot be null.
+     * @throws DataConversionException if the file is not a food intake database or a recent record is invalid.
+     */
+    public Optional<FoodIntakeList> readFoodIntakeList(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!FileUtil.isFileExists(filePath)) {
+            return Optional.empty();
+        }
+
+        long startTime = System.nanoTime();
+        LocalDate firstRecentDate = YearMonth.now(clock).minusMonths(RECENT_MONTH_COUNT - 1).atDay(1);
+        try (Connection connection = openConnection(filePath)) {
+            List<FoodIntake> recentFoodIntakes;
+            try (PreparedStatement select = connection.prepareStatement(SELECT_FROM)) {
+                select.setString(1, firstRecentDate.toString());
+                recentFoodIntakes = readFoodIntakes(select);
+            }
+            List<YearMonth> olderMonths = new ArrayList<>();
+            try (PreparedStatement select = connection.prepareStatement(SELECT_MONTHS_BEFORE)) {
+                select.setString(1, firstRecentDate.toString());
+                try (ResultSet rows = select.executeQuery()) {
+                    while (rows.next()) {
+                        olderMonths.add(YearMonth.parse(rows.getString(1)));
+                    }
+                }
+            }
+
+            FoodIntakeList foodIntakeList = new FoodIntakeList();
+            foodIntakeList.loadFoodIntakes(recentFoodIntakes);
+            foodIntakeList.setUnloadedSegments(olderMonths, month -> loadMonth(filePath, month));
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+            logger.info("Loaded " + recentFoodIntakes.size() + " recent food intake records from " + filePath
+                    + " in " + elapsedMillis + " ms, leaving " + olderMonths.size() + " older months unloaded");
+
+            if (filePath.equals(databasePath)) {
+                synchronized (this) {
+                    hasDatabase = true;
+                }
+                foodIntakeList.markChangesSaved();
+            }
+            return Optional.of(foodIntakeList);
+        } catch (SQLException | DateTimeParseException e) {
+            logger.warning("Error reading from food intake database " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveFoodIntakeList(FoodIntakeList foodIntakeList) throws IOException {
+        prepareSaveFoodIntakeList(foodIntakeList).write();
+    }
+
+    /**
+     * Similar to {@link #saveFoodIntakeList(FoodIntakeList)}, but replaces every row of the database at
+     * {@code filePath}, unless it is this storage's own database.
+     *
+     * @param filePath location of the database. Cannot be null.
+     */
+    public void saveFoodIntakeList(FoodIntakeList foodIntakeList, Path filePath) throws IOException {
+        requireNonNull(foodIntakeList);
+        requireNonNull(filePath);
+
+        if (filePath.equals(databasePath)) {
+            saveFoodIntakeList(foodIntakeList);
+            return;
+        }
+        foodIntakeList.loadAllSegments();
+        new SqlWrite(filePath, new ArrayList<>(foodIntakeList.getFoodIntakeList()),
+                Collections.emptyList()).write();
+    }
+
+    /**
+     * Takes the changes made since the list was last saved, or every record if it has been rewritten.
+     * Either way, the list's changes are consumed.
+     */
+    @Override
+    public synchronized PendingWrite prepareSaveFoodIntakeList(FoodIntakeList foodIntakeList) {
+        requireNonNull(foodIntakeList);
+
+        boolean isFullWrite = isFullWriteNeeded.get() || foodIntakeList.isRewrittenSinceSave()
+                || (!hasDatabase && !FileUtil.isFileExists(databasePath));
+        SqlWrite write;
+        if (isFullWrite) {
+            foodIntakeList.loadAllSegments();
+            write = new SqlWrite(databasePath, new ArrayList<>(foodIntakeList.getFoodIntakeList()),
+                    Collections.emptyList());
+            isFullWriteNeeded.set(false);
+            hasDatabase = true;
+        } else {
+            write = new SqlWrite(databasePath, null, new ArrayList<>(foodIntakeList.getUnsavedChanges()));
+        }
+        foodIntakeList.markChangesSaved();
+        return write;
+    }
+
+    /**
+     * Loads an older month on behalf of a {@code FoodIntakeList}.
+     * Rows of months that are not loaded are only changed after they have been loaded, so this never reads a month
+     * that is being written.
+     */
+    private static List<FoodIntake> loadMonth(Path filePath, YearMonth month) {
+        try (Connection connection = openConnection(filePath);
+                PreparedStatement select = connection.prepareStatement(SELECT_BETWEEN)) {
+            select.setString(1, month.atDay(1).toString());
+            select.setString(2, month.atEndOfMonth().toString());
+            List<FoodIntake> foodIntakes = readFoodIntakes(select);
+            logger.fine("Loaded " + foodIntakes.size() + " food intake records of " + month);
+            return foodIntakes;
+        } catch (SQLException | DateTimeParseException | IllegalValueException e) {
+            logger.warning("Failed to load food intake records of " + month + ": " + e);
+            throw new FoodIntakeSegmentLoadException(month, e);
+        }
+    }
+
+    /**
+     * Runs {@code select} and validates the records it returns.
+     */
+    private static List<FoodIntake> readFoodIntakes(PreparedStatement select)
+            throws SQLException, IllegalValueException {
+        List<FoodIntake> foodIntakes = new ArrayList<>();
+        try (ResultSet rows = select.executeQuery()) {
+            while (rows.next()) {
+                JsonAdaptedFoodIntake foodIntake = new JsonAdaptedFoodIntake(LocalDate.parse(rows.getString(1)),
+                        rows.getString(2), rows.getDouble(4), rows.getDouble(3), rows.getDouble(5));
+                foodIntakes.add(foodIntake.toModelType());
+            }
+        }
+        return foodIntakes;
+    }
+
+    /**
+     * Opens the database at {@code filePath}, creating it and its table if needed.
+     */
+    private static Connection openConnection(Path filePath) throws SQLException {
+        Connection connection = DriverManager.getConnection(JDBC_URL_PREFIX + filePath.toAbsolutePath());
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : CREATE_SCHEMA) {
+                statement.executeUpdate(sql);
+            }
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+        return connection;
+    }
+
+    private static void bindRecord(PreparedStatement insert, LocalDate date, Food food) throws SQLException {
+        insert.setString(1, date.toString());
+        insert.setString(2, food.getName());
+        insert.setDouble(3, food.getCarbos());
+        insert.setDouble(4, food.getFats());
+        insert.setDouble(5, food.getProteins());
+    }
+
+    /**
+     * A pending transaction that optionally replaces every row, and then applies some changes in order.
+     */
+    private class SqlWrite implements PendingWrite {
+        private final Path targetPath;
+        private final List<FoodIntake> replacement;
+        private final List<FoodIntakeListChange> changes;
+
+        /**
+         * @param replacement the records that replace every row, or null to keep the existing rows.
+         */
+        SqlWrite(Path targetPath, List<FoodIntake> replacement, List<FoodIntakeListChange> changes) {
+            this.targetPath = targetPath;
+            this.replacement = replacement;
+            this.changes = Collections.unmodifiableList(changes);
+        }
+
+        @Override
+        public void write() throws IOException {
+            if (replacement == null && changes.isEmpty()) {
+                return;
+            }
+            FileUtil.createParentDirsOfFile(targetPath);
+            try (Connection connection = openConnection(targetPath)) {
+                connection.setAutoCommit(false);
+                try {
+                    apply(connection);
+                    connection.commit();
+                } catch (SQLException e) {
+                    connection.rollback();
+                    throw e;
+                }
+            } catch (SQLException e) {
+                if (targetPath.equals(databasePath)) {
+                    // The transaction was rolled back, so the next save replaces every row.
+                    isFullWriteNeeded.set(true);
+                }
+                throw new IOException("Failed to write food intake database " + targetPath, e);
+            }
+        }
+
+        private void apply(Connection connection) throws SQLException {
+            try (PreparedStatement insert = connection.prepareStatement(INSERT);
+                    PreparedStatement delete = connection.prepareStatement(DELETE_ONE)) {
+                if (replacement != null) {
+                    try (Statement statement = connection.createStatement()) {
+                        statement.executeUpdate(DELETE_ALL);
+                    }
+                    for (FoodIntake foodIntake : replacement) {
+                        bindRecord(insert, foodIntake.getDate(), foodIntake.getFood());
+                        insert.addBatch();
+                    }
+                    insert.executeBatch();
+                }
+                for (FoodIntakeListChange change : changes) {
+                    if (change.getType() == FoodIntakeListChange.Type.INSERT) {
+                        bindRecord(insert, change.getDate(), change.getFood());
+                        insert.executeUpdate();
+                    } else {
+                        delete.setString(1, change.getDate().toString());
+                        delete.setString(2, change.getFood().getName());
+                        delete.executeUpdate();
+                    }
+                }
+            }
+        }
+
+        /**
+         * Combines with a later write of the same database into one transaction.
+         */
+        @Override
+        public PendingWrite coalesce(PendingWrite later) {
+            if (!(later instanceof SqlWrite) || !((SqlWrite) later).targetPath.equals(targetPath)) {
+                return later;
+            }
+            SqlWrite laterWrite = (SqlWrite) later;
+            if (laterWrite.replacement != null) {
+                return laterWrite;
+            }
+            List<FoodIntakeListChange> combinedChanges = new ArrayList<>(changes);
+            combinedChanges.addAll(laterWrite.changes);
+            return new SqlWrite(targetPath, replacement, combinedChanges);
+        }
+    }
+}
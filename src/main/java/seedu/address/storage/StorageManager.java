@@ -62,6 +62,11 @@ public class StorageManager implements Storage {
         userPrefsStorage.saveUserPrefs(userPrefs);
     }
 
+    @Override
+    public boolean saveUserPrefsIfChanged(ReadOnlyUserPrefs userPrefs) throws IOException {
+        return userPrefsStorage.saveUserPrefsIfChanged(userPrefs);
+    }
+
     // ================ DietLah methods ==============================
 
     @Override
@@ -91,6 +96,11 @@ public class StorageManager implements Storage {
         dietLahStorage.saveDietLah(dietLah, filePath);
     }
 
+    @Override
+    public PendingWrite prepareSaveDietLah(ReadOnlyDietLah dietLah) {
+        return dietLahStorage.prepareSaveDietLah(dietLah);
+    }
+
     // ================ UniqueFoodList methods ==============================
 
     @Override
@@ -120,6 +130,11 @@ public class StorageManager implements Storage {
         uniqueFoodListStorage.saveFoodList(foodList, filePath);
     }
 
+    @Override
+    public PendingWrite prepareSaveFoodList(UniqueFoodList foodList) {
+        return uniqueFoodListStorage.prepareSaveFoodList(foodList);
+    }
+
     // ================ FoodIntakeList methods ==============================
 
     @Override
@@ -149,6 +164,11 @@ public class StorageManager implements Storage {
         foodIntakeListStorage.saveFoodIntakeList(foodIntakeList, filePath);
     }
 
+    @Override
+    public PendingWrite prepareSaveFoodIntakeList(FoodIntakeList foodIntakeList) {
+        return foodIntakeListStorage.prepareSaveFoodIntakeList(foodIntakeList);
+    }
+
     // ================ DietPlanList methods ==============================
 
     @Override
@@ -185,14 +205,16 @@ public class StorageManager implements Storage {
     }
 
     @Override
-    public Optional<User> readUser() throws DataConversionException, IOException {
-        return readUser(userStorage.getUserFilePath());
+    public Optional<User> readUser(UniqueFoodList foodList, DietPlanList dietPlanList)
+            throws DataConversionException, IOException {
+        return readUser(userStorage.getUserFilePath(), foodList, dietPlanList);
     }
 
     @Override
-    public Optional<User> readUser(Path filePath) throws DataConversionException, IOException {
+    public Optional<User> readUser(Path filePath, UniqueFoodList foodList, DietPlanList dietPlanList)
+            throws DataConversionException, IOException {
         logger.fine("Attempting to read data from file: " + filePath);
-        return userStorage.readUser();
+        return userStorage.readUser(filePath, foodList, dietPlanList);
     }
 
     @Override
@@ -216,4 +238,14 @@ public class StorageManager implements Storage {
         logger.fine("Attempting to delete data file: " + userStorage.getUserFilePath());
         userStorage.deleteUser(filePath);
     }
+
+    @Override
+    public PendingWrite prepareSaveUser(User user) {
+        return userStorage.prepareSaveUser(user);
+    }
+
+    @Override
+    public PendingWrite prepareDeleteUser() {
+        return userStorage.prepareDeleteUser();
+    }
 }
@@ -42,4 +42,11 @@ public interface UniqueFoodListStorage {
      */
     void saveFoodList(UniqueFoodList foodList, Path filePath) throws IOException;
 
+    /**
+     * Takes a snapshot of the given {@link UniqueFoodList} that can be written to the storage later.
+     * Later changes to {@code foodList} do not affect the snapshot.
+     * @param foodList cannot be null.
+     */
+    PendingWrite prepareSaveFoodList(UniqueFoodList foodList);
+
 }
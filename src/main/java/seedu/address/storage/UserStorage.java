@@ -5,6 +5,8 @@ import java.nio.file.Path;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.diet.DietPlanList;
+import seedu.address.model.food.UniqueFoodList;
 import seedu.address.model.user.User;
 
 /**
@@ -20,15 +22,19 @@ public interface UserStorage {
     /**
      * Returns User data as a {@link User}.
      *   Returns {@code Optional.empty()} if storage file is not found.
+     * The user's foods and active diet plan are stored as references, which are resolved against
+     * {@code foodList} and {@code dietPlanList}, so both must be loaded before the user is read.
      * @throws DataConversionException if the data in storage is not in the expected format.
      * @throws IOException if there was any problem when reading from the storage.
      */
-    Optional<User> readUser() throws DataConversionException, IOException;
+    Optional<User> readUser(UniqueFoodList foodList, DietPlanList dietPlanList)
+            throws DataConversionException, IOException;
 
     /**
-     * @see #getUserFilePath()
+     * @see #readUser(UniqueFoodList, DietPlanList)
      */
-    Optional<User> readUser(Path filePath) throws DataConversionException, IOException;
+    Optional<User> readUser(Path filePath, UniqueFoodList foodList, DietPlanList dietPlanList)
+            throws DataConversionException, IOException;
 
     /**
      * Saves the given {@link User} to the storage.
@@ -53,4 +59,16 @@ public interface UserStorage {
      */
     void deleteUser(Path filePath) throws IOException;
 
+    /**
+     * Takes a snapshot of the given {@link User} that can be written to the storage later.
+     * Later changes to {@code user} do not affect the snapshot.
+     * @param user cannot be null.
+     */
+    PendingWrite prepareSaveUser(User user);
+
+    /**
+     * Returns a write that deletes the current user file when it is written.
+     */
+    PendingWrite prepareDeleteUser();
+
 }
@@ -1,26 +1,43 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
+import seedu.address.logic.ProgressListener;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ * <p>
+ * Commands run off the JavaFX thread, so the window stays responsive while a long command runs. Only one command
+ * runs at a time: Enter is ignored until it finishes, its progress is shown below the text field, and Esc cancels
+ * it.
  */
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final String BUSY_STYLE_CLASS = "busy";
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    // Only used on the JavaFX thread.
+    private RunningCommand runningCommand;
 
     @FXML
     private TextField commandTextField;
 
+    @FXML
+    private ProgressBar commandProgressBar;
+
     /**
      * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
      */
@@ -29,6 +46,7 @@ public class CommandBox extends UiPart<Region> {
         this.commandExecutor = commandExecutor;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, this::handleKeyPressed);
     }
 
     /**
@@ -37,15 +55,34 @@ public class CommandBox extends UiPart<Region> {
     @FXML
     private void handleCommandEntered() {
         String commandText = commandTextField.getText();
-        if (commandText.equals("")) {
+        if (commandText.equals("") || runningCommand != null) {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
+        RunningCommand command = new RunningCommand();
+        runningCommand = command;
+        setStyleToIndicateCommandRunning(true);
+        commandExecutor.execute(commandText, command).whenComplete((commandResult, error) -> {
+            runningCommand = null;
+            setStyleToIndicateCommandRunning(false);
+            if (error == null) {
+                // The text is only cleared if it was not edited while the command ran.
+                if (commandTextField.getText().equals(commandText)) {
+                    commandTextField.setText("");
+                }
+            } else {
+                setStyleToIndicateCommandFailure();
+            }
+        });
+    }
+
+    /**
+     * Cancels the running command when Esc is pressed.
+     */
+    private void handleKeyPressed(KeyEvent event) {
+        if (event.getCode() == KeyCode.ESCAPE && runningCommand != null) {
+            runningCommand.cancel();
+            event.consume();
         }
     }
 
@@ -69,17 +106,69 @@ public class CommandBox extends UiPart<Region> {
         styleClass.add(ERROR_STYLE_CLASS);
     }
 
+    /**
+     * Sets the command box style to indicate whether a command is running. The progress bar is only shown once the
+     * command reports progress, so that short commands do not make it flicker.
+     */
+    private void setStyleToIndicateCommandRunning(boolean isRunning) {
+        ObservableList<String> styleClass = commandTextField.getStyleClass();
+        styleClass.remove(BUSY_STYLE_CLASS);
+        if (isRunning) {
+            styleClass.add(BUSY_STYLE_CLASS);
+        } else {
+            commandProgressBar.setVisible(false);
+        }
+    }
+
+    /**
+     * Shows the progress of a running command on the progress bar, and cancels it once Esc is pressed.
+     * Progress is reported on the thread running the command, and at most one update of the progress bar is queued
+     * on the JavaFX thread at a time.
+     */
+    private class RunningCommand implements ProgressListener {
+        private final AtomicBoolean isUpdateQueued = new AtomicBoolean();
+        private volatile boolean isCancelled = false;
+        private volatile double progress = ProgressBar.INDETERMINATE_PROGRESS;
+
+        void cancel() {
+            isCancelled = true;
+            progress = ProgressBar.INDETERMINATE_PROGRESS;
+        }
+
+        @Override
+        public void onProgress(long done, long total) {
+            if (isCancelled) {
+                throw new CancellationException();
+            }
+            progress = total > 0 ? (double) done / total : ProgressBar.INDETERMINATE_PROGRESS;
+            if (isUpdateQueued.compareAndSet(false, true)) {
+                Platform.runLater(this::showProgress);
+            }
+        }
+
+        private void showProgress() {
+            isUpdateQueued.set(false);
+            if (runningCommand != this) {
+                return;
+            }
+            commandProgressBar.setProgress(progress);
+            commandProgressBar.setVisible(true);
+        }
+    }
+
     /**
      * Represents a function that can execute commands.
      */
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Starts executing the command, reporting its progress to {@code progressListener}, which can cancel it.
          *
-         * @see seedu.address.logic.Logic#execute(String)
+         * @return a future completed on the JavaFX thread with the result, or with the exception if the command
+         *     failed or was cancelled.
+         * @see seedu.address.logic.Logic#execute(String, ProgressListener)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletableFuture<CommandResult> execute(String commandText, ProgressListener progressListener);
     }
 
 }
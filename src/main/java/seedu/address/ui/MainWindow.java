@@ -1,7 +1,13 @@
 package seedu.address.ui;
 
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -12,8 +18,11 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
+import seedu.address.logic.ProgressListener;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.PagedFeedback;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -24,6 +33,8 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
+    private static final String MESSAGE_UNEXPECTED_ERROR = "The command could not be completed: ";
+    private static final long STOP_TIMEOUT_SECONDS = 10;
     private static final String helpMessage = "Welcome to DietLAH!\n\n"
             + "DietLAH! can help you with your eating habits so you can get your desired weight!\n\n"
             + "To start off, we have pre-loaded some sample data for you to play around with!\n"
@@ -43,6 +54,12 @@ public class MainWindow extends UiPart<Stage> {
 
     private Stage primaryStage;
     private Logic logic;
+    // Runs commands one at a time, so that the JavaFX thread never waits for one.
+    private final ExecutorService commandRunner = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "command-runner");
+        thread.setDaemon(true);
+        return thread;
+    });
 
 
 
@@ -178,29 +195,75 @@ public class MainWindow extends UiPart<Stage> {
 
 
     /**
-     * Executes the command and returns the result.
-     *
-     * @see seedu.address.logic.Logic#execute(String)
+     * Waits for the running command, if any, to finish, so that the data is not saved while a command changes it.
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
+    void stopCommandRunner() {
+        commandRunner.shutdown();
         try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-
-            if (commandResult.isShowHelp()) {
-                handleHelp();
+            if (!commandRunner.awaitTermination(STOP_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("A command was still running when the app stopped");
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 
-            if (commandResult.isExit()) {
-                handleExit();
+    /**
+     * Executes the command on the command runner thread, and shows its result on the JavaFX thread.
+     *
+     * @return a future completed on the JavaFX thread once the result has been shown.
+     * @see seedu.address.logic.Logic#execute(String, ProgressListener)
+     */
+    private CompletableFuture<CommandResult> executeCommand(String commandText, ProgressListener progressListener) {
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        commandRunner.execute(() -> {
+            try {
+                CommandResult commandResult = logic.execute(commandText, progressListener);
+                // Feedback may be rendered lazily from the model, so it is rendered before the next command runs.
+                // Paged feedback is produced from data that never changes, so it is left to be shown page by page.
+                String feedback = commandResult.getPagedFeedback().isPresent()
+                        ? null
+                        : commandResult.getFeedbackToUser();
+                Platform.runLater(() -> {
+                    showResult(feedback, commandResult);
+                    result.complete(commandResult);
+                });
+            } catch (CommandException | ParseException e) {
+                Platform.runLater(() -> {
+                    logger.info("Invalid command: " + commandText);
+                    resultDisplay.setFeedbackToUser(e.getMessage());
+                    result.completeExceptionally(e);
+                });
+            } catch (RuntimeException e) {
+                logger.severe("Command failed: " + commandText + " " + StringUtil.getDetails(e));
+                Platform.runLater(() -> {
+                    resultDisplay.setFeedbackToUser(MESSAGE_UNEXPECTED_ERROR + e.getMessage());
+                    result.completeExceptionally(e);
+                });
             }
+        });
+        return result;
+    }
+
+    /**
+     * Shows the result of a command, whose feedback was rendered as {@code feedback} unless it is paged.
+     */
+    private void showResult(String feedback, CommandResult commandResult) {
+        Optional<PagedFeedback> pagedFeedback = commandResult.getPagedFeedback();
+        if (pagedFeedback.isPresent()) {
+            logger.info("Result: " + pagedFeedback.get().getLineCount() + " lines");
+            resultDisplay.setFeedbackToUser(pagedFeedback.get());
+        } else {
+            logger.info("Result: " + feedback);
+            resultDisplay.setFeedbackToUser(feedback);
+        }
+
+        if (commandResult.isShowHelp()) {
+            handleHelp();
+        }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("Invalid command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+        if (commandResult.isExit()) {
+            handleExit();
         }
     }
 }
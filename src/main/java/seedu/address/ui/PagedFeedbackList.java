@@ -0,0 +1,51 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.ObservableListBase;
+import seedu.address.logic.commands.PagedFeedback;
+
+/**
+ * A read-only list of the lines of a {@code PagedFeedback}, for a {@code ListView} to show.
+ * <p>
+ * A {@code ListView} only asks for the lines of the cells it shows, so a page is only produced once one of its
+ * lines scrolls into view. The few pages used most recently are kept, so that scrolling back and forth does not
+ * produce them again.
+ */
+class PagedFeedbackList extends ObservableListBase<String> {
+
+    private static final int CACHED_PAGE_COUNT = 4;
+
+    private final PagedFeedback pagedFeedback;
+    private final int lineCount;
+    // In access order, so that the first page is the one used least recently.
+    private final Map<Integer, List<String>> cachedPages = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, List<String>> eldest) {
+            return size() > CACHED_PAGE_COUNT;
+        }
+    };
+
+    PagedFeedbackList(PagedFeedback pagedFeedback) {
+        this.pagedFeedback = requireNonNull(pagedFeedback);
+        this.lineCount = pagedFeedback.getLineCount();
+    }
+
+    @Override
+    public String get(int index) {
+        if (index < 0 || index >= lineCount) {
+            throw new IndexOutOfBoundsException("No line " + index + " in " + lineCount + " lines");
+        }
+        List<String> page = cachedPages.computeIfAbsent(index / PagedFeedback.PAGE_SIZE, pagedFeedback::getPage);
+        return page.get(index % PagedFeedback.PAGE_SIZE);
+    }
+
+    @Override
+    public int size() {
+        return lineCount;
+    }
+}
@@ -2,27 +2,67 @@ package seedu.address.ui;
 
 import static java.util.Objects.requireNonNull;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
-import javafx.scene.control.TextArea;
+import javafx.scene.control.ListView;
+import javafx.scene.control.SelectionMode;
+import javafx.scene.input.Clipboard;
+import javafx.scene.input.ClipboardContent;
+import javafx.scene.input.KeyCombination;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
+import seedu.address.logic.commands.PagedFeedback;
 
 /**
  * A ui for the status bar that is displayed at the header of the application.
+ * <p>
+ * The feedback is shown one line per cell of a {@code ListView}, which only lays out the lines that are in view, so
+ * a long report shows as quickly as a short one. Selected lines can be copied with Ctrl+C.
  */
 public class ResultDisplay extends UiPart<Region> {
 
     private static final String FXML = "ResultDisplay.fxml";
+    private static final KeyCombination COPY_KEY_COMBINATION = KeyCombination.valueOf("Shortcut+C");
 
     @FXML
-    private TextArea resultDisplay;
+    private ListView<String> resultDisplay;
 
+    /**
+     * Creates a {@code ResultDisplay} that shows nothing.
+     */
     public ResultDisplay() {
         super(FXML);
+        resultDisplay.getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
+        resultDisplay.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (COPY_KEY_COMBINATION.match(event)) {
+                copySelectedLines();
+                event.consume();
+            }
+        });
     }
 
     public void setFeedbackToUser(String feedbackToUser) {
         requireNonNull(feedbackToUser);
-        resultDisplay.setText(feedbackToUser);
+        showLines(FXCollections.observableArrayList(feedbackToUser.split("\n", -1)));
     }
 
+    /**
+     * Shows feedback that is produced a page at a time, only as its lines are scrolled into view.
+     */
+    public void setFeedbackToUser(PagedFeedback pagedFeedback) {
+        requireNonNull(pagedFeedback);
+        showLines(new PagedFeedbackList(pagedFeedback));
+    }
+
+    private void showLines(ObservableList<String> lines) {
+        resultDisplay.setItems(lines);
+        resultDisplay.scrollTo(0);
+    }
+
+    private void copySelectedLines() {
+        ClipboardContent content = new ClipboardContent();
+        content.putString(String.join("\n", resultDisplay.getSelectionModel().getSelectedItems()));
+        Clipboard.getSystemClipboard().setContent(content);
+    }
 }
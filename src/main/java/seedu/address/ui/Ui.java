@@ -10,4 +10,7 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Stops the UI, waiting for the command that is running, if any, to finish. */
+    void stop();
+
 }
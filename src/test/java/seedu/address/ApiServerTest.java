@@ -0,0 +1,243 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.AddFoodItemCommand;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.food.Food;
+import seedu.address.storage.JsonDietLahStorage;
+import seedu.address.storage.JsonDietPlanListStorage;
+import seedu.address.storage.JsonFoodIntakeListStorage;
+import seedu.address.storage.JsonUniqueFoodListStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.JsonUserStorage;
+import seedu.address.storage.StorageManager;
+
+public class ApiServerTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    private final HttpClient client = HttpClient.newHttpClient();
+    private StorageManager storage;
+    private ApiServer apiServer;
+    private String token;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        storage = new StorageManager(new JsonDietLahStorage(temporaryFolder.resolve("dietLah.json")),
+                new JsonUniqueFoodListStorage(temporaryFolder.resolve("uniqueFoods.json")),
+                new JsonFoodIntakeListStorage(temporaryFolder.resolve("foodIntakes.json")),
+                new JsonDietPlanListStorage(temporaryFolder.resolve("dietPlans.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonUserStorage(temporaryFolder.resolve("user.json")));
+        apiServer = new ApiServer(new LogicManager(model, storage), 0, getTokenFilePath());
+        apiServer.start();
+        token = Files.readString(getTokenFilePath());
+        send("POST", ApiServer.COMMANDS_PATH, "{\"command\": \"bmi g/M a/24 h/170 w/52 i/55\"}");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        apiServer.stop();
+    }
+
+    @Test
+    public void endpoints_addAndRead_returnsJson() throws Exception {
+        HttpResponse<String> response = send("POST", ApiServer.FOODS_PATH,
+                "{\"name\": \"rice\", \"carbos\": 10, \"fats\": 1, \"proteins\": 2.5}");
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().contains(AddFoodItemCommand.MESSAGE_SUCCESS));
+        assertEquals(200, send("POST", ApiServer.INTAKES_PATH,
+                "{\"date\": \"2020-10-18\", \"name\": \"rice\"}").statusCode());
+        assertEquals(200, send("POST", ApiServer.INTAKES_PATH,
+                "{\"date\": \"2020-10-18\", \"name\": \"egg\", \"proteins\": 6}").statusCode());
+
+        JsonNode foodIntakes = read(send("GET", ApiServer.INTAKES_PATH + "?date=2020-10-18", null));
+        assertEquals(2, foodIntakes.size());
+        assertEquals("egg", foodIntakes.get(0).get("name").asText());
+        assertEquals("2020-10-18", foodIntakes.get(1).get("date").asText());
+        assertEquals(2.5, foodIntakes.get(1).get("proteins").asDouble());
+
+        JsonNode dailyTotals = read(send("GET", ApiServer.TOTALS_PATH + "?from=2020-10-01&to=2020-10-31", null));
+        assertEquals(1, dailyTotals.size());
+        assertEquals(8.5, dailyTotals.get(0).get("proteins").asDouble());
+
+        assertEquals(200, send("DELETE", ApiServer.INTAKES_PATH + "?date=2020-10-18&name=egg", null)
+                .statusCode());
+        assertEquals(1, read(send("GET", ApiServer.INTAKES_PATH + "?from=2020-10-18&to=2020-10-18", null)).size());
+    }
+
+    @Test
+    public void endpoints_invalidRequests_returnErrors() throws Exception {
+        assertEquals(404, send("GET", "/api/unknown", null).statusCode());
+        assertEquals(405, send("PUT", ApiServer.FOODS_PATH, "{}").statusCode());
+        assertEquals(400, send("GET", ApiServer.INTAKES_PATH + "?date=18 Oct 2020", null).statusCode());
+        assertEquals(400, send("GET", ApiServer.TOTALS_PATH, null).statusCode());
+        assertEquals(400, send("POST", ApiServer.COMMANDS_PATH, "not json").statusCode());
+        assertEquals(403, send("POST", ApiServer.COMMANDS_PATH, "{\"command\": \"exit\"}").statusCode());
+
+        // A name with a prefix in it must not be able to add arguments to the command.
+        HttpResponse<String> response = send("POST", ApiServer.INTAKES_PATH,
+                "{\"date\": \"2020-10-18\", \"name\": \"rice c/999\"}");
+        assertEquals(400, response.statusCode());
+        assertEquals(Food.MESSAGE_CONSTRAINTS, read(response).get("error").asText());
+        assertEquals(0, model.getFoodIntakeList().getFoodIntakeList().size());
+    }
+
+    @Test
+    public void endpoints_unsafeRequests_refused() throws Exception {
+        String body = "{\"name\": \"rice\", \"carbos\": 10, \"fats\": 1, \"proteins\": 2.5}";
+        assertEquals(401, send("POST", ApiServer.FOODS_PATH, body, "Content-Type", "application/json")
+                .statusCode());
+        assertEquals(401, send("GET", ApiServer.FOODS_PATH, null, "Authorization", "Bearer wrong").statusCode());
+        assertEquals(403, send("POST", ApiServer.FOODS_PATH, body, "Authorization", "Bearer " + token,
+                "Content-Type", "application/json", "Origin", "http://example.com").statusCode());
+        assertEquals(415, send("POST", ApiServer.FOODS_PATH, body, "Authorization", "Bearer " + token,
+                "Content-Type", "text/plain").statusCode());
+        assertEquals(0, read(send("GET", ApiServer.FOODS_PATH, null)).size());
+
+        // Commands that delete data or use files are refused before they are parsed.
+        for (String command : List.of("reset /t blank", "batch commands.txt", "export history.csv",
+                "import data.json", " food_delete n/rice", "profile other")) {
+            assertEquals(403, send("POST", ApiServer.COMMANDS_PATH, "{\"command\": \"" + command + "\"}")
+                    .statusCode());
+        }
+        assertEquals(200, send("POST", ApiServer.COMMANDS_PATH, "{\"command\": \"food_list\"}", "Origin",
+                "http://localhost:3000", "Authorization", "Bearer " + token, "Content-Type", "application/json")
+                .statusCode());
+
+        apiServer.stop();
+        assertFalse(Files.exists(getTokenFilePath()));
+    }
+
+    @Test
+    public void endpoints_concurrentRequests_allApplied() throws Exception {
+        int clientCount = 8;
+        int requestsPerClient = 25;
+        ExecutorService clients = Executors.newFixedThreadPool(clientCount);
+        List<Future<Integer>> failures = new ArrayList<>();
+        for (int i = 0; i < clientCount; i++) {
+            String name = "food" + i;
+            failures.add(clients.submit(() -> {
+                int failureCount = 0;
+                for (int j = 0; j < requestsPerClient; j++) {
+                    String body = "{\"date\": \"2020-10-18\", \"name\": \"" + name + "\", \"carbos\": 1}";
+                    failureCount += send("POST", ApiServer.INTAKES_PATH, body).statusCode() == 200 ? 0 : 1;
+                    failureCount += send("GET", ApiServer.INTAKES_PATH + "?date=2020-10-18", null)
+                            .statusCode() == 200 ? 0 : 1;
+                }
+                return failureCount;
+            }));
+        }
+        for (Future<Integer> failure : failures) {
+            assertEquals(0, (int) failure.get());
+        }
+        clients.shutdown();
+
+        assertEquals(clientCount * requestsPerClient,
+                read(send("GET", ApiServer.INTAKES_PATH + "?date=2020-10-18", null)).size());
+    }
+
+    @Test
+    public void endpoints_readsDuringCommand_notBlocked() throws Exception {
+        CountDownLatch commandStarted = new CountDownLatch(1);
+        CountDownLatch commandReleased = new CountDownLatch(1);
+        apiServer.stop();
+        apiServer = new ApiServer(new LogicManager(model, storage) {
+            @Override
+            public CommandResult execute(String commandText) throws CommandException, ParseException {
+                commandStarted.countDown();
+                try {
+                    commandReleased.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.execute(commandText);
+            }
+        }, 0, getTokenFilePath());
+        apiServer.start();
+        token = Files.readString(getTokenFilePath());
+
+        CompletableFuture<HttpResponse<String>> addition = CompletableFuture.supplyAsync(() -> {
+            try {
+                return send("POST", ApiServer.INTAKES_PATH, "{\"date\": \"2020-10-18\", \"name\": \"rice\", "
+                        + "\"carbos\": 1}");
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        });
+        assertTrue(commandStarted.await(5, TimeUnit.SECONDS));
+
+        // The command holds the writer lock until it is released, and reads still see the data before it.
+        assertEquals(0, read(send("GET", ApiServer.INTAKES_PATH + "?date=2020-10-18", null)).size());
+        assertEquals(0, read(send("GET", ApiServer.TOTALS_PATH + "?from=2020-10-01&to=2020-10-31", null)).size());
+        assertEquals(200, send("GET", ApiServer.FOODS_PATH, null).statusCode());
+
+        commandReleased.countDown();
+        assertEquals(200, addition.get(5, TimeUnit.SECONDS).statusCode());
+        assertEquals(1, read(send("GET", ApiServer.INTAKES_PATH + "?date=2020-10-18", null)).size());
+    }
+
+    private Path getTokenFilePath() {
+        return temporaryFolder.resolve(ApiServer.TOKEN_FILE_NAME);
+    }
+
+    /**
+     * Sends a request with the token, and with a JSON content type if it has a body.
+     */
+    private HttpResponse<String> send(String method, String path, String body) throws Exception {
+        return body == null
+                ? send(method, path, null, "Authorization", "Bearer " + token)
+                : send(method, path, body, "Authorization", "Bearer " + token, "Content-Type", "application/json");
+    }
+
+    private HttpResponse<String> send(String method, String path, String body, String... headers) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + apiServer.getPort()
+                + path.replace(" ", "%20")))
+                .method(method, body == null ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(body));
+        if (headers.length > 0) {
+            request.headers(headers);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static JsonNode read(HttpResponse<String> response) throws Exception {
+        return OBJECT_MAPPER.readTree(response.body());
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import java.io.BufferedReader;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.AddFoodItemCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.storage.JsonDietLahStorage;
+import seedu.address.storage.JsonDietPlanListStorage;
+import seedu.address.storage.JsonFoodIntakeListStorage;
+import seedu.address.storage.JsonUniqueFoodListStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.JsonUserStorage;
+import seedu.address.storage.StorageManager;
+
+public class HeadlessAppTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    private final StringWriter output = new StringWriter();
+    private final StringWriter error = new StringWriter();
+    private HeadlessApp headlessApp;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(new JsonDietLahStorage(temporaryFolder.resolve("dietLah.json")),
+                new JsonUniqueFoodListStorage(temporaryFolder.resolve("uniqueFoods.json")),
+                new JsonFoodIntakeListStorage(temporaryFolder.resolve("foodIntakes.json")),
+                new JsonDietPlanListStorage(temporaryFolder.resolve("dietPlans.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonUserStorage(temporaryFolder.resolve("user.json")));
+        headlessApp = new HeadlessApp(new LogicManager(model, storage));
+    }
+
+    @Test
+    public void run_script_printsFeedbackAndErrors() throws Exception {
+        int failureCount = run("# set up the user first",
+                "bmi g/M a/24 h/170 w/52 i/55",
+                "",
+                "food_add n/rice c/10 f/1 p/2",
+                "unknowncommand");
+
+        assertEquals(1, failureCount);
+        assertEquals(HeadlessApp.ERROR_PREFIX + MESSAGE_UNKNOWN_COMMAND + System.lineSeparator(), error.toString());
+        assertTrue(output.toString().contains(AddFoodItemCommand.MESSAGE_SUCCESS));
+        assertTrue(model.hasUser());
+        assertEquals(0, model.getUniqueFoodList().getFoodItemIndex("rice"));
+    }
+
+    @Test
+    public void run_exitCommand_stopsReading() throws Exception {
+        int failureCount = run("bmi g/M a/24 h/170 w/52 i/55", ExitCommand.COMMAND_WORD, "unknowncommand");
+
+        assertEquals(0, failureCount);
+        assertEquals("", error.toString());
+        assertTrue(output.toString().endsWith(ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT + System.lineSeparator()));
+    }
+
+    private int run(String... lines) throws Exception {
+        BufferedReader input = new BufferedReader(new StringReader(String.join("\n", lines)));
+        return headlessApp.run(input, new PrintWriter(output), new PrintWriter(error));
+    }
+}
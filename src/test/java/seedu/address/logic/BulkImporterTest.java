@@ -0,0 +1,106 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.food.Food;
+import seedu.address.model.food.UniqueFoodList;
+
+public class BulkImporterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final UniqueFoodList existingFoods = new UniqueFoodList();
+
+    @Test
+    public void read_csv_validRecordsKeptAndInvalidRejected() throws Exception {
+        existingFoods.addFoodItem(new Food("rice", 1, 2, 3));
+        Path filePath = write("import.csv",
+                "type,name,carbos,fats,proteins",
+                "food,Apple,10,0.5,0.3",
+                "food,rice,1,2,3",
+                "",
+                "intake,2021-04-07,apple,10,0.5,0.3",
+                "intake,7 Apr 2021,apple,10,0.5,0.3",
+                "food,apple,1,1,1",
+                "food,bad name!,1,1,1",
+                "food,pear,-1,1,1",
+                "meal,pear,1,1,1",
+                "food,pear,1,1");
+
+        BulkImporter.Result result = new BulkImporter(BulkImporter.Format.CSV, existingFoods).read(filePath);
+
+        assertEquals(9, result.getRecordCount());
+        assertEquals(1, result.getFoods().size());
+        assertEquals("apple", result.getFoods().get(0).getName());
+        assertEquals(1, result.getFoodIntakes().size());
+        assertEquals(LocalDate.of(2021, 4, 7), result.getFoodIntakes().get(0).getDate());
+        assertEquals(Arrays.asList(
+                "line 3: " + String.format(BulkImporter.MESSAGE_DUPLICATE_FOOD, "rice"),
+                "line 6: " + String.format(BulkImporter.MESSAGE_INVALID_DATE, "7 Apr 2021"),
+                "line 7: " + String.format(BulkImporter.MESSAGE_DUPLICATE_FOOD, "apple"),
+                "line 8: " + Food.MESSAGE_CONSTRAINTS,
+                "line 9: " + Food.MESSAGE_DIGIT_CONSTRAINTS,
+                "line 10: " + String.format(BulkImporter.MESSAGE_UNKNOWN_TYPE, "meal"),
+                "line 11: " + String.format(BulkImporter.MESSAGE_FIELD_COUNT, 5, 4)), result.getRejections());
+    }
+
+    @Test
+    public void read_jsonLines_sameRulesAsCsv() throws Exception {
+        Path filePath = write("import.jsonl",
+                "{\"type\": \"food\", \"name\": \"apple\", \"carbos\": 10, \"fats\": 0.5, \"proteins\": 0.3}",
+                "{\"type\": \"intake\", \"date\": \"2021-04-07\", \"name\": \"apple\", \"carbos\": 10, "
+                        + "\"fats\": 0.5, \"proteins\": 0.3}",
+                "{\"type\": \"food\", \"name\": \"pear\", \"carbos\": 10}",
+                "not json");
+
+        BulkImporter.Result result = new BulkImporter(BulkImporter.Format.JSON_LINES, existingFoods)
+                .read(filePath);
+
+        assertEquals(1, result.getFoods().size());
+        assertEquals(1, result.getFoodIntakes().size());
+        assertEquals(Arrays.asList(
+                "line 3: " + String.format(BulkImporter.MESSAGE_MISSING_FIELD, "fats"),
+                "line 4: " + BulkImporter.MESSAGE_INVALID_JSON), result.getRejections());
+    }
+
+    @Test
+    public void read_severalBatches_fileOrderKept() throws Exception {
+        List<String> lines = new ArrayList<>();
+        int recordCount = BulkImporter.BATCH_SIZE * 2 + 10;
+        for (int i = 0; i < recordCount; i++) {
+            lines.add("intake,2021-04-07,food " + (i % 7) + "," + i % 100 + ",1,1");
+        }
+        Path filePath = write("intakes.csv", lines.toArray(new String[0]));
+
+        BulkImporter.Result result = new BulkImporter(BulkImporter.Format.CSV, existingFoods).read(filePath);
+
+        assertEquals(recordCount, result.getFoodIntakes().size());
+        for (int i = 0; i < recordCount; i++) {
+            assertEquals(i % 100, result.getFoodIntakes().get(i).getFood().getCarbos());
+        }
+    }
+
+    @Test
+    public void formatOf_extension() {
+        assertEquals(BulkImporter.Format.CSV, BulkImporter.Format.of(testFolder.resolve("FOODS.CSV")));
+        assertEquals(BulkImporter.Format.JSON_LINES, BulkImporter.Format.of(testFolder.resolve("foods.jsonl")));
+    }
+
+    private Path write(String fileName, String... lines) throws Exception {
+        Path filePath = testFolder.resolve(fileName);
+        Files.write(filePath, Arrays.asList(lines), StandardCharsets.UTF_8);
+        return filePath;
+    }
+}
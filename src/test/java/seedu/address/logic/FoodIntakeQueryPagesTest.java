@@ -0,0 +1,50 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.PagedFeedback;
+import seedu.address.model.food.FoodIntake;
+import seedu.address.model.food.FoodIntakeList;
+
+public class FoodIntakeQueryPagesTest {
+
+    private static final LocalDate FROM = LocalDate.of(2021, 1, 1);
+
+    private final FoodIntakeList foodIntakeList = new FoodIntakeList();
+
+    @Test
+    public void getPage_manyDays_sameLinesAsQueryOutput() {
+        for (int day = 0; day < 100; day++) {
+            for (int i = 0; i <= day % 4; i++) {
+                foodIntakeList.addFoodIntake(new FoodIntake(FROM.plusDays(day), "rice", day, i, 1.5));
+            }
+        }
+        LocalDate to = FROM.plusDays(90);
+
+        PagedFeedback pages = new FoodIntakeQueryPages(foodIntakeList.createSnapshot(), FROM.plusDays(1), to);
+
+        String expected = foodIntakeList.getFoodIntakeListByDateRange(FROM.plusDays(1), to);
+        assertEquals(expected.split("\n", -1).length, pages.getLineCount());
+        assertTrue(pages.getPageCount() > 1);
+        assertEquals(expected, new CommandResult(pages).getFeedbackToUser());
+    }
+
+    @Test
+    public void getPage_noRecords_sameLinesAsQueryOutput() {
+        foodIntakeList.addFoodIntake(new FoodIntake(FROM, "rice", 1, 2, 3));
+        LocalDate to = FROM.plusDays(7);
+
+        PagedFeedback pages = new FoodIntakeQueryPages(foodIntakeList.createSnapshot(), FROM.plusDays(1), to);
+
+        assertEquals(foodIntakeList.getFoodIntakeListByDateRange(FROM.plusDays(1), to),
+                new CommandResult(pages).getFeedbackToUser());
+        assertThrows(IndexOutOfBoundsException.class, () -> pages.getPage(1));
+    }
+}
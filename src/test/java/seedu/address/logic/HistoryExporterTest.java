@@ -0,0 +1,126 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.food.FoodIntake;
+import seedu.address.model.food.FoodIntakeList;
+import seedu.address.model.food.UniqueFoodList;
+import seedu.address.model.user.User;
+import seedu.address.model.util.TemplateInitializer;
+
+public class HistoryExporterTest {
+
+    private static final LocalDate DATE = LocalDate.of(2021, 4, 7);
+
+    @TempDir
+    public Path testFolder;
+
+    private final FoodIntakeList foodIntakeList = new FoodIntakeList();
+
+    @Test
+    public void constructor_textWithoutReport_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new HistoryExporter(HistoryExporter.Content.INTAKES,
+                HistoryExporter.Format.TEXT));
+    }
+
+    @Test
+    public void export_intakesCsv_canBeImportedAgain() throws Exception {
+        foodIntakeList.addFoodIntake(new FoodIntake(DATE, "rice", 1, 2, 3));
+        foodIntakeList.addFoodIntake(new FoodIntake(DATE, "rice", 4, 5, 6));
+        foodIntakeList.addFoodIntake(new FoodIntake(DATE.minusDays(1), "apple", 0.5, 0, 0.25));
+        Path filePath = testFolder.resolve("intakes.csv");
+
+        int rowCount = new HistoryExporter(HistoryExporter.Content.INTAKES, HistoryExporter.Format.CSV)
+                .export(foodIntakeList, null, null, filePath);
+
+        assertEquals(3, rowCount);
+        assertEquals(Arrays.asList("type,date,name,carbos,fats,proteins",
+                "intake,2021-04-06,apple,0.5,0.0,0.25",
+                "intake,2021-04-07,rice,1.0,2.0,3.0",
+                "intake,2021-04-07,rice,4.0,5.0,6.0"), Files.readAllLines(filePath, StandardCharsets.UTF_8));
+
+        BulkImporter.Result result = new BulkImporter(BulkImporter.Format.CSV, new UniqueFoodList()).read(filePath);
+        FoodIntakeList importedList = new FoodIntakeList();
+        importedList.addFoodIntakes(result.getFoodIntakes());
+        assertEquals(foodIntakeList.getAllFoodIntakeList(), importedList.getAllFoodIntakeList());
+    }
+
+    @Test
+    public void export_cancelled_fileDeleted() {
+        for (int i = 0; i < ProgressListener.STEP_INTERVAL + 1; i++) {
+            foodIntakeList.addFoodIntake(new FoodIntake(DATE.plusDays(i), "rice", 1, 2, 3));
+        }
+        Path filePath = testFolder.resolve("intakes.csv");
+        ProgressListener cancelAfterFirstStep = (done, total) -> {
+            if (done > 0) {
+                throw new CancellationException();
+            }
+        };
+
+        assertThrows(CancellationException.class, () -> new HistoryExporter(HistoryExporter.Content.INTAKES,
+                HistoryExporter.Format.CSV).export(foodIntakeList, null, null, filePath, cancelAfterFirstStep));
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void export_dailyJsonLines_oneObjectPerDay() throws Exception {
+        foodIntakeList.addFoodIntake(new FoodIntake(DATE, "rice", 1, 2, 3));
+        foodIntakeList.addFoodIntake(new FoodIntake(DATE, "egg", 1, 1, 1));
+        foodIntakeList.addFoodIntake(new FoodIntake(DATE.plusDays(2), "apple", 10, 0, 0));
+        Path filePath = testFolder.resolve("daily.jsonl");
+
+        int rowCount = new HistoryExporter(HistoryExporter.Content.DAILY, HistoryExporter.Format.JSON_LINES)
+                .export(foodIntakeList, null, null, filePath);
+
+        assertEquals(2, rowCount);
+        assertEquals(Arrays.asList(
+                "{\"date\":\"2021-04-07\",\"carbos\":2.0,\"fats\":3.0,\"proteins\":4.0,\"kcal\":51.0}",
+                "{\"date\":\"2021-04-09\",\"carbos\":10.0,\"fats\":0.0,\"proteins\":0.0,\"kcal\":40.0}"),
+                Files.readAllLines(filePath, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void export_textReport_sameAsProgressReport() throws Exception {
+        foodIntakeList.addFoodIntake(new FoodIntake(DATE, "rice", 100, 20, 30));
+        foodIntakeList.addFoodIntake(new FoodIntake(DATE.plusDays(1), "egg", 1, 10, 12));
+        TemplateInitializer templateInitializer = new TemplateInitializer();
+        User user = templateInitializer.createUser(new UniqueFoodList(), foodIntakeList);
+        Path filePath = testFolder.resolve("report.txt");
+
+        new HistoryExporter(HistoryExporter.Content.REPORT, HistoryExporter.Format.TEXT)
+                .export(foodIntakeList, user.getActiveDietPlan(), user, filePath);
+
+        assertEquals(ProgressCalculator.calculateProgress(foodIntakeList, user.getActiveDietPlan(), user),
+                new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void export_reportCsv_adherencePerDay() throws Exception {
+        foodIntakeList.addFoodIntake(new FoodIntake(DATE, "rice", 100, 20, 30));
+        TemplateInitializer templateInitializer = new TemplateInitializer();
+        User user = templateInitializer.createUser(new UniqueFoodList(), foodIntakeList);
+        PlanInfoCalculator infoCalculator = new PlanInfoCalculator(user, user.getActiveDietPlan());
+        Path filePath = testFolder.resolve("report.csv");
+
+        new HistoryExporter(HistoryExporter.Content.REPORT, HistoryExporter.Format.CSV)
+                .export(foodIntakeList, user.getActiveDietPlan(), user, filePath);
+
+        List<String> lines = Files.readAllLines(filePath, StandardCharsets.UTF_8);
+        assertEquals(2, lines.size());
+        assertEquals("2021-04-07,100.0,20.0,30.0," + 100 / infoCalculator.getCarbohydrates() * 100 + ","
+                + 20 / infoCalculator.getFats() * 100 + "," + 30 / infoCalculator.getProteins() * 100, lines.get(1));
+    }
+}
@@ -1,26 +1,38 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_COMMAND_CANCELLED;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.CancellationException;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.logic.commands.AddFoodItemCommand;
 import seedu.address.logic.commands.AddUserCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ListFoodItemCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.DietLah;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.ModelSnapshot;
 import seedu.address.model.ReadOnlyDietLah;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.diet.DietPlanList;
+import seedu.address.model.food.FoodIntake;
 import seedu.address.model.food.FoodIntakeList;
 import seedu.address.model.food.UniqueFoodList;
 import seedu.address.model.user.User;
@@ -30,6 +42,8 @@ import seedu.address.storage.JsonFoodIntakeListStorage;
 import seedu.address.storage.JsonUniqueFoodListStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.JsonUserStorage;
+import seedu.address.storage.PendingWrite;
+import seedu.address.storage.PersistenceWriter;
 import seedu.address.storage.StorageManager;
 
 public class LogicManagerTest {
@@ -43,7 +57,7 @@ public class LogicManagerTest {
     private Logic logic;
 
     @BeforeEach
-    public void setUp() throws CommandException, ParseException {
+    public void setUp() throws Exception {
         JsonDietLahStorage dietLahStorage =
                 new JsonDietLahStorage(temporaryFolder.resolve("dietLah.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
@@ -62,11 +76,12 @@ public class LogicManagerTest {
         startupBmi();
     }
 
-    public void startupBmi() throws CommandException, ParseException {
+    public void startupBmi() throws Exception {
         // TODO: Add a seperate test case for this as well
         String addUserCommand = AddUserCommand.COMMAND_WORD;
         String command = addUserCommand + " g/M a/24 h/170 w/52 i/55";
         logic.execute(command);
+        logic.flushPendingWrites();
     }
 
     @Test
@@ -111,6 +126,119 @@ public class LogicManagerTest {
         //TODO Implement storage throws IOException testing
     }
 
+    @Test
+    public void execute_readOnlyCommand_noFilesWritten() throws Exception {
+        Files.delete(temporaryFolder.resolve("uniqueFoods.json"));
+        Files.delete(temporaryFolder.resolve("foodIntakes.json"));
+        Files.delete(temporaryFolder.resolve("user.json"));
+
+        logic.execute(ListFoodItemCommand.COMMAND_WORD);
+        logic.flushPendingWrites();
+        assertFalse(Files.exists(temporaryFolder.resolve("uniqueFoods.json")));
+        assertFalse(Files.exists(temporaryFolder.resolve("foodIntakes.json")));
+
+        logic.execute(AddFoodItemCommand.COMMAND_WORD + " n/apple c/1 f/2 p/3");
+        logic.flushPendingWrites();
+        assertTrue(Files.exists(temporaryFolder.resolve("uniqueFoods.json")));
+        assertFalse(Files.exists(temporaryFolder.resolve("foodIntakes.json")));
+        // The user file only refers to the food list, so it is not rewritten when the food list changes.
+        assertFalse(Files.exists(temporaryFolder.resolve("user.json")));
+    }
+
+    @Test
+    public void execute_readOnlyCommandAfterLoading_noFilesWritten() throws Exception {
+        StorageManager storage = createStorage(temporaryFolder,
+                new JsonDietLahStorage(temporaryFolder.resolve("dietLah.json")));
+        UniqueFoodList uniqueFoodList = storage.readFoodList().get();
+        Model loadedModel = new ModelManager(storage.readDietLah().get(), uniqueFoodList,
+                storage.readFoodIntakeList().get(), model.getDietPlanList(), new UserPrefs(),
+                storage.readUser(uniqueFoodList, model.getDietPlanList()).get());
+        LogicManager loadedLogic = new LogicManager(loadedModel, storage);
+        // As the app does for the data it has just read.
+        loadedLogic.markAllSaved();
+        List<String> fileNames = List.of("dietLah.json", "uniqueFoods.json", "foodIntakes.json", "user.json");
+        for (String fileName : fileNames) {
+            Files.delete(temporaryFolder.resolve(fileName));
+        }
+
+        loadedLogic.execute(ListFoodItemCommand.COMMAND_WORD);
+        loadedLogic.flushPendingWrites();
+        for (String fileName : fileNames) {
+            assertFalse(Files.exists(temporaryFolder.resolve(fileName)));
+        }
+    }
+
+    @Test
+    public void execute_sharedFoodListChanged_writtenOnceForAllProfiles() throws Exception {
+        PersistenceWriter persistenceWriter = new PersistenceWriter();
+        UniqueFoodList sharedFoodList = new UniqueFoodList();
+        Path sharedFoodListPath = temporaryFolder.resolve("uniqueFoods.json");
+        LogicManager firstLogic = new LogicManager(createProfileModel(sharedFoodList),
+                createProfileStorage(temporaryFolder.resolve("first"), sharedFoodListPath), persistenceWriter);
+        LogicManager secondLogic = new LogicManager(createProfileModel(sharedFoodList),
+                createProfileStorage(temporaryFolder.resolve("second"), sharedFoodListPath), persistenceWriter);
+        firstLogic.markAllSaved();
+        secondLogic.markAllSaved();
+
+        firstLogic.execute(AddFoodItemCommand.COMMAND_WORD + " n/apple c/1 f/2 p/3");
+        firstLogic.flushPendingWrites();
+        Files.delete(sharedFoodListPath);
+        secondLogic.execute(ListFoodItemCommand.COMMAND_WORD);
+        secondLogic.flushPendingWrites();
+
+        // The first profile has already written the change, so the second does not write it again.
+        assertFalse(Files.exists(sharedFoodListPath));
+    }
+
+    @Test
+    public void execute_cancelled_throwsCommandException() throws Exception {
+        Path script = Files.writeString(temporaryFolder.resolve("script.txt"),
+                AddFoodItemCommand.COMMAND_WORD + " n/apple c/1 f/2 p/3");
+        int foodCount = model.getUniqueFoodList().getFoodList().size();
+        ProgressListener cancelled = (done, total) -> {
+            throw new CancellationException();
+        };
+
+        assertThrows(CommandException.class, MESSAGE_COMMAND_CANCELLED, () ->
+                logic.execute("batch " + script, cancelled));
+        assertEquals(foodCount, model.getUniqueFoodList().getFoodList().size());
+        assertEquals(foodCount, logic.getModelSnapshot().getFoods().size());
+    }
+
+    @Test
+    public void flushPendingWrites_sharedWriterFailsForOtherLogic_failureSeenOnlyByItsOwner() throws Exception {
+        PersistenceWriter persistenceWriter = new PersistenceWriter();
+        Path failingDirectory = temporaryFolder.resolve("failing");
+        LogicManager failingLogic = new LogicManager(new ModelManager(), createStorage(failingDirectory,
+                new JsonDietLahIoExceptionThrowingStub(failingDirectory.resolve("dietLah.json"))), persistenceWriter);
+        Path otherDirectory = temporaryFolder.resolve("other");
+        LogicManager otherLogic = new LogicManager(new ModelManager(), createStorage(otherDirectory,
+                new JsonDietLahStorage(otherDirectory.resolve("dietLah.json"))), persistenceWriter);
+
+        failingLogic.execute(AddUserCommand.COMMAND_WORD + " g/M a/24 h/170 w/52 i/55");
+        persistenceWriter.flush();
+        otherLogic.execute(AddUserCommand.COMMAND_WORD + " g/M a/24 h/170 w/52 i/55");
+        otherLogic.flushPendingWrites();
+
+        // The failure is still there for the logic whose file failed, so it does not treat its data as saved.
+        assertThrows(IOException.class, failingLogic::flushPendingWrites);
+    }
+
+    @Test
+    public void loadModelSnapshotBetween_unloadedMonth_loadedAndPublished() {
+        YearMonth month = YearMonth.of(2021, 3);
+        model.getFoodIntakeList().setUnloadedSegments(List.of(month), unused ->
+                List.of(new FoodIntake(month.atDay(7), "apple", 1, 2, 3)));
+        model.publishSnapshot();
+        assertFalse(logic.getModelSnapshot().getFoodIntakes().isLoadedBetween(month.atDay(1), month.atEndOfMonth()));
+
+        ModelSnapshot snapshot = logic.loadModelSnapshotBetween(month.atDay(1), month.atEndOfMonth());
+        assertTrue(snapshot.getFoodIntakes().isLoadedBetween(month.atDay(1), month.atEndOfMonth()));
+        assertEquals(1, snapshot.getFoodIntakes().getFoodsByDateBetween(month.atDay(1), month.atEndOfMonth())
+                .get(month.atDay(7)).size());
+        assertTrue(snapshot == logic.getModelSnapshot());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -171,6 +299,29 @@ public class LogicManagerTest {
         assertEquals(expectedModel, model);
     }
 
+    private static StorageManager createStorage(Path dataDirectory, JsonDietLahStorage dietLahStorage) {
+        return new StorageManager(dietLahStorage,
+                new JsonUniqueFoodListStorage(dataDirectory.resolve("uniqueFoods.json")),
+                new JsonFoodIntakeListStorage(dataDirectory.resolve("foodIntakes.json")),
+                new JsonDietPlanListStorage(dataDirectory.resolve("dietPlans.json")),
+                new JsonUserPrefsStorage(dataDirectory.resolve("userPrefs.json")),
+                new JsonUserStorage(dataDirectory.resolve("user.json")));
+    }
+
+    private static Model createProfileModel(UniqueFoodList sharedFoodList) {
+        return new ModelManager(new DietLah(), sharedFoodList, new FoodIntakeList(), new DietPlanList(),
+                new UserPrefs(), null);
+    }
+
+    private static StorageManager createProfileStorage(Path profileDirectory, Path sharedFoodListPath) {
+        return new StorageManager(new JsonDietLahStorage(profileDirectory.resolve("dietLah.json")),
+                new JsonUniqueFoodListStorage(sharedFoodListPath),
+                new JsonFoodIntakeListStorage(profileDirectory.resolve("foodIntakes.json")),
+                new JsonDietPlanListStorage(profileDirectory.resolve("dietPlans.json")),
+                new JsonUserPrefsStorage(profileDirectory.resolve("userPrefs.json")),
+                new JsonUserStorage(profileDirectory.resolve("user.json")));
+    }
+
     /**
      * A stub class to throw an {@code IOException} when the save method is called.
      */
@@ -183,6 +334,13 @@ public class LogicManagerTest {
         public void saveDietLah(ReadOnlyDietLah dietLah, Path filePath) throws IOException {
             throw DUMMY_IO_EXCEPTION;
         }
+
+        @Override
+        public PendingWrite prepareSaveDietLah(ReadOnlyDietLah dietLah) {
+            return () -> {
+                throw DUMMY_IO_EXCEPTION;
+            };
+        }
     }
 
 }
@@ -0,0 +1,135 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ProfileCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ProfileCommandParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.DietLah;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.diet.DietPlanList;
+import seedu.address.model.food.FoodIntakeList;
+import seedu.address.storage.JsonDietLahStorage;
+import seedu.address.storage.JsonDietPlanListStorage;
+import seedu.address.storage.JsonFoodIntakeListStorage;
+import seedu.address.storage.JsonUniqueFoodListStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.JsonUserStorage;
+import seedu.address.storage.StorageManager;
+
+public class ProfileManagerTest {
+
+    private static final String ADD_BMI = "bmi g/M a/24 h/170 w/52 i/55";
+    private static final String ADD_RICE_INTAKE = "food_intake_add d/7 Apr 2021 n/rice c/10 f/1 p/2";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model defaultModel = new ModelManager();
+    private final Map<String, Model> profileModels = new HashMap<>();
+    private final List<String> loadedProfileNames = new ArrayList<>();
+
+    @Test
+    public void execute_switchProfile_keepsIntakesSeparateAndFoodsShared() throws Exception {
+        ProfileManager profileManager = createProfileManager(ProfileManager.DEFAULT_CAPACITY);
+        profileManager.execute(ADD_BMI);
+        profileManager.execute(ADD_RICE_INTAKE);
+
+        CommandResult result = profileManager.execute("profile n/Alice");
+        assertTrue(result.getFeedbackToUser().contains(String.format(ProfileCommand.MESSAGE_CREATED, "alice")));
+        assertEquals("alice", profileManager.getActiveProfileName());
+        profileManager.execute(ADD_BMI);
+        profileManager.execute("food_intake_add d/7 Apr 2021 n/rice");
+        profileManager.execute(ADD_RICE_INTAKE);
+
+        assertEquals(1, defaultModel.getFoodIntakeList().getFoodIntakeList().size());
+        assertEquals(2, profileModels.get("alice").getFoodIntakeList().getFoodIntakeList().size());
+        assertEquals(defaultModel.getUniqueFoodList(), profileModels.get("alice").getUniqueFoodList());
+
+        assertEquals(String.format(ProfileCommand.MESSAGE_ALREADY_ACTIVE, "alice"),
+                profileManager.execute("profile n/alice").getFeedbackToUser());
+        profileManager.execute("profile n/" + ProfileManager.DEFAULT_PROFILE_NAME);
+        assertEquals(List.of("alice"), loadedProfileNames);
+        assertEquals(ProfileCommand.MESSAGE_LIST + "\n  alice\n* default",
+                profileManager.execute("profile").getFeedbackToUser());
+    }
+
+    @Test
+    public void switchProfile_overCapacity_evictsLeastRecentlyUsed() throws Exception {
+        ProfileManager profileManager = createProfileManager(2);
+        profileManager.switchProfile("alice");
+        profileManager.switchProfile(ProfileManager.DEFAULT_PROFILE_NAME);
+        profileManager.switchProfile("bob");
+
+        // Alice was used less recently than the default profile, so she is the one evicted.
+        assertEquals(2, profileManager.getLoadedProfileCount());
+        profileManager.switchProfile(ProfileManager.DEFAULT_PROFILE_NAME);
+        assertEquals(List.of("alice", "bob"), loadedProfileNames);
+        profileManager.switchProfile("alice");
+        assertEquals(List.of("alice", "bob", "alice"), loadedProfileNames);
+        assertEquals(2, profileManager.getLoadedProfileCount());
+    }
+
+    @Test
+    public void execute_profileCommandInBatch_throwsCommandException() throws Exception {
+        Path script = Files.writeString(temporaryFolder.resolve("script.txt"), "profile n/alice");
+        ProfileManager profileManager = createProfileManager(ProfileManager.DEFAULT_CAPACITY);
+        profileManager.execute(ADD_BMI);
+        assertThrows(CommandException.class, () -> profileManager.execute("batch " + script));
+        assertEquals(ProfileManager.DEFAULT_PROFILE_NAME, profileManager.getActiveProfileName());
+    }
+
+    @Test
+    public void parse_invalidProfileName_throwsParseException() {
+        ProfileCommandParser parser = new ProfileCommandParser();
+        assertThrows(ParseException.class, ProfileCommandParser.MESSAGE_CONSTRAINTS, () ->
+                parser.parse(" n/../alice"));
+        assertThrows(ParseException.class, ProfileCommandParser.MESSAGE_CONSTRAINTS, () ->
+                parser.parse(" n/" + "a".repeat(33)));
+        assertThrows(ParseException.class, () -> parser.parse("alice"));
+    }
+
+    private ProfileManager createProfileManager(int capacity) {
+        Logic defaultLogic = new LogicManager(defaultModel, createStorage(temporaryFolder));
+        return new ProfileManager(defaultLogic, new ProfileManager.ProfileLoader() {
+            @Override
+            public Logic loadProfile(String profileName) {
+                loadedProfileNames.add(profileName);
+                Model model = new ModelManager(new DietLah(), defaultModel.getUniqueFoodList(),
+                        new FoodIntakeList(), new DietPlanList(), new UserPrefs(), null);
+                profileModels.put(profileName, model);
+                return new LogicManager(model, createStorage(temporaryFolder.resolve(profileName)));
+            }
+
+            @Override
+            public List<String> getSavedProfileNames() {
+                return List.of();
+            }
+        }, capacity);
+    }
+
+    private static StorageManager createStorage(Path dataDirectory) {
+        return new StorageManager(new JsonDietLahStorage(dataDirectory.resolve("dietLah.json")),
+                new JsonUniqueFoodListStorage(dataDirectory.resolve("uniqueFoods.json")),
+                new JsonFoodIntakeListStorage(dataDirectory.resolve("foodIntakes.json")),
+                new JsonDietPlanListStorage(dataDirectory.resolve("dietPlans.json")),
+                new JsonUserPrefsStorage(dataDirectory.resolve("userPrefs.json")),
+                new JsonUserStorage(dataDirectory.resolve("user.json")));
+    }
+}
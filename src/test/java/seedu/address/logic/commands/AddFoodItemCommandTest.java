@@ -9,6 +9,7 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -18,6 +19,8 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.DietLah;
 import seedu.address.model.Model;
+import seedu.address.model.ModelCheckpoint;
+import seedu.address.model.ModelSnapshot;
 import seedu.address.model.ReadOnlyDietLah;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.diet.DietPlan;
@@ -126,6 +129,11 @@ public class AddFoodItemCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addFoodItems(List<Food> foods) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFoodItem(Food food) {
             throw new AssertionError("This method should not be called.");
@@ -167,7 +175,12 @@ public class AddFoodItemCommandTest {
         }
 
         @Override
-        public void updateFoodIntake(int index, FoodIntake foodIntake) {
+        public List<Food> addFoodIntakes(List<FoodIntake> foodIntakes) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFoodIntakeById(long id, FoodIntake foodIntake) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -236,10 +249,50 @@ public class AddFoodItemCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ModelCheckpoint createCheckpoint() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void restoreCheckpoint(ModelCheckpoint checkpoint) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void resetToTemplate() {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void publishSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ModelSnapshot getSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getDietLahVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getUniqueFoodListVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getFoodIntakeListVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getUserVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
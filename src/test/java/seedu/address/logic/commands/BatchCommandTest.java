@@ -0,0 +1,170 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.ProgressListener;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.food.Food;
+import seedu.address.model.food.FoodIntake;
+
+public class BatchCommandTest {
+
+    private static final String ADD_RICE_INTAKE = "food_intake_add d/7 Apr 2021 n/rice c/10 f/1 p/2";
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager();
+
+    @Test
+    public void execute_validScript_runsEveryCommand() throws Exception {
+        Path script = write("# breakfast",
+                "food_add n/egg c/1 f/5 p/6",
+                "",
+                ADD_RICE_INTAKE,
+                ADD_RICE_INTAKE,
+                "food_intake_add d/7 Apr 2021 n/egg");
+
+        CommandResult result = new BatchCommand(script).execute(model);
+
+        assertTrue(result.getFeedbackToUser().startsWith("Ran 4 commands from " + script));
+        assertEquals(2, model.getUniqueFoodList().getFoodList().size());
+        assertEquals(3, model.getFoodIntakeList().getFoodIntakeList().size());
+        assertEquals("rice #2", model.getFoodIntakeList().getFoodIntakeList().get(2).getFood().getName());
+    }
+
+    @Test
+    public void execute_failingCommand_rollsBackEveryChange() throws Exception {
+        model.addFoodItem(new Food("apple", 10, 0, 0));
+        model.addFoodIntake(LocalDate.of(2021, 4, 6), new Food("apple", 10, 0, 0));
+        long foodListVersion = model.getUniqueFoodListVersion();
+        long foodIntakeListVersion = model.getFoodIntakeListVersion();
+        String foodIntakes = model.getFoodIntakeList().getAllFoodIntakeList();
+        Path script = write("food_add n/egg c/1 f/5 p/6",
+                ADD_RICE_INTAKE,
+                "food_delete n/apple",
+                "food_delete n/pear");
+
+        assertThrows(CommandException.class, String.format(BatchCommand.MESSAGE_FAILED_LINE, 4,
+                DeleteFoodItemCommand.MESSAGE_DELETE_FOOD_FAILURE), () -> new BatchCommand(script).execute(model));
+
+        assertEquals(1, model.getUniqueFoodList().getFoodList().size());
+        assertEquals(0, model.getUniqueFoodList().getFoodItemIndex("apple"));
+        assertEquals(foodIntakes, model.getFoodIntakeList().getAllFoodIntakeList());
+        assertEquals(foodListVersion, model.getUniqueFoodListVersion());
+        assertEquals(foodIntakeListVersion, model.getFoodIntakeListVersion());
+        assertEquals(0, model.getFoodIntakeList().findFoodIntake(LocalDate.of(2021, 4, 6), "apple"));
+    }
+
+    @Test
+    public void execute_failingCommandAfterUpdate_restoresNutrients() throws Exception {
+        model.addFoodItem(new Food("apple", 10, 0, 0));
+        long foodListVersion = model.getUniqueFoodListVersion();
+        Path script = write("food_update n/apple c/50 f/5 p/1", "food_delete n/pear");
+
+        assertThrows(CommandException.class, () -> new BatchCommand(script).execute(model));
+
+        Food apple = model.getUniqueFoodList().getFoodList().get(0);
+        assertEquals(10, apple.getCarbos());
+        assertEquals(0, apple.getFats());
+        assertEquals(0, apple.getProteins());
+        assertEquals(foodListVersion, model.getUniqueFoodListVersion());
+    }
+
+    @Test
+    public void execute_failingCommandAfterRenumbering_restoresNames() throws Exception {
+        LocalDate date = LocalDate.of(2021, 4, 7);
+        model.addFoodIntake(date, new Food("apple", 10, 0, 0));
+        model.addFoodIntake(date, new Food("apple", 20, 0, 0));
+        long foodIntakeListVersion = model.getFoodIntakeListVersion();
+        Path script = write("food_intake_delete d/7 Apr 2021 n/apple", "food_delete n/pear");
+
+        assertThrows(CommandException.class, () -> new BatchCommand(script).execute(model));
+
+        List<FoodIntake> foodIntakes = model.getFoodIntakeList().getFoodIntakeList();
+        assertEquals(2, foodIntakes.size());
+        assertEquals("apple", foodIntakes.get(0).getFood().getName());
+        assertEquals(10, foodIntakes.get(0).getFood().getCarbos());
+        assertEquals("apple #2", foodIntakes.get(1).getFood().getName());
+        assertEquals(20, foodIntakes.get(1).getFood().getCarbos());
+        assertEquals(foodIntakeListVersion, model.getFoodIntakeListVersion());
+    }
+
+    @Test
+    public void execute_cancelled_rollsBackEveryChange() throws Exception {
+        model.addFoodItem(new Food("apple", 10, 0, 0));
+        long foodListVersion = model.getUniqueFoodListVersion();
+        Path script = write("food_add n/egg c/1 f/5 p/6", ADD_RICE_INTAKE, "food_delete n/apple");
+        ProgressListener cancelAfterTwoLines = (done, total) -> {
+            assertEquals(3, total);
+            if (done == 2) {
+                throw new CancellationException();
+            }
+        };
+
+        assertThrows(CancellationException.class, () -> new BatchCommand(script).execute(model, cancelAfterTwoLines));
+
+        assertEquals(1, model.getUniqueFoodList().getFoodList().size());
+        assertEquals(0, model.getUniqueFoodList().getFoodItemIndex("apple"));
+        assertEquals(0, model.getFoodIntakeList().getFoodIntakeList().size());
+        assertEquals(foodListVersion, model.getUniqueFoodListVersion());
+    }
+
+    @Test
+    public void execute_commandThrowsUncheckedException_rollsBackEveryChange() throws Exception {
+        Model failingModel = new ModelManager() {
+            @Override
+            public Food addFoodIntake(LocalDate date, Food food) {
+                throw new IllegalStateException("dummy exception");
+            }
+        };
+        failingModel.addFoodItem(new Food("apple", 10, 0, 0));
+        long foodListVersion = failingModel.getUniqueFoodListVersion();
+        Path script = write("food_add n/egg c/1 f/5 p/6", ADD_RICE_INTAKE);
+
+        assertThrows(IllegalStateException.class, () -> new BatchCommand(script).execute(failingModel));
+
+        assertEquals(1, failingModel.getUniqueFoodList().getFoodList().size());
+        assertEquals(0, failingModel.getUniqueFoodList().getFoodItemIndex("apple"));
+        assertEquals(foodListVersion, failingModel.getUniqueFoodListVersion());
+    }
+
+    @Test
+    public void execute_invalidLine_runsNothing() throws Exception {
+        Path script = write(ADD_RICE_INTAKE, "food_add n/egg");
+
+        assertThrows(CommandException.class, () -> new BatchCommand(script).execute(model));
+        assertEquals(0, model.getFoodIntakeList().getFoodIntakeList().size());
+    }
+
+    @Test
+    public void execute_nestedBatch_runsNothing() throws Exception {
+        Path script = write(ADD_RICE_INTAKE, "batch other.txt");
+
+        assertThrows(CommandException.class, String.format(BatchCommand.MESSAGE_INVALID_LINE, 2,
+                String.format(BatchCommand.MESSAGE_NOT_ALLOWED, BatchCommand.COMMAND_WORD)), () ->
+                new BatchCommand(script).execute(model));
+        assertEquals(0, model.getFoodIntakeList().getFoodIntakeList().size());
+    }
+
+    private Path write(String... lines) throws Exception {
+        Path filePath = testFolder.resolve("script.txt");
+        Files.write(filePath, Arrays.asList(lines), StandardCharsets.UTF_8);
+        return filePath;
+    }
+}
@@ -51,4 +51,16 @@ public class CommandResultTest {
         // different exit value -> returns different hashcode
         assertNotEquals(commandResult.hashCode(), new CommandResult("feedback", false, true).hashCode());
     }
+
+    @Test
+    public void getFeedbackToUser_renderer_renderedOnceWhenFirstAsked() {
+        int[] renderCount = {0};
+        CommandResult commandResult = new CommandResult(() -> "feedback " + ++renderCount[0]);
+        assertEquals(0, renderCount[0]);
+
+        assertEquals("feedback 1", commandResult.getFeedbackToUser());
+        assertEquals("feedback 1", commandResult.getFeedbackToUser());
+        assertEquals(new CommandResult("feedback 1"), commandResult);
+        assertEquals(1, renderCount[0]);
+    }
 }
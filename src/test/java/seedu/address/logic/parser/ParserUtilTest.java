@@ -6,6 +6,7 @@ import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -56,6 +57,20 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_PERSON, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseDate_singleDigitFebruaryDay_success() throws Exception {
+        assertEquals(LocalDate.of(2021, 2, 1), ParserUtil.parseDate("1 Feb 2021"));
+        assertEquals(LocalDate.of(2020, 2, 9), ParserUtil.parseDate(" 9 Feb 2020 "));
+    }
+
+    @Test
+    public void parseDate_februaryDayPastMonthEnd_throwsParseException() {
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_DAY_NORMAL_YEAR, ()
+            -> ParserUtil.parseDate("29 Feb 2021"));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_DAY_LEAP_YEAR, ()
+            -> ParserUtil.parseDate("30 Feb 2020"));
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseName((String) null));
@@ -10,12 +10,14 @@ import static seedu.address.testutil.TypicalPersons.BENSON;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
 import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.diet.DietPlanList;
+import seedu.address.model.food.Food;
 import seedu.address.model.food.FoodIntakeList;
 import seedu.address.model.food.UniqueFoodList;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
@@ -140,4 +142,27 @@ public class ModelManagerTest {
         assertFalse(modelManager.equals(new ModelManager(dietLah, new UniqueFoodList(),
                 new FoodIntakeList(), new DietPlanList(), differentUserPrefs, user)));
     }
+
+    @Test
+    public void publishSnapshot_changesMade_visibleOnlyOncePublished() {
+        ModelSnapshot emptySnapshot = modelManager.getSnapshot();
+        modelManager.addFoodItem(new Food("rice", 10, 1, 2));
+        modelManager.addFoodIntake(LocalDate.of(2021, 4, 7), new Food("rice", 10, 1, 2));
+        assertTrue(emptySnapshot == modelManager.getSnapshot());
+
+        modelManager.publishSnapshot();
+        ModelSnapshot snapshot = modelManager.getSnapshot();
+        assertTrue(snapshot.getVersion() > emptySnapshot.getVersion());
+        assertEquals(0, emptySnapshot.getFoods().size());
+        assertEquals(1, snapshot.getFoods().size());
+        assertEquals(1, snapshot.getFoodIntakes().size());
+
+        // The snapshot holds copies, so changing a food item in the model does not change it.
+        modelManager.getUniqueFoodList().getFoodList().get(0).updateFats(5);
+        assertEquals(1, snapshot.getFoods().get(0).getFats());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getFoods().get(0).updateFats(5));
+
+        modelManager.publishSnapshot();
+        assertTrue(snapshot == modelManager.getSnapshot());
+    }
 }
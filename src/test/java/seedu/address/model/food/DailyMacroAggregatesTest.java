@@ -0,0 +1,51 @@
+package seedu.address.model.food;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+public class DailyMacroAggregatesTest {
+
+    private final FoodIntakeList foodIntakeList = new FoodIntakeList();
+
+    @Test
+    public void getDayTotals_afterAddUpdateAndDelete_success() throws ParseException {
+        LocalDate date = ParserUtil.parseDate("7 Apr 2021");
+        foodIntakeList.addFoodIntake(new FoodIntake(date, "apple", 10, 20, 30));
+        foodIntakeList.addFoodIntake(new FoodIntake(date, "banana", 1, 2, 3));
+        assertEquals(new MacroTotals(11, 22, 33), foodIntakeList.getDailyMacroAggregates().getDayTotals(date));
+
+        foodIntakeList.updateFoodIntake(foodIntakeList.findFoodIntake(date, "banana"),
+                new FoodIntake(date, "banana", 5, 5, 5));
+        assertEquals(new MacroTotals(15, 25, 35), foodIntakeList.getDailyMacroAggregates().getDayTotals(date));
+
+        foodIntakeList.deleteFoodIntake(date, "apple");
+        assertEquals(new MacroTotals(5, 5, 5), foodIntakeList.getDailyMacroAggregates().getDayTotals(date));
+
+        foodIntakeList.deleteFoodIntake(date, "banana");
+        assertEquals(MacroTotals.ZERO, foodIntakeList.getDailyMacroAggregates().getDayTotals(date));
+        assertEquals(0, foodIntakeList.getDailyMacroAggregates().getDayCount());
+    }
+
+    @Test
+    public void getAllDayTotals_severalDays_inDateOrderUntilReset() throws ParseException {
+        foodIntakeList.addFoodIntake(new FoodIntake(ParserUtil.parseDate("5 Apr 2021"), "apple", 4, 4, 4));
+        foodIntakeList.addFoodIntake(new FoodIntake(ParserUtil.parseDate("1 Apr 2021"), "apple", 1, 1, 1));
+        foodIntakeList.addFoodIntake(new FoodIntake(ParserUtil.parseDate("3 Apr 2021"), "apple", 2, 2, 2));
+        DailyMacroAggregates aggregates = foodIntakeList.getDailyMacroAggregates();
+
+        assertEquals(List.of(ParserUtil.parseDate("1 Apr 2021"), ParserUtil.parseDate("3 Apr 2021"),
+                ParserUtil.parseDate("5 Apr 2021")), new ArrayList<>(aggregates.getAllDayTotals().keySet()));
+        assertEquals(new MacroTotals(2, 2, 2), aggregates.getAllDayTotals().get(ParserUtil.parseDate("3 Apr 2021")));
+
+        foodIntakeList.resetToBlank();
+        assertEquals(0, aggregates.getDayCount());
+    }
+}
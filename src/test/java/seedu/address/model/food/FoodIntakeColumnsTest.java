@@ -0,0 +1,50 @@
+package seedu.address.model.food;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+public class FoodIntakeColumnsTest {
+
+    private final FoodIntakeList foodIntakeList = new FoodIntakeList();
+
+    @Test
+    public void getFoodIntakeColumns_afterAddDeleteAndRenumber_matchesList() throws ParseException {
+        LocalDate firstDate = ParserUtil.parseDate("7 Apr 2021");
+        LocalDate secondDate = ParserUtil.parseDate("5 Apr 2021");
+        foodIntakeList.addFoodIntake(new FoodIntake(firstDate, "cherries", 1, 2, 3));
+        foodIntakeList.addFoodIntake(new FoodIntake(firstDate, "cherries", 4, 5, 6));
+        foodIntakeList.addFoodIntake(new FoodIntake(secondDate, "apple", 7.5, 8, 9));
+        foodIntakeList.addFoodIntake(new FoodIntake(firstDate, "banana", 10, 11, 12));
+        foodIntakeList.deleteFoodIntake(firstDate, "cherries");
+
+        assertColumnsMatchList();
+    }
+
+    @Test
+    public void getFoodIntakeColumns_manyDuplicatesAndReset_matchesList() {
+        for (int i = 1; i <= 40; i++) {
+            foodIntakeList.addFoodIntake(new FoodIntake(LocalDate.of(2021, 2, i % 28 + 1), "food", i, i, i));
+        }
+        assertColumnsMatchList();
+
+        foodIntakeList.resetToBlank();
+        assertColumnsMatchList();
+    }
+
+    private void assertColumnsMatchList() {
+        FoodIntakeColumns columns = foodIntakeList.getFoodIntakeColumns();
+        assertEquals(foodIntakeList.getFoodIntakeList().size(), columns.size());
+        for (int i = 0; i < columns.size(); i++) {
+            FoodIntake foodIntake = foodIntakeList.getFoodIntakeList().get(i);
+            assertEquals(foodIntake.getDate(), columns.getDate(i));
+            assertEquals(foodIntake.getFood().getName(), columns.getName(i));
+            assertEquals(foodIntake.toString(), columns.describe(i));
+        }
+    }
+}
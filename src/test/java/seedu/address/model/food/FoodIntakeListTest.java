@@ -1,10 +1,17 @@
 package seedu.address.model.food;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
@@ -44,6 +51,31 @@ public class FoodIntakeListTest {
                 + "Total Daily Calories Intake: 170.00 calories.\n"));
     }
 
+    @Test
+    public void getFoodIntakeList_addedOutOfOrder_sortedByDateThenName() throws ParseException {
+        LocalDate earlierDate = ParserUtil.parseDate("6 Apr 2021");
+        LocalDate laterDate = ParserUtil.parseDate("7 Apr 2021");
+        foodIntakeList.addFoodIntake(new FoodIntake(laterDate, new Food("banana", 10, 10, 10)));
+        foodIntakeList.addFoodIntake(new FoodIntake(laterDate, new Food("apple", 10, 10, 10)));
+        foodIntakeList.addFoodIntake(new FoodIntake(earlierDate, new Food("cherries", 10, 10, 10)));
+
+        assertTrue(foodIntakeList.getFoodIntakeList().get(0).getFood().getName().equals("cherries"));
+        assertTrue(foodIntakeList.getFoodIntakeList().get(1).getFood().getName().equals("apple"));
+        assertTrue(foodIntakeList.getFoodIntakeList().get(2).getFood().getName().equals("banana"));
+    }
+
+    @Test
+    public void getFoodIntakeListByDateRange_recordsOutsideRange_excluded() throws ParseException {
+        foodIntakeList.addFoodIntake(new FoodIntake(ParserUtil.parseDate("5 Apr 2021"), "apple", 10, 10, 10));
+        foodIntakeList.addFoodIntake(new FoodIntake(ParserUtil.parseDate("6 Apr 2021"), "banana", 10, 10, 10));
+        foodIntakeList.addFoodIntake(new FoodIntake(ParserUtil.parseDate("8 Apr 2021"), "cherries", 10, 10, 10));
+        String result = foodIntakeList.getFoodIntakeListByDateRange(ParserUtil.parseDate("6 Apr 2021"),
+                ParserUtil.parseDate("7 Apr 2021"));
+        assertTrue(result.contains("banana"));
+        assertFalse(result.contains("apple"));
+        assertFalse(result.contains("cherries"));
+    }
+
     @Test
     public void addFoodIntake_validInput_success() throws ParseException {
         Food food = new Food("apple", 10, 10, 10);
@@ -163,6 +195,88 @@ public class FoodIntakeListTest {
                 && foodIntakeTwo.equals("cherries #2") && foodIntakeThree.equals("cherries #3"));
     }
 
+    @Test
+    public void deleteFoodIntake_moreThanNineDuplicates_renumbersInAddedOrder() throws ParseException {
+        LocalDate date = ParserUtil.parseDate("7 Apr 2021");
+        for (int i = 0; i < 11; i++) {
+            foodIntakeList.addFoodIntake(new FoodIntake(date, "cherries", 10, 10, 10));
+        }
+        foodIntakeList.deleteFoodIntake(date, "cherries #2");
+
+        assertEquals(10, foodIntakeList.getFoodIntakeItemCount(date, "cherries"));
+        assertEquals(-1, foodIntakeList.findFoodIntake(date, "cherries #11"));
+        for (int i = 2; i <= 10; i++) {
+            assertTrue(foodIntakeList.findFoodIntake(date, "cherries #" + i) != -1);
+        }
+    }
+
+    @Test
+    public void getFoodIntakeById_renamedByReorder_sameRecordReturned() throws ParseException {
+        LocalDate date = ParserUtil.parseDate("7 Apr 2021");
+        foodIntakeList.addFoodIntake(new FoodIntake(date, "cherries", 10, 10, 10));
+        foodIntakeList.addFoodIntake(new FoodIntake(date, "cherries", 20, 20, 20));
+        FoodIntake second = foodIntakeList.getFoodIntakeList()
+                .get(foodIntakeList.findFoodIntake(date, "cherries #2"));
+
+        foodIntakeList.deleteFoodIntake(date, "cherries");
+
+        assertEquals("cherries", foodIntakeList.getFoodIntakeById(second.getId()).get().getFood().getName());
+        assertEquals(1, foodIntakeList.getFoodIntakeList().size());
+    }
+
+    @Test
+    public void addFoodIntake_duplicate_idFindsRenamedRecord() throws ParseException {
+        LocalDate date = ParserUtil.parseDate("7 Apr 2021");
+        foodIntakeList.addFoodIntake(new FoodIntake(date, "cherries", 10, 10, 10));
+        FoodIntake duplicate = new FoodIntake(date, "cherries", 20, 20, 20);
+
+        foodIntakeList.addFoodIntake(duplicate);
+
+        assertEquals("cherries #2", foodIntakeList.getFoodIntakeById(duplicate.getId()).get().getFood().getName());
+    }
+
+    @Test
+    public void addFoodIntakes_sameFoodIntakeTwice_separateRecords() throws ParseException {
+        LocalDate date = ParserUtil.parseDate("7 Apr 2021");
+        FoodIntake foodIntake = new FoodIntake(date, "cherries", 10, 10, 10);
+
+        foodIntakeList.addFoodIntakes(List.of(foodIntake, foodIntake));
+        foodIntakeList.deleteFoodIntakeById(foodIntake.getId());
+
+        assertEquals(1, foodIntakeList.getFoodIntakeList().size());
+        assertEquals("cherries", foodIntakeList.getFoodIntakeList().get(0).getFood().getName());
+    }
+
+    @Test
+    public void updateFoodIntakeById_validId_idKept() throws ParseException {
+        LocalDate date = ParserUtil.parseDate("7 Apr 2021");
+        FoodIntake foodIntake = new FoodIntake(date, "avocado", 10, 10, 10);
+        foodIntakeList.addFoodIntake(foodIntake);
+
+        foodIntakeList.updateFoodIntakeById(foodIntake.getId(), new FoodIntake(date, "avocado", 99, 99, 99));
+
+        assertEquals(99, foodIntakeList.getFoodIntakeById(foodIntake.getId()).get().getFood().getCarbos());
+        assertEquals(1, foodIntakeList.getFoodIntakeList().size());
+    }
+
+    @Test
+    public void deleteFoodIntakeById_unknownId_exceptionThrown() throws ParseException {
+        FoodIntake foodIntake = new FoodIntake(ParserUtil.parseDate("7 Apr 2021"), "avocado", 10, 10, 10);
+        assertThrows(FoodIntakeNotFoundException.class, () -> foodIntakeList.deleteFoodIntakeById(foodIntake.getId()));
+    }
+
+    @Test
+    public void loadFoodIntakes_suffixedNamesOutOfOrder_namesKeptAndSorted() throws ParseException {
+        LocalDate date = ParserUtil.parseDate("7 Apr 2021");
+        foodIntakeList.loadFoodIntakes(Arrays.asList(
+                new FoodIntake(date, "cherries #3", 10, 10, 10),
+                new FoodIntake(date, "cherries", 10, 10, 10)));
+
+        assertEquals("cherries", foodIntakeList.getFoodIntakeList().get(0).getFood().getName());
+        assertEquals("cherries #3", foodIntakeList.getFoodIntakeList().get(1).getFood().getName());
+        assertEquals(2, foodIntakeList.getFoodIntakeItemCount(date, "cherries"));
+    }
+
     @Test
     public void resetToBlank_valid_success() throws ParseException {
         LocalDate date = ParserUtil.parseDate("7 Apr 2021");
@@ -174,4 +288,115 @@ public class FoodIntakeListTest {
         foodIntakeList.resetToBlank();
         assertTrue(foodIntakeList.getFoodIntakeList().size() == 0);
     }
+
+    @Test
+    public void unloadedSegments_queriedOrChanged_loadedOnlyWhenReached() {
+        List<YearMonth> loadedMonths = new ArrayList<>();
+        foodIntakeList.loadFoodIntakes(Collections.singletonList(
+                new FoodIntake(LocalDate.of(2021, 4, 7), "rice", 1, 2, 3)));
+        foodIntakeList.setUnloadedSegments(Arrays.asList(YearMonth.of(2021, 2), YearMonth.of(2021, 3)), month -> {
+            loadedMonths.add(month);
+            return Collections.singletonList(new FoodIntake(month.atDay(7), "rice", 1, 2, 3));
+        });
+        long version = foodIntakeList.getVersion();
+
+        foodIntakeList.getFoodIntakeListByDate(LocalDate.of(2021, 4, 7));
+        assertEquals(Collections.emptyList(), loadedMonths);
+
+        assertEquals(1, foodIntakeList.getFoodIntakeItemCount(LocalDate.of(2021, 3, 7), "rice"));
+        assertEquals(Collections.singletonList(YearMonth.of(2021, 3)), loadedMonths);
+        assertEquals(version, foodIntakeList.getVersion());
+        assertTrue(foodIntakeList.hasUnloadedSegments());
+
+        foodIntakeList.addFoodIntake(new FoodIntake(LocalDate.of(2021, 2, 7), "rice", 4, 5, 6));
+        assertEquals("rice #2", foodIntakeList.getFoodIntakeList().get(1).getFood().getName());
+        assertFalse(foodIntakeList.hasUnloadedSegments());
+        assertEquals(4, foodIntakeList.getFoodIntakeColumns().size());
+    }
+
+    @Test
+    public void updateFoodIntake_newDateInUnloadedSegment_updatesTheRightRecord() {
+        foodIntakeList.loadFoodIntakes(Collections.singletonList(
+                new FoodIntake(LocalDate.of(2021, 4, 7), "rice", 1, 2, 3)));
+        foodIntakeList.setUnloadedSegments(Collections.singletonList(YearMonth.of(2021, 3)), month ->
+                Collections.singletonList(new FoodIntake(month.atDay(7), "apple", 1, 2, 3)));
+
+        foodIntakeList.updateFoodIntake(0, new FoodIntake(LocalDate.of(2021, 3, 8), "rice", 4, 5, 6));
+
+        assertEquals(2, foodIntakeList.getFoodIntakeList().size());
+        assertEquals("apple", foodIntakeList.getFoodIntakeList().get(0).getFood().getName());
+        assertEquals(LocalDate.of(2021, 3, 8), foodIntakeList.getFoodIntakeList().get(1).getDate());
+    }
+
+    @Test
+    public void addFoodIntakes_withDuplicates_sameAsAddingOneByOne() {
+        LocalDate date = LocalDate.of(2021, 4, 7);
+        foodIntakeList.addFoodIntake(new FoodIntake(date, "rice", 1, 2, 3));
+        foodIntakeList.markChangesSaved();
+        List<FoodIntake> foodIntakes = Arrays.asList(new FoodIntake(date, "rice", 4, 5, 6),
+                new FoodIntake(LocalDate.of(2021, 4, 6), "apple", 1, 1, 1),
+                new FoodIntake(date, "rice", 7, 8, 9),
+                new FoodIntake(date, "banana", 1, 1, 1));
+        FoodIntakeList expected = new FoodIntakeList();
+        expected.addFoodIntake(new FoodIntake(date, "rice", 1, 2, 3));
+        List<String> expectedNames = new ArrayList<>();
+        for (FoodIntake foodIntake : foodIntakes) {
+            expectedNames.add(expected.addFoodIntake(foodIntake).getName());
+        }
+
+        List<Food> added = foodIntakeList.addFoodIntakes(foodIntakes);
+
+        assertEquals(expectedNames, added.stream().map(Food::getName).collect(Collectors.toList()));
+        assertEquals(expected.getAllFoodIntakeList(), foodIntakeList.getAllFoodIntakeList());
+        assertEquals(4, foodIntakeList.getUnsavedChanges().size());
+        assertFalse(foodIntakeList.isRewrittenSinceSave());
+    }
+
+    @Test
+    public void createSnapshot_laterChanges_snapshotUnchanged() {
+        LocalDate firstDate = LocalDate.of(2021, 4, 6);
+        LocalDate secondDate = LocalDate.of(2021, 4, 7);
+        foodIntakeList.addFoodIntake(new FoodIntake(firstDate, "apple", 1, 1, 1));
+        foodIntakeList.addFoodIntake(new FoodIntake(secondDate, "rice", 1, 2, 3));
+        foodIntakeList.addFoodIntake(new FoodIntake(secondDate, "rice", 4, 5, 6));
+        FoodIntakeSnapshot snapshot = foodIntakeList.createSnapshot();
+        assertTrue(snapshot == foodIntakeList.createSnapshot());
+
+        // Deleting the first rice renumbers the second one in place.
+        foodIntakeList.deleteFoodIntake(secondDate, "rice");
+        foodIntakeList.addFoodIntake(new FoodIntake(secondDate, "egg", 0, 5, 6));
+        FoodIntakeSnapshot changedSnapshot = foodIntakeList.createSnapshot();
+
+        assertEquals(3, snapshot.size());
+        assertEquals(Arrays.asList("rice", "rice #2"), snapshot.getFoodsByDateBetween(secondDate, secondDate)
+                .get(secondDate).stream().map(Food::getName).collect(Collectors.toList()));
+        assertEquals(new MacroTotals(5, 7, 9), snapshot.getAllDayTotals().get(secondDate));
+        assertEquals(3, changedSnapshot.size());
+        assertEquals(Arrays.asList("egg", "rice"), changedSnapshot.getFoodsByDateBetween(secondDate, secondDate)
+                .get(secondDate).stream().map(Food::getName).collect(Collectors.toList()));
+        assertEquals(new MacroTotals(4, 10, 12), changedSnapshot.getDayTotalsBetween(firstDate, secondDate)
+                .get(secondDate));
+        // The day that did not change is shared rather than copied.
+        assertTrue(snapshot.getFoodsByDateBetween(firstDate, firstDate).get(firstDate)
+                == changedSnapshot.getFoodsByDateBetween(firstDate, firstDate).get(firstDate));
+    }
+
+    @Test
+    public void createSnapshot_unloadedSegments_leftOutUntilLoaded() {
+        foodIntakeList.loadFoodIntakes(Collections.singletonList(
+                new FoodIntake(LocalDate.of(2021, 4, 7), "rice", 1, 2, 3)));
+        foodIntakeList.setUnloadedSegments(Collections.singletonList(YearMonth.of(2021, 3)), month ->
+                Collections.singletonList(new FoodIntake(month.atDay(7), "apple", 1, 2, 3)));
+
+        FoodIntakeSnapshot snapshot = foodIntakeList.createSnapshot();
+        assertEquals(1, snapshot.size());
+        assertTrue(snapshot.isLoadedBetween(LocalDate.of(2021, 4, 1), LocalDate.of(2021, 4, 30)));
+        assertFalse(snapshot.isLoadedBetween(LocalDate.of(2021, 3, 31), LocalDate.of(2021, 4, 30)));
+        assertFalse(snapshot.isFullyLoaded());
+
+        foodIntakeList.getFoodIntakesBetween(LocalDate.of(2021, 3, 1), LocalDate.of(2021, 3, 31));
+        snapshot = foodIntakeList.createSnapshot();
+        assertEquals(2, snapshot.size());
+        assertTrue(snapshot.isFullyLoaded());
+    }
 }
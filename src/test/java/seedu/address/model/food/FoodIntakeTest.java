@@ -1,5 +1,8 @@
 package seedu.address.model.food;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -33,4 +36,27 @@ public class FoodIntakeTest {
         FoodIntake foodIntake = new FoodIntake(date, validFoodName, 10, 10, 10);
         assertTrue("Chicken rice #2" == foodIntake.getFood().getName());
     }
+
+    @Test
+    public void constructor_sameFoodAndNutrients_foodShared() throws ParseException {
+        Food food = new Food("avocado", 10, 10, 10);
+        FoodIntake firstIntake = new FoodIntake(ParserUtil.parseDate("7 Apr 2021"), food);
+        FoodIntake secondIntake = new FoodIntake(ParserUtil.parseDate("8 Apr 2021"), "avocado", 10, 10, 10);
+        FoodIntake differentIntake = new FoodIntake(ParserUtil.parseDate("8 Apr 2021"), "avocado", 10, 10, 11);
+
+        assertSame(firstIntake.getFood(), secondIntake.getFood());
+        assertNotSame(firstIntake.getFood(), differentIntake.getFood());
+        assertThrows(UnsupportedOperationException.class, () -> firstIntake.getFood().updateFats(20));
+    }
+
+    @Test
+    public void renameFood_sharedFood_otherIntakesUnaffected() throws ParseException {
+        FoodIntake firstIntake = new FoodIntake(ParserUtil.parseDate("7 Apr 2021"), "durian", 10, 10, 10);
+        FoodIntake secondIntake = new FoodIntake(ParserUtil.parseDate("8 Apr 2021"), "durian", 10, 10, 10);
+
+        firstIntake.renameFood("durian #2");
+
+        assertEquals("durian #2", firstIntake.getFood().getName());
+        assertEquals("durian", secondIntake.getFood().getName());
+    }
 }
@@ -0,0 +1,29 @@
+package seedu.address.model.food;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.lang.ref.WeakReference;
+
+import org.junit.jupiter.api.Test;
+
+public class FoodPoolTest {
+
+    @Test
+    public void intern_sameNameAndNutrients_sameFood() {
+        Food food = FoodPool.intern("durian", 1, 2, 3);
+        assertSame(food, FoodPool.intern("durian", 1, 2, 3));
+    }
+
+    @Test
+    public void intern_foodNoLongerReferenced_released() throws InterruptedException {
+        WeakReference<Food> food = new WeakReference<>(FoodPool.intern("jackfruit", 4, 5, 6));
+
+        for (int i = 0; i < 50 && food.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertNull(food.get());
+    }
+}
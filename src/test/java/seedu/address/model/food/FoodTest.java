@@ -48,5 +48,21 @@ public class FoodTest {
         //valid inputs
         assertTrue(Food.isValidNumber(0, 0, 0));
         assertTrue(Food.isValidNumber(1, 10, 100));
+
+        // only numbers written without an exponent are valid
+        assertFalse(Food.isValidNumber(-0.0, 0, 0));
+        assertFalse(Food.isValidNumber(0, Double.NaN, 0));
+        assertFalse(Food.isValidNumber(0, 0, 1e7));
+        assertFalse(Food.isValidNumber(0, 0, 0.0009));
+        assertTrue(Food.isValidNumber(0.001, 0, 9999999.5));
+    }
+
+    @Test
+    public void isValidFoodName_lineBreakOrTab() {
+        assertFalse(Food.isValidFoodName("ice\ncream"));
+        assertFalse(Food.isValidFoodName("\tice"));
+        assertTrue(Food.isValidFoodName("ice\tcream"));
+        assertFalse(Food.isValidImportFoodName("ice\tcream"));
+        assertTrue(Food.isValidImportFoodName("ice cream #2"));
     }
 }
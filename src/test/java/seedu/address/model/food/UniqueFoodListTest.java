@@ -0,0 +1,72 @@
+package seedu.address.model.food;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.food.exceptions.FoodItemNotFoundException;
+
+public class UniqueFoodListTest {
+
+    private final UniqueFoodList uniqueFoodList = new UniqueFoodList();
+
+    @Test
+    public void getFoodItemIndex_afterDelete_laterItemsShifted() {
+        uniqueFoodList.addFoodItem(new Food("apple", 1, 1, 1));
+        uniqueFoodList.addFoodItem(new Food("banana", 2, 2, 2));
+        uniqueFoodList.addFoodItem(new Food("cherries", 3, 3, 3));
+
+        uniqueFoodList.deleteFoodItem(uniqueFoodList.getFoodItemIndex("banana"));
+
+        assertEquals(0, uniqueFoodList.getFoodItemIndex("apple"));
+        assertEquals(-1, uniqueFoodList.getFoodItemIndex("banana"));
+        assertEquals(1, uniqueFoodList.getFoodItemIndex("cherries"));
+        assertFalse(uniqueFoodList.hasFoodItem(new Food("banana", 2, 2, 2)));
+    }
+
+    @Test
+    public void getFoodItemIndex_afterDeletingFirstOfRepeatedName_pointsAtNextOccurrence() {
+        uniqueFoodList.addFoodItems(List.of(new Food("apple", 1, 1, 1), new Food("banana", 2, 2, 2),
+                new Food("apple", 3, 3, 3), new Food("cherries", 4, 4, 4), new Food("banana", 5, 5, 5)));
+
+        uniqueFoodList.deleteFoodItem(0);
+
+        assertEquals(1, uniqueFoodList.getFoodItemIndex("apple"));
+        assertEquals(0, uniqueFoodList.getFoodItemIndex("banana"));
+        assertEquals(2, uniqueFoodList.getFoodItemIndex("cherries"));
+
+        uniqueFoodList.deleteFoodItem(0);
+        assertEquals(0, uniqueFoodList.getFoodItemIndex("apple"));
+        assertEquals(2, uniqueFoodList.getFoodItemIndex("banana"));
+    }
+
+    @Test
+    public void updateFoodItem_existingFood_success() {
+        uniqueFoodList.addFoodItem(new Food("apple", 1, 1, 1));
+        uniqueFoodList.updateFoodItem(new Food("apple", 5, 6, 7));
+
+        Food food = uniqueFoodList.getFoodList().get(uniqueFoodList.getFoodItemIndex("apple"));
+        assertEquals(5.0, food.getCarbos(), 0);
+        assertEquals(6.0, food.getFats(), 0);
+        assertEquals(7.0, food.getProteins(), 0);
+    }
+
+    @Test
+    public void updateFoodItem_missingFood_throwsFoodItemNotFoundException() {
+        assertThrows(FoodItemNotFoundException.class, () -> uniqueFoodList.updateFoodItem(new Food("apple", 1, 1, 1)));
+    }
+
+    @Test
+    public void resetToBlank_nonEmptyList_indexCleared() {
+        uniqueFoodList.addFoodItem(new Food("apple", 1, 1, 1));
+        uniqueFoodList.resetToBlank();
+
+        assertTrue(uniqueFoodList.getFoodList().isEmpty());
+        assertFalse(uniqueFoodList.hasFoodItem(new Food("apple", 1, 1, 1)));
+    }
+}
@@ -0,0 +1,111 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.food.FoodIntake;
+import seedu.address.model.food.FoodIntakeList;
+
+public class BinaryFoodIntakeListStorageTest {
+    private static final LocalDate DATE = LocalDate.of(2021, 4, 7);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveFoodIntakeList_readBack_sameRecords() throws Exception {
+        Path filePath = testFolder.resolve("foodIntakes.bin");
+        BinaryFoodIntakeListStorage storage = new BinaryFoodIntakeListStorage(filePath);
+        FoodIntakeList original = new FoodIntakeList();
+        for (int i = 0; i < 1000; i++) {
+            original.addFoodIntake(new FoodIntake(DATE.plusDays(i / 3), "rice", i % 7, i % 11 + 0.25, i % 13));
+        }
+        original.addFoodIntake(new FoodIntake(DATE.minusYears(30), "apple", 1, 2, 3));
+
+        storage.saveFoodIntakeList(original);
+
+        assertSameRecords(original, storage.readFoodIntakeList().get());
+        Path jsonPath = testFolder.resolve("foodIntakes.json");
+        new JsonFoodIntakeListStorage(jsonPath).saveFoodIntakeList(original, jsonPath);
+        assertTrue(Files.size(filePath) * 4 < Files.size(jsonPath));
+    }
+
+    @Test
+    public void prepareSaveFoodIntakeList_laterChanges_notWritten() throws Exception {
+        Path filePath = testFolder.resolve("foodIntakes.bin");
+        BinaryFoodIntakeListStorage storage = new BinaryFoodIntakeListStorage(filePath);
+        FoodIntakeList original = new FoodIntakeList();
+        original.addFoodIntake(new FoodIntake(DATE, "chicken", 1, 2, 3));
+        PendingWrite write = storage.prepareSaveFoodIntakeList(original);
+        FoodIntakeList expected = new FoodIntakeList();
+        expected.loadFoodIntakes(original.getFoodIntakeList());
+
+        original.addFoodIntake(new FoodIntake(DATE, "apple", 4, 5, 6));
+        write.write();
+
+        assertSameRecords(expected, storage.readFoodIntakeList().get());
+    }
+
+    @Test
+    public void readFoodIntakeList_noBinaryFile_importsFromJson() throws Exception {
+        Path jsonPath = testFolder.resolve("foodIntakes.json");
+        JsonFoodIntakeListStorage jsonStorage = new JsonFoodIntakeListStorage(jsonPath);
+        FoodIntakeList original = new FoodIntakeList();
+        original.addFoodIntake(new FoodIntake(DATE, "chicken", 1, 2, 3));
+        jsonStorage.saveFoodIntakeList(original);
+        BinaryFoodIntakeListStorage storage =
+                new BinaryFoodIntakeListStorage(testFolder.resolve("foodIntakes.bin"), jsonStorage);
+
+        FoodIntakeList imported = storage.readFoodIntakeList().get();
+        assertSameRecords(original, imported);
+
+        storage.saveFoodIntakeList(imported);
+        Files.delete(jsonPath);
+        assertSameRecords(original, storage.readFoodIntakeList().get());
+    }
+
+    @Test
+    public void readFoodIntakeList_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryFoodIntakeListStorage(testFolder.resolve("missing.bin")).readFoodIntakeList()
+                .isPresent());
+    }
+
+    @Test
+    public void readFoodIntakeList_truncatedOrForeignFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("foodIntakes.bin");
+        BinaryFoodIntakeListStorage storage = new BinaryFoodIntakeListStorage(filePath);
+        FoodIntakeList original = new FoodIntakeList();
+        original.addFoodIntake(new FoodIntake(DATE, "chicken", 1, 2, 3));
+        storage.saveFoodIntakeList(original);
+        byte[] content = Files.readAllBytes(filePath);
+
+        Files.write(filePath, Arrays.copyOf(content, content.length - 1));
+        assertThrows(DataConversionException.class, storage::readFoodIntakeList);
+
+        Files.writeString(filePath, "{ \"foodIntakes\" : [ ] }");
+        assertThrows(DataConversionException.class, storage::readFoodIntakeList);
+    }
+
+    private static void assertSameRecords(FoodIntakeList expected, FoodIntakeList actual) {
+        assertEquals(describe(expected.getFoodIntakeList()), describe(actual.getFoodIntakeList()));
+    }
+
+    private static List<String> describe(List<FoodIntake> foodIntakes) {
+        return foodIntakes.stream()
+                .map(foodIntake -> foodIntake.getDate() + " " + foodIntake)
+                .collect(Collectors.toList());
+    }
+}
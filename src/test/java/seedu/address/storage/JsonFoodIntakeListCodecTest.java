@@ -0,0 +1,89 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.food.FoodIntake;
+import seedu.address.model.food.FoodIntakeList;
+
+public class JsonFoodIntakeListCodecTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_moreRecordsThanBatch_readBackInOrder() throws Exception {
+        Path filePath = testFolder.resolve("foodIntakes.json");
+        FoodIntakeList foodIntakeList = new FoodIntakeList();
+        for (int i = 0; i < JsonFoodIntakeListCodec.BATCH_SIZE + 100; i++) {
+            foodIntakeList.addFoodIntake(new FoodIntake(LocalDate.of(2021, 1, 1).plusDays(i % 90), "rice",
+                    i % 7, i % 11, i % 13));
+        }
+
+        JsonFoodIntakeListCodec.write(new JsonSerializableFoodIntakeList(foodIntakeList, 42), filePath);
+        JsonFoodIntakeListCodec.Contents contents = JsonFoodIntakeListCodec.read(filePath).get();
+
+        assertEquals(42, contents.getJournalSequence());
+        assertEquals(describe(foodIntakeList.getFoodIntakeList()), describe(contents.getFoodIntakes()));
+    }
+
+    @Test
+    public void read_fileWrittenByDataBinding_sameRecords() throws Exception {
+        Path filePath = testFolder.resolve("foodIntakes.json");
+        FoodIntakeList foodIntakeList = new FoodIntakeList();
+        foodIntakeList.addFoodIntake(new FoodIntake(LocalDate.of(2021, 4, 7), "chicken", 1, 2, 3));
+        foodIntakeList.addFoodIntake(new FoodIntake(LocalDate.of(2021, 4, 7), "chicken", 4.5, 5, 6));
+        JsonUtil.saveJsonFile(new JsonSerializableFoodIntakeList(foodIntakeList), filePath);
+
+        JsonFoodIntakeListCodec.Contents contents = JsonFoodIntakeListCodec.read(filePath).get();
+
+        assertEquals(0, contents.getJournalSequence());
+        assertEquals(describe(foodIntakeList.getFoodIntakeList()), describe(contents.getFoodIntakes()));
+    }
+
+    @Test
+    public void write_readByDataBinding_sameRecords() throws Exception {
+        Path filePath = testFolder.resolve("foodIntakes.json");
+        FoodIntakeList foodIntakeList = new FoodIntakeList();
+        foodIntakeList.addFoodIntake(new FoodIntake(LocalDate.of(2021, 4, 7), "chicken", 1, 2, 3));
+        JsonFoodIntakeListCodec.write(new JsonSerializableFoodIntakeList(foodIntakeList, 3), filePath);
+
+        JsonSerializableFoodIntakeList dataBound = JsonUtil.readJsonFile(filePath,
+                JsonSerializableFoodIntakeList.class).get();
+
+        assertEquals(3, dataBound.getJournalSequence());
+        assertEquals(describe(foodIntakeList.getFoodIntakeList()), describe(dataBound.toModelFoodIntakes()));
+    }
+
+    @Test
+    public void read_invalidRecord_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("foodIntakes.json");
+        Files.writeString(filePath, "{ \"foodIntakes\" : [ { \"name\" : \"rice\", \"fats\" : -1.0, \"carbos\" : 1.0, "
+                + "\"proteins\" : 1.0, \"date\" : \"2021-04-07\" } ] }");
+
+        assertThrows(DataConversionException.class, () -> JsonFoodIntakeListCodec.read(filePath));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(JsonFoodIntakeListCodec.read(testFolder.resolve("missing.json")).isPresent());
+    }
+
+    private static List<String> describe(List<FoodIntake> foodIntakes) {
+        return foodIntakes.stream()
+                .map(foodIntake -> foodIntake.getDate() + " " + foodIntake)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,156 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.food.FoodIntake;
+import seedu.address.model.food.FoodIntakeList;
+
+public class JsonFoodIntakeListStorageTest {
+    private static final LocalDate DATE = LocalDate.of(2021, 4, 7);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveFoodIntakeList_changesAfterSnapshot_appendedToJournalAndReplayed() throws Exception {
+        Path filePath = testFolder.resolve("foodIntakes.json");
+        JsonFoodIntakeListStorage storage = new JsonFoodIntakeListStorage(filePath);
+        FoodIntakeList original = new FoodIntakeList();
+        original.addFoodIntake(new FoodIntake(DATE, "chicken", 1, 2, 3));
+        storage.saveFoodIntakeList(original);
+        String snapshot = Files.readString(filePath);
+
+        original.addFoodIntake(new FoodIntake(DATE, "chicken", 4, 5, 6));
+        original.addFoodIntake(new FoodIntake(DATE.plusDays(1), "apple", 7, 8, 9));
+        storage.saveFoodIntakeList(original);
+        original.deleteFoodIntake(DATE, "chicken");
+        storage.saveFoodIntakeList(original);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertTrue(Files.exists(filePath.resolveSibling("foodIntakes.json"
+                + JsonFoodIntakeListStorage.JOURNAL_FILE_SUFFIX)));
+        assertSameRecords(original, new JsonFoodIntakeListStorage(filePath).readFoodIntakeList().get());
+    }
+
+    @Test
+    public void saveFoodIntakeList_journalPastThreshold_compactedIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("foodIntakes.json");
+        Path journalPath = testFolder.resolve("foodIntakes.json" + JsonFoodIntakeListStorage.JOURNAL_FILE_SUFFIX);
+        JsonFoodIntakeListStorage storage = new JsonFoodIntakeListStorage(filePath, 3);
+        FoodIntakeList original = new FoodIntakeList();
+        storage.saveFoodIntakeList(original);
+        for (int i = 1; i <= 3; i++) {
+            original.addFoodIntake(new FoodIntake(DATE, "rice", i, i, i));
+            storage.saveFoodIntakeList(original);
+        }
+        storage.awaitCompaction();
+
+        assertFalse(Files.exists(journalPath));
+        assertSameRecords(original, new JsonFoodIntakeListStorage(filePath).readFoodIntakeList().get());
+    }
+
+    @Test
+    public void prepareSaveFoodIntakeList_coalescedWrites_sameAsWritingEach() throws Exception {
+        Path filePath = testFolder.resolve("foodIntakes.json");
+        JsonFoodIntakeListStorage storage = new JsonFoodIntakeListStorage(filePath);
+        FoodIntakeList original = new FoodIntakeList();
+        PendingWrite snapshot = storage.prepareSaveFoodIntakeList(original);
+        original.addFoodIntake(new FoodIntake(DATE, "rice", 1, 1, 1));
+        PendingWrite firstChanges = storage.prepareSaveFoodIntakeList(original);
+        original.addFoodIntake(new FoodIntake(DATE, "rice", 2, 2, 2));
+        original.deleteFoodIntake(DATE, "rice");
+        PendingWrite secondChanges = storage.prepareSaveFoodIntakeList(original);
+
+        snapshot.coalesce(firstChanges).coalesce(secondChanges).write();
+
+        assertSameRecords(original, new JsonFoodIntakeListStorage(filePath).readFoodIntakeList().get());
+    }
+
+    @Test
+    public void readFoodIntakeList_journalAlreadyInSnapshot_notAppliedTwice() throws Exception {
+        Path filePath = testFolder.resolve("foodIntakes.json");
+        Path journalPath = testFolder.resolve("foodIntakes.json" + JsonFoodIntakeListStorage.JOURNAL_FILE_SUFFIX);
+        JsonFoodIntakeListStorage storage = new JsonFoodIntakeListStorage(filePath, 2);
+        FoodIntakeList original = new FoodIntakeList();
+        storage.saveFoodIntakeList(original);
+        original.addFoodIntake(new FoodIntake(DATE, "rice", 1, 1, 1));
+        storage.saveFoodIntakeList(original);
+        List<String> journal = Files.readAllLines(journalPath);
+        original.addFoodIntake(new FoodIntake(DATE, "noodles", 2, 2, 2));
+        storage.saveFoodIntakeList(original);
+        storage.awaitCompaction();
+
+        // Simulates a compaction interrupted after its snapshot was written but before its journal was deleted.
+        Files.write(testFolder.resolve("foodIntakes.json"
+                + JsonFoodIntakeListStorage.COMPACTING_JOURNAL_FILE_SUFFIX), journal);
+
+        assertSameRecords(original, new JsonFoodIntakeListStorage(filePath).readFoodIntakeList().get());
+    }
+
+    @Test
+    public void readFoodIntakeList_halfWrittenLastEntry_droppedAndJournalTruncated() throws Exception {
+        Path filePath = testFolder.resolve("foodIntakes.json");
+        Path journalPath = testFolder.resolve("foodIntakes.json" + JsonFoodIntakeListStorage.JOURNAL_FILE_SUFFIX);
+        JsonFoodIntakeListStorage storage = new JsonFoodIntakeListStorage(filePath);
+        FoodIntakeList original = new FoodIntakeList();
+        storage.saveFoodIntakeList(original);
+        original.addFoodIntake(new FoodIntake(DATE, "rice", 1, 1, 1));
+        storage.saveFoodIntakeList(original);
+        String completeEntries = Files.readString(journalPath);
+        FoodIntakeList expected = new FoodIntakeList();
+        expected.addFoodIntake(new FoodIntake(DATE, "rice", 1, 1, 1));
+        original.addFoodIntake(new FoodIntake(DATE, "noodles", 2, 2, 2));
+        storage.saveFoodIntakeList(original);
+
+        // Simulates the app stopping halfway through appending the last entry.
+        String journal = Files.readString(journalPath);
+        Files.writeString(journalPath, journal.substring(0, (completeEntries.length() + journal.length()) / 2));
+
+        JsonFoodIntakeListStorage restartedStorage = new JsonFoodIntakeListStorage(filePath);
+        FoodIntakeList read = restartedStorage.readFoodIntakeList().get();
+        assertSameRecords(expected, read);
+        assertEquals(completeEntries, Files.readString(journalPath));
+
+        read.addFoodIntake(new FoodIntake(DATE, "egg", 3, 3, 3));
+        restartedStorage.saveFoodIntakeList(read);
+        assertSameRecords(read, new JsonFoodIntakeListStorage(filePath).readFoodIntakeList().get());
+    }
+
+    @Test
+    public void readFoodIntakeList_malformedEntryBeforeLast_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("foodIntakes.json");
+        Path journalPath = testFolder.resolve("foodIntakes.json" + JsonFoodIntakeListStorage.JOURNAL_FILE_SUFFIX);
+        JsonFoodIntakeListStorage storage = new JsonFoodIntakeListStorage(filePath);
+        FoodIntakeList original = new FoodIntakeList();
+        storage.saveFoodIntakeList(original);
+        original.addFoodIntake(new FoodIntake(DATE, "rice", 1, 1, 1));
+        storage.saveFoodIntakeList(original);
+        Files.writeString(journalPath, "{\"seq\n" + Files.readString(journalPath));
+
+        assertThrows(DataConversionException.class, () ->
+                new JsonFoodIntakeListStorage(filePath).readFoodIntakeList());
+    }
+
+    private static void assertSameRecords(FoodIntakeList expected, FoodIntakeList actual) {
+        assertEquals(describe(expected), describe(actual));
+    }
+
+    private static List<String> describe(FoodIntakeList foodIntakeList) {
+        return foodIntakeList.getFoodIntakeList().stream()
+                .map(foodIntake -> foodIntake.getDate() + " " + foodIntake)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.diet.DietPlanList;
+import seedu.address.model.food.FoodIntakeList;
+import seedu.address.model.food.UniqueFoodList;
+import seedu.address.model.user.User;
+import seedu.address.model.util.TemplateInitializer;
+
+public class JsonUserStorageTest {
+
+    private static final String LEGACY_USER_FORMAT = "{ \"user\" : { "
+            + "\"bmi\" : { \"weight\" : 70.0, \"height\" : 165.0, \"bmi\" : 25.7 }, "
+            + "\"foodList\" : [ { \"name\" : \"copied food\", \"fats\" : 1.0, \"carbos\" : 2.0 } ], "
+            + "\"age\" : \"24\", \"gender\" : \"M\", \"lastUpdated\" : \"2021-04-01\", "
+            + "\"activeDietPlan\" : { \"planName\" : \"%s\", \"description\" : \"copied plan\" } } }";
+
+    @TempDir
+    public Path testFolder;
+
+    private final TemplateInitializer templateInitializer = new TemplateInitializer();
+    private final UniqueFoodList foodList = templateInitializer.getUniqueFoodListTemplate();
+    private final DietPlanList dietPlanList = templateInitializer.getDietPlanListTemplate();
+
+    @Test
+    public void saveUser_readBack_referencesResolvedAgainstLoadedLists() throws Exception {
+        Path filePath = testFolder.resolve("user.json");
+        JsonUserStorage storage = new JsonUserStorage(filePath);
+        User user = templateInitializer.createUser(foodList, new FoodIntakeList());
+        user.setActiveDietPlan(dietPlanList.getDietPlan(1));
+        storage.saveUser(user);
+
+        String content = new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8);
+        assertFalse(content.contains(foodList.getFoodList().get(0).getName()));
+        assertFalse(content.contains(dietPlanList.getDietPlan(1).getDescription()));
+
+        User readBack = storage.readUser(foodList, dietPlanList).get();
+        assertSame(foodList.getFoodList(), readBack.getFoodList());
+        assertSame(dietPlanList.getDietPlan(1), readBack.getActiveDietPlan());
+        assertEquals(user.getAge().age, readBack.getAge().age);
+        assertEquals(user.getGender().gender, readBack.getGender().gender);
+    }
+
+    @Test
+    public void readUser_legacyFileWithCopies_planResolvedByName() throws Exception {
+        Path filePath = testFolder.resolve("legacy.json");
+        String planName = dietPlanList.getDietPlan(2).getPlanName();
+        Files.write(filePath, String.format(LEGACY_USER_FORMAT, planName).getBytes(StandardCharsets.UTF_8));
+
+        User readBack = new JsonUserStorage(filePath).readUser(foodList, dietPlanList).get();
+        assertSame(foodList.getFoodList(), readBack.getFoodList());
+        assertSame(dietPlanList.getDietPlan(2), readBack.getActiveDietPlan());
+    }
+
+    @Test
+    public void readUser_unknownPlan_noActivePlan() throws Exception {
+        Path filePath = testFolder.resolve("unknownPlan.json");
+        Files.write(filePath, String.format(LEGACY_USER_FORMAT, "Deleted Plan").getBytes(StandardCharsets.UTF_8));
+
+        User readBack = new JsonUserStorage(filePath).readUser(foodList, dietPlanList).get();
+        assertNull(readBack.getActiveDietPlan());
+    }
+
+    @Test
+    public void readUser_missingFile_emptyResult() throws Exception {
+        JsonUserStorage storage = new JsonUserStorage(testFolder.resolve("missing.json"));
+        assertFalse(storage.readUser(foodList, dietPlanList).isPresent());
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistenceWriterTest {
+    private static final Path FIRST_FILE = Paths.get("first.json");
+    private static final Path SECOND_FILE = Paths.get("second.json");
+
+    private final PersistenceWriter persistenceWriter = new PersistenceWriter();
+    private final List<String> written = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    public void submit_sameFileWhileWriting_coalescedIntoLatest() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        persistenceWriter.submit(SECOND_FILE, () -> {
+            started.countDown();
+            awaitUninterruptibly(release);
+            written.add("blocking");
+        });
+        started.await();
+
+        persistenceWriter.submit(FIRST_FILE, () -> written.add("first v1"));
+        persistenceWriter.submit(FIRST_FILE, () -> written.add("first v2"));
+        persistenceWriter.submit(FIRST_FILE, () -> written.add("first v3"));
+        assertEquals(1, persistenceWriter.getQueueDepth());
+        release.countDown();
+        persistenceWriter.flush();
+
+        assertEquals(List.of("blocking", "first v3"), written);
+        assertEquals(2, persistenceWriter.getCoalescedWriteCount());
+        assertEquals(2, persistenceWriter.getCompletedWriteCount());
+        assertEquals(0, persistenceWriter.getQueueDepth());
+    }
+
+    @Test
+    public void submit_writeFails_failureTakenOnce() throws Exception {
+        IOException failure = new IOException("disk full");
+        persistenceWriter.submit(FIRST_FILE, () -> {
+            throw failure;
+        });
+        persistenceWriter.submit(SECOND_FILE, () -> written.add("second"));
+        persistenceWriter.flush();
+
+        assertEquals(List.of("second"), written);
+        assertEquals(failure, persistenceWriter.takeFailure(List.of(FIRST_FILE, SECOND_FILE)).get());
+        assertFalse(persistenceWriter.takeFailure(List.of(FIRST_FILE, SECOND_FILE)).isPresent());
+    }
+
+    @Test
+    public void takeFailure_otherFiles_failureKeptForItsFile() throws Exception {
+        IOException failure = new IOException("disk full");
+        persistenceWriter.submit(FIRST_FILE, () -> {
+            throw failure;
+        });
+        persistenceWriter.flush();
+
+        assertFalse(persistenceWriter.takeFailure(List.of(SECOND_FILE)).isPresent());
+        assertEquals(failure, persistenceWriter.takeFailure(List.of(FIRST_FILE)).get());
+    }
+
+    @Test
+    public void close_pendingWrites_writtenBeforeClosing() throws Exception {
+        persistenceWriter.submit(FIRST_FILE, () -> written.add("first"));
+        persistenceWriter.close();
+
+        assertTrue(written.contains("first"));
+        assertThrows(IllegalStateException.class, () -> persistenceWriter.submit(FIRST_FILE, () -> { }));
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
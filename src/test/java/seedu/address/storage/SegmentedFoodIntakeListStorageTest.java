@@ -0,0 +1,120 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.food.FoodIntake;
+import seedu.address.model.food.FoodIntakeList;
+import seedu.address.model.food.exceptions.FoodIntakeSegmentLoadException;
+
+public class SegmentedFoodIntakeListStorageTest {
+    private static final LocalDate TODAY = LocalDate.of(2021, 6, 15);
+    private static final Clock CLOCK = Clock.fixed(TODAY.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readFoodIntakeList_olderMonths_loadedOnDemand() throws Exception {
+        SegmentedFoodIntakeListStorage storage = new SegmentedFoodIntakeListStorage(testFolder, null, CLOCK);
+        FoodIntakeList original = createSixMonths();
+        storage.saveFoodIntakeList(original);
+        assertTrue(Files.exists(testFolder.resolve("2021-01.bin")));
+
+        FoodIntakeList read = storage.readFoodIntakeList().get();
+
+        assertEquals(2, read.getFoodIntakeList().size());
+        assertTrue(read.hasUnloadedSegments());
+        assertEquals(1, read.getFoodIntakesBetween(LocalDate.of(2021, 3, 1), LocalDate.of(2021, 3, 31)).size());
+        assertEquals(3, read.getFoodIntakeList().size());
+        read.loadAllSegments();
+        assertEquals(describe(original.getFoodIntakeList()), describe(read.getFoodIntakeList()));
+    }
+
+    @Test
+    public void saveFoodIntakeList_oneMonthChanged_otherSegmentsUntouched() throws Exception {
+        SegmentedFoodIntakeListStorage storage = new SegmentedFoodIntakeListStorage(testFolder, null, CLOCK);
+        storage.saveFoodIntakeList(createSixMonths());
+        FoodIntakeList read = storage.readFoodIntakeList().get();
+        byte[] januarySegment = Files.readAllBytes(testFolder.resolve("2021-01.bin"));
+        byte[] juneSegment = Files.readAllBytes(testFolder.resolve("2021-06.bin"));
+
+        read.addFoodIntake(new FoodIntake(LocalDate.of(2021, 2, 20), "apple", 1, 2, 3));
+        read.deleteFoodIntake(LocalDate.of(2021, 3, 1), "rice");
+        storage.saveFoodIntakeList(read);
+
+        assertTrue(Arrays.equals(januarySegment, Files.readAllBytes(testFolder.resolve("2021-01.bin"))));
+        assertTrue(Arrays.equals(juneSegment, Files.readAllBytes(testFolder.resolve("2021-06.bin"))));
+        assertFalse(Files.exists(testFolder.resolve("2021-03.bin")));
+        FoodIntakeList reread = storage.readFoodIntakeList().get();
+        reread.loadAllSegments();
+        read.loadAllSegments();
+        assertEquals(describe(read.getFoodIntakeList()), describe(reread.getFoodIntakeList()));
+    }
+
+    @Test
+    public void readFoodIntakeList_noManifest_importsAndWritesEveryMonth() throws Exception {
+        Path jsonPath = testFolder.resolve("foodIntakes.json");
+        JsonFoodIntakeListStorage jsonStorage = new JsonFoodIntakeListStorage(jsonPath);
+        FoodIntakeList original = createSixMonths();
+        jsonStorage.saveFoodIntakeList(original);
+        Path directoryPath = testFolder.resolve("segments");
+        SegmentedFoodIntakeListStorage storage = new SegmentedFoodIntakeListStorage(directoryPath, jsonStorage,
+                CLOCK);
+
+        FoodIntakeList imported = storage.readFoodIntakeList().get();
+        storage.saveFoodIntakeList(imported);
+
+        try (Stream<Path> files = Files.list(directoryPath)) {
+            assertEquals(7, files.count());
+        }
+        FoodIntakeList read = storage.readFoodIntakeList().get();
+        read.loadAllSegments();
+        assertEquals(describe(original.getFoodIntakeList()), describe(read.getFoodIntakeList()));
+    }
+
+    @Test
+    public void readFoodIntakeList_corruptOlderSegment_failsWhenReached() throws Exception {
+        SegmentedFoodIntakeListStorage storage = new SegmentedFoodIntakeListStorage(testFolder, null, CLOCK);
+        storage.saveFoodIntakeList(createSixMonths());
+        Files.write(testFolder.resolve("2021-01.bin"), new byte[] {1, 2, 3});
+
+        FoodIntakeList read = storage.readFoodIntakeList().get();
+
+        assertThrows(FoodIntakeSegmentLoadException.class, () -> read.getFoodIntakeListByDate(
+                LocalDate.of(2021, 1, 1)));
+        assertTrue(read.hasUnloadedSegments());
+    }
+
+    /**
+     * Returns a list with one record on the first day of each month from January to June 2021.
+     */
+    private static FoodIntakeList createSixMonths() {
+        FoodIntakeList foodIntakeList = new FoodIntakeList();
+        for (int month = 1; month <= 6; month++) {
+            foodIntakeList.addFoodIntake(new FoodIntake(LocalDate.of(2021, month, 1), "rice", month, 2, 3));
+        }
+        return foodIntakeList;
+    }
+
+    private static List<String> describe(List<FoodIntake> foodIntakes) {
+        return foodIntakes.stream()
+                .map(foodIntake -> foodIntake.getDate() + " " + foodIntake)
+                .collect(Collectors.toList());
+    }
+}
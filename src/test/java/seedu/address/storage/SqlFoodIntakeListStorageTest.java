@@ -0,0 +1,120 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.food.FoodIntake;
+import seedu.address.model.food.FoodIntakeList;
+
+public class SqlFoodIntakeListStorageTest {
+    private static final LocalDate TODAY = LocalDate.of(2021, 6, 15);
+    private static final Clock CLOCK = Clock.fixed(TODAY.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readFoodIntakeList_olderMonths_loadedOnDemand() throws Exception {
+        SqlFoodIntakeListStorage storage = new SqlFoodIntakeListStorage(testFolder.resolve("intakes.db"), null,
+                CLOCK);
+        FoodIntakeList original = createSixMonths();
+        storage.saveFoodIntakeList(original);
+
+        FoodIntakeList read = storage.readFoodIntakeList().get();
+
+        assertEquals(2, read.getFoodIntakeList().size());
+        assertTrue(read.hasUnloadedSegments());
+        assertEquals(1, read.getFoodIntakesBetween(LocalDate.of(2021, 3, 1), LocalDate.of(2021, 3, 31)).size());
+        assertEquals(3, read.getFoodIntakeList().size());
+        read.loadAllSegments();
+        assertEquals(describe(original.getFoodIntakeList()), describe(read.getFoodIntakeList()));
+    }
+
+    @Test
+    public void saveFoodIntakeList_changesSinceRead_appliedAsRows() throws Exception {
+        SqlFoodIntakeListStorage storage = new SqlFoodIntakeListStorage(testFolder.resolve("intakes.db"), null,
+                CLOCK);
+        storage.saveFoodIntakeList(createSixMonths());
+        FoodIntakeList read = storage.readFoodIntakeList().get();
+
+        read.addFoodIntake(new FoodIntake(LocalDate.of(2021, 2, 1), "rice", 7, 8, 9));
+        read.addFoodIntake(new FoodIntake(LocalDate.of(2021, 2, 1), "rice", 4, 5, 6));
+        read.deleteFoodIntake(LocalDate.of(2021, 2, 1), "rice");
+        read.deleteFoodIntake(LocalDate.of(2021, 3, 1), "rice");
+        assertFalse(read.isRewrittenSinceSave());
+        storage.saveFoodIntakeList(read);
+
+        FoodIntakeList reread = storage.readFoodIntakeList().get();
+        reread.loadAllSegments();
+        read.loadAllSegments();
+        assertEquals(describe(read.getFoodIntakeList()), describe(reread.getFoodIntakeList()));
+    }
+
+    @Test
+    public void prepareSaveFoodIntakeList_coalescedWrites_sameAsSeparateWrites() throws Exception {
+        SqlFoodIntakeListStorage storage = new SqlFoodIntakeListStorage(testFolder.resolve("intakes.db"), null,
+                CLOCK);
+        FoodIntakeList foodIntakeList = createSixMonths();
+        PendingWrite write = storage.prepareSaveFoodIntakeList(foodIntakeList);
+        foodIntakeList.addFoodIntake(new FoodIntake(LocalDate.of(2021, 6, 2), "apple", 1, 2, 3));
+        write = write.coalesce(storage.prepareSaveFoodIntakeList(foodIntakeList));
+        foodIntakeList.deleteFoodIntake(LocalDate.of(2021, 6, 1), "rice");
+        write = write.coalesce(storage.prepareSaveFoodIntakeList(foodIntakeList));
+        write.write();
+
+        FoodIntakeList read = storage.readFoodIntakeList().get();
+        read.loadAllSegments();
+        assertEquals(describe(foodIntakeList.getFoodIntakeList()), describe(read.getFoodIntakeList()));
+    }
+
+    @Test
+    public void readFoodIntakeList_noDatabase_importsFromJson() throws Exception {
+        JsonFoodIntakeListStorage jsonStorage = new JsonFoodIntakeListStorage(testFolder.resolve("intakes.json"));
+        FoodIntakeList original = createSixMonths();
+        jsonStorage.saveFoodIntakeList(original);
+        SqlFoodIntakeListStorage storage = new SqlFoodIntakeListStorage(testFolder.resolve("intakes.db"),
+                jsonStorage, CLOCK);
+
+        FoodIntakeList imported = storage.readFoodIntakeList().get();
+        storage.saveFoodIntakeList(imported);
+
+        FoodIntakeList read = storage.readFoodIntakeList().get();
+        assertTrue(read.hasUnloadedSegments());
+        read.loadAllSegments();
+        assertEquals(describe(original.getFoodIntakeList()), describe(read.getFoodIntakeList()));
+    }
+
+    @Test
+    public void readFoodIntakeList_missingFile_emptyResult() throws Exception {
+        SqlFoodIntakeListStorage storage = new SqlFoodIntakeListStorage(testFolder.resolve("missing.db"));
+        assertFalse(storage.readFoodIntakeList().isPresent());
+    }
+
+    /**
+     * Returns a list with one record on the first day of each month from January to June 2021.
+     */
+    private static FoodIntakeList createSixMonths() {
+        FoodIntakeList foodIntakeList = new FoodIntakeList();
+        for (int month = 1; month <= 6; month++) {
+            foodIntakeList.addFoodIntake(new FoodIntake(LocalDate.of(2021, month, 1), "rice", month, 2, 3));
+        }
+        return foodIntakeList;
+    }
+
+    private static List<String> describe(List<FoodIntake> foodIntakes) {
+        return foodIntakes.stream()
+                .map(foodIntake -> foodIntake.getDate() + " " + foodIntake)
+                .collect(Collectors.toList());
+    }
+}